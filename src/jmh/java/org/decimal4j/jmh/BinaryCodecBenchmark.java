@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.decimal4j.io.VarintDecimalCodec;
+import org.decimal4j.jmh.state.BinaryCodecBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing the binary varint encoding of {@link VarintDecimalCodec} with the string conversion
+ * path.
+ */
+public class BinaryCodecBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void encodeVarint(BinaryCodecBenchmarkState state, Blackhole blackhole) {
+		int offset = 0;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			offset += encodeVarint(state, state.values[i], offset);
+		}
+		blackhole.consume(state.buffer);
+		blackhole.consume(offset);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void encodeString(BinaryCodecBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(encodeString(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void decodeVarint(BinaryCodecBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(VarintDecimalCodec.decode(state.varintEncoded, state.varintOffsets[i], state.arithmetic));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void decodeString(BinaryCodecBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.parse(new String(state.stringEncoded[i], StandardCharsets.US_ASCII)));
+		}
+	}
+
+	private static final <S extends ScaleMetrics> int encodeVarint(BinaryCodecBenchmarkState state, Values<S> values, int offset) {
+		return VarintDecimalCodec.encode(values.unscaled1, state.scale, state.buffer, offset);
+	}
+
+	private static final <S extends ScaleMetrics> byte[] encodeString(BinaryCodecBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toString(values.unscaled1).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(BinaryCodecBenchmark.class);
+	}
+}
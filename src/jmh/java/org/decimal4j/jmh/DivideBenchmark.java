@@ -31,6 +31,7 @@ import org.decimal4j.jmh.state.DivideBenchmarkState;
 import org.decimal4j.jmh.state.Values;
 import org.decimal4j.scale.ScaleMetrics;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.RunnerException;
@@ -72,6 +73,25 @@ public class DivideBenchmark extends AbstractBenchmark {
 		}
 	}
 
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Fork(jvmArgsAppend = "-Ddecimal4j.floatEstimateDivision=true")
+	public final void nativeDecimalsFloatEstimate(DivideBenchmarkState state, Blackhole blackhole) {
+		//128 by 64 bit division with floating point quotient estimate
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsMixedRounding(DivideBenchmarkState state, Blackhole blackhole) {
+		//cycles through all rounding modes
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.mixedRoundingArithmetic[i].divide(state.values[i].unscaled1, state.values[i].unscaled2));
+		}
+	}
+
 	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(DivideBenchmarkState state, Values<S> values) {
 		return values.bigDecimal1.divide(values.bigDecimal2, state.scale, state.roundingMode);
 	}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.jmh.state.ExpBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for the exponential function.
+ */
+public class ExpBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimals(ExpBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(bigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void doubles(ExpBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(Math.exp(state.doubles[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimals(ExpBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mutableDecimals(ExpBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(mutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimals(ExpBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimals(state, state.values[i]));
+		}
+	}
+
+	//power series with argument halving and squaring
+	static BigDecimal exp(BigDecimal x, MathContext mc) {
+		int halvings = 0;
+		BigDecimal r = x;
+		while (r.abs().compareTo(BigDecimal.ONE) > 0) {
+			r = r.divide(BigDecimal.valueOf(2), mc);
+			halvings++;
+		}
+		final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(mc.getPrecision());
+		BigDecimal sum = BigDecimal.ONE;
+		BigDecimal term = BigDecimal.ONE;
+		for (int n = 1; term.abs().compareTo(epsilon) > 0; n++) {
+			term = term.multiply(r, mc).divide(BigDecimal.valueOf(n), mc);
+			sum = sum.add(term, mc);
+		}
+		for (int i = 0; i < halvings; i++) {
+			sum = sum.multiply(sum, mc);
+		}
+		return sum;
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(ExpBenchmarkState state, Values<S> values) {
+		return exp(values.bigDecimal1, state.mcLong128).setScale(state.scale, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> immutableDecimals(ExpBenchmarkState state, Values<S> values) {
+		return values.immutable1.exp(state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> mutableDecimals(ExpBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).exp(state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> long nativeDecimals(ExpBenchmarkState state, Values<S> values) {
+		return state.arithmetic.exp(values.unscaled1);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(ExpBenchmark.class);
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.jmh.state.FailurePathBenchmarkState;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for the failure path of checked operations, that is, the
+ * cost of throwing and catching overflow and rounding-necessary exceptions.
+ * The {@code xxxStackless} variants run in a fork with preallocated stackless
+ * exceptions enabled through the
+ * {@link org.decimal4j.arithmetic.Exceptions#STACKLESS_EXCEPTIONS_PROPERTY
+ * decimal4j.stacklessExceptions} system property; {@code tryAdd} reports the
+ * overflow through an {@link ArithmeticStatus} without any exception as a
+ * baseline.
+ */
+public class FailurePathBenchmark extends AbstractBenchmark {
+
+	private static final String STACKLESS = "-Ddecimal4j.stacklessExceptions=true";
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void addOverflow(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(add(state, state.large[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Fork(jvmArgsAppend = STACKLESS)
+	public final void addOverflowStackless(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(add(state, state.large[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void tryAdd(FailurePathBenchmarkState state, Blackhole blackhole) {
+		final ArithmeticStatus status = new ArithmeticStatus();
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.checkedArithmetic.tryAdd(state.large[i], state.large[i], status));
+		}
+		blackhole.consume(status.getAndReset());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyOverflow(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiply(state, state.large[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Fork(jvmArgsAppend = STACKLESS)
+	public final void multiplyOverflowStackless(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiply(state, state.large[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void roundingNecessary(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(round(state, state.inexact[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Fork(jvmArgsAppend = STACKLESS)
+	public final void roundingNecessaryStackless(FailurePathBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(round(state, state.inexact[i]));
+		}
+	}
+
+	private static final long add(FailurePathBenchmarkState state, long unscaled) {
+		try {
+			return state.checkedArithmetic.add(unscaled, unscaled);
+		} catch (ArithmeticException e) {
+			return 0;
+		}
+	}
+
+	private static final long multiply(FailurePathBenchmarkState state, long unscaled) {
+		try {
+			return state.checkedArithmetic.multiplyByLong(unscaled, unscaled);
+		} catch (ArithmeticException e) {
+			return 0;
+		}
+	}
+
+	private static final long round(FailurePathBenchmarkState state, long unscaled) {
+		try {
+			return state.checkedArithmetic.round(unscaled, state.scale - 1);
+		} catch (ArithmeticException e) {
+			return 0;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(FailurePathBenchmark.class);
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.jmh.state.LnBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for natural and decimal logarithms.
+ */
+public class LnBenchmark extends AbstractBenchmark {
+
+	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimals(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(bigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void doubles(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(Math.log(state.doubles[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void doublesLog10(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(Math.log10(state.doubles[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimals(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mutableDecimals(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(mutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimals(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsLog10(LnBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsLog10(state, state.values[i]));
+		}
+	}
+
+	//Halley iteration y = y + 2*(x - e^y)/(x + e^y) with double start value
+	private static BigDecimal ln(BigDecimal x, MathContext mc) {
+		BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+		for (int i = 0; i < 2; i++) {
+			final BigDecimal expY = ExpBenchmark.exp(y, mc);
+			y = y.add(TWO.multiply(x.subtract(expY)).divide(x.add(expY), mc), mc);
+		}
+		return y;
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(LnBenchmarkState state, Values<S> values) {
+		return ln(values.bigDecimal1, state.mcLong128).setScale(state.scale, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> immutableDecimals(LnBenchmarkState state, Values<S> values) {
+		return values.immutable1.ln(state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> mutableDecimals(LnBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).ln(state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> long nativeDecimals(LnBenchmarkState state, Values<S> values) {
+		return state.arithmetic.ln(values.unscaled1);
+	}
+
+	private static final <S extends ScaleMetrics> long nativeDecimalsLog10(LnBenchmarkState state, Values<S> values) {
+		return state.arithmetic.log10(values.unscaled1);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(LnBenchmark.class);
+	}
+}
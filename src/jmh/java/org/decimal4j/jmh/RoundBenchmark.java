@@ -72,6 +72,15 @@ public class RoundBenchmark extends AbstractBenchmark {
 		}
 	}
 	
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsMixedRounding(RoundBenchmarkState state, Blackhole blackhole) {
+		//cycles through all rounding modes
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.mixedRoundingArithmetic[i].round(state.values[i].unscaled1, state.precision));
+		}
+	}
+
 	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(RoundBenchmarkState state, Values<S> values) {
 		final int oldScale = values.bigDecimal1.scale();
 		final int newScale = state.precision;
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.jmh.state.RoundToIncrementBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for rounding to an increment such as a tick size.
+ */
+public class RoundToIncrementBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimals(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(bigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimals(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mutableDecimals(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(mutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimals(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.roundToIncrement(state.values[i].unscaled1, state.increment));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void incrementRounder(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.rounder.round(state.values[i].unscaled1));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void incrementRounderArray(RoundToIncrementBenchmarkState state, Blackhole blackhole) {
+		state.rounder.round(state.unscaled, 0, state.rounded, 0, OPERATIONS_PER_INVOCATION);
+		blackhole.consume(state.rounded);
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(RoundToIncrementBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.divide(state.bigDecimalIncrement, 0, state.roundingMode).multiply(state.bigDecimalIncrement);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> immutableDecimals(RoundToIncrementBenchmarkState state, Values<S> values) {
+		return values.immutable1.roundToIncrement(increment(state, values), state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> mutableDecimals(RoundToIncrementBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).roundToIncrement(increment(state, values), state.roundingMode);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static final <S extends ScaleMetrics> Decimal<S> increment(RoundToIncrementBenchmarkState state, Values<S> values) {
+		return (Decimal<S>) state.immutableIncrement;
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(RoundToIncrementBenchmark.class);
+	}
+}
@@ -25,9 +25,11 @@ package org.decimal4j.jmh.state;
 
 import java.math.RoundingMode;
 
+import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.jmh.AbstractBenchmark;
 import org.decimal4j.jmh.value.BenchmarkType;
 import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.Scales;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 
@@ -36,6 +38,9 @@ abstract public class AbstractValueBenchmarkState extends AbstractBenchmarkState
 	
 	public final Values<?>[] values = new Values<?>[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
 	
+	//arithmetic per value cycling through all rounding modes except UNNECESSARY, for megamorphic rounding call sites
+	public final DecimalArithmetic[] mixedRoundingArithmetic = new DecimalArithmetic[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	
 	protected void initForUnaryOp(BenchmarkType benchmarkType, RoundingMode roundingMode, ValueType valueType) {
 		init(benchmarkType, roundingMode, valueType, null);
 	}
@@ -46,6 +51,7 @@ abstract public class AbstractValueBenchmarkState extends AbstractBenchmarkState
 		super.init(roundingMode);
 		for (int i = 0; i < AbstractBenchmark.OPERATIONS_PER_INVOCATION; i++) {
 			this.values[i] = Values.create(benchmarkType, this, valueType1, valueType2);
+			this.mixedRoundingArithmetic[i] = Scales.getScaleMetrics(scale).getArithmetic(RoundingMode.values()[i % RoundingMode.UNNECESSARY.ordinal()]);
 		}
 	}
 }
\ No newline at end of file
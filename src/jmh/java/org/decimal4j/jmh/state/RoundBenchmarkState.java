@@ -34,7 +34,7 @@ import org.openjdk.jmh.annotations.State;
 
 @State(Scope.Benchmark)
 public class RoundBenchmarkState extends AbstractValueBenchmarkState {
-	@Param({"DOWN", "HALF_UP"})
+	@Param({"UP", "DOWN", "CEILING", "FLOOR", "HALF_UP", "HALF_DOWN", "HALF_EVEN"})
 	public RoundingMode roundingMode;
 	@Param({"Int", "Long"})
 	public ValueType valueType;
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.arithmetic.IncrementRounder;
+import org.decimal4j.jmh.AbstractBenchmark;
+import org.decimal4j.jmh.value.BenchmarkType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class RoundToIncrementBenchmarkState extends AbstractValueBenchmarkState {
+	@Param({"DOWN", "HALF_UP", "HALF_EVEN"})
+	public RoundingMode roundingMode;
+	@Param({"Int", "Long"})
+	public ValueType valueType;
+	@Param({"5", "25", "3125"})
+	public long increment;
+	public BigDecimal bigDecimalIncrement;
+	public Decimal<? extends ScaleMetrics> immutableIncrement;
+	public IncrementRounder rounder;
+	public final long[] unscaled = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	public final long[] rounded = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	@Setup
+	public void init() {
+		super.initForUnaryOp(BenchmarkType.Round, roundingMode, valueType);
+		bigDecimalIncrement = BigDecimal.valueOf(increment, scale);
+		immutableIncrement = factory.valueOfUnscaled(increment);
+		rounder = new IncrementRounder(arithmetic, increment);
+		for (int i = 0; i < unscaled.length; i++) {
+			unscaled[i] = values[i].unscaled1;
+		}
+	}
+}
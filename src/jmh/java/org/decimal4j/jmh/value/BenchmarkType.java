@@ -174,6 +174,35 @@ public enum BenchmarkType {
 			throw new RuntimeException("internal error: pow has no second decimal argument");
 		}
 	},
+	Exp {
+		@Override
+		public long randomFirst(AbstractValueBenchmarkState benchmarkState, ValueType valueType) {
+			//create an exponent whose result neither overflows nor underflows
+			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(benchmarkState.scale);
+			final double min = -scaleMetrics.getScale() * Math.log(10);
+			final double max = Math.log(scaleMetrics.getMaxIntegerValue());
+			final double doubleValue = min + (max - min) * Math.random();
+			return scaleMetrics.getArithmetic(CheckedRounding.DOWN).fromDouble(doubleValue);
+		}
+		@Override
+		public long randomSecond(AbstractValueBenchmarkState benchmarkState, ValueType valueType, long first) {
+			throw new RuntimeException("internal error: exp has no second decimal argument");
+		}
+	},
+	Ln {
+		@Override
+		public long randomFirst(AbstractValueBenchmarkState benchmarkState, ValueType valueType) {
+			long value = valueType.random(SignType.POSITIVE);
+			while (value == 0) {
+				value = valueType.random(SignType.POSITIVE);
+			}
+			return value;
+		}
+		@Override
+		public long randomSecond(AbstractValueBenchmarkState benchmarkState, ValueType valueType, long first) {
+			throw new RuntimeException("internal error: ln has no second decimal argument");
+		}
+	},
 	Round {
 		@Override
 		public long randomSecond(AbstractValueBenchmarkState benchmarkState, ValueType valueType, long first) {
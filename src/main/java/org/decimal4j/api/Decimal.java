@@ -151,6 +151,25 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S> fractionalPart();
 
+	/**
+	 * Assigns the {@link #integralPart() integral part} and the {@link #fractionalPart() fractional part} of
+	 * {@code this} Decimal to the given targets. The sum of the two parts is equal to {@code this} Decimal and both
+	 * parts have the same sign as {@code this} Decimal unless they are zero.
+	 * <p>
+	 * No new decimal instances are allocated. Either target may also be {@code this} Decimal as the value is read
+	 * before any target is assigned.
+	 * 
+	 * @param integralPart
+	 *            the target assigned with the integral part of this Decimal
+	 * @param fractionalPart
+	 *            the target assigned with the fractional part of this Decimal
+	 * @throws IllegalArgumentException
+	 *             if {@code integralPart} and {@code fractionalPart} are the same instance
+	 * @see #integralPart()
+	 * @see #fractionalPart()
+	 */
+	void integralAndFractionalPart(MutableDecimal<S> integralPart, MutableDecimal<S> fractionalPart);
+
 	// some methods "inherited" from Number and BigDecimal
 
 	/**
@@ -541,6 +560,76 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S> round(int precision, TruncationPolicy truncationPolicy);
 
+	/**
+	 * Returns a {@code Decimal} value rounded to a multiple of the specified {@code increment} using the default
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding mode, for instance to a tick size such as {@code 0.05},
+	 * {@code 0.25} or {@code 0.03125=1/32}. If an overflow occurs due to the rounding operation, the result is
+	 * silently truncated.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the rounded value.
+	 * 
+	 * @param increment
+	 *            the positive increment to round to
+	 * @return a Decimal instance rounded to a multiple of {@code increment}
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 * @see #roundToIncrement(Decimal, RoundingMode)
+	 * @see #roundToIncrement(Decimal, TruncationPolicy)
+	 * @see #round(int)
+	 */
+	Decimal<S> roundToIncrement(Decimal<S> increment);
+
+	/**
+	 * Returns a {@code Decimal} value rounded to a multiple of the specified {@code increment} using the given
+	 * rounding mode, for instance to a tick size such as {@code 0.05}, {@code 0.25} or {@code 0.03125=1/32}. If an
+	 * overflow occurs due to the rounding operation, the result is silently truncated.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the rounded value.
+	 * 
+	 * @param increment
+	 *            the positive increment to round to
+	 * @param roundingMode
+	 *            the rounding mode to apply when rounding to a multiple of the increment
+	 * @return a Decimal instance rounded to a multiple of {@code increment}
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary
+	 * @see #roundToIncrement(Decimal)
+	 * @see #roundToIncrement(Decimal, TruncationPolicy)
+	 * @see #round(int, RoundingMode)
+	 */
+	Decimal<S> roundToIncrement(Decimal<S> increment, RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} value rounded to a multiple of the specified {@code increment} using the given
+	 * truncation policy, for instance to a tick size such as {@code 0.05}, {@code 0.25} or {@code 0.03125=1/32}.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the rounded value.
+	 * 
+	 * @param increment
+	 *            the positive increment to round to
+	 * @param truncationPolicy
+	 *            the truncation policy defining {@link RoundingMode} and {@link OverflowMode} for the rounding
+	 *            operation
+	 * @return a Decimal instance rounded to a multiple of {@code increment}
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 * @throws ArithmeticException
+	 *             if {@code truncationPolicy} specifies {@link RoundingMode#UNNECESSARY} and rounding is necessary or
+	 *             if an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 * @see #roundToIncrement(Decimal)
+	 * @see #roundToIncrement(Decimal, RoundingMode)
+	 * @see #round(int, TruncationPolicy)
+	 */
+	Decimal<S> roundToIncrement(Decimal<S> increment, TruncationPolicy truncationPolicy);
+
 	/**
 	 * Returns a {@code Decimal} value whose {@link #getScale() scale} is changed to the given {@code scale} value.
 	 * {@link RoundingMode#HALF_UP HALF_UP} rounding is used if the scale change involves rounding.
@@ -2231,6 +2320,57 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S>[] divideAndRemainder(Decimal<S> divisor, OverflowMode overflowMode);
 
+	/**
+	 * Assigns the result of {@code divideToIntegralValue} to the {@code quotient} and the result of {@code remainder}
+	 * to the {@code remainder} target. If the division causes an overflow, the quotient is silently truncated.
+	 * <p>
+	 * In contrast to {@link #divideAndRemainder(Decimal)} no array and no new decimal instances are allocated. The
+	 * targets can be reused for instance in loops. Either target may also be {@code this} or the {@code divisor}
+	 * Decimal as both operands are read before any target is assigned.
+	 *
+	 * @param divisor
+	 *            value by which this {@code Decimal} is to be divided, and the remainder computed.
+	 * @param quotient
+	 *            the target assigned with the result of {@code divideToIntegralValue}
+	 * @param remainder
+	 *            the target assigned with the result of {@code remainder}
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0}
+	 * @throws IllegalArgumentException
+	 *             if {@code quotient} and {@code remainder} are the same instance
+	 * @see #divideAndRemainder(Decimal, MutableDecimal, MutableDecimal, OverflowMode)
+	 * @see #divideAndRemainder(Decimal)
+	 */
+	void divideAndRemainder(Decimal<S> divisor, MutableDecimal<S> quotient, MutableDecimal<S> remainder);
+
+	/**
+	 * Assigns the result of {@code divideToIntegralValue} to the {@code quotient} and the result of {@code remainder}
+	 * to the {@code remainder} target. The specified {@code overflowMode} determines whether to truncate the quotient
+	 * silently or to throw an exception if an overflow occurs.
+	 * <p>
+	 * In contrast to {@link #divideAndRemainder(Decimal, OverflowMode)} no array and no new decimal instances are
+	 * allocated. The targets can be reused for instance in loops. Either target may also be {@code this} or the
+	 * {@code divisor} Decimal as both operands are read before any target is assigned. No target is modified if an
+	 * exception is thrown.
+	 *
+	 * @param divisor
+	 *            value by which this {@code Decimal} is to be divided, and the remainder computed.
+	 * @param quotient
+	 *            the target assigned with the result of {@code divideToIntegralValue}
+	 * @param remainder
+	 *            the target assigned with the result of {@code remainder}
+	 * @param overflowMode
+	 *            the overflow mode to apply if the division leads to an overflow
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0} or if {@code overflowMode} is not UNCHECKED and an overflow occurs
+	 * @throws IllegalArgumentException
+	 *             if {@code quotient} and {@code remainder} are the same instance
+	 * @see #divideAndRemainder(Decimal, MutableDecimal, MutableDecimal)
+	 * @see #divideAndRemainder(Decimal, OverflowMode)
+	 */
+	void divideAndRemainder(Decimal<S> divisor, MutableDecimal<S> quotient, MutableDecimal<S> remainder,
+			OverflowMode overflowMode);
+
 	/**
 	 * Returns a {@code Decimal} whose value is {@code (this % divisor)}.
 	 * <p>
@@ -2703,6 +2843,304 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S> pow(int n, TruncationPolicy truncationPolicy);
 
+	/**
+	 * Returns a {@code Decimal} whose value is <tt>(this<sup>exponent</sup>)</tt> for a decimal {@code exponent} of any
+	 * scale. The result is rounded to the {@link #getScale() scale} of this Decimal using default {@link
+	 * RoundingMode#HALF_UP HALF_UP} rounding. If an overflow occurs, an {@code ArithmeticException} is thrown.
+	 * <p>
+	 * If {@code exponent} is an integer in the range {@code [-999999999, 999999999]}, the result is the same as for
+	 * {@link #pow(int)}. Otherwise the power is calculated as <tt>e<sup>exponent * ln(this)</sup></tt> with about 34
+	 * significant digits precision and exact powers such as <tt>4<sup>0.5</sup></tt> are recognized. For exponents of
+	 * magnitude <tt>10<sup>9</sup></tt> or more the intermediate precision is reduced by one digit per power of ten.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact power is
+	 * closer to a rounding boundary than the error of the approximation, and a result within this error of an exact
+	 * decimal is treated as exact.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param exponent
+	 *            the decimal exponent to which this {@code Decimal} is to be raised
+	 * @return <tt>round(this<sup>exponent</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this} equals zero and {@code exponent} is negative, if {@code this} is negative and
+	 *             {@code exponent} is not an integer, or if an overflow occurs
+	 */
+	Decimal<S> pow(Decimal<?> exponent);
+
+	/**
+	 * Returns a {@code Decimal} whose value is <tt>(this<sup>exponent</sup>)</tt> for a decimal {@code exponent} of any
+	 * scale. The result is rounded to the {@link #getScale() scale} of this Decimal using the specified {@code
+	 * roundingMode}. If an overflow occurs, an {@code ArithmeticException} is thrown.
+	 * <p>
+	 * If {@code exponent} is an integer in the range {@code [-999999999, 999999999]}, the result is the same as for
+	 * {@link #pow(int)}. Otherwise the power is calculated as <tt>e<sup>exponent * ln(this)</sup></tt> with about 34
+	 * significant digits precision and exact powers such as <tt>4<sup>0.5</sup></tt> are recognized. For exponents of
+	 * magnitude <tt>10<sup>9</sup></tt> or more the intermediate precision is reduced by one digit per power of ten.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact power is
+	 * closer to a rounding boundary than the error of the approximation, and a result within this error of an exact
+	 * decimal is treated as exact.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param exponent
+	 *            the decimal exponent to which this {@code Decimal} is to be raised
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @return <tt>round(this<sup>exponent</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this} equals zero and {@code exponent} is negative, if {@code this} is negative and
+	 *             {@code exponent} is not an integer, if {@code roundingMode} equals {@link RoundingMode#UNNECESSARY} and
+	 *             rounding is necessary or if an overflow occurs
+	 */
+	Decimal<S> pow(Decimal<?> exponent, RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is <tt>(this<sup>exponent</sup>)</tt> for a decimal {@code exponent} of any
+	 * scale applying the {@link RoundingMode} specified by {@code truncationPolicy}. The {@code truncationPolicy} argument
+	 * also defines the {@link OverflowMode} to apply if an overflow occurs during the power operation.
+	 * <p>
+	 * If {@code exponent} is an integer in the range {@code [-999999999, 999999999]}, the result is the same as for
+	 * {@link #pow(int)}. Otherwise the power is calculated as <tt>e<sup>exponent * ln(this)</sup></tt> with about 34
+	 * significant digits precision and exact powers such as <tt>4<sup>0.5</sup></tt> are recognized. For exponents of
+	 * magnitude <tt>10<sup>9</sup></tt> or more the intermediate precision is reduced by one digit per power of ten.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact power is
+	 * closer to a rounding boundary than the error of the approximation, and a result within this error of an exact
+	 * decimal is treated as exact.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param exponent
+	 *            the decimal exponent to which this {@code Decimal} is to be raised
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(this<sup>exponent</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this} equals zero and {@code exponent} is negative, if {@code this} is negative and
+	 *             {@code exponent} is not an integer, if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY}
+	 *             and rounding is necessary or if an overflow occurs and the policy declares
+	 *             {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> pow(Decimal<?> exponent, TruncationPolicy truncationPolicy);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the exponential function <tt>e<sup>this</sup></tt>. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using default {@link RoundingMode#HALF_UP HALF_UP} rounding. If an
+	 * overflow occurs, an {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @return <tt>round(e<sup>this</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if an overflow occurs
+	 */
+	Decimal<S> exp();
+
+	/**
+	 * Returns a {@code Decimal} whose value is the exponential function <tt>e<sup>this</sup></tt>. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using the specified {@code roundingMode}. If an overflow occurs, an
+	 * {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply if the result needs to be rounded
+	 * @return <tt>round(e<sup>this</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary or if an overflow occurs
+	 */
+	Decimal<S> exp(RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the exponential function <tt>e<sup>this</sup></tt> applying the {@link
+	 * RoundingMode} specified by {@code truncationPolicy}. The {@code truncationPolicy} argument also defines the {@link
+	 * OverflowMode} to apply if an overflow occurs.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(e<sup>this</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY} and rounding is necessary or
+	 *             if an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> exp(TruncationPolicy truncationPolicy);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the natural logarithm of {@code this} Decimal value. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using default {@link RoundingMode#HALF_UP HALF_UP} rounding. If an
+	 * overflow occurs, an {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @return <tt>round(ln(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0} or if an overflow occurs
+	 */
+	Decimal<S> ln();
+
+	/**
+	 * Returns a {@code Decimal} whose value is the natural logarithm of {@code this} Decimal value. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using the specified {@code roundingMode}. If an overflow occurs, an
+	 * {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply if the result needs to be rounded
+	 * @return <tt>round(ln(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0}, if {@code roundingMode==UNNECESSARY} and rounding is necessary or if an
+	 *             overflow occurs
+	 */
+	Decimal<S> ln(RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the natural logarithm of {@code this} Decimal value applying the {@link
+	 * RoundingMode} specified by {@code truncationPolicy}. The {@code truncationPolicy} argument also defines the {@link
+	 * OverflowMode} to apply if an overflow occurs.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(ln(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0}, if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY} and
+	 *             rounding is necessary or if an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> ln(TruncationPolicy truncationPolicy);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the base 10 logarithm of {@code this} Decimal value. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using default {@link RoundingMode#HALF_UP HALF_UP} rounding. If an
+	 * overflow occurs, an {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @return <tt>round(log<sub>10</sub>(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0} or if an overflow occurs
+	 */
+	Decimal<S> log10();
+
+	/**
+	 * Returns a {@code Decimal} whose value is the base 10 logarithm of {@code this} Decimal value. The result is rounded
+	 * to the {@link #getScale() scale} of this Decimal using the specified {@code roundingMode}. If an overflow occurs, an
+	 * {@code ArithmeticException} is thrown.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply if the result needs to be rounded
+	 * @return <tt>round(log<sub>10</sub>(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0}, if {@code roundingMode==UNNECESSARY} and rounding is necessary or if an
+	 *             overflow occurs
+	 */
+	Decimal<S> log10(RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is the base 10 logarithm of {@code this} Decimal value applying the {@link
+	 * RoundingMode} specified by {@code truncationPolicy}. The {@code truncationPolicy} argument also defines the {@link
+	 * OverflowMode} to apply if an overflow occurs.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: it may be off by one ULP if the exact result is
+	 * closer to a rounding boundary than the error of the approximation.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(log<sub>10</sub>(this))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code this <= 0}, if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY} and
+	 *             rounding is necessary or if an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> log10(TruncationPolicy truncationPolicy);
+
 	// compare and related methods
 
 	/**
@@ -30,6 +30,7 @@ import java.math.RoundingMode;
 
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncationPolicy;
 
@@ -442,6 +443,154 @@ public interface DecimalArithmetic {
 	 */
 	long divideByUnscaled(long uDecimal, long unscaled, int scale);
 
+	/**
+	 * Returns an unscaled decimal whose value is the integer part of the quotient {@code (uDecimalDividend /
+	 * uDecimalDivisor)} rounded down. The rounding mode of this arithmetic is ignored.
+	 * <p>
+	 * If an overflow occurs, the result is truncated, saturated or an exception is thrown depending on this
+	 * arithmetic's {@link #getOverflowMode() overflow mode}.
+	 * 
+	 * @param uDecimalDividend
+	 *            value to be divided.
+	 * @param uDecimalDivisor
+	 *            value by which the dividend is to be divided.
+	 * @return the integer part of {@code (uDecimalDividend / uDecimalDivisor)}
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero or if an overflow occurs and the {@link #getOverflowMode()
+	 *             overflow mode} is set to throw an exception
+	 * @see #remainder(long, long)
+	 * @see #divideAndRemainder(long, long, long[])
+	 */
+	long divideToIntegralValue(long uDecimalDividend, long uDecimalDivisor);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimalDividend % uDecimalDivisor)}. The remainder is
+	 * always exact and has the sign of the dividend; it is given by
+	 * {@code uDecimalDividend - uDecimalDivisor * divideToIntegralValue(uDecimalDividend, uDecimalDivisor)}.
+	 * 
+	 * @param uDecimalDividend
+	 *            value to be divided.
+	 * @param uDecimalDivisor
+	 *            value by which the dividend is to be divided.
+	 * @return {@code uDecimalDividend % uDecimalDivisor}
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero
+	 * @see #divideToIntegralValue(long, long)
+	 * @see #divideAndRemainder(long, long, long[])
+	 */
+	long remainder(long uDecimalDividend, long uDecimalDivisor);
+
+	/**
+	 * Calculates {@link #divideToIntegralValue(long, long) divideToIntegralValue} and {@link #remainder(long, long)
+	 * remainder} with a single division. The unscaled quotient is assigned to {@code quotientAndRemainder[0]} and the
+	 * unscaled remainder to {@code quotientAndRemainder[1]}. The array can be reused for subsequent invocations
+	 * avoiding any allocation.
+	 * <p>
+	 * If the quotient overflows it is silently truncated if this arithmetic's {@link #getOverflowMode() overflow
+	 * mode} is UNCHECKED. Otherwise an exception is thrown since a saturated quotient would be inconsistent with the
+	 * remainder. No array element is modified if an exception is thrown.
+	 * 
+	 * @param uDecimalDividend
+	 *            value to be divided.
+	 * @param uDecimalDivisor
+	 *            value by which the dividend is to be divided.
+	 * @param quotientAndRemainder
+	 *            array with at least two elements receiving quotient and remainder
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero or if an overflow occurs and the {@link #getOverflowMode()
+	 *             overflow mode} is not UNCHECKED
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code quotientAndRemainder} has less than two elements
+	 * @see #divideToIntegralValue(long, long)
+	 * @see #remainder(long, long)
+	 */
+	void divideAndRemainder(long uDecimalDividend, long uDecimalDivisor, long[] quotientAndRemainder);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimal1 + uDecimal2)}.
+	 * <p>
+	 * In contrast to the corresponding method without status argument, no exception is thrown if an overflow occurs
+	 * regardless of this arithmetic's {@link #getOverflowMode() overflow mode}. Instead the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag is raised on the given {@code status} and the truncated
+	 * low-order bits of the result are returned.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be added
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be added
+	 * @param status
+	 *            the status on which the overflow flag is raised if an overflow occurs
+	 * @return {@code uDecimal1 + uDecimal2}, truncated if an overflow occurs
+	 */
+	long tryAdd(long uDecimal1, long uDecimal2, ArithmeticStatus status);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimalMinuend - uDecimalSubtrahend)}.
+	 * <p>
+	 * In contrast to the corresponding method without status argument, no exception is thrown if an overflow occurs
+	 * regardless of this arithmetic's {@link #getOverflowMode() overflow mode}. Instead the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag is raised on the given {@code status} and the truncated
+	 * low-order bits of the result are returned.
+	 * 
+	 * @param uDecimalMinuend
+	 *            unscaled decimal value to subtract from
+	 * @param uDecimalSubtrahend
+	 *            unscaled decimal value to subtract from the minuend
+	 * @param status
+	 *            the status on which the overflow flag is raised if an overflow occurs
+	 * @return {@code uDecimalMinuend - uDecimalSubtrahend}, truncated if an overflow occurs
+	 */
+	long trySubtract(long uDecimalMinuend, long uDecimalSubtrahend, ArithmeticStatus status);
+
+	/**
+	 * Returns an unscaled decimal whose value is the product of the specified arguments:
+	 * {@code (uDecimal1 * uDecimal2)}. If rounding must be performed, this arithmetic's {@link #getRoundingMode()
+	 * rounding mode} is applied.
+	 * <p>
+	 * In contrast to the corresponding method without status argument, no exception is thrown if an overflow occurs
+	 * regardless of this arithmetic's {@link #getOverflowMode() overflow mode}. Instead the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag is raised on the given {@code status} and the low-order 64
+	 * bits of the rounded result are returned. The {@link ArithmeticStatus#INEXACT INEXACT} flag is raised if
+	 * rounding was necessary.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be multiplied
+	 * @param status
+	 *            the status on which the overflow flag is raised if an overflow occurs and the inexact flag if
+	 *            rounding was necessary
+	 * @return {@code round(uDecimal1 * uDecimal2)}, truncated if an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 */
+	long tryMultiply(long uDecimal1, long uDecimal2, ArithmeticStatus status);
+
+	/**
+	 * Returns an unscaled decimal whose value is the quotient of the specified arguments:
+	 * {@code (uDecimalDividend / uDecimalDivisor)}. If rounding must be performed, this arithmetic's
+	 * {@link #getRoundingMode() rounding mode} is applied.
+	 * <p>
+	 * In contrast to the corresponding method without status argument, no exception is thrown if an overflow occurs
+	 * regardless of this arithmetic's {@link #getOverflowMode() overflow mode}. Instead the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag is raised on the given {@code status} and the low-order 64
+	 * bits of the rounded result are returned. The {@link ArithmeticStatus#INEXACT INEXACT} flag is raised if
+	 * rounding was necessary.
+	 * 
+	 * @param uDecimalDividend
+	 *            value to be divided.
+	 * @param uDecimalDivisor
+	 *            value by which the dividend is to be divided.
+	 * @param status
+	 *            the status on which the overflow flag is raised if an overflow occurs and the inexact flag if
+	 *            rounding was necessary
+	 * @return {@code round(uDecimalDividend / uDecimalDivisor)}, truncated if an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero or if {@link #getRoundingMode() rounding mode} is UNNECESSARY and
+	 *             rounding is necessary
+	 */
+	long tryDivide(long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status);
+
 	/**
 	 * Returns an unscaled decimal whose value is <tt>(uDecimal / 10<sup>n</sup>)</tt>. If rounding must be performed,
 	 * this arithmetic's {@link #getRoundingMode() rounding mode} is applied.
@@ -588,6 +737,116 @@ public interface DecimalArithmetic {
 	 */
 	long pow(long uDecimalBase, int exponent);
 
+	/**
+	 * Returns an unscaled decimal whose value is <tt>(uDecimalBase<sup>exponent</sup>)</tt> for a decimal exponent
+	 * given by {@code unscaledExponent} and {@code scale}. If rounding must be performed, this arithmetic's
+	 * {@link #getRoundingMode() rounding mode} is applied.
+	 * <p>
+	 * If the exponent is an integer in the range {@code [-999999999, 999999999]}, the result is calculated via
+	 * {@link #pow(long, int)}. Otherwise the power is calculated as <tt>e<sup>exponent * ln(uDecimalBase)</sup></tt>
+	 * with about 34 significant digits precision. Exact powers such as <tt>4<sup>0.5</sup></tt> are recognized and
+	 * returned without rounding. For exponents of magnitude <tt>10<sup>9</sup></tt> or more the intermediate precision
+	 * is reduced by one digit per power of ten.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: the intermediate result is rounded without
+	 * re-evaluation at higher precision. If the exact power differs from a rounding boundary by less than the error
+	 * of the approximation, the result may be off by one ULP. For the same reason, a result within the approximation
+	 * error of an exact decimal is treated as exact, hence rounding mode UNNECESSARY may not detect that rounding is
+	 * necessary in such a case.
+	 * <p>
+	 * Note: this operation is <b>not</b> strictly garbage free since internally, {@link ThreadLocal} objects are used
+	 * to calculate the result. The {@code ThreadLocal} values may become garbage if the thread becomes garbage.
+	 * 
+	 * @param uDecimalBase
+	 *            the unscaled decimal base value
+	 * @param unscaledExponent
+	 *            the unscaled value of the exponent to which {@code uDecimalBase} is to be raised
+	 * @param scale
+	 *            the scale of the exponent
+	 * @return <tt>round(uDecimalBase<sup>exponent</sup>)</tt>
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is negative or greater than 18
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalBase==0} and the exponent is negative, if {@code uDecimalBase} is negative and the
+	 *             exponent is not an integer, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding
+	 *             is necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to
+	 *             throw an exception
+	 */
+	long pow(long uDecimalBase, long unscaledExponent, int scale);
+
+	/**
+	 * Returns an unscaled decimal whose value is the exponential function of the specified argument:
+	 * <tt>e<sup>uDecimal</sup></tt>. If rounding must be performed, this arithmetic's {@link #getRoundingMode()
+	 * rounding mode} is applied.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: the intermediate result is rounded without
+	 * re-evaluation at higher precision. If the exact result differs from a rounding boundary by less than the error
+	 * of the approximation, the result may be off by one ULP.
+	 * <p>
+	 * Note: this operation is <b>not</b> strictly garbage free since internally, {@link ThreadLocal} objects are used
+	 * to calculate the result. The {@code ThreadLocal} values may become garbage if the thread becomes garbage.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal exponent
+	 * @return <tt>round(e<sup>uDecimal</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 */
+	long exp(long uDecimal);
+
+	/**
+	 * Returns an unscaled decimal whose value is the natural logarithm of the specified argument:
+	 * <tt>ln(uDecimal)</tt>. If rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding
+	 * mode} is applied.
+	 * <p>
+	 * The result is calculated with about 34 significant digits precision using table based argument reduction and a
+	 * short power series.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: the intermediate result is rounded without
+	 * re-evaluation at higher precision. If the exact result differs from a rounding boundary by less than the error
+	 * of the approximation, the result may be off by one ULP.
+	 * <p>
+	 * Note: this operation is <b>not</b> strictly garbage free since internally, {@link ThreadLocal} objects are used
+	 * to calculate the result. The {@code ThreadLocal} values may become garbage if the thread becomes garbage.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @return <tt>round(ln(uDecimal))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0}, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is
+	 *             necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw
+	 *             an exception
+	 */
+	long ln(long uDecimal);
+
+	/**
+	 * Returns an unscaled decimal whose value is the base 10 logarithm of the specified argument:
+	 * <tt>log<sub>10</sub>(uDecimal)</tt>. If rounding must be performed, this arithmetic's {@link #getRoundingMode()
+	 * rounding mode} is applied.
+	 * <p>
+	 * The result is exact for powers of ten and otherwise calculated with about 34 significant digits precision.
+	 * <p>
+	 * The result is <b>not</b> guaranteed to be correctly rounded: the intermediate result is rounded without
+	 * re-evaluation at higher precision. If the exact result differs from a rounding boundary by less than the error
+	 * of the approximation, the result may be off by one ULP.
+	 * <p>
+	 * Note: this operation is <b>not</b> strictly garbage free since internally, {@link ThreadLocal} objects are used
+	 * to calculate the result. The {@code ThreadLocal} values may become garbage if the thread becomes garbage.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @return <tt>round(log<sub>10</sub>(uDecimal))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0}, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is
+	 *             necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw
+	 *             an exception
+	 */
+	long log10(long uDecimal);
+
 	/**
 	 * Returns an unscaled decimal whose value is {@code (uDecimal << n)}. The shift distance, {@code n}, may be
 	 * negative, in which case this method performs a right shift. The result is equal to
@@ -658,6 +917,28 @@ public interface DecimalArithmetic {
 	 */
 	long round(long uDecimal, int precision);
 
+	/**
+	 * Returns the specified {@code uDecimal} value rounded to a multiple of the given unscaled {@code uDecimalIncrement}
+	 * using the {@link #getRoundingMode() rounding mode} of this arithmetic, for instance to a tick size such as
+	 * {@code 0.05}, {@code 0.25} or {@code 0.03125=1/32}.
+	 * <p>
+	 * To round many values to the same increment, an {@link org.decimal4j.arithmetic.IncrementRounder
+	 * IncrementRounder} with precomputed reciprocal can be used instead.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to round
+	 * @param uDecimalIncrement
+	 *            the positive unscaled decimal increment to round to
+	 * @return {@code round(uDecimal / uDecimalIncrement) * uDecimalIncrement}
+	 * @throws IllegalArgumentException
+	 *             if {@code uDecimalIncrement} is not positive
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #round(long, int)
+	 */
+	long roundToIncrement(long uDecimal, long uDecimalIncrement);
+
 	/**
 	 * Converts the specified long value to an unscaled decimal. An exception is thrown if the specified value is too
 	 * large to be represented as a Decimal of this arithmetic's {@link #getScale() scale}.
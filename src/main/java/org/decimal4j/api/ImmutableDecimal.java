@@ -87,6 +87,15 @@ public interface ImmutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	ImmutableDecimal<S> round(int precision, TruncationPolicy truncationPolicy);
 
+	@Override
+	ImmutableDecimal<S> roundToIncrement(Decimal<S> increment);
+
+	@Override
+	ImmutableDecimal<S> roundToIncrement(Decimal<S> increment, RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> roundToIncrement(Decimal<S> increment, TruncationPolicy truncationPolicy);
+
 	@Override
 	ImmutableDecimal<?> scale(int scale);
 
@@ -400,6 +409,42 @@ public interface ImmutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 
 	@Override
 	ImmutableDecimal<S> pow(int n, TruncationPolicy truncationPolicy);
+
+	@Override
+	ImmutableDecimal<S> pow(Decimal<?> exponent);
+
+	@Override
+	ImmutableDecimal<S> pow(Decimal<?> exponent, RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> pow(Decimal<?> exponent, TruncationPolicy truncationPolicy);
+
+	@Override
+	ImmutableDecimal<S> exp();
+
+	@Override
+	ImmutableDecimal<S> exp(RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> exp(TruncationPolicy truncationPolicy);
+
+	@Override
+	ImmutableDecimal<S> ln();
+
+	@Override
+	ImmutableDecimal<S> ln(RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> ln(TruncationPolicy truncationPolicy);
+
+	@Override
+	ImmutableDecimal<S> log10();
+
+	@Override
+	ImmutableDecimal<S> log10(RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> log10(TruncationPolicy truncationPolicy);
 	
 	@Override
 	ImmutableDecimal<S> avg(Decimal<S> val);
@@ -439,6 +439,15 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	MutableDecimal<S> round(int precision, TruncationPolicy truncationPolicy);
 
+	@Override
+	MutableDecimal<S> roundToIncrement(Decimal<S> increment);
+
+	@Override
+	MutableDecimal<S> roundToIncrement(Decimal<S> increment, RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> roundToIncrement(Decimal<S> increment, TruncationPolicy truncationPolicy);
+
 	@Override
 	MutableDecimal<?> scale(int scale);
 
@@ -753,6 +762,42 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	MutableDecimal<S> pow(int n, TruncationPolicy truncationPolicy);
 
+	@Override
+	MutableDecimal<S> pow(Decimal<?> exponent);
+
+	@Override
+	MutableDecimal<S> pow(Decimal<?> exponent, RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> pow(Decimal<?> exponent, TruncationPolicy truncationPolicy);
+
+	@Override
+	MutableDecimal<S> exp();
+
+	@Override
+	MutableDecimal<S> exp(RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> exp(TruncationPolicy truncationPolicy);
+
+	@Override
+	MutableDecimal<S> ln();
+
+	@Override
+	MutableDecimal<S> ln(RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> ln(TruncationPolicy truncationPolicy);
+
+	@Override
+	MutableDecimal<S> log10();
+
+	@Override
+	MutableDecimal<S> log10(RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> log10(TruncationPolicy truncationPolicy);
+
 	@Override
 	MutableDecimal<S> avg(Decimal<S> val);
 
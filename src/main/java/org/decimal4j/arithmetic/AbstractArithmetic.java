@@ -29,7 +29,10 @@ import java.math.RoundingMode;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
 import org.decimal4j.truncate.TruncationPolicy;
 
 /**
@@ -55,6 +58,9 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 	@Override
 	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode, OverflowMode overflowMode) {
 		if (roundingMode != getRoundingMode() | overflowMode != getOverflowMode()) {
+			if (overflowMode.isSaturating()) {
+				return getScaleMetrics().getArithmetic(SaturatingRounding.valueOf(roundingMode));
+			}
 			return overflowMode.isChecked() ? getScaleMetrics().getCheckedArithmetic(roundingMode) : getScaleMetrics().getArithmetic(roundingMode);
 		}
 		return this;
@@ -95,6 +101,54 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 		return BigDecimalConversion.unscaledToBigDecimal(getScaleMetrics(), uDecimal);
 	}
 
+	@Override
+	public final long tryAdd(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		final long result = uDecimal1 + uDecimal2;
+		if (Checked.isAddOverflow(uDecimal1, uDecimal2, result)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result;
+	}
+
+	@Override
+	public final long trySubtract(long uDecimalMinuend, long uDecimalSubtrahend, ArithmeticStatus status) {
+		final long result = uDecimalMinuend - uDecimalSubtrahend;
+		if (Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result;
+	}
+
+	@Override
+	public final long tryMultiply(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		return Mul.multiply(getScaleMetrics(), DecimalRounding.valueOf(getRoundingMode()), uDecimal1, uDecimal2, status);
+	}
+
+	@Override
+	public final long tryDivide(long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status) {
+		return Div.divide(getScaleMetrics(), DecimalRounding.valueOf(getRoundingMode()), uDecimalDividend, uDecimalDivisor, status);
+	}
+
+	@Override
+	public final long roundToIncrement(long uDecimal, long uDecimalIncrement) {
+		return Round.roundToIncrement(this, DecimalRounding.valueOf(getRoundingMode()), uDecimal, uDecimalIncrement);
+	}
+
+	@Override
+	public final long divideToIntegralValue(long uDecimalDividend, long uDecimalDivisor) {
+		return DivRem.divideToIntegralValue(this, uDecimalDividend, uDecimalDivisor);
+	}
+
+	@Override
+	public final long remainder(long uDecimalDividend, long uDecimalDivisor) {
+		return DivRem.remainder(this, uDecimalDividend, uDecimalDivisor);
+	}
+
+	@Override
+	public final void divideAndRemainder(long uDecimalDividend, long uDecimalDivisor, long[] quotientAndRemainder) {
+		DivRem.divideAndRemainder(this, uDecimalDividend, uDecimalDivisor, quotientAndRemainder);
+	}
+
 	@Override
 	public final BigDecimal toBigDecimal(long uDecimal, int scale) {
 		return BigDecimalConversion.unscaledToBigDecimal(getScaleMetrics(), getRoundingMode(), uDecimal, scale);
@@ -0,0 +1,432 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
+
+/**
+ * Base class for arithmetic implementations with {@link OverflowMode#SATURATING
+ * SATURATING} overflow mode. Operations causing an overflow return
+ * {@link Long#MAX_VALUE} if the exact result is positive and
+ * {@link Long#MIN_VALUE} if it is negative.
+ * <p>
+ * Overflows are detected without exceptions, either inline or through a
+ * reused thread-local {@link ArithmeticStatus} passed to the multiplication,
+ * division, power, exponential and logarithm kernels. Other errors such as division by zero
+ * or necessary rounding with {@link RoundingMode#UNNECESSARY UNNECESSARY} are
+ * still thrown. Conversions reporting an out-of-range value through an
+ * {@link IllegalArgumentException} behave the same in all overflow modes.
+ */
+abstract public class AbstractSaturatingArithmetic extends AbstractArithmetic {
+
+	private final AbstractCheckedArithmetic checked;
+	private final AbstractUncheckedArithmetic unchecked;
+	private final DecimalRounding rounding;
+
+	/**
+	 * Constructor with the checked and unchecked arithmetic performing the
+	 * operations.
+	 * 
+	 * @param checked
+	 *            the checked arithmetic with the scale and rounding mode of
+	 *            this arithmetic
+	 * @param unchecked
+	 *            the unchecked arithmetic with the scale and rounding mode of
+	 *            this arithmetic
+	 */
+	protected AbstractSaturatingArithmetic(AbstractCheckedArithmetic checked, AbstractUncheckedArithmetic unchecked) {
+		this.checked = checked;
+		this.unchecked = unchecked;
+		this.rounding = DecimalRounding.valueOf(checked.getRoundingMode());
+	}
+
+	private static final long saturate(long sign) {
+		return sign < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	private static final long saturateNegated(long sign) {
+		return sign > 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the saturated sum {@code uDecimal + unscaled * 10^n}.
+	 * 
+	 * @param uDecimal
+	 *            the first summand
+	 * @param unscaled
+	 *            the value to multiply by a power of 10
+	 * @param n
+	 *            the power-ten exponent, must be positive
+	 * @return the saturated sum
+	 */
+	private final long addScaled(long uDecimal, long unscaled, int n) {
+		if (n <= 18) {
+			final ScaleMetrics diffMetrics = Scales.getScaleMetrics(n);
+			if (diffMetrics.isValidIntegerValue(unscaled)) {
+				return add(uDecimal, diffMetrics.multiplyByScaleFactor(unscaled));
+			}
+		}
+		//NOTE: the scaled value overflows but the sum may still be valid if signs are opposite
+		//		--> therefore we multiply only half of the value with pow10 and add it twice
+		if ((uDecimal ^ unscaled) < 0 & n <= 19) {
+			final long halfPow10 = 5 * Scales.getScaleMetrics(n - 1).getScaleFactor();
+			final long half = unscaled * halfPow10;
+			if (!Checked.isMultiplyOverflow(unscaled, halfPow10, half)) {
+				return add(uDecimal + half, half);//first addition cannot overflow, signs are opposite
+			}
+		}
+		return saturate(unscaled);
+	}
+
+	/**
+	 * Returns the saturated difference {@code uDecimal - unscaled * 10^n}.
+	 * 
+	 * @param uDecimal
+	 *            the minuend
+	 * @param unscaled
+	 *            the value to multiply by a power of 10
+	 * @param n
+	 *            the power-ten exponent, must be positive
+	 * @return the saturated difference
+	 */
+	private final long subtractScaled(long uDecimal, long unscaled, int n) {
+		return unscaled == Long.MIN_VALUE ? Long.MAX_VALUE : addScaled(uDecimal, -unscaled, n);
+	}
+
+	@Override
+	public final ScaleMetrics getScaleMetrics() {
+		return checked.getScaleMetrics();
+	}
+
+	@Override
+	public final int getScale() {
+		return checked.getScale();
+	}
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return checked.getRoundingMode();
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return OverflowMode.SATURATING;
+	}
+
+	@Override
+	public final SaturatingRounding getTruncationPolicy() {
+		return SaturatingRounding.valueOf(getRoundingMode());
+	}
+
+	@Override
+	public final long one() {
+		return checked.one();
+	}
+
+	@Override
+	public final long add(long uDecimal1, long uDecimal2) {
+		final long result = uDecimal1 + uDecimal2;
+		if (((uDecimal1 ^ result) & (uDecimal2 ^ result)) < 0) {
+			return saturate(uDecimal1);
+		}
+		return result;
+	}
+
+	@Override
+	public final long addLong(long uDecimal, long lValue) {
+		final int scale = getScale();
+		return scale == 0 ? add(uDecimal, lValue) : addScaled(uDecimal, lValue, scale);
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+		final int scaleDiff = getScale() - scale;
+		if (scaleDiff <= 0 | unscaled == 0) {
+			final long sum = unchecked.addUnscaled(uDecimal, unscaled, scale);
+			return Checked.isAddOverflow(uDecimal, unscaled, sum) ? saturate(uDecimal) : sum;
+		}
+		return addScaled(uDecimal, unscaled, scaleDiff);
+	}
+
+	@Override
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend) {
+		final long result = uDecimalMinuend - uDecimalSubtrahend;
+		if (((uDecimalMinuend ^ uDecimalSubtrahend) & (uDecimalMinuend ^ result)) < 0) {
+			return saturate(uDecimalMinuend);
+		}
+		return result;
+	}
+
+	@Override
+	public final long subtractLong(long uDecimal, long lValue) {
+		final int scale = getScale();
+		return scale == 0 ? subtract(uDecimal, lValue) : subtractScaled(uDecimal, lValue, scale);
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+		final int scaleDiff = getScale() - scale;
+		if (scaleDiff <= 0 | unscaled == 0) {
+			final long difference = unchecked.subtractUnscaled(uDecimal, unscaled, scale);
+			return Checked.isSubtractOverflow(uDecimal, unscaled, difference) ? saturate(uDecimal) : difference;
+		}
+		return subtractScaled(uDecimal, unscaled, scaleDiff);
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		if (Mul.doesProductFitInLong(uDecimal1, uDecimal2)) {
+			return unchecked.multiply(uDecimal1, uDecimal2);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Mul.multiply(getScaleMetrics(), rounding, uDecimal1, uDecimal2, status);
+		return status.isOverflow() ? saturate(uDecimal1 ^ uDecimal2) : result;
+	}
+
+	@Override
+	public final long multiplyByLong(long uDecimal, long lValue) {
+		final long result = uDecimal * lValue;
+		if (((Math.abs(uDecimal) | Math.abs(lValue)) >>> 31) != 0) {
+			if (lValue != 0 && (result / lValue != uDecimal || (uDecimal == Long.MIN_VALUE & lValue == -1))) {
+				return saturate(uDecimal ^ lValue);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Mul.multiplyByUnscaled(getScaleMetrics(), rounding, uDecimal, unscaled, scale, status);
+		return status.isOverflow() ? saturate(uDecimal ^ unscaled) : result;
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+		return Pow10.isMultiplyByPowerOf10Overflow(uDecimal, n) ? saturate(uDecimal) : unchecked.multiplyByPowerOf10(uDecimal, n);
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		//the scaled dividend fits in a long, hence only MIN_VALUE / -1 can overflow
+		if (getScaleMetrics().isValidIntegerValue(uDecimalDividend) & uDecimalDivisor != 0 & uDecimalDivisor != -1) {
+			return unchecked.divide(uDecimalDividend, uDecimalDivisor);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Div.divide(getScaleMetrics(), rounding, uDecimalDividend, uDecimalDivisor, status);
+		return status.isOverflow() ? saturate(uDecimalDividend ^ uDecimalDivisor) : result;
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+		return Checked.isDivideOverflow(uDecimalDividend, lDivisor) ? Long.MAX_VALUE : checked.divideByLong(uDecimalDividend, lDivisor);
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Div.divideByUnscaled(getScaleMetrics(), rounding, uDecimal, unscaled, scale, status);
+		return status.isOverflow() ? saturate(uDecimal ^ unscaled) : result;
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+		if (n < 0 && (n < -18 ? uDecimal != 0 : Pow10.isMultiplyByPowerOf10Overflow(uDecimal, -n))) {
+			return saturate(uDecimal);
+		}
+		return unchecked.divideByPowerOf10(uDecimal, n);
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+		return checked.avg(uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long abs(long uDecimal) {
+		return uDecimal == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(uDecimal);
+	}
+
+	@Override
+	public final long negate(long uDecimal) {
+		return uDecimal == Long.MIN_VALUE ? Long.MAX_VALUE : -uDecimal;
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		return divide(one(), uDecimal);
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+		return multiply(uDecimal, uDecimal);
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		return checked.sqrt(uDecimal);
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, int exponent) {
+		//NOTE: exponents -1 and 2 are delegated to invert and square which reuse
+		//		the status, but they saturate in the same direction as we do
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Pow.pow(this, rounding, uDecimalBase, exponent, status);
+		return status.isOverflow() ? saturate((exponent & 1) == 0 ? 0 : uDecimalBase) : result;
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Exp.pow(this, rounding, uDecimalBase, unscaledExponent, scale, status);
+		if (status.isOverflow()) {
+			final ScaleMetrics exponentMetrics = Scales.getScaleMetrics(scale);
+			final long intExponent = exponentMetrics.divideByScaleFactor(unscaledExponent);
+			if (rounding == DecimalRounding.UNNECESSARY & unscaledExponent != exponentMetrics.multiplyByScaleFactor(intExponent)) {
+				//exact overflows are not recognized for non-integer exponents
+				throw Exceptions.newRoundingNecessaryArithmeticException();
+			}
+			//the exponent is an integer if the base is negative
+			return saturate((intExponent & 1) == 0 ? 0 : uDecimalBase);
+		}
+		return result;
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Exp.exp(this, rounding, uDecimal, status);
+		return status.isOverflow() ? Long.MAX_VALUE : result;
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Log.ln(this, rounding, uDecimal, status);
+		return status.isOverflow() ? saturate(uDecimal > one() ? 1 : -1) : result;
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = Log.log10(this, rounding, uDecimal, status);
+		return status.isOverflow() ? saturate(uDecimal > one() ? 1 : -1) : result;
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int n) {
+		return isShiftLeftOverflow(uDecimal, n) ? saturate(uDecimal) : unchecked.shiftLeft(uDecimal, n);
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int n) {
+		return isShiftLeftOverflow(uDecimal, -(long) n) ? saturate(uDecimal) : unchecked.shiftRight(uDecimal, n);
+	}
+
+	private static final boolean isShiftLeftOverflow(long uDecimal, long n) {
+		return n > 0 & uDecimal != 0 && (n >= Long.SIZE || ((uDecimal << n) >> n) != uDecimal);
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		final long result = unchecked.round(uDecimal, precision);
+		//rounding can only change the sign if the result overflows
+		return (uDecimal ^ result) < 0 & result != 0 ? saturate(uDecimal) : result;
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		return checked.fromLong(value);
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		return checked.fromFloat(value);
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		return checked.fromDouble(value);
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		return checked.fromBigDecimal(value);
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		return checked.fromUnscaled(unscaledValue, scale);
+	}
+
+	@Override
+	public final long parse(String value) {
+		return checked.parse(value);
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		return checked.parse(value, start, end);
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+		return checked.toLong(uDecimal);
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		return checked.toUnscaled(uDecimal, scale);
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		return checked.toFloat(uDecimal);
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		return checked.toDouble(uDecimal);
+	}
+
+	@Override
+	public final String toString(long uDecimal) {
+		return checked.toString(uDecimal);
+	}
+
+	@Override
+	public final void toString(long uDecimal, Appendable appendable) throws IOException {
+		checked.toString(uDecimal, appendable);
+	}
+}
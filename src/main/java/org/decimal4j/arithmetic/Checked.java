@@ -24,12 +24,37 @@
 package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.ArithmeticStatus;
 
 /**
  * Helper class for arithmetic operations with overflow checks.
  */
 final class Checked {
 
+	/**
+	 * Thread-local status passed to the status kernels by operations that
+	 * only need to know whether an overflow has occurred; reusing the status
+	 * avoids an allocation per operation.
+	 */
+	static final ThreadLocal<ArithmeticStatus> STATUS_THREAD_LOCAL = new ThreadLocal<ArithmeticStatus>() {
+		@Override
+		protected ArithmeticStatus initialValue() {
+			return new ArithmeticStatus();
+		}
+	};
+
+	/**
+	 * Returns the thread-local status after clearing all flags. The status is
+	 * only valid until the next call of this method in the same thread.
+	 * 
+	 * @return the thread-local status with no flags raised
+	 */
+	static final ArithmeticStatus clearedStatus() {
+		final ArithmeticStatus status = STATUS_THREAD_LOCAL.get();
+		status.reset();
+		return status;
+	}
+
 	/**
 	 * Returns true if the addition {@code long1 + long2 = result} has resulted
 	 * in an overflow.
@@ -62,6 +87,42 @@ final class Checked {
 		return (minuend ^ subtrahend) < 0 & (minuend ^ result) < 0;
 	}
 
+	/**
+	 * Returns true if the multiplication {@code long1 * long2 = result} has
+	 * resulted in an overflow.
+	 * 
+	 * @param long1
+	 *            the first factor
+	 * @param long2
+	 *            the second factor
+	 * @param result
+	 *            the product
+	 * @return true if the calculation resulted in an overflow
+	 */
+	static final boolean isMultiplyOverflow(long long1, long long2, long result) {
+		// Hacker's Delight, Section 2-12
+		final int leadingZeros = Long.numberOfLeadingZeros(long1) + Long.numberOfLeadingZeros(~long1)
+				+ Long.numberOfLeadingZeros(long2) + Long.numberOfLeadingZeros(~long2);
+		/*
+		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
+		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
+		 * the division below if at all possible.
+		 * 
+		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
+		 * are 0 and 1. We take care of all a < 0 with their own check, because
+		 * in particular, the case a == -1 will incorrectly pass the division
+		 * check below.
+		 * 
+		 * In all other cases, we check that either a is 0 or the result is
+		 * consistent with division.
+		 */
+		if (leadingZeros > Long.SIZE + 1) {
+			return false;
+		}
+		return leadingZeros < Long.SIZE || (long1 < 0 & long2 == Long.MIN_VALUE)
+				|| (long1 != 0 && (result / long1) != long2);
+	}
+
 	/**
 	 * Returns true if the quotient {@code dividend / divisor} will result in an
 	 * overflow.
@@ -91,7 +152,7 @@ final class Checked {
 	public static final long addLong(long long1, long long2) {
 		final long result = long1 + long2;
 		if (isAddOverflow(long1, long2, result)) {
-			throw new ArithmeticException("Overflow: " + long1 + " + " + long2 + " = " + result);
+			throw Exceptions.newOverflowArithmeticException(0, long1, " + ", 0, long2);
 		}
 		return result;
 	}
@@ -113,8 +174,7 @@ final class Checked {
 	public static final long add(DecimalArithmetic arith, long uDecimal1, long uDecimal2) {
 		final long result = uDecimal1 + uDecimal2;
 		if ((uDecimal1 ^ uDecimal2) >= 0 & (uDecimal1 ^ result) < 0) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + " + " + arith.toString(uDecimal2)
-					+ " = " + arith.toString(result));
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal1, " + ", arith.getScale(), uDecimal2);
 		}
 		return result;
 	}
@@ -134,7 +194,7 @@ final class Checked {
 	public static final long subtractLong(long lMinuend, long lSubtrahend) {
 		final long result = lMinuend - lSubtrahend;
 		if (isSubtractOverflow(lMinuend, lSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + lMinuend + " - " + lSubtrahend + " = " + result);
+			throw Exceptions.newOverflowArithmeticException(0, lMinuend, " - ", 0, lSubtrahend);
 		}
 		return result;
 	}
@@ -157,8 +217,7 @@ final class Checked {
 	public static final long subtract(DecimalArithmetic arith, long uDecimalMinuend, long uDecimalSubtrahend) {
 		final long result = uDecimalMinuend - uDecimalSubtrahend;
 		if (isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalMinuend) + " - "
-					+ arith.toString(uDecimalSubtrahend) + " = " + arith.toString(result));
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalMinuend, " - ", arith.getScale(), uDecimalSubtrahend);
 		}
 		return result;
 	}
@@ -176,29 +235,9 @@ final class Checked {
 	 *             if the calculation results in an overflow
 	 */
 	public static final long multiplyLong(long lValue1, long lValue2) {
-		// Hacker's Delight, Section 2-12
-		final int leadingZeros = Long.numberOfLeadingZeros(lValue1) + Long.numberOfLeadingZeros(~lValue1)
-				+ Long.numberOfLeadingZeros(lValue2) + Long.numberOfLeadingZeros(~lValue2);
-		/*
-		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
-		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
-		 * the division below if at all possible.
-		 * 
-		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
-		 * are 0 and 1. We take care of all a < 0 with their own check, because
-		 * in particular, the case a == -1 will incorrectly pass the division
-		 * check below.
-		 * 
-		 * In all other cases, we check that either a is 0 or the result is
-		 * consistent with division.
-		 */
 		final long result = lValue1 * lValue2;
-		if (leadingZeros > Long.SIZE + 1) {
-			return result;
-		}
-		if (leadingZeros < Long.SIZE || (lValue1 < 0 & lValue2 == Long.MIN_VALUE)
-				|| (lValue1 != 0 && (result / lValue1) != lValue2)) {
-			throw new ArithmeticException("Overflow: " + lValue1 + " * " + lValue2 + " = " + result);
+		if (isMultiplyOverflow(lValue1, lValue2, result)) {
+			throw Exceptions.newOverflowArithmeticException(0, lValue1, " * ", 0, lValue2);
 		}
 		return result;
 	}
@@ -220,30 +259,9 @@ final class Checked {
 	 *             if the calculation results in an overflow
 	 */
 	public static final long multiplyByLong(DecimalArithmetic arith, long uDecimal, long lValue) {
-		// Hacker's Delight, Section 2-12
-		final int leadingZeros = Long.numberOfLeadingZeros(uDecimal) + Long.numberOfLeadingZeros(~uDecimal)
-				+ Long.numberOfLeadingZeros(lValue) + Long.numberOfLeadingZeros(~lValue);
-		/*
-		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
-		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
-		 * the division below if at all possible.
-		 * 
-		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
-		 * are 0 and 1. We take care of all a < 0 with their own check, because
-		 * in particular, the case a == -1 will incorrectly pass the division
-		 * check below.
-		 * 
-		 * In all other cases, we check that either a is 0 or the result is
-		 * consistent with division.
-		 */
 		final long result = uDecimal * lValue;
-		if (leadingZeros > Long.SIZE + 1) {
-			return result;
-		}
-		if (leadingZeros < Long.SIZE || (uDecimal < 0 & lValue == Long.MIN_VALUE)
-				|| (uDecimal != 0 && (result / uDecimal) != lValue)) {
-			throw new ArithmeticException(
-					"Overflow: " + arith.toString(uDecimal) + " * " + lValue + " = " + arith.toString(result));
+		if (isMultiplyOverflow(uDecimal, lValue, result)) {
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " * ", 0, lValue);
 		}
 		return result;
 	}
@@ -262,7 +280,7 @@ final class Checked {
 	 */
 	public static final long divideLong(long lDividend, long lDivisor) {
 		if (lDivisor == -1 & lDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + lDividend + " / " + lDivisor + " = " + Long.MIN_VALUE);
+			throw Exceptions.newOverflowArithmeticException(0, lDividend, " / ", 0, lDivisor);
 		}
 		return lDividend / lDivisor;
 	}
@@ -288,8 +306,7 @@ final class Checked {
 			throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
 		}
 		if (lDivisor == -1 & uDecimalDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalDividend) + " / " + lDivisor + " = "
-					+ arith.toString(Long.MIN_VALUE));
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalDividend, " / ", 0, lDivisor);
 		}
 		return uDecimalDividend / lDivisor;
 	}
@@ -309,7 +326,7 @@ final class Checked {
 	public static final long abs(DecimalArithmetic arith, long value) {
 		final long abs = Math.abs(value);
 		if (abs < 0) {
-			throw new ArithmeticException("Overflow: abs(" + arith.toString(value) + ") = " + abs);
+			throw Exceptions.newOverflowArithmeticException("abs", arith.getScale(), value);
 		}
 		return abs;
 	}
@@ -329,7 +346,7 @@ final class Checked {
 	public static final long negate(DecimalArithmetic arith, long value) {
 		final long neg = -value;
 		if (value != 0 & (value ^ neg) >= 0) {
-			throw new ArithmeticException("Overflow: -" + arith.toString(value) + " = " + neg);
+			throw Exceptions.newOverflowArithmeticException("-", arith.getScale(), value);
 		}
 		return neg;
 	}
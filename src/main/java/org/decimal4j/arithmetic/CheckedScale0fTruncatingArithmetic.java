@@ -97,6 +97,26 @@ public final class CheckedScale0fTruncatingArithmetic extends AbstractCheckedSca
 		return Pow.powLongChecked(this, DecimalRounding.DOWN, uDecimalBase, exponent);
 	}
 
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		return Exp.pow(this, DecimalRounding.DOWN, uDecimalBase, unscaledExponent, scale);
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		return Exp.exp(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		return Log.ln(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		return Log.log10(this, DecimalRounding.DOWN, uDecimal);
+	}
+
 	@Override
 	public final long sqrt(long uDecimal) {
 		return Sqrt.sqrtLong(uDecimal);
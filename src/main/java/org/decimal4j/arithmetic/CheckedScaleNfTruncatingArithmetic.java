@@ -96,6 +96,26 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return Pow.pow(this, DecimalRounding.DOWN, uDecimal, exponent);
 	}
 
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		return Exp.pow(this, DecimalRounding.DOWN, uDecimalBase, unscaledExponent, scale);
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		return Exp.exp(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		return Log.ln(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		return Log.log10(this, DecimalRounding.DOWN, uDecimal);
+	}
+
 	@Override
 	public final long avg(long a, long b) {
 		return Avg.avg(a, b);
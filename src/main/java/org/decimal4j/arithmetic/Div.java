@@ -26,16 +26,49 @@ package org.decimal4j.arithmetic;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
  * Provides static methods to calculate division results.
+ * <p>
+ * The 128 by 64 bit division used for large operands is performed with 32 bit
+ * digits after Knuth by default. If the system property
+ * {@value #FLOAT_ESTIMATE_DIVISION_PROPERTY} is set to "true", the quotient is
+ * instead estimated with double division and corrected with 128 bit
+ * multiply-subtract steps. Both kernels return identical results.
  */
 final class Div {
 
+	/**
+	 * Name of the system property to select the 128 by 64 bit division kernel
+	 * based on a floating point quotient estimate.
+	 */
+	static final String FLOAT_ESTIMATE_DIVISION_PROPERTY = "decimal4j.floatEstimateDivision";
+
+	private static final boolean FLOAT_ESTIMATE_DIVISION = isFloatEstimateDivisionPropertySet();
+
 	private static final long LONG_MASK = 0xffffffffL;
 
+	private static final double TWO_POW_64 = 0x1p64;
+
+	/**
+	 * Bound for the error of the first double quotient estimate of a 128 bit
+	 * by 64 bit division; six rounding errors of at most 2<sup>-53</sup>
+	 * relative to a quotient less than 2<sup>64</sup> plus truncation amount to
+	 * less than 2<sup>14</sup>, we use 2<sup>15</sup> to be on the safe side.
+	 */
+	private static final long ESTIMATE_MARGIN = 1L << 15;
+
+	private static final boolean isFloatEstimateDivisionPropertySet() {
+		try {
+			return Boolean.getBoolean(FLOAT_ESTIMATE_DIVISION_PROPERTY);
+		} catch (SecurityException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Calculates unchecked division by a long value with rounding.
 	 * 
@@ -70,16 +103,14 @@ final class Div {
 		if (lDivisor == 0) {
 			throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
 		}
-		try {
-			final long quotient = Checked.divideByLong(arith, uDecimalDividend, lDivisor);
-			final long remainder = uDecimalDividend - quotient * lDivisor;
-			final long inc = Rounding.calculateRoundingIncrementForDivision(rounding, quotient, remainder, lDivisor);
-			return Checked.add(arith, quotient, inc);
-		} catch (ArithmeticException e) {
-			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimalDividend) + " / "
-					+ lDivisor, e);
+		final long quotient = uDecimalDividend / lDivisor;
+		final long remainder = uDecimalDividend - quotient * lDivisor;
+		final long inc = Rounding.calculateRoundingIncrementForDivision(rounding, quotient, remainder, lDivisor);
+		final long result = quotient + inc;
+		if (Checked.isDivideOverflow(uDecimalDividend, lDivisor) | Checked.isAddOverflow(quotient, inc, result)) {
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalDividend, " / ", 0, lDivisor);
 		}
+		return result;
 	}
 
 	/**
@@ -310,7 +341,7 @@ final class Div {
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
 		}
-		return divideChecked(scaleMetrics, uDecimalDividend, scaleMetrics, uDecimalDivisor);
+		return divideChecked(scaleMetrics, uDecimalDividend, scaleMetrics, uDecimalDivisor, null);
 	}
 
 	/**
@@ -342,7 +373,7 @@ final class Div {
 			return Pow10.multiplyByPowerOf10Checked(arith, uDecimalDividend / unscaledDivisor, scale);
 		}
 		final ScaleMetrics divisorMetrics = Scales.getScaleMetrics(scale);
-		return divideChecked(arith.getScaleMetrics(), uDecimalDividend, divisorMetrics, unscaledDivisor);
+		return divideChecked(arith.getScaleMetrics(), uDecimalDividend, divisorMetrics, unscaledDivisor, null);
 	}
 
 	/**
@@ -357,32 +388,37 @@ final class Div {
 	 *            the scale metrics associated with the divisor
 	 * @param uDecimalDivisor
 	 *            the unscaled decimal divisor
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception if an overflow occurs
 	 * @return the division result without rounding and with overflow checks
 	 */
-	private static final long divideChecked(ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor) {
-		try {
-			// WE WANT: uDecimalDividend * 10^divisorScale / unscaledDivisor
-			if (divisorMetrics.isValidIntegerValue(uDecimalDividend)) {
-				// just do it, multiplication result fits in long (division can only overflow for scale=1)
-				return divisorMetrics.multiplyByScaleFactor(uDecimalDividend) / uDecimalDivisor;
-			}
-			// perform component wise division
-			final long integralPart = Checked.divideLong(uDecimalDividend, uDecimalDivisor);
-			final long remainder = uDecimalDividend - integralPart * uDecimalDivisor;
-			final long fractionalPart;
-			if (divisorMetrics.isValidIntegerValue(remainder)) {
-				// scaling and result can't overflow because of the above condition
-				fractionalPart = divisorMetrics.multiplyByScaleFactor(remainder) / uDecimalDivisor;
-			} else {
-				// result can't overflow because reminder is smaller than
-				// divisor, i.e. -1 < result < 1
-				fractionalPart = scaleTo128divBy64(divisorMetrics, DecimalRounding.DOWN, remainder, uDecimalDivisor);
-			}
-			return Checked.addLong(divisorMetrics.multiplyByScaleFactorExact(integralPart), fractionalPart);
-		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / "
-					+ divisorMetrics.toString(uDecimalDivisor), e);
+	private static final long divideChecked(ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor, ArithmeticStatus status) {
+		// WE WANT: uDecimalDividend * 10^divisorScale / unscaledDivisor
+		if (divisorMetrics.isValidIntegerValue(uDecimalDividend)) {
+			// just do it, multiplication result fits in long (division can only overflow for scale=0)
+			final long scaledDividend = divisorMetrics.multiplyByScaleFactor(uDecimalDividend);
+			final long quot = scaledDividend / uDecimalDivisor;
+			return Checked.isDivideOverflow(scaledDividend, uDecimalDivisor) ? overflow(status, DecimalRounding.DOWN, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor) : quot;
+		}
+		// perform component wise division
+		final long integralPart = uDecimalDividend / uDecimalDivisor;
+		final long remainder = uDecimalDividend - integralPart * uDecimalDivisor;
+		final long fractionalPart;
+		if (divisorMetrics.isValidIntegerValue(remainder)) {
+			// scaling and result can't overflow because of the above condition
+			fractionalPart = divisorMetrics.multiplyByScaleFactor(remainder) / uDecimalDivisor;
+		} else {
+			// result can't overflow because reminder is smaller than
+			// divisor, i.e. -1 < result < 1
+			fractionalPart = scaleTo128divBy64(divisorMetrics, DecimalRounding.DOWN, remainder, uDecimalDivisor);
+		}
+		final long scaledIntegralPart = divisorMetrics.multiplyByScaleFactor(integralPart);
+		final long result = scaledIntegralPart + fractionalPart;
+		if (Checked.isDivideOverflow(uDecimalDividend, uDecimalDivisor) | !divisorMetrics.isValidIntegerValue(integralPart) | Checked.isAddOverflow(scaledIntegralPart, fractionalPart, result)) {
+			return overflow(status, DecimalRounding.DOWN, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor);
 		}
+		return result;
 	}
 
 	/**
@@ -411,7 +447,7 @@ final class Div {
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, rounding, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
 		}
-		return divideChecked(rounding, scaleMetrics, uDecimalDividend, scaleMetrics, uDecimalDivisor);
+		return divideChecked(rounding, scaleMetrics, uDecimalDividend, scaleMetrics, uDecimalDivisor, null);
 	}
 
 	/**
@@ -471,7 +507,7 @@ final class Div {
 			return Pow10.multiplyByPowerOf10Checked(arith, rounding, quot, scale);
 		}
 		final ScaleMetrics divisorMetrics = Scales.getScaleMetrics(scale);
-		return divideChecked(rounding, arith.getScaleMetrics(), uDecimalDividend, divisorMetrics, unscaledDivisor);
+		return divideChecked(rounding, arith.getScaleMetrics(), uDecimalDividend, divisorMetrics, unscaledDivisor, null);
 	}
 
 	/**
@@ -488,41 +524,169 @@ final class Div {
 	 *            the scale metrics associated with the divisor
 	 * @param uDecimalDivisor
 	 *            the unscaled decimal divisor
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception if an overflow occurs
 	 * @return the division result with rounding and with overflow checks
 	 */
-	private static final long divideChecked(DecimalRounding rounding, ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor) {
-		try {
-			// WE WANT: uDecimalDividend * 10^divisorScale / unscaledDivisor
-			if (divisorMetrics.isValidIntegerValue(uDecimalDividend)) {
-				// just do it, multiplication result fits in long
-				final long scaledDividend = divisorMetrics.multiplyByScaleFactor(uDecimalDividend);
-				final long quot = scaledDividend / uDecimalDivisor;//cannot overflow for scale>1
-				final long rem = scaledDividend - quot * uDecimalDivisor;
-
-				//cannot overflow for scale > 1 because of quot
-				return quot + Rounding.calculateRoundingIncrementForDivision(rounding, quot, rem, uDecimalDivisor);
+	private static final long divideChecked(DecimalRounding rounding, ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor, ArithmeticStatus status) {
+		// WE WANT: uDecimalDividend * 10^divisorScale / unscaledDivisor
+		if (divisorMetrics.isValidIntegerValue(uDecimalDividend)) {
+			// just do it, multiplication result fits in long
+			final long scaledDividend = divisorMetrics.multiplyByScaleFactor(uDecimalDividend);
+			final long quot = scaledDividend / uDecimalDivisor;//can only overflow for scale=0
+			if (Checked.isDivideOverflow(scaledDividend, uDecimalDivisor)) {
+				return overflow(status, rounding, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor);
+			}
+			final long rem = scaledDividend - quot * uDecimalDivisor;
+			if (rem != 0 & status != null) {
+				status.raise(ArithmeticStatus.INEXACT);
 			}
 
-			// perform component wise division
-			final long integralPart = Checked.divideLong(uDecimalDividend, uDecimalDivisor);
-			final long remainder = uDecimalDividend - integralPart * uDecimalDivisor;
+			//cannot overflow because of quot
+			return quot + Rounding.calculateRoundingIncrementForDivision(rounding, quot, rem, uDecimalDivisor);
+		}
+
+		// perform component wise division
+		final long integralPart = uDecimalDividend / uDecimalDivisor;
+		final long remainder = uDecimalDividend - integralPart * uDecimalDivisor;
+		final long scaledIntegralPart = divisorMetrics.multiplyByScaleFactor(integralPart);
+		final boolean overflow = Checked.isDivideOverflow(uDecimalDividend, uDecimalDivisor) | !divisorMetrics.isValidIntegerValue(integralPart);
+
+		if (divisorMetrics.isValidIntegerValue(remainder)) {
+			final long scaledReminder = divisorMetrics.multiplyByScaleFactor(remainder);
+			final long fractionalPart = scaledReminder / uDecimalDivisor;//cannot overflow for scale>1
+			final long subFractionalPart = scaledReminder - fractionalPart * uDecimalDivisor;
+			if (subFractionalPart != 0 & status != null) {
+				status.raise(ArithmeticStatus.INEXACT);
+			}
+
+			final long truncated = scaledIntegralPart + fractionalPart;
+			if (overflow | Checked.isAddOverflow(scaledIntegralPart, fractionalPart, truncated)) {
+				return overflow(status, rounding, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor);
+			}
+			final long inc = Rounding.calculateRoundingIncrementForDivision(rounding, truncated, subFractionalPart, uDecimalDivisor);
+			final long result = truncated + inc;
+			return Checked.isAddOverflow(truncated, inc, result) ? overflow(status, rounding, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor) : result;
+		} else {
+			if (overflow & status == null) {
+				//throw before rounding which could fail for UNNECESSARY
+				return overflow(status, rounding, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor);
+			}
+			final long fractionalPart = Div.scaleTo128divBy64(divisorMetrics, rounding, remainder, uDecimalDivisor, status);
+			final long result = scaledIntegralPart + fractionalPart;
+			return overflow | Checked.isAddOverflow(scaledIntegralPart, fractionalPart, result) ? overflow(status, rounding, dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor) : result;
+		}
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * with rounding reporting an overflow to the given {@code status} instead
+	 * of throwing an exception.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with dividend and divisor
+	 * @param rounding
+	 *            the rounding to apply if rounding is necessary
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the
+	 *            remainder of the division is non-zero
+	 * @return the division result with rounding, the low order 64 bits of
+	 *         the rounded result if an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor==0} or if rounding is necessary
+	 *             and {@code rounding==UNNECESSARY}
+	 */
+	public static final long divide(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status) {
+		if (uDecimalDivisor == 0) {
+			throw new ArithmeticException("Division by zero: " + scaleMetrics.toString(uDecimalDividend) + " / " + scaleMetrics.toString(uDecimalDivisor));
+		}
+		return divideChecked(rounding, scaleMetrics, uDecimalDividend, scaleMetrics, uDecimalDivisor, status);
+	}
 
-			if (divisorMetrics.isValidIntegerValue(remainder)) {
-				final long scaledReminder = divisorMetrics.multiplyByScaleFactor(remainder);
-				final long fractionalPart = scaledReminder / uDecimalDivisor;//cannot overflow for scale>1
-				final long subFractionalPart = scaledReminder - fractionalPart * uDecimalDivisor;
-
-				final long result = Checked.addLong(divisorMetrics.multiplyByScaleFactorExact(integralPart), fractionalPart);
-				final long inc = Rounding.calculateRoundingIncrementForDivision(rounding, result, subFractionalPart, uDecimalDivisor);
-				return Checked.addLong(result, inc);
-			} else {
-				final long fractionalPart = Div.scaleTo128divBy64(divisorMetrics, rounding, remainder, uDecimalDivisor);
-				return Checked.addLong(divisorMetrics.multiplyByScaleFactorExact(integralPart), fractionalPart);
+	/**
+	 * Calculates division by an unscaled value with the given scale with
+	 * rounding reporting an overflow to the given {@code status} instead of
+	 * throwing an exception.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the dividend
+	 * @param rounding
+	 *            the rounding to apply if rounding is necessary
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param unscaledDivisor
+	 *            the unscaled divisor
+	 * @param scale
+	 *            the scale of the divisor
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the
+	 *            remainder of the division is non-zero
+	 * @return the division result with rounding, the low order 64 bits of
+	 *         the rounded result if an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code unscaledDivisor==0} or if rounding is necessary
+	 *             and {@code rounding==UNNECESSARY}
+	 */
+	public static final long divideByUnscaled(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long unscaledDivisor, int scale, ArithmeticStatus status) {
+		if (scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be <=" + Scales.MAX_SCALE + " but was " + scale);
+		}
+		if (unscaledDivisor == 0) {
+			throw new ArithmeticException("Division by zero: " + scaleMetrics.toString(uDecimalDividend) + " / 0");
+		}
+		if (scale <= 0) {
+			//division by a value with non-positive scale can only overflow for MIN_VALUE / -1 
+			if (scale == 0 && Checked.isDivideOverflow(uDecimalDividend, unscaledDivisor)) {
+				status.raise(ArithmeticStatus.OVERFLOW);
+			}
+			//exact if divisible by unscaled and then by 10^-scale
+			final long quot = uDecimalDividend / unscaledDivisor;
+			if (quot * unscaledDivisor != uDecimalDividend || (scale < 0 && quot != 0 && (scale < -18 || quot % Scales.getScaleMetrics(-scale).getScaleFactor() != 0))) {
+				status.raise(ArithmeticStatus.INEXACT);
 			}
-		} catch (ArithmeticException e) {
-			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / " + divisorMetrics.toString(uDecimalDivisor), e);
+			return scaleMetrics.getArithmetic(rounding.getRoundingMode()).divideByUnscaled(uDecimalDividend, unscaledDivisor, scale);
 		}
+		return divideChecked(rounding, scaleMetrics, uDecimalDividend, Scales.getScaleMetrics(scale), unscaledDivisor, status);
+	}
+
+	/**
+	 * Throws an overflow exception if {@code status} is null and raises the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag otherwise. In the latter
+	 * case the result of the unchecked division is returned, that is, the low
+	 * order 64 bits of the rounded quotient.
+	 * 
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception
+	 * @param rounding
+	 *            the rounding to apply when calculating the unchecked result
+	 * @param dividendMetrics
+	 *            the metrics associated with the dividend
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param divisorMetrics
+	 *            the scale metrics associated with the divisor
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the unchecked division result if status is not null
+	 * @throws ArithmeticException
+	 *             if {@code status} is null
+	 */
+	private static final long overflow(ArithmeticStatus status, DecimalRounding rounding, ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor) {
+		if (status == null) {
+			throw Exceptions.newOverflowArithmeticException(dividendMetrics.getScale(), uDecimalDividend, " / ", divisorMetrics.getScale(), uDecimalDivisor);
+		}
+		status.raise(ArithmeticStatus.OVERFLOW);
+		return divisorMetrics.getArithmetic(rounding.getRoundingMode()).divide(uDecimalDividend, uDecimalDivisor);
 	}
 
 	/**
@@ -536,6 +700,22 @@ final class Div {
 	 * @return the unscaled decimal result of the division, rounded if necessary and overflow checked if 
 	 */
 	private static final long scaleTo128divBy64(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
+		return scaleTo128divBy64(scaleMetrics, rounding, uDecimalDividend, uDecimalDivisor, null);
+	}
+
+	/**
+	 * Calculates {@code uDecimalDividend * scaleFactor / uDecimalDivisor} performing the multiplication into a 128 bit product
+	 * and then performing a 128 by 64 bit division. The {@link ArithmeticStatus#INEXACT INEXACT} flag is raised on the given
+	 * status if the remainder of the division is non-zero.
+	 * 
+	 * @param scaleMetrics		the metrics with scale factor to apply when scaling the dividend
+	 * @param rounding			the rounding to apply if necessary
+	 * @param uDecimalDividend	the dividend
+	 * @param uDecimalDivisor	the divisor
+	 * @param status			the status to raise the inexact flag, or null
+	 * @return the unscaled decimal result of the division, rounded if necessary
+	 */
+	private static final long scaleTo128divBy64(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status) {
 		final boolean negative = (uDecimalDividend ^ uDecimalDivisor) < 0;
 		final long absDividend = Math.abs(uDecimalDividend);
 		final long absDivisor = Math.abs(uDecimalDivisor);
@@ -571,6 +751,11 @@ final class Div {
 			final long rem = hScaled - hQuotient * absDivisor;
 			lQuotient = div128by64(rounding, negative, rem, lScaled, absDivisor);
 		}
+		//rounding increments the magnitude of the truncated quotient, hence the low 64 bits of |quotient| * divisor
+		//are equal to those of the scaled dividend only if the remainder is zero
+		if (status != null && Math.abs(lQuotient) * absDivisor != lScaled) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
 		return lQuotient;
 	}
 
@@ -598,6 +783,31 @@ final class Div {
 	 * @return the signed quotient, rounded if {@code rounding != null}
 	 */
 	static final long div128by64(final DecimalRounding rounding, final boolean neg, final long u1, final long u0, final long v0) {
+		if (FLOAT_ESTIMATE_DIVISION) {
+			return div128by64FloatEstimate(rounding, neg, u1, u0, v0);
+		}
+		return div128by64Knuth(rounding, neg, u1, u0, v0);
+	}
+
+	/**
+	 * PRECONDITION: Unsigned.isLess(u1, v0)
+	 * <p>
+	 * Implementation of {@link #div128by64(DecimalRounding, boolean, long, long, long)}
+	 * with 32 bit digits after Knuth.
+	 * 
+	 * @param neg
+	 *            true if result is negative
+	 * @param u1
+	 *            high order 64 bits of dividend
+	 * @param u0
+	 *            low order 64 bits of dividend
+	 * @param v0
+	 *            64 bit divisor
+	 * @param rounding
+	 *            rounding to apply, or null to truncate result
+	 * @return the signed quotient, rounded if {@code rounding != null}
+	 */
+	static final long div128by64Knuth(final DecimalRounding rounding, final boolean neg, final long u1, final long u0, final long v0) {
 		final long q, r;
 
 		final long un1, un0, vn1, vn0, un32, un21, un10;
@@ -631,6 +841,100 @@ final class Div {
 		return (neg ? -q : q) + inc;
 	}
 
+	/**
+	 * PRECONDITION: Unsigned.isLess(u1, v0)
+	 * <p>
+	 * Implementation of {@link #div128by64(DecimalRounding, boolean, long, long, long)}
+	 * estimating the quotient with double arithmetic. The first estimate is
+	 * lowered by {@link #ESTIMATE_MARGIN} so that the 128 bit remainder is
+	 * non-negative and less than 2<sup>80</sup>. The second estimate for the
+	 * remaining quotient is off by at most one and corrected with a single
+	 * addition or subtraction of the divisor.
+	 * 
+	 * @param neg
+	 *            true if result is negative
+	 * @param u1
+	 *            high order 64 bits of dividend
+	 * @param u0
+	 *            low order 64 bits of dividend
+	 * @param v0
+	 *            64 bit divisor
+	 * @param rounding
+	 *            rounding to apply, or null to truncate result
+	 * @return the signed quotient, rounded if {@code rounding != null}
+	 */
+	static final long div128by64FloatEstimate(final DecimalRounding rounding, final boolean neg, final long u1, final long u0, final long v0) {
+		//normalize divisor, dividend is less than 2^64 * v
+		final int s = Long.numberOfLeadingZeros(v0);
+		final long v = v0 << s;
+		final long un1 = (u1 << s) | (u0 >>> (64 - s)) & (-s >> 63);
+		final long un0 = u0 << s;
+		final double reciprocal = 1.0 / approxUnsigned(v);
+
+		//first estimate, not greater than the quotient
+		final long halfEstimate = (long) ((approxUnsigned(un1) * TWO_POW_64 + approxUnsigned(un0)) * reciprocal * 0.5);
+		long q = (Math.max(halfEstimate, ESTIMATE_MARGIN >>> 1) - (ESTIMATE_MARGIN >>> 1)) << 1;
+		long pLo = q * v;
+		long pHi = unsignedMultiplyHigh(q, v);
+		long rLo = un0 - pLo;
+		long rHi = un1 - pHi - (Unsigned.isLess(un0, pLo) ? 1 : 0);
+
+		//second estimate with remainder less than 2^80, hence 0 <= rHi < 2^16
+		final long q2 = (long) ((rHi * TWO_POW_64 + approxUnsigned(rLo)) * reciprocal);
+		pLo = q2 * v;
+		pHi = unsignedMultiplyHigh(q2, v);
+		rHi -= pHi + (Unsigned.isLess(rLo, pLo) ? 1 : 0);
+		rLo -= pLo;
+		q += q2;
+
+		//second estimate may be off by one
+		if (rHi < 0) {
+			rLo += v;
+			q--;
+		} else if (rHi != 0 | !Unsigned.isLess(rLo, v)) {
+			rLo -= v;
+			q++;
+		}
+
+		// apply sign and rounding
+		if (rounding == DecimalRounding.DOWN) {
+			return neg ? -q : q;
+		}
+
+		final long r = rLo >>> s;
+		final TruncatedPart truncatedPart = Rounding.truncatedPartFor(Math.abs(r), v0);
+		final int inc = rounding.calculateRoundingIncrement(neg ? -1 : 1, q, truncatedPart);
+		return (neg ? -q : q) + inc;
+	}
+
+	/**
+	 * Returns the high order 64 bits of the 128 bit product of the two
+	 * arguments treated as unsigned 64-bit quantities.
+	 * 
+	 * @param a
+	 *            the first unsigned factor
+	 * @param b
+	 *            the second unsigned factor
+	 * @return the high order 64 bits of the unsigned product {@code a * b}
+	 */
+	private static final long unsignedMultiplyHigh(final long a, final long b) {
+		final long a0 = a & LONG_MASK;
+		final long a1 = a >>> 32;
+		final long b0 = b & LONG_MASK;
+		final long b1 = b >>> 32;
+		final long t = a1 * b0 + ((a0 * b0) >>> 32);
+		final long w1 = (t & LONG_MASK) + a0 * b1;
+		return a1 * b1 + (t >>> 32) + (w1 >>> 32);
+	}
+
+	/**
+	 * Returns the given unsigned value as double without branching; the lowest
+	 * bit is ignored which is acceptable for quotient estimates.
+	 */
+	private static final double approxUnsigned(final long value) {
+		return (value >>> 1) * 2.0;
+	}
+
 	private static final long div128by64part(final long unCB, final long unA, final long vn1, final long vn0) {
 		// quotient and reminder, first guess
 		long q = unsignedDiv64by32(unCB, vn1);
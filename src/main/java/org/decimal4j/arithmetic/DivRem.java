@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Provides static methods for integer division with remainder, that is,
+ * {@code divideToIntegralValue(a, b)} and {@code a % b} for unscaled decimal
+ * values.
+ */
+final class DivRem {
+
+	/**
+	 * Calculates the integer part of the quotient {@code a / b} and returns it
+	 * as an unscaled decimal. The overflow mode of the given arithmetic is
+	 * applied if an overflow occurs.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the values
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the unscaled integer part of the quotient, truncated or
+	 *         saturated if an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor==0} or if the overflow mode is
+	 *             CHECKED and an overflow occurs
+	 */
+	public static final long divideToIntegralValue(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		if (uDecimalDivisor == 0) {
+			throw newDivisionByZeroException(scaleMetrics, uDecimalDividend, " / ", uDecimalDivisor);
+		}
+		final long lQuotient = uDecimalDividend / uDecimalDivisor;
+		if (isOverflow(scaleMetrics, uDecimalDividend, uDecimalDivisor, lQuotient)) {
+			if (arith.getOverflowMode().isSaturating()) {
+				return (uDecimalDividend ^ uDecimalDivisor) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+			}
+			if (arith.getOverflowMode().isChecked()) {
+				throw Exceptions.newOverflowArithmeticException(scaleMetrics.getScale(), uDecimalDividend, " div ", scaleMetrics.getScale(), uDecimalDivisor);
+			}
+		}
+		return scaleMetrics.multiplyByScaleFactor(lQuotient);
+	}
+
+	/**
+	 * Calculates and returns the remainder {@code a % b} which is always
+	 * exact.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the values
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return {@code uDecimalDividend % uDecimalDivisor}
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor==0}
+	 */
+	public static final long remainder(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		if (uDecimalDivisor == 0) {
+			throw newDivisionByZeroException(arith.getScaleMetrics(), uDecimalDividend, " % ", uDecimalDivisor);
+		}
+		return uDecimalDividend % uDecimalDivisor;
+	}
+
+	/**
+	 * Calculates integer quotient and remainder with a single division and
+	 * assigns them to the first two elements of the given array. If the
+	 * overflow mode of the given arithmetic is UNCHECKED the quotient is
+	 * truncated if an overflow occurs; otherwise an exception is thrown as a
+	 * saturated quotient would be inconsistent with the remainder.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the values
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @param quotientAndRemainder
+	 *            the array receiving unscaled quotient and remainder
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor==0} or if the overflow mode is
+	 *             not UNCHECKED and an overflow occurs
+	 */
+	public static final void divideAndRemainder(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor, long[] quotientAndRemainder) {
+		if (quotientAndRemainder.length < 2) {
+			throw new IndexOutOfBoundsException("Quotient and remainder array must have at least 2 elements: " + quotientAndRemainder.length);
+		}
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		if (uDecimalDivisor == 0) {
+			throw newDivisionByZeroException(scaleMetrics, uDecimalDividend, " / ", uDecimalDivisor);
+		}
+		final long lQuotient = uDecimalDividend / uDecimalDivisor;
+		if (arith.getOverflowMode() != OverflowMode.UNCHECKED && isOverflow(scaleMetrics, uDecimalDividend, uDecimalDivisor, lQuotient)) {
+			throw Exceptions.newOverflowArithmeticException(scaleMetrics.getScale(), uDecimalDividend, " div ", scaleMetrics.getScale(), uDecimalDivisor);
+		}
+		quotientAndRemainder[0] = scaleMetrics.multiplyByScaleFactor(lQuotient);
+		quotientAndRemainder[1] = uDecimalDividend - uDecimalDivisor * lQuotient;
+	}
+
+	/**
+	 * Returns true if the unscaled integer quotient overflows, that is, if the
+	 * long division overflows or if the long quotient cannot be converted into
+	 * an unscaled decimal value.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the values
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @param lQuotient
+	 *            the long quotient {@code uDecimalDividend / uDecimalDivisor}
+	 * @return true if an overflow occurs
+	 */
+	static final boolean isOverflow(ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor, long lQuotient) {
+		return Checked.isDivideOverflow(uDecimalDividend, uDecimalDivisor) | !scaleMetrics.isValidIntegerValue(lQuotient);
+	}
+
+	private static final ArithmeticException newDivisionByZeroException(ScaleMetrics scaleMetrics, long uDecimalDividend, String operator, long uDecimalDivisor) {
+		return new ArithmeticException("Division by zero: " + scaleMetrics.toString(uDecimalDividend) + operator + scaleMetrics.toString(uDecimalDivisor));
+	}
+
+	// no instances
+	private DivRem() {
+		super();
+	}
+}
@@ -26,11 +26,62 @@ package org.decimal4j.arithmetic;
 import java.math.RoundingMode;
 
 /**
- * Utility for exception conversion and re-throwing.
+ * Utility for exception creation, conversion and re-throwing.
+ * <p>
+ * By default every overflow and rounding-necessary error creates a new
+ * exception with stack trace; the message of overflow exceptions is formatted
+ * lazily when it is first accessed. If the system property
+ * {@value #STACKLESS_EXCEPTIONS_PROPERTY} is set to "true", preallocated
+ * exception instances without stack trace and with a generic message are
+ * thrown instead. This reduces the cost of the failure path to almost nothing
+ * for applications that routinely catch and handle overflows, at the price of
+ * less informative exceptions. The shared instances ignore
+ * {@link Throwable#setStackTrace(StackTraceElement[]) setStackTrace} and
+ * reject {@link Throwable#initCause(Throwable) initCause}. Suppression cannot
+ * be disabled for an {@link ArithmeticException} though: a try-with-resources
+ * statement whose resource fails to close while a shared instance propagates
+ * adds the close exception to the shared instance via
+ * {@link Throwable#addSuppressed(Throwable) addSuppressed}. Such suppressed
+ * exceptions accumulate for the lifetime of the JVM and appear on every later
+ * throw of the shared instance; applications enabling stackless exceptions
+ * should therefore not rely on {@link Throwable#getSuppressed()} for these
+ * exceptions.
  */
 public final class Exceptions {
 
+	/**
+	 * Name of the system property to enable preallocated stackless exceptions
+	 * for overflow and rounding-necessary errors.
+	 */
+	public static final String STACKLESS_EXCEPTIONS_PROPERTY = "decimal4j.stacklessExceptions";
+
 	private static final String ROUNDING_NECESSARY = "Rounding necessary";
+	private static final String OVERFLOW = "Overflow";
+
+	private static final boolean STACKLESS = isStacklessPropertySet();
+
+	//package visible for tests
+	static final ArithmeticException STACKLESS_ROUNDING_NECESSARY = new StacklessRoundingNecessaryArithmeticException();
+	static final ArithmeticException STACKLESS_OVERFLOW = new StacklessArithmeticException(OVERFLOW);
+
+	private static final boolean isStacklessPropertySet() {
+		try {
+			return Boolean.getBoolean(STACKLESS_EXCEPTIONS_PROPERTY);
+		} catch (SecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns true if preallocated stackless exceptions are thrown for
+	 * overflow and rounding-necessary errors.
+	 * 
+	 * @return true if the {@value #STACKLESS_EXCEPTIONS_PROPERTY} system
+	 *         property was set to "true" when this class was loaded
+	 */
+	public static final boolean isStackless() {
+		return STACKLESS;
+	}
 
 	/**
 	 * Returns a new {@link ArithmeticException} with the given {@code message}
@@ -51,27 +102,131 @@ public final class Exceptions {
 	 * necessary when attempting to apply rounding with
 	 * {@link RoundingMode#UNNECESSARY}.
 	 * 
-	 * @return an arithmetic exception with the message "Rounding necessary"
+	 * @return an arithmetic exception with the message "Rounding necessary",
+	 *         a shared instance if {@link #isStackless() stackless} exceptions
+	 *         are enabled
 	 */
 	public static final ArithmeticException newRoundingNecessaryArithmeticException() {
-		return new ArithmeticException(ROUNDING_NECESSARY);
+		return STACKLESS ? STACKLESS_ROUNDING_NECESSARY : new RoundingNecessaryArithmeticException();
+	}
+
+	/**
+	 * Returns an {@link ArithmeticException} indicating that a binary
+	 * operation resulted in an overflow. The exception message is formatted
+	 * only if it is accessed.
+	 * 
+	 * @param scale1
+	 *            the scale of the first operand, zero for a long value
+	 * @param operand1
+	 *            the first unscaled operand
+	 * @param operator
+	 *            the operator including surrounding spaces, for instance
+	 *            {@code " + "}
+	 * @param scale2
+	 *            the scale of the second operand, zero for a long value
+	 * @param operand2
+	 *            the second unscaled operand
+	 * @return an arithmetic exception with a message of the form "Overflow:
+	 *         1.23 + 4.56", a shared instance with the message "Overflow" if
+	 *         {@link #isStackless() stackless} exceptions are enabled
+	 */
+	public static final ArithmeticException newOverflowArithmeticException(int scale1, long operand1, String operator, int scale2, long operand2) {
+		return STACKLESS ? STACKLESS_OVERFLOW : new OverflowArithmeticException(scale1, operand1, operator, scale2, operand2);
 	}
 
 	/**
-	 * Rethrows the given arithmetic exception if its message equals
-	 * "Rounding necessary". Otherwise the method does nothing.
+	 * Returns an {@link ArithmeticException} indicating that a unary
+	 * operation resulted in an overflow. The exception message is formatted
+	 * only if it is accessed.
+	 * 
+	 * @param operator
+	 *            the operator or function name, for instance {@code "abs"}
+	 * @param scale
+	 *            the scale of the operand, zero for a long value
+	 * @param operand
+	 *            the unscaled operand
+	 * @return an arithmetic exception with a message of the form "Overflow:
+	 *         abs(1.23)", a shared instance with the message "Overflow" if
+	 *         {@link #isStackless() stackless} exceptions are enabled
+	 */
+	public static final ArithmeticException newOverflowArithmeticException(String operator, int scale, long operand) {
+		return STACKLESS ? STACKLESS_OVERFLOW : new OverflowArithmeticException(operator, scale, operand);
+	}
+
+	/**
+	 * Rethrows the given arithmetic exception if it indicates that rounding
+	 * was necessary. Otherwise the method does nothing. Exceptions created by
+	 * {@link #newRoundingNecessaryArithmeticException()} are recognized by
+	 * their type; for plain {@link ArithmeticException} instances such as
+	 * those thrown by {@link java.math.BigDecimal} the message is compared
+	 * with "Rounding necessary". The message of other exception types is not
+	 * accessed, hence lazily formatted overflow messages are not formatted by
+	 * this method.
 	 * 
 	 * @param e
 	 *            the exception to rethrow if it is of the "Rounding necessary"
 	 *            type
 	 * @throws ArithmeticException
-	 *             rethrows the given exception {@code e} if its message equals
-	 *             "Rounding necessary"
+	 *             rethrows the given exception {@code e} if it indicates that
+	 *             rounding was necessary
 	 */
 	public static final void rethrowIfRoundingNecessary(ArithmeticException e) {
-		if (ROUNDING_NECESSARY.equals(e.getMessage())) {
+		if (e instanceof RoundingNecessaryArithmeticException) {
 			throw e;
 		}
+		if (e.getClass() == ArithmeticException.class && ROUNDING_NECESSARY.equals(e.getMessage())) {
+			throw e;
+		}
+	}
+
+	private static class RoundingNecessaryArithmeticException extends ArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		private RoundingNecessaryArithmeticException() {
+			super(ROUNDING_NECESSARY);
+		}
+	}
+
+	private static final class StacklessRoundingNecessaryArithmeticException extends RoundingNecessaryArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public final synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		@Override
+		public final void setStackTrace(StackTraceElement[] stackTrace) {
+			// shared instance: stack trace remains empty
+		}
+
+		@Override
+		public final synchronized Throwable initCause(Throwable cause) {
+			throw new IllegalStateException("Cannot set cause of shared exception instance", cause);
+		}
+	}
+
+	private static final class StacklessArithmeticException extends ArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		private StacklessArithmeticException(String message) {
+			super(message);
+		}
+
+		@Override
+		public final synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		@Override
+		public final void setStackTrace(StackTraceElement[] stackTrace) {
+			// shared instance: stack trace remains empty
+		}
+
+		@Override
+		public final synchronized Throwable initCause(Throwable cause) {
+			throw new IllegalStateException("Cannot set cause of shared exception instance", cause);
+		}
 	}
 
 	// no instances
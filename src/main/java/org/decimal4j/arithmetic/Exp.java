@@ -0,0 +1,491 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+
+/**
+ * Provides static methods to calculate exponential functions and powers with
+ * a decimal exponent of Decimal numbers.
+ * <p>
+ * The argument is reduced to {@code x = k*ln(10) + r} with
+ * {@code 0 <= r < ln(10)} so that <tt>exp(x) = exp(r) * 10<sup>k</sup></tt>.
+ * The remainder is further split into <tt>r = j/4096 + t</tt> with
+ * {@code 0 <= t < 1/4096}; {@code exp(j/4096)} is the product of three table
+ * values and {@code exp(t)} is evaluated with a short power series. Arguments
+ * with {@code |x| < 1/4096} are not reduced to preserve the precision of
+ * results close to one. All calculations are performed on a fixed point value
+ * with 36 fraction digits (see {@link UnsignedFixed9i36f}).
+ */
+final class Exp {
+
+	/** Table with exp(j/16) for j=0..36 */
+	private static final UnsignedFixed9i36f[] EXP16 = {
+			UnsignedFixed9i36f.constant(1, 0, 0, 0, 0), // exp(0/16)
+			UnsignedFixed9i36f.constant(1, 64494458, 917859429, 563390594, 642889673), // exp(1/16)
+			UnsignedFixed9i36f.constant(1, 133148453, 66826316, 829007227, 811793873), // exp(2/16)
+			UnsignedFixed9i36f.constant(1, 206230249, 420980710, 655586010, 446433548), // exp(3/16)
+			UnsignedFixed9i36f.constant(1, 284025416, 687741484, 73420568, 62436458), // exp(4/16)
+			UnsignedFixed9i36f.constant(1, 366837941, 173796362, 838756772, 721208672), // exp(5/16)
+			UnsignedFixed9i36f.constant(1, 454991414, 618201336, 53793691, 987518508), // exp(6/16)
+			UnsignedFixed9i36f.constant(1, 548830298, 634133097, 998551984, 595492338), // exp(7/16)
+			UnsignedFixed9i36f.constant(1, 648721270, 700128146, 848650787, 814163572), // exp(8/16)
+			UnsignedFixed9i36f.constant(1, 755054656, 960298557, 244047036, 598967689), // exp(9/16)
+			UnsignedFixed9i36f.constant(1, 868245957, 432222406, 501835620, 188104453), // exp(10/16)
+			UnsignedFixed9i36f.constant(1, 988737469, 582291831, 117477349, 646925367), // exp(11/16)
+			UnsignedFixed9i36f.constant(2, 117000016, 612674668, 545369819, 837095610), // exp(12/16)
+			UnsignedFixed9i36f.constant(2, 253534787, 213208544, 857331078, 429286241), // exp(13/16)
+			UnsignedFixed9i36f.constant(2, 398875293, 967097914, 691645733, 716296748), // exp(14/16)
+			UnsignedFixed9i36f.constant(2, 553589458, 62926873, 446965077, 548566361), // exp(15/16)
+			UnsignedFixed9i36f.constant(2, 718281828, 459045235, 360287471, 352662498), // exp(16/16)
+			UnsignedFixed9i36f.constant(2, 893595944, 171760941, 474281271, 897209976), // exp(17/16)
+			UnsignedFixed9i36f.constant(3, 80216848, 918031245, 4667878, 777039577), // exp(18/16)
+			UnsignedFixed9i36f.constant(3, 278873767, 938673636, 457757769, 573895492), // exp(19/16)
+			UnsignedFixed9i36f.constant(3, 490342957, 461841376, 130546029, 672265483), // exp(20/16)
+			UnsignedFixed9i36f.constant(3, 715450737, 941104087, 282583142, 195836359), // exp(21/16)
+			UnsignedFixed9i36f.constant(3, 955076722, 920577126, 210958468, 589453558), // exp(22/16)
+			UnsignedFixed9i36f.constant(4, 210157256, 143960389, 792456988, 880567007), // exp(23/16)
+			UnsignedFixed9i36f.constant(4, 481689070, 338064822, 602055460, 119275819), // exp(24/16)
+			UnsignedFixed9i36f.constant(4, 770733181, 967602763, 685619662, 86419790), // exp(25/16)
+			UnsignedFixed9i36f.constant(5, 78419037, 180081114, 488748958, 33424287), // exp(26/16)
+			UnsignedFixed9i36f.constant(5, 405948925, 141167094, 913709312, 300838617), // exp(27/16)
+			UnsignedFixed9i36f.constant(5, 754602676, 5730436, 866499704, 842692371), // exp(28/16)
+			UnsignedFixed9i36f.constant(6, 125742661, 881985955, 848888584, 742320410), // exp(29/16)
+			UnsignedFixed9i36f.constant(6, 520819120, 330112565, 322100079, 646153445), // exp(30/16)
+			UnsignedFixed9i36f.constant(6, 941375821, 197035274, 373786092, 178463790), // exp(31/16)
+			UnsignedFixed9i36f.constant(7, 389056098, 930650227, 230427460, 575007813), // exp(32/16)
+			UnsignedFixed9i36f.constant(7, 865609273, 944891709, 199609558, 343759367), // exp(33/16)
+			UnsignedFixed9i36f.constant(8, 372897488, 127264663, 204705158, 369987420), // exp(34/16)
+			UnsignedFixed9i36f.constant(8, 912902981, 198736944, 925882278, 429788824), // exp(35/16)
+			UnsignedFixed9i36f.constant(9, 487735836, 358525720, 550369044, 511738424) // exp(36/16)
+	};
+	/** Table with exp(j/256) for j=0..15 */
+	private static final UnsignedFixed9i36f[] EXP256 = {
+			UnsignedFixed9i36f.constant(1, 0, 0, 0, 0), // exp(0/256)
+			UnsignedFixed9i36f.constant(1, 3913889, 338347573, 443609603, 903460282), // exp(1/256)
+			UnsignedFixed9i36f.constant(1, 7843097, 206447977, 693453559, 760123579), // exp(2/256)
+			UnsignedFixed9i36f.constant(1, 11787683, 559331491, 514113843, 371606725), // exp(3/256)
+			UnsignedFixed9i36f.constant(1, 15747708, 586685747, 458535072, 82351749), // exp(4/256)
+			UnsignedFixed9i36f.constant(1, 19723232, 713774154, 783181631, 895362399), // exp(5/256)
+			UnsignedFixed9i36f.constant(1, 23714316, 602357916, 968850532, 165768958), // exp(6/256)
+			UnsignedFixed9i36f.constant(1, 27721021, 151621657, 916028739, 388276331), // exp(7/256)
+			UnsignedFixed9i36f.constant(1, 31743407, 499102670, 938747815, 281507144), // exp(8/256)
+			UnsignedFixed9i36f.constant(1, 35781537, 21623804, 736168272, 750137770), // exp(9/256)
+			UnsignedFixed9i36f.constant(1, 39835471, 336230000, 576622009, 875191793), // exp(10/256)
+			UnsignedFixed9i36f.constant(1, 43905272, 301128494, 984554333, 645921773), // exp(11/256)
+			UnsignedFixed9i36f.constant(1, 47991002, 16632702, 276738291, 819684967), // exp(12/256)
+			UnsignedFixed9i36f.constant(1, 52092722, 826109791, 350284146, 522671676), // exp(13/256)
+			UnsignedFixed9i36f.constant(1, 56210497, 316931971, 181336703, 768129773), // exp(14/256)
+			UnsignedFixed9i36f.constant(1, 60344388, 321431499, 549943719, 107056322) // exp(15/256)
+	};
+	/** Table with exp(j/4096) for j=0..15 */
+	private static final UnsignedFixed9i36f[] EXP4096 = {
+			UnsignedFixed9i36f.constant(1, 0, 0, 0, 0), // exp(0/4096)
+			UnsignedFixed9i36f.constant(1, 244170, 429747854, 937005233, 924135774), // exp(1/4096)
+			UnsignedFixed9i36f.constant(1, 488400, 478694473, 126173623, 807163354), // exp(2/4096)
+			UnsignedFixed9i36f.constant(1, 732690, 161397099, 950751231, 897445683), // exp(3/4096)
+			UnsignedFixed9i36f.constant(1, 977039, 492416535, 242845292, 611606506), // exp(4/4096)
+			UnsignedFixed9i36f.constant(1, 1221448, 486317134, 151315518, 483712264), // exp(5/4096)
+			UnsignedFixed9i36f.constant(1, 1465917, 157666808, 9877319, 507602029), // exp(6/4096)
+			UnsignedFixed9i36f.constant(1, 1710445, 521037025, 205416987, 615349754), // exp(7/4096)
+			UnsignedFixed9i36f.constant(1, 1955033, 591002812, 46518898, 47477216), // exp(8/4096)
+			UnsignedFixed9i36f.constant(1, 2199681, 382142753, 632204779, 383173220), // exp(9/4096)
+			UnsignedFixed9i36f.constant(1, 2444388, 909038994, 720885104, 11414929), // exp(10/4096)
+			UnsignedFixed9i36f.constant(1, 2689156, 186277240, 599522650, 836530519), // exp(11/4096)
+			UnsignedFixed9i36f.constant(1, 2933983, 228446757, 953008292, 24388824), // exp(12/4096)
+			UnsignedFixed9i36f.constant(1, 3178870, 50140375, 733749055, 608051184), // exp(13/4096)
+			UnsignedFixed9i36f.constant(1, 3423816, 665954486, 31468515, 784373320), // exp(14/4096)
+			UnsignedFixed9i36f.constant(1, 3668823, 90489044, 943219562, 745700773) // exp(15/4096)
+	};
+
+	/** 1/4096, arguments below are evaluated without table lookup */
+	private static final UnsignedFixed9i36f SERIES_LIMIT = UnsignedFixed9i36f.constant(0, 244140, 625000000, 0, 0);
+
+	/**
+	 * Number of terms used for the power series of {@code exp(t)} with
+	 * {@code 0 <= t < 1/4096}; the omitted terms are less than
+	 * <tt>10<sup>-38</sup></tt>.
+	 */
+	private static final int SERIES_TERMS = 9;
+
+	/** ln(10) as double */
+	private static final double LN10_DOUBLE = Math.log(10);
+	/** ln(Long.MAX_VALUE) as double */
+	private static final double LN_MAX_LONG = Math.log(Long.MAX_VALUE);
+	/** Safety margin for the argument range checks performed with doubles */
+	private static final double MARGIN = 1e-6;
+
+	/**
+	 * Tolerance in units of the 36th fraction digit used to recover exact
+	 * powers such as {@code 4^0.5} from the approximated result.
+	 */
+	private static final long EXACT_TOLERANCE = 10000;
+
+	/**
+	 * Calculates the exponential function <tt>e<sup>uDecimal</sup></tt>
+	 * rounding the result if necessary.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal exponent
+	 * @return <tt>round(e<sup>uDecimal</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code rounding} is UNNECESSARY and rounding is necessary
+	 *             or if an overflow occurs and the arithmetic's overflow mode
+	 *             is set to throw an exception
+	 */
+	public static final long exp(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal) {
+		if (!arith.getOverflowMode().isChecked()) {
+			return exp(arith, rounding, uDecimal, null);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = exp(arith, rounding, uDecimal, status);
+		if (status.isOverflow()) {
+			throw Exceptions.newOverflowArithmeticException("exp", arith.getScale(), uDecimal);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the exponential function <tt>e<sup>uDecimal</sup></tt>
+	 * rounding the result if necessary. Overflow and rounding are reported to
+	 * the given status, the arithmetic's overflow mode is ignored.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal exponent
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} and {@link ArithmeticStatus#INEXACT INEXACT} flags,
+	 *            or null if neither needs to be reported
+	 * @return <tt>round(e<sup>uDecimal</sup>)</tt>, the truncated result if
+	 *         an overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code rounding} is UNNECESSARY and rounding is necessary
+	 */
+	public static final long exp(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, ArithmeticStatus status) {
+		if (uDecimal == 0) {
+			return arith.one();
+		}
+		final int scale = arith.getScale();
+		final double x = uDecimal / (double) arith.getScaleMetrics().getScaleFactor();
+		if (x > maxArgument(scale)) {
+			if (rounding == DecimalRounding.UNNECESSARY) {
+				//e^x is irrational for x != 0
+				throw Exceptions.newRoundingNecessaryArithmeticException();
+			}
+			return overflow(status);
+		}
+		if (x < minArgument(scale)) {
+			return underflow(rounding, 1, status);
+		}
+		final UnsignedFixed9i36f[] temps = UnsignedFixed9i36f.THREAD_LOCAL.get();
+		final UnsignedFixed9i36f absX = temps[4].setUnscaled(uDecimal < 0 ? -uDecimal : uDecimal, scale);
+		return exp(arith, rounding, Long.signum(uDecimal), absX, 1, 0, temps, status);
+	}
+
+	/**
+	 * Calculates the power <tt>uDecimalBase<sup>exponent</sup></tt> for a
+	 * decimal exponent given as <tt>unscaledExponent * 10<sup>-scale</sup></tt>
+	 * rounding the result if necessary. Integer exponents are delegated to
+	 * {@link DecimalArithmetic#pow(long, int)} if possible, other powers are
+	 * calculated as <tt>e<sup>exponent * ln(uDecimalBase)</sup></tt>.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the base value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimalBase
+	 *            the unscaled decimal base value
+	 * @param unscaledExponent
+	 *            the unscaled value of the exponent
+	 * @param scale
+	 *            the scale of the exponent
+	 * @return <tt>round(uDecimalBase<sup>exponent</sup>)</tt>
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not a valid scale
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalBase==0} and the exponent is negative, if
+	 *             {@code uDecimalBase<0} and the exponent is not an integer,
+	 *             if {@code rounding} is UNNECESSARY and rounding is necessary
+	 *             or if an overflow occurs and the arithmetic's overflow mode
+	 *             is set to throw an exception
+	 */
+	public static final long pow(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalBase, long unscaledExponent, int scale) {
+		if (!arith.getOverflowMode().isChecked()) {
+			return pow(arith, rounding, uDecimalBase, unscaledExponent, scale, null);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = pow(arith, rounding, uDecimalBase, unscaledExponent, scale, status);
+		if (status.isOverflow()) {
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalBase, "^", scale, unscaledExponent);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the power <tt>uDecimalBase<sup>exponent</sup></tt> for a
+	 * decimal exponent given as <tt>unscaledExponent * 10<sup>-scale</sup></tt>
+	 * rounding the result if necessary. Overflow and rounding are reported to
+	 * the given status, the arithmetic's overflow mode is ignored.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the base value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimalBase
+	 *            the unscaled decimal base value
+	 * @param unscaledExponent
+	 *            the unscaled value of the exponent
+	 * @param scale
+	 *            the scale of the exponent
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} and {@link ArithmeticStatus#INEXACT INEXACT} flags,
+	 *            or null if neither needs to be reported
+	 * @return <tt>round(uDecimalBase<sup>exponent</sup>)</tt>, the truncated
+	 *         result if an overflow occurs
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not a valid scale
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalBase==0} and the exponent is negative, if
+	 *             {@code uDecimalBase<0} and the exponent is not an integer
+	 *             or if {@code rounding} is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public static final long pow(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalBase, long unscaledExponent, int scale, ArithmeticStatus status) {
+		final ScaleMetrics exponentMetrics = Scales.getScaleMetrics(scale);
+		final long intExponent = exponentMetrics.divideByScaleFactor(unscaledExponent);
+		final boolean isInteger = exponentMetrics.multiplyByScaleFactor(intExponent) == unscaledExponent;
+		if (isInteger & intExponent >= -999999999 & intExponent <= 999999999) {
+			if (status == null) {
+				return arith.pow(uDecimalBase, (int) intExponent);
+			}
+			return Pow.pow(arith, rounding, uDecimalBase, (int) intExponent, status);
+		}
+		if (uDecimalBase <= 0) {
+			if (uDecimalBase == 0) {
+				if (unscaledExponent > 0) {
+					return 0;
+				}
+				throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalBase) + "^" + BigDecimal.valueOf(unscaledExponent, scale).toPlainString());
+			}
+			if (!isInteger) {
+				throw new ArithmeticException("Power of a negative value with a non-integer exponent: " + arith.toString(uDecimalBase) + "^" + BigDecimal.valueOf(unscaledExponent, scale).toPlainString());
+			}
+		}
+		final int sgn = uDecimalBase < 0 & (intExponent & 0x1) != 0 ? -1 : 1;
+		//NOTE: Long.MIN_VALUE is treated as unsigned value with the exponent being at least 10^9 in absolute value
+		final long absBase = Math.abs(uDecimalBase);
+		if (absBase == arith.one()) {
+			return sgn > 0 ? absBase : -absBase;
+		}
+		final UnsignedFixed9i36f[] temps = UnsignedFixed9i36f.THREAD_LOCAL.get();
+		final UnsignedFixed9i36f lnBase = temps[4];
+		final int sgnLnBase = Log.ln(absBase, arith.getScale(), temps);
+		lnBase.set(temps[0]);
+
+		//range check with doubles
+		final double y = unscaledExponent / (double) exponentMetrics.getScaleFactor();
+		final double p = y * sgnLnBase * lnBase.doubleValue();
+		if (p > maxArgument(arith.getScale())) {
+			return overflow(status);
+		}
+		if (p < minArgument(arith.getScale())) {
+			return underflow(rounding, sgn, status);
+		}
+
+		//scale exponent down by 10^shift so that its integer part fits into 9 digits
+		final long absExponent = Math.abs(unscaledExponent);
+		long absIntExponent = Unsigned.divide(absExponent, exponentMetrics.getScaleFactor());
+		int shift = 0;
+		while (absIntExponent >= 1000000000) {
+			absIntExponent /= 10;
+			shift++;
+		}
+		final UnsignedFixed9i36f product = temps[5].setUnscaled(absExponent, scale + shift);
+		if (shift > 0) {
+			//NOTE: lnBase * 10^shift is small because p is small
+			lnBase.multiplyBy(Scales.getScaleMetrics(Math.min(shift, 9)).getScaleFactor());
+			lnBase.multiplyBy(Scales.getScaleMetrics(Math.max(shift - 9, 0)).getScaleFactor());
+		}
+		product.multiply(lnBase);
+		final int sgnProduct = sgnLnBase * Long.signum(unscaledExponent);
+		return exp(arith, rounding, sgnProduct, product, sgn, EXACT_TOLERANCE * Scales.getScaleMetrics(shift).getScaleFactor(), temps, status);
+	}
+
+	/**
+	 * Calculates <tt>sgnResult * e<sup>sgnX * absX</sup></tt> rounded to the
+	 * scale of the given arithmetic.
+	 * 
+	 * @param arith
+	 *            the arithmetic of the result
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param sgnX
+	 *            the sign of the exponent
+	 * @param absX
+	 *            the absolute value of the exponent, within the range checked
+	 *            by {@link #maxArgument(int)} and {@link #minArgument(int)}
+	 * @param sgnResult
+	 *            the sign of the result
+	 * @param exactTolerance
+	 *            zero if the result is known to be irrational, otherwise the
+	 *            tolerance in units of the 36th fraction digit within which a
+	 *            result close to half or full ULP is assumed to be exact
+	 * @param temps
+	 *            temporary values, the first three are used and must not
+	 *            include {@code absX}
+	 * @param status
+	 *            the status to report overflow and rounding, or null
+	 * @return the rounded unscaled result
+	 */
+	private static final long exp(DecimalArithmetic arith, DecimalRounding rounding, int sgnX, UnsignedFixed9i36f absX, int sgnResult, long exactTolerance, UnsignedFixed9i36f[] temps, ArithmeticStatus status) {
+		final UnsignedFixed9i36f r = temps[0];
+		final UnsignedFixed9i36f temp = temps[1];
+		final UnsignedFixed9i36f acc = temps[2];
+
+		if (absX.compareTo(SERIES_LIMIT) < 0) {
+			//exp(x) = 1 + x*(1 + x/2*(1 + x/3*(1 + ...))), alternating if x < 0
+			acc.setOne();
+			for (int n = SERIES_TERMS; n >= 1; n--) {
+				acc.multiply(absX).divideBy(n);
+				if (sgnX >= 0) {
+					acc.add(temp.setOne());
+				} else {
+					acc.set(temp.setOne().subtract(acc));
+				}
+			}
+			return getDecimal(arith, rounding, acc, 0, sgnResult, exactTolerance, temp, status);
+		}
+
+		//x = k*ln(10) + r with 0 <= r < ln(10)
+		int k = (int) (absX.doubleValue() / LN10_DOUBLE);
+		if (sgnX >= 0) {
+			temp.set(Log.LN10).multiplyBy(k);
+			if (temp.compareTo(absX) > 0) {
+				k--;
+				temp.subtract(Log.LN10);
+			}
+			r.set(absX).subtract(temp);
+			if (r.compareTo(Log.LN10) >= 0) {
+				k++;
+				r.subtract(Log.LN10);
+			}
+		} else {
+			k++;
+			temp.set(Log.LN10).multiplyBy(k);
+			if (temp.compareTo(absX) < 0) {
+				k++;
+				temp.add(Log.LN10);
+			}
+			r.set(temp).subtract(absX);
+			if (r.compareTo(Log.LN10) >= 0) {
+				k--;
+				r.subtract(Log.LN10);
+			}
+			k = -k;
+		}
+
+		//r = j/4096 + t with 0 <= t < 1/4096
+		r.multiplyBy(4096);
+		final int j = (int) r.getIntegerPart();
+		final UnsignedFixed9i36f t = r.clearIntegerPart().divideBy(4096);
+
+		//exp(t) = 1 + t*(1 + t/2*(1 + t/3*(1 + ...)))
+		acc.setOne();
+		for (int n = SERIES_TERMS; n >= 1; n--) {
+			acc.multiply(t).divideBy(n).add(temp.setOne());
+		}
+		acc.multiply(EXP16[j >> 8]);
+		acc.multiply(EXP256[(j >> 4) & 0xf]);
+		acc.multiply(EXP4096[j & 0xf]);
+		return getDecimal(arith, rounding, acc, k, sgnResult, exactTolerance, temp, status);
+	}
+
+	/**
+	 * Rounds <tt>sgnResult * value * 10<sup>pow10</sup></tt> to the scale of
+	 * the given arithmetic, snapping the value to exact results within
+	 * {@code exactTolerance} first.
+	 */
+	private static final long getDecimal(DecimalArithmetic arith, DecimalRounding rounding, UnsignedFixed9i36f value, int pow10, int sgnResult, long exactTolerance, UnsignedFixed9i36f temp, ArithmeticStatus status) {
+		boolean inexact = true;
+		if (exactTolerance > 0) {
+			//grid with one more digit than the result to detect exact halves
+			final int digits = arith.getScale() + pow10 + 1;
+			if (digits >= 0 & digits <= 36) {
+				inexact = !value.snapToGrid(digits, exactTolerance, temp);
+			}
+		}
+		return value.getDecimal(sgnResult, pow10, inexact, arith, rounding, status);
+	}
+	/**
+	 * Returns an upper bound for arguments {@code x} of <tt>e<sup>x</sup></tt>
+	 * whose result can be represented with the given scale.
+	 */
+	private static final double maxArgument(int scale) {
+		return LN_MAX_LONG - scale * LN10_DOUBLE + MARGIN;
+	}
+
+	/**
+	 * Returns a lower bound for arguments {@code x} of <tt>e<sup>x</sup></tt>
+	 * whose result is at least a tenth ULP of the given scale.
+	 */
+	private static final double minArgument(int scale) {
+		return -(scale + 1) * LN10_DOUBLE - MARGIN;
+	}
+
+	private static final long overflow(ArithmeticStatus status) {
+		if (status != null) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return 0;//overflow, everything was shifted out to the left
+	}
+
+	private static final long underflow(DecimalRounding rounding, int sgn, ArithmeticStatus status) {
+		//result is less than a tenth ULP but not zero
+		if (status != null) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		return rounding.calculateRoundingIncrement(sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+	}
+
+	// no instances
+	private Exp() {
+		super();
+	}
+}
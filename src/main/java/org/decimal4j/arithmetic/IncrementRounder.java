@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Rounds unscaled decimal values to multiples of a fixed increment, for
+ * instance prices to a tick size such as {@code 0.05}, {@code 0.25} or
+ * {@code 0.03125=1/32}. The result is the same as for
+ * {@link DecimalArithmetic#roundToIncrement(long, long)} with the rounding
+ * and overflow mode of the arithmetic passed to the constructor.
+ * <p>
+ * The reciprocal of the increment is precomputed when the rounder is
+ * created. For values whose magnitude is below 2<sup>52</sup> the quotient
+ * is estimated through a multiplication with this reciprocal; the estimate
+ * is off by at most one and corrected with the exact remainder. Larger
+ * values use a long division. Instances are immutable and thread safe.
+ */
+public final class IncrementRounder {
+
+	//values below this limit are exact as double and the estimated quotient is off by at most one
+	private static final long RECIPROCAL_LIMIT = 1L << 52;
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final long increment;
+	private final double reciprocal;
+
+	/**
+	 * Creates a rounder for the given arithmetic and unscaled increment.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode of
+	 *            values, increment and results
+	 * @param uDecimalIncrement
+	 *            the positive unscaled decimal increment to round to
+	 * @throws IllegalArgumentException
+	 *             if {@code uDecimalIncrement} is not positive
+	 */
+	public IncrementRounder(DecimalArithmetic arithmetic, long uDecimalIncrement) {
+		Round.checkIncrement(arithmetic, uDecimalIncrement);
+		this.arithmetic = arithmetic;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.increment = uDecimalIncrement;
+		this.reciprocal = 1.0 / uDecimalIncrement;
+	}
+
+	/**
+	 * Returns the arithmetic of values, increment and results.
+	 * 
+	 * @return the arithmetic defining scale, rounding and overflow mode
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled increment to which values are rounded.
+	 * 
+	 * @return the positive unscaled decimal increment
+	 */
+	public final long getIncrement() {
+		return increment;
+	}
+
+	/**
+	 * Returns the specified value rounded to a multiple of the increment.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to round
+	 * @return {@code round(uDecimal / increment) * increment}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary or if an overflow occurs and the arithmetic's
+	 *             overflow mode is set to throw an exception
+	 */
+	public final long round(long uDecimal) {
+		return Round.roundToIncrement(arithmetic, rounding, uDecimal, increment, quotient(uDecimal));
+	}
+
+	/**
+	 * Rounds {@code length} values of the {@code src} array starting at
+	 * {@code srcOffset} to multiples of the increment and assigns the results
+	 * to the {@code dst} array starting at {@code dstOffset}. Source and
+	 * destination can be the same array to round the values in place. If an
+	 * exception is thrown, the values before the failing element have been
+	 * assigned.
+	 * 
+	 * @param src
+	 *            the unscaled decimal values to round
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the array receiving the rounded values
+	 * @param dstOffset
+	 *            the index of the first result in {@code dst}
+	 * @param length
+	 *            the number of values to round
+	 * @throws IndexOutOfBoundsException
+	 *             if an offset or the length is negative or if a range
+	 *             exceeds the array bounds
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary or if an overflow occurs and the arithmetic's
+	 *             overflow mode is set to throw an exception
+	 */
+	public final void round(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+		checkRange("src", src, srcOffset, length);
+		checkRange("dst", dst, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			final long uDecimal = src[srcOffset + i];
+			dst[dstOffset + i] = Round.roundToIncrement(arithmetic, rounding, uDecimal, increment, quotient(uDecimal));
+		}
+	}
+
+	//returns uDecimal / increment rounded DOWN
+	private final long quotient(long uDecimal) {
+		if (uDecimal >= RECIPROCAL_LIMIT | uDecimal <= -RECIPROCAL_LIMIT) {
+			return uDecimal / increment;
+		}
+		//branch free correction of the estimate on the absolute value
+		final long sign = uDecimal >> 63;
+		final long abs = (uDecimal ^ sign) - sign;
+		long quotient = (long) (abs * reciprocal);
+		long remainder = abs - quotient * increment;
+		quotient += remainder >> 63;// -1 if estimate too large
+		remainder += increment & (remainder >> 63);
+		quotient -= (increment - 1 - remainder) >> 63;// +1 if estimate too small
+		return (quotient ^ sign) - sign;
+	}
+
+	private static final void checkRange(String name, long[] array, int offset, int length) {
+		if (offset < 0 | length < 0 | offset > array.length - length) {
+			throw new IndexOutOfBoundsException(name + ": offset=" + offset + ", length=" + length + ", array.length=" + array.length);
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return "IncrementRounder[increment=" + arithmetic.toString(increment) + ", arithmetic=" + arithmetic + "]";
+	}
+}
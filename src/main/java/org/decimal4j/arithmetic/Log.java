@@ -0,0 +1,396 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Provides static methods to calculate natural and decimal logarithms of
+ * Decimal numbers.
+ * <p>
+ * The argument is written as <tt>m * 10<sup>e</sup></tt> with {@code 1 <= m < 10}.
+ * The mantissa {@code m} is reduced to {@code 1 <= m' < 2} by a power of two
+ * and further to {@code 1 <= y < 1 + 1/4096} by three table lookups of the
+ * form <tt>y = y / (1 + j/16<sup>k</sup>)</tt>. The remaining logarithm
+ * {@code ln(y)} is evaluated with a short power series on a fixed point value
+ * with 36 fraction digits (see {@link UnsignedFixed9i36f}). Arguments close to
+ * one are evaluated with the power series directly to preserve the precision
+ * of results close to zero.
+ */
+final class Log {
+
+	/** ln(10) */
+	static final UnsignedFixed9i36f LN10 = UnsignedFixed9i36f.constant(2, 302585092, 994045684, 17991454, 684364208);
+	/** ln(2) */
+	private static final UnsignedFixed9i36f LN2 = UnsignedFixed9i36f.constant(0, 693147180, 559945309, 417232121, 458176568);
+	/** log10(e) = 1/ln(10) */
+	private static final UnsignedFixed9i36f LOG10_E = UnsignedFixed9i36f.constant(0, 434294481, 903251827, 651128918, 916605082);
+
+	/** Table with ln(1 + j/16) for j=0..15 */
+	private static final UnsignedFixed9i36f[] LN16 = {
+			UnsignedFixed9i36f.constant(0, 0, 0, 0, 0), // ln(1+0/16)
+			UnsignedFixed9i36f.constant(0, 60624621, 816434842, 580606132, 40420263), // ln(1+1/16)
+			UnsignedFixed9i36f.constant(0, 117783035, 656383454, 538794109, 470521705), // ln(1+2/16)
+			UnsignedFixed9i36f.constant(0, 171850256, 926659222, 340098946, 55147265), // ln(1+3/16)
+			UnsignedFixed9i36f.constant(0, 223143551, 314209755, 766295090, 309834503), // ln(1+4/16)
+			UnsignedFixed9i36f.constant(0, 271933715, 483641758, 831669494, 532999162), // ln(1+5/16)
+			UnsignedFixed9i36f.constant(0, 318453731, 118534615, 810247213, 590599596), // ln(1+6/16)
+			UnsignedFixed9i36f.constant(0, 362905493, 689368453, 137824345, 977489846), // ln(1+7/16)
+			UnsignedFixed9i36f.constant(0, 405465108, 108164381, 978013115, 464349137), // ln(1+8/16)
+			UnsignedFixed9i36f.constant(0, 446287102, 628419511, 532590180, 619669007), // ln(1+9/16)
+			UnsignedFixed9i36f.constant(0, 485507815, 781700807, 801791077, 190788901), // ln(1+10/16)
+			UnsignedFixed9i36f.constant(0, 523248143, 764547836, 516807224, 934870842), // ln(1+11/16)
+			UnsignedFixed9i36f.constant(0, 559615787, 935422686, 270888500, 526826593), // ln(1+12/16)
+			UnsignedFixed9i36f.constant(0, 594707107, 746692789, 514343546, 529205333), // ln(1+13/16)
+			UnsignedFixed9i36f.constant(0, 628608659, 422374137, 744308205, 774183640), // ln(1+14/16)
+			UnsignedFixed9i36f.constant(0, 661398482, 245365008, 260235838, 709650938) // ln(1+15/16)
+	};
+	/** Table with ln(1 + j/256) for j=0..15 */
+	private static final UnsignedFixed9i36f[] LN256 = {
+			UnsignedFixed9i36f.constant(0, 0, 0, 0, 0), // ln(1+0/256)
+			UnsignedFixed9i36f.constant(0, 3898640, 415657323, 13937343, 95842907), // ln(1+1/256)
+			UnsignedFixed9i36f.constant(0, 7782140, 442054948, 947462900, 61136764), // ln(1+2/256)
+			UnsignedFixed9i36f.constant(0, 11650617, 219975274, 135591442, 809214349), // ln(1+3/256)
+			UnsignedFixed9i36f.constant(0, 15504186, 535965254, 150854046, 42446836), // ln(1+4/256)
+			UnsignedFixed9i36f.constant(0, 19342962, 843130934, 635905534, 541550470), // ln(1+5/256)
+			UnsignedFixed9i36f.constant(0, 23167059, 281534378, 228799160, 962289917), // ln(1+6/256)
+			UnsignedFixed9i36f.constant(0, 26976587, 698202075, 748069292, 539659546), // ln(1+7/256)
+			UnsignedFixed9i36f.constant(0, 30771658, 666753688, 371028207, 596772164), // ln(1+8/256)
+			UnsignedFixed9i36f.constant(0, 34552381, 506659733, 407371500, 589832865), // ln(1+9/256)
+			UnsignedFixed9i36f.constant(0, 38318864, 302136599, 193755325, 123797290), // ln(1+10/256)
+			UnsignedFixed9i36f.constant(0, 42071213, 920687054, 375203805, 926962379), // ln(1+11/256)
+			UnsignedFixed9i36f.constant(0, 45809536, 31294203, 166679267, 614663342), // ln(1+12/256)
+			UnsignedFixed9i36f.constant(0, 49533935, 122276630, 882096208, 829824573), // ln(1+13/256)
+			UnsignedFixed9i36f.constant(0, 53244514, 518812282, 865870193, 786528777), // ln(1+14/256)
+			UnsignedFixed9i36f.constant(0, 56941376, 400138424, 759013101, 540449494) // ln(1+15/256)
+	};
+	/** Table with ln(1 + j/4096) for j=0..15 */
+	private static final UnsignedFixed9i36f[] LN4096 = {
+			UnsignedFixed9i36f.constant(0, 0, 0, 0, 0), // ln(1+0/4096)
+			UnsignedFixed9i36f.constant(0, 244110, 827527362, 709160479, 85823454), // ln(1+1/4096)
+			UnsignedFixed9i36f.constant(0, 488162, 79501351, 188537049, 692645410), // ln(1+2/4096)
+			UnsignedFixed9i36f.constant(0, 732153, 784993847, 473561438, 413379506), // ln(1+3/4096)
+			UnsignedFixed9i36f.constant(0, 976085, 973055458, 895960824, 908017187), // ln(1+4/4096)
+			UnsignedFixed9i36f.constant(0, 1219958, 672715538, 837035961, 165384036), // ln(1+5/4096)
+			UnsignedFixed9i36f.constant(0, 1463771, 912982207, 455639670, 215735671), // ln(1+6/4096)
+			UnsignedFixed9i36f.constant(0, 1707525, 722842372, 390892725, 568674621), // ln(1+7/4096)
+			UnsignedFixed9i36f.constant(0, 1951220, 131261749, 439674049, 531841539), // ln(1+8/4096)
+			UnsignedFixed9i36f.constant(0, 2194855, 167184883, 208922105, 569830120), // ln(1+9/4096)
+			UnsignedFixed9i36f.constant(0, 2438430, 859535167, 742784296, 989525451), // ln(1+10/4096)
+			UnsignedFixed9i36f.constant(0, 2681947, 237214867, 124651121, 487301216), // ln(1+11/4096)
+			UnsignedFixed9i36f.constant(0, 2925404, 329105136, 54111768, 464963846), // ln(1+12/4096)
+			UnsignedFixed9i36f.constant(0, 3168802, 164066040, 398867783, 514733590), // ln(1+13/4096)
+			UnsignedFixed9i36f.constant(0, 3412140, 770936577, 721641362, 88636486), // ln(1+14/4096)
+			UnsignedFixed9i36f.constant(0, 3655420, 178534697, 782114772, 104181014) // ln(1+15/4096)
+	};
+
+	/**
+	 * Number of terms used for the power series of {@code ln(1+u)} with
+	 * {@code 0 <= u < 1/4096}; the omitted terms are less than
+	 * <tt>10<sup>-39</sup></tt>.
+	 */
+	private static final int SERIES_TERMS = 11;
+
+	/**
+	 * Calculates the natural logarithm of the specified unscaled decimal value
+	 * rounding the result if necessary.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @return <tt>round(ln(uDecimal))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0}, if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary or if an overflow
+	 *             occurs and the arithmetic's overflow mode is set to throw
+	 *             an exception
+	 */
+	public static final long ln(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal) {
+		if (!arith.getOverflowMode().isChecked()) {
+			return ln(arith, rounding, uDecimal, null);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = ln(arith, rounding, uDecimal, status);
+		if (status.isOverflow()) {
+			throw Exceptions.newOverflowArithmeticException("ln", arith.getScale(), uDecimal);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the natural logarithm of the specified unscaled decimal value
+	 * rounding the result if necessary. Overflow and rounding are reported to
+	 * the given status, the arithmetic's overflow mode is ignored.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} and {@link ArithmeticStatus#INEXACT INEXACT} flags,
+	 *            or null if neither needs to be reported
+	 * @return <tt>round(ln(uDecimal))</tt>, the truncated result if an
+	 *         overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0} or if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long ln(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, ArithmeticStatus status) {
+		checkArgument(arith, uDecimal);
+		if (uDecimal == arith.one()) {
+			return 0;
+		}
+		final UnsignedFixed9i36f[] temps = UnsignedFixed9i36f.THREAD_LOCAL.get();
+		final int sgn = ln(uDecimal, arith.getScale(), temps);
+		return temps[0].getDecimal(sgn, 0, true, arith, rounding, status);
+	}
+
+	/**
+	 * Calculates the base 10 logarithm of the specified unscaled decimal value
+	 * rounding the result if necessary.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @return <tt>round(log10(uDecimal))</tt>
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0}, if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary or if an overflow
+	 *             occurs and the arithmetic's overflow mode is set to throw
+	 *             an exception
+	 */
+	public static final long log10(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal) {
+		if (!arith.getOverflowMode().isChecked()) {
+			return log10(arith, rounding, uDecimal, null);
+		}
+		final ArithmeticStatus status = Checked.clearedStatus();
+		final long result = log10(arith, rounding, uDecimal, status);
+		if (status.isOverflow()) {
+			throw Exceptions.newOverflowArithmeticException("log10", arith.getScale(), uDecimal);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the base 10 logarithm of the specified unscaled decimal value
+	 * rounding the result if necessary. Overflow and rounding are reported to
+	 * the given status, the arithmetic's overflow mode is ignored.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} and {@link ArithmeticStatus#INEXACT INEXACT} flags,
+	 *            or null if neither needs to be reported
+	 * @return <tt>round(log10(uDecimal))</tt>, the truncated result if an
+	 *         overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal <= 0} or if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long log10(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, ArithmeticStatus status) {
+		checkArgument(arith, uDecimal);
+		final UnsignedFixed9i36f[] temps = UnsignedFixed9i36f.THREAD_LOCAL.get();
+		final UnsignedFixed9i36f result = temps[0];
+		final UnsignedFixed9i36f temp = temps[1];
+		final int scale = arith.getScale();
+		if (isCloseToOne(uDecimal, scale)) {
+			final int sgn = lnCloseToOne(uDecimal, scale, temps);
+			result.multiply(LOG10_E);
+			return result.getDecimal(sgn, 0, true, arith, rounding, status);
+		}
+		final int e = lnMantissa(uDecimal, scale, temps);
+		final boolean exact = result.isZero();//powers of 10
+		result.multiply(LOG10_E);
+		final int sgn;
+		if (e >= 0) {
+			result.add(temp.setLong(e));
+			sgn = 1;
+		} else {
+			//NOTE: log10(m) < 1 <= -e
+			result.set(temp.setLong(-e).subtract(result));
+			sgn = -1;
+		}
+		return result.getDecimal(sgn, 0, !exact, arith, rounding, status);
+	}
+
+
+	private static final void checkArgument(DecimalArithmetic arith, long uDecimal) {
+		if (uDecimal <= 0) {
+			throw new ArithmeticException("Logarithm of a non-positive value: " + arith.toString(uDecimal));
+		}
+	}
+
+	/**
+	 * Calculates the natural logarithm of the positive value
+	 * <tt>unscaled * 10<sup>-scale</sup></tt>. The absolute value of the
+	 * result is assigned to {@code temps[0]} and its sign is returned.
+	 * 
+	 * @param unscaled
+	 *            the positive unscaled value
+	 * @param scale
+	 *            the scale of {@code unscaled}
+	 * @param temps
+	 *            temporary values, the first four are used
+	 * @return the sign of the result: -1, 0 or 1
+	 */
+	static final int ln(long unscaled, int scale, UnsignedFixed9i36f[] temps) {
+		if (isCloseToOne(unscaled, scale)) {
+			return lnCloseToOne(unscaled, scale, temps);
+		}
+		final UnsignedFixed9i36f result = temps[0];
+		final UnsignedFixed9i36f temp = temps[1];
+		final int e = lnMantissa(unscaled, scale, temps);
+		if (e > 0) {
+			result.add(temp.set(LN10).multiplyBy(e));
+			return 1;
+		}
+		if (e < 0) {
+			//NOTE: ln(m) < ln(10) <= -e * ln(10)
+			result.set(temp.set(LN10).multiplyBy(-e).subtract(result));
+			return -1;
+		}
+		return result.isZero() ? 0 : 1;
+	}
+
+	//true if 0 < |x - 1| < 1/4096 for x = unscaled * 10^-scale
+	private static final boolean isCloseToOne(long unscaled, int scale) {
+		final long one = Scales.getScaleMetrics(scale).getScaleFactor();
+		final long diff = Math.abs(unscaled - one);
+		return diff != 0 & diff < (one >>> 12);
+	}
+
+	/**
+	 * Calculates the natural logarithm of the value
+	 * <tt>x = unscaled * 10<sup>-scale</sup></tt> close to one directly with
+	 * the power series in {@code x-1} which is exact. This preserves the
+	 * precision of results close to zero. The absolute value of the result is
+	 * assigned to {@code temps[0]} and its sign is returned.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with {@code 0 < |x - 1| < 1/4096}
+	 * @param scale
+	 *            the scale of {@code unscaled}
+	 * @param temps
+	 *            temporary values, the first three are used
+	 * @return the sign of the result: -1 or 1
+	 */
+	private static final int lnCloseToOne(long unscaled, int scale, UnsignedFixed9i36f[] temps) {
+		final UnsignedFixed9i36f result = temps[0];
+		final UnsignedFixed9i36f temp = temps[1];
+		final UnsignedFixed9i36f u = temps[2];
+		final long one = Scales.getScaleMetrics(scale).getScaleFactor();
+		u.setUnscaled(Math.abs(unscaled - one), scale);
+		result.setOne().divideBy(SERIES_TERMS);
+		if (unscaled > one) {
+			//ln(1+u) = u*(1 - u*(1/2 - u*(1/3 - ...)))
+			for (int n = SERIES_TERMS - 1; n >= 1; n--) {
+				result.set(temp.setOne().divideBy(n).subtract(result.multiply(u)));
+			}
+			result.multiply(u);
+			return 1;
+		}
+		//ln(1-u) = -u*(1 + u*(1/2 + u*(1/3 + ...)))
+		for (int n = SERIES_TERMS - 1; n >= 1; n--) {
+			result.multiply(u).add(temp.setOne().divideBy(n));
+		}
+		result.multiply(u);
+		return -1;
+	}
+
+	/**
+	 * Writes the positive value <tt>unscaled * 10<sup>-scale</sup></tt> as
+	 * <tt>m * 10<sup>e</sup></tt> with {@code 1 <= m < 10}, assigns
+	 * {@code ln(m)} to {@code temps[0]} and returns {@code e}.
+	 * 
+	 * @param unscaled
+	 *            the positive unscaled value
+	 * @param scale
+	 *            the scale of {@code unscaled}
+	 * @param temps
+	 *            temporary values, the first four are used
+	 * @return the decimal exponent {@code e}
+	 */
+	private static final int lnMantissa(long unscaled, int scale, UnsignedFixed9i36f[] temps) {
+		final UnsignedFixed9i36f result = temps[0];
+		final UnsignedFixed9i36f temp = temps[1];
+		final UnsignedFixed9i36f y = temps[2];
+		final UnsignedFixed9i36f acc = temps[3];
+		final int digits = UnsignedDecimal9i36f.log10(unscaled);
+
+		//1 <= m < 10
+		y.setUnscaled(unscaled, digits - 1);
+
+		//1 <= m / 2^a < 2
+		final int a = 63 - Long.numberOfLeadingZeros(y.getIntegerPart());
+		y.divideBy(1 << a);
+		result.set(LN2).multiplyBy(a);
+
+		//1 <= y / (1 + j/16^k) < 1 + 1/16^k
+		reduce(result, y, temp, 16, LN16);
+		reduce(result, y, temp, 256, LN256);
+		reduce(result, y, temp, 4096, LN4096);
+
+		//ln(1+u) = u - u^2/2 + u^3/3 - ... = u*(1 - u*(1/2 - u*(1/3 - ...)))
+		final UnsignedFixed9i36f u = y.clearIntegerPart();
+		acc.setOne().divideBy(SERIES_TERMS);
+		for (int n = SERIES_TERMS - 1; n >= 1; n--) {
+			//NOTE: u * acc < 1/(n+1) < 1/n, hence the subtraction is safe
+			acc.set(temp.setOne().divideBy(n).subtract(acc.multiply(u)));
+		}
+		result.add(acc.multiply(u));
+		return digits - 1 - scale;
+	}
+
+	//y = y / (1 + j/base) with j = floor(base*(y-1)) and result += ln(1 + j/base)
+	private static final void reduce(UnsignedFixed9i36f result, UnsignedFixed9i36f y, UnsignedFixed9i36f temp, int base, UnsignedFixed9i36f[] lnTable) {
+		temp.set(y).multiplyBy(base);
+		final int j = (int) (temp.getIntegerPart() - base);
+		if (j != 0) {
+			result.add(lnTable[j]);
+			y.set(temp).divideBy(base + j);
+		}
+	}
+
+	// no instances
+	private Log() {
+		super();
+	}
+}
@@ -29,6 +29,7 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.Scale9f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.DecimalRounding;
 
 /**
@@ -39,7 +40,7 @@ final class Mul {
 	private static final ScaleMetrics SCALE9F = Scale9f.INSTANCE;
 
 	//sufficient (but not necessary) condition that product fits in long
-	private static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
+	static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
 		if (-SQRT_MAX_VALUE <= uDecimal1 & uDecimal1 <= SQRT_MAX_VALUE & -SQRT_MAX_VALUE <= uDecimal2 & uDecimal2 <= SQRT_MAX_VALUE) {
 			return true;
 		}
@@ -290,7 +291,7 @@ final class Mul {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
 		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
-		return multiplyChecked(scaleMetrics, uDecimal1, scaleMetrics, uDecimal2);
+		return multiplyChecked(scaleMetrics, uDecimal1, scaleMetrics, uDecimal2, null);
 	}
 	
 	/**
@@ -320,7 +321,7 @@ final class Mul {
 			return Pow10.divideByPowerOf10Checked(arith, unscaledResult, scale);
 		}
 		final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
-		return multiplyChecked(arith.getScaleMetrics(), uDecimal, scaleMetrics, unscaled);
+		return multiplyChecked(arith.getScaleMetrics(), uDecimal, scaleMetrics, unscaled, null);
 	}
 	
 	/**
@@ -335,55 +336,60 @@ final class Mul {
 	 *            the scale matrics associated with the second factor
 	 * @param uDecimal2
 	 *            the second unscaled decimal factor
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception if an overflow occurs
 	 * @return the multiplication result without rounding and with overflow checks
 	 */
-	private static final long multiplyChecked(ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2) {
-		try {
-			if (doesProductFitInLong(uDecimal1, uDecimal2)) {
-				return scaleMetrics2.divideByScaleFactor(uDecimal1 * uDecimal2);
-			}
-			
-			final int scale = scaleMetrics2.getScale();
-			if (scale <= 9) {
-				//use scale to split into 2 parts: i (integral) and f (fractional)
-				//with this scale, the low order product f1*f2 fits in a long
-				final long i1 = scaleMetrics2.divideByScaleFactor(uDecimal1);
-				final long i2 = scaleMetrics2.divideByScaleFactor(uDecimal2);
-				final long f1 = uDecimal1 - scaleMetrics2.multiplyByScaleFactor(i1);
-				final long f2 = uDecimal2 - scaleMetrics2.multiplyByScaleFactor(i2);
-				final long i1xf2 = i1 * f2;//cannot overflow
-				final long f1xf2 = scaleMetrics2.divideByScaleFactor(f1 * f2);//product fits for this scale, hence unchecked
-				//add it all up now, every operation checked
-				long result = Checked.multiplyLong(uDecimal1, i2);
-				result = Checked.addLong(result, i1xf2);
-				result = Checked.addLong(result, f1xf2);
-				return result;
-			} else {
-				//use scale9 to split into 2 parts: h (high) and l (low)
-				final ScaleMetrics scaleDiff09 = Scales.getScaleMetrics(scale - 9);
-				final ScaleMetrics scaleDiff18 = Scales.getScaleMetrics(18 - scale);
-				final long h1 = SCALE9F.divideByScaleFactor(uDecimal1);
-				final long h2 = SCALE9F.divideByScaleFactor(uDecimal2);
-				final long l1 = uDecimal1 - SCALE9F.multiplyByScaleFactor(h1);
-				final long l2 = uDecimal2 - SCALE9F.multiplyByScaleFactor(h2);
-				final long h1xh2 = Checked.multiplyLong(h1, h2);//checked
-				final long h1xl2 = h1 * l2;//cannot overflow
-				final long h2xl1 = h2 * l1;//cannot overflow
-				final long l1xl2d = SCALE9F.divideByScaleFactor(l1 * l2);//product fits for scale 9, hence unchecked
-				final long h1xl2d = scaleDiff09.divideByScaleFactor(h1xl2);
-				final long h2xl1d = scaleDiff09.divideByScaleFactor(h2xl1);
-				final long h1xl2r = h1xl2 - scaleDiff09.multiplyByScaleFactor(h1xl2d);
-				final long h2xl1r = h2xl1 - scaleDiff09.multiplyByScaleFactor(h2xl1d);
-				//add it all up now, every operation checked
-				long result = scaleDiff18.multiplyByScaleFactorExact(h1xh2);
-				result = Checked.addLong(result, h1xl2d);
-				result = Checked.addLong(result, h2xl1d);
-				result = Checked.addLong(result, scaleDiff09.divideByScaleFactor(h1xl2r + h2xl1r + l1xl2d));
-				return result;
-			}
-		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+	private static final long multiplyChecked(ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2, ArithmeticStatus status) {
+		if (doesProductFitInLong(uDecimal1, uDecimal2)) {
+			return scaleMetrics2.divideByScaleFactor(uDecimal1 * uDecimal2);
+		}
+		
+		final int scale = scaleMetrics2.getScale();
+		final long result;
+		final boolean overflow;
+		if (scale <= 9) {
+			//use scale to split into 2 parts: i (integral) and f (fractional)
+			//with this scale, the low order product f1*f2 fits in a long
+			final long i1 = scaleMetrics2.divideByScaleFactor(uDecimal1);
+			final long i2 = scaleMetrics2.divideByScaleFactor(uDecimal2);
+			final long f1 = uDecimal1 - scaleMetrics2.multiplyByScaleFactor(i1);
+			final long f2 = uDecimal2 - scaleMetrics2.multiplyByScaleFactor(i2);
+			final long i1xf2 = i1 * f2;//cannot overflow
+			final long f1xf2 = scaleMetrics2.divideByScaleFactor(f1 * f2);//product fits for this scale, hence unchecked
+			//add it all up now, every operation checked
+			final long u1xi2 = uDecimal1 * i2;
+			final long sum = u1xi2 + i1xf2;
+			result = sum + f1xf2;
+			overflow = Checked.isMultiplyOverflow(uDecimal1, i2, u1xi2) | Checked.isAddOverflow(u1xi2, i1xf2, sum) | Checked.isAddOverflow(sum, f1xf2, result);
+		} else {
+			//use scale9 to split into 2 parts: h (high) and l (low)
+			final ScaleMetrics scaleDiff09 = Scales.getScaleMetrics(scale - 9);
+			final ScaleMetrics scaleDiff18 = Scales.getScaleMetrics(18 - scale);
+			final long h1 = SCALE9F.divideByScaleFactor(uDecimal1);
+			final long h2 = SCALE9F.divideByScaleFactor(uDecimal2);
+			final long l1 = uDecimal1 - SCALE9F.multiplyByScaleFactor(h1);
+			final long l2 = uDecimal2 - SCALE9F.multiplyByScaleFactor(h2);
+			final long h1xh2 = h1 * h2;//checked below
+			final long h1xl2 = h1 * l2;//cannot overflow
+			final long h2xl1 = h2 * l1;//cannot overflow
+			final long l1xl2d = SCALE9F.divideByScaleFactor(l1 * l2);//product fits for scale 9, hence unchecked
+			final long h1xl2d = scaleDiff09.divideByScaleFactor(h1xl2);
+			final long h2xl1d = scaleDiff09.divideByScaleFactor(h2xl1);
+			final long h1xl2r = h1xl2 - scaleDiff09.multiplyByScaleFactor(h1xl2d);
+			final long h2xl1r = h2xl1 - scaleDiff09.multiplyByScaleFactor(h2xl1d);
+			//add it all up now, every operation checked
+			final long h1xh2s = scaleDiff18.multiplyByScaleFactor(h1xh2);
+			final long sum1 = h1xh2s + h1xl2d;
+			final long sum2 = sum1 + h2xl1d;
+			final long rest = scaleDiff09.divideByScaleFactor(h1xl2r + h2xl1r + l1xl2d);
+			result = sum2 + rest;
+			overflow = Checked.isMultiplyOverflow(h1, h2, h1xh2) | !scaleDiff18.isValidIntegerValue(h1xh2)
+					| Checked.isAddOverflow(h1xh2s, h1xl2d, sum1) | Checked.isAddOverflow(sum1, h2xl1d, sum2)
+					| Checked.isAddOverflow(sum2, rest, result);
 		}
+		return overflow ? overflow(status, DecimalRounding.DOWN, scaleMetrics1, uDecimal1, scaleMetrics2, uDecimal2) : result;
 	}
 
 	/**
@@ -407,7 +413,7 @@ final class Mul {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
 		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
-		return multiplyChecked(rounding, scaleMetrics, uDecimal1, scaleMetrics, uDecimal2);
+		return multiplyChecked(rounding, scaleMetrics, uDecimal1, scaleMetrics, uDecimal2, null);
 	}
 
 	/**
@@ -439,7 +445,7 @@ final class Mul {
 			return Pow10.divideByPowerOf10Checked(arith, rounding, unscaledResult, scale);
 		}
 		final ScaleMetrics scaleMetrics2 = Scales.getScaleMetrics(scale);
-		return multiplyChecked(rounding, arith.getScaleMetrics(), uDecimal, scaleMetrics2, unscaled);
+		return multiplyChecked(rounding, arith.getScaleMetrics(), uDecimal, scaleMetrics2, unscaled, null);
 	}
 
 	/**
@@ -456,68 +462,174 @@ final class Mul {
 	 *            the scale metrics of the second factor
 	 * @param uDecimal2
 	 *            the second unscaled decimal factor
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception if an overflow occurs
 	 * @return the multiplication result with rounding and overflow checking
 	 */
-	private static final long multiplyChecked(DecimalRounding rounding, ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2) {
-		try {
-			if (doesProductFitInLong(uDecimal1, uDecimal2)) {
-				//product fits in long, just do it
-				return multiply32(rounding, uDecimal1, scaleMetrics2, uDecimal2);
-			}
+	private static final long multiplyChecked(DecimalRounding rounding, ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2, ArithmeticStatus status) {
+		final int scale = scaleMetrics2.getScale();
+		final long truncated;
+		final long remainder;
+		final boolean overflow;
+		if (doesProductFitInLong(uDecimal1, uDecimal2)) {
+			//product fits in long, just do it
+			final long u1xu2 = uDecimal1 * uDecimal2;
+			truncated = scaleMetrics2.divideByScaleFactor(u1xu2);
+			remainder = u1xu2 - scaleMetrics2.multiplyByScaleFactor(truncated);
+			overflow = false;
+		} else if (scale <= 9) {
+			//use scale to split into 2 parts: i (integral) and f (fractional)
+			//with this scale, the low order product f1*f2 fits in a long
+			final long i1 = scaleMetrics2.divideByScaleFactor(uDecimal1);
+			final long i2 = scaleMetrics2.divideByScaleFactor(uDecimal2);
+			final long f1 = uDecimal1 - scaleMetrics2.multiplyByScaleFactor(i1);
+			final long f2 = uDecimal2 - scaleMetrics2.multiplyByScaleFactor(i2);
+			final long i1xf2 = i1 * f2;//cannot overflow
+			final long f1xf2 = f1 * f2;//cannot overflow for this scale
+			final long f1xf2d = scaleMetrics2.divideByScaleFactor(f1xf2);
+			//add it all up now, every operation checked
+			final long u1xi2 = uDecimal1 * i2;
+			final long sum = u1xi2 + i1xf2;
+			truncated = sum + f1xf2d;
+			remainder = f1xf2 - scaleMetrics2.multiplyByScaleFactor(f1xf2d);
+			overflow = Checked.isMultiplyOverflow(uDecimal1, i2, u1xi2) | Checked.isAddOverflow(u1xi2, i1xf2, sum) | Checked.isAddOverflow(sum, f1xf2d, truncated);
+		} else {
+			//use scale9 to split into 2 parts: h (high) and l (low)
+			final ScaleMetrics scaleDiff09 = Scales.getScaleMetrics(scale - 9);
+			final ScaleMetrics scaleDiff18 = Scales.getScaleMetrics(18 - scale);
+			final long h1 = SCALE9F.divideByScaleFactor(uDecimal1);
+			final long h2 = SCALE9F.divideByScaleFactor(uDecimal2);
+			final long l1 = uDecimal1 - SCALE9F.multiplyByScaleFactor(h1);
+			final long l2 = uDecimal2 - SCALE9F.multiplyByScaleFactor(h2);
+			final long h1xl2 = h1 * l2;
+			final long h2xl1 = h2 * l1;
+			final long l1xl2 = l1 * l2;
+			final long l1xl2d = SCALE9F.divideByScaleFactor(l1xl2);
+			final long h1xl2d = scaleDiff09.divideByScaleFactor(h1xl2);
+			final long h2xl1d = scaleDiff09.divideByScaleFactor(h2xl1);
+			final long h1xl2r = h1xl2 - scaleDiff09.multiplyByScaleFactor(h1xl2d);
+			final long h2xl1r = h2xl1 - scaleDiff09.multiplyByScaleFactor(h2xl1d);
+			final long l1xl2r = l1xl2 - SCALE9F.multiplyByScaleFactor(l1xl2d);
+			final long h1xl2_h2xl1_l1xl1 = h1xl2r + h2xl1r + l1xl2d; 
+			final long h1xl2_h2xl1_l1xl1d = scaleDiff09.divideByScaleFactor(h1xl2_h2xl1_l1xl1); 
+			final long h1xl2_h2xl1_l1xl1r = h1xl2_h2xl1_l1xl1 - scaleDiff09.multiplyByScaleFactor(h1xl2_h2xl1_l1xl1d); 
+			
+			final long h1xh2 = h1 * h2;//checked below
+			//add it all up now, every operation checked
+			final long h1xh2s = scaleDiff18.multiplyByScaleFactor(h1xh2);
+			final long sum1 = h1xh2s + h1xl2d;
+			final long sum2 = sum1 + h2xl1d;
+			truncated = sum2 + h1xl2_h2xl1_l1xl1d;//inner sum cannot overflow
+			remainder = SCALE9F.multiplyByScaleFactor(h1xl2_h2xl1_l1xl1r) + l1xl2r;//cannot overflow
+			overflow = Checked.isMultiplyOverflow(h1, h2, h1xh2) | !scaleDiff18.isValidIntegerValue(h1xh2)
+					| Checked.isAddOverflow(h1xh2s, h1xl2d, sum1) | Checked.isAddOverflow(sum1, h2xl1d, sum2)
+					| Checked.isAddOverflow(sum2, h1xl2_h2xl1_l1xl1d, truncated);
+		}
+		if (remainder != 0 & status != null) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		if (overflow) {
+			return overflow(status, rounding, scaleMetrics1, uDecimal1, scaleMetrics2, uDecimal2);
+		}
+		final long inc = Rounding.calculateRoundingIncrement(rounding, truncated, remainder, scaleMetrics2.getScaleFactor());
+		final long result = truncated + inc;
+		return Checked.isAddOverflow(truncated, inc, result) ? overflow(status, rounding, scaleMetrics1, uDecimal1, scaleMetrics2, uDecimal2) : result;
+	}
 
-			final int scale = scaleMetrics2.getScale();
-			if (scale <= 9) {
-				//use scale to split into 2 parts: i (integral) and f (fractional)
-				//with this scale, the low order product f1*f2 fits in a long
-				final long i1 = scaleMetrics2.divideByScaleFactor(uDecimal1);
-				final long i2 = scaleMetrics2.divideByScaleFactor(uDecimal2);
-				final long f1 = uDecimal1 - scaleMetrics2.multiplyByScaleFactor(i1);
-				final long f2 = uDecimal2 - scaleMetrics2.multiplyByScaleFactor(i2);
-				final long i1xf2 = i1 * f2;//cannot overflow
-				final long f1xf2 = f1 * f2;//cannot overflow for this scale
-				final long f1xf2d = scaleMetrics2.divideByScaleFactor(f1xf2);
-				final long f1xf2r = f1xf2 - scaleMetrics2.multiplyByScaleFactor(f1xf2d);
-				//add it all up now, every operation checked
-				long result = Checked.multiplyLong(uDecimal1, i2);
-				result = Checked.addLong(result, i1xf2);
-				result = Checked.addLong(result, f1xf2d);
-				
-				return result + Rounding.calculateRoundingIncrement(rounding, result, f1xf2r, scaleMetrics2.getScaleFactor());
-			} else {
-				//use scale9 to split into 2 parts: h (high) and l (low)
-				final ScaleMetrics scaleDiff09 = Scales.getScaleMetrics(scale - 9);
-				final ScaleMetrics scaleDiff18 = Scales.getScaleMetrics(18 - scale);
-				final long h1 = SCALE9F.divideByScaleFactor(uDecimal1);
-				final long h2 = SCALE9F.divideByScaleFactor(uDecimal2);
-				final long l1 = uDecimal1 - SCALE9F.multiplyByScaleFactor(h1);
-				final long l2 = uDecimal2 - SCALE9F.multiplyByScaleFactor(h2);
-				final long h1xl2 = h1 * l2;
-				final long h2xl1 = h2 * l1;
-				final long l1xl2 = l1 * l2;
-				final long l1xl2d = SCALE9F.divideByScaleFactor(l1xl2);
-				final long h1xl2d = scaleDiff09.divideByScaleFactor(h1xl2);
-				final long h2xl1d = scaleDiff09.divideByScaleFactor(h2xl1);
-				final long h1xl2r = h1xl2 - scaleDiff09.multiplyByScaleFactor(h1xl2d);
-				final long h2xl1r = h2xl1 - scaleDiff09.multiplyByScaleFactor(h2xl1d);
-				final long l1xl2r = l1xl2 - SCALE9F.multiplyByScaleFactor(l1xl2d);
-				final long h1xl2_h2xl1_l1xl1 = h1xl2r + h2xl1r + l1xl2d; 
-				final long h1xl2_h2xl1_l1xl1d = scaleDiff09.divideByScaleFactor(h1xl2_h2xl1_l1xl1); 
-				final long h1xl2_h2xl1_l1xl1r = h1xl2_h2xl1_l1xl1 - scaleDiff09.multiplyByScaleFactorExact(h1xl2_h2xl1_l1xl1d); 
-				
-				final long h1xh2 = Checked.multiplyLong(h1, h2);//checked
-				//add it all up now, every operation checked
-				long result = scaleDiff18.multiplyByScaleFactorExact(h1xh2);
-				result = Checked.addLong(result, h1xl2d);
-				result = Checked.addLong(result, h2xl1d);
-				result = Checked.addLong(result, scaleDiff09.divideByScaleFactor(h1xl2r + h2xl1r + l1xl2d));//inner sum cannot overflow
-				
-				final long remainder = SCALE9F.multiplyByScaleFactor(h1xl2_h2xl1_l1xl1r) + l1xl2r;//cannot overflow
-				return Checked.addLong(result, Rounding.calculateRoundingIncrement(rounding, result, remainder, scaleMetrics2.getScaleFactor()));
+	/**
+	 * Calculates the multiple {@code uDecimal1 * uDecimal2 / scaleFactor}
+	 * with rounding reporting an overflow to the given {@code status} instead
+	 * of throwing an exception.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with both factors
+	 * @param rounding
+	 *            the rounding to apply for truncated decimals
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the
+	 *            truncated part of the product is non-zero
+	 * @return the multiplication result with rounding, the low order 64 bits
+	 *         of the rounded result if an overflow occurs
+	 */
+	public static final long multiply(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		return multiplyChecked(rounding, scaleMetrics, uDecimal1, scaleMetrics, uDecimal2, status);
+	}
+
+	/**
+	 * Calculates the multiple {@code uDecimal * unscaled / 10^scale} with
+	 * rounding reporting an overflow to the given {@code status} instead of
+	 * throwing an exception.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with {@code uDecimal}
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param uDecimal
+	 *            the unscaled decimal factor
+	 * @param unscaled
+	 *            the second unscaled factor
+	 * @param scale
+	 *            the scale of the second factor
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the
+	 *            truncated part of the product is non-zero
+	 * @return the multiplication result with rounding, the low order 64 bits
+	 *         of the rounded result if an overflow occurs
+	 */
+	public static final long multiplyByUnscaled(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimal, long unscaled, int scale, ArithmeticStatus status) {
+		if (scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be <=" + Scales.MAX_SCALE + " but was " + scale);
+		}
+		if (uDecimal == 0 | unscaled == 0) {
+			return 0;
+		} else if (scale <= 0) {
+			final long product = uDecimal * unscaled;
+			if (Checked.isMultiplyOverflow(uDecimal, unscaled, product) | scale < -18 | Pow10.isMultiplyByPowerOf10Overflow(product, -scale)) {
+				status.raise(ArithmeticStatus.OVERFLOW);
 			}
-		} catch (ArithmeticException e) {
-			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+			return Pow10.multiplyByPowerOf10(product, -scale);
+		}
+		return multiplyChecked(rounding, scaleMetrics, uDecimal, Scales.getScaleMetrics(scale), unscaled, status);
+	}
+
+	/**
+	 * Throws an overflow exception if {@code status} is null and raises the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag otherwise. In the latter
+	 * case the result of the unchecked multiplication is returned, that is,
+	 * the low order 64 bits of the rounded product.
+	 * 
+	 * @param status
+	 *            the status to raise the overflow flag, or null to throw an
+	 *            exception
+	 * @param rounding
+	 *            the rounding to apply when calculating the unchecked result
+	 * @param scaleMetrics1
+	 *            the scale matrics associated with the first factor
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param scaleMetrics2
+	 *            the scale matrics associated with the second factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @return the unchecked multiplication result if status is not null
+	 * @throws ArithmeticException
+	 *             if {@code status} is null
+	 */
+	private static final long overflow(ArithmeticStatus status, DecimalRounding rounding, ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2) {
+		if (status == null) {
+			throw Exceptions.newOverflowArithmeticException(scaleMetrics1.getScale(), uDecimal1, " * ", scaleMetrics2.getScale(), uDecimal2);
 		}
+		status.raise(ArithmeticStatus.OVERFLOW);
+		return scaleMetrics2.getArithmetic(rounding.getRoundingMode()).multiply(uDecimal1, uDecimal2);
 	}
 	
 	//no instances
@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+
+/**
+ * Arithmetic exception for overflows keeping the operands and formatting the
+ * message only when it is requested. Creating the exception hence avoids the
+ * string conversion of the operands which is often more expensive than the
+ * operation itself and pointless if the exception is caught and handled.
+ */
+final class OverflowArithmeticException extends ArithmeticException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int scale1;
+	private final long operand1;
+	private final String operator;
+	private final boolean binary;
+	private final int scale2;
+	private final long operand2;
+	private String message;
+
+	OverflowArithmeticException(int scale1, long operand1, String operator, int scale2, long operand2) {
+		this.scale1 = scale1;
+		this.operand1 = operand1;
+		this.operator = operator;
+		this.binary = true;
+		this.scale2 = scale2;
+		this.operand2 = operand2;
+	}
+
+	OverflowArithmeticException(String operator, int scale, long operand) {
+		this.scale1 = scale;
+		this.operand1 = operand;
+		this.operator = operator;
+		this.binary = false;
+		this.scale2 = 0;
+		this.operand2 = 0;
+	}
+
+	private static final String format(int scale, long unscaled) {
+		return scale == 0 ? String.valueOf(unscaled) : BigDecimal.valueOf(unscaled, scale).toPlainString();
+	}
+
+	@Override
+	public final String getMessage() {
+		if (message == null) {
+			message = binary ? "Overflow: " + format(scale1, operand1) + operator + format(scale2, operand2)
+					: "Overflow: " + operator + "(" + format(scale1, operand1) + ")";
+		}
+		return message;
+	}
+}
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncatedPart;
@@ -39,7 +40,7 @@ final class Pow {
 	 */
 	private static final long FLOOR_SQRT_MAX_LONG = 3037000499L;
 
-	private static final void checkExponent(int exponent) {
+	static final void checkExponent(int exponent) {
 		if (exponent < -999999999 || exponent > 999999999) {
 			throw new IllegalArgumentException("Exponent must be in [-999999999,999999999] but was: " + exponent);
 		}
@@ -118,7 +119,7 @@ final class Pow {
 
 	private static final long powLongChecked(DecimalRounding rounding, long lBase, int exponent) {
 		if (exponent >= 0) {
-			return powLongCheckedWithPositiveExponent(lBase, exponent);
+			return powLongCheckedWithPositiveExponent(lBase, exponent, null);
 		} else {
 			// result is 1/powered
 			// we have dealt with special cases above hence powered is neither
@@ -131,11 +132,6 @@ final class Pow {
 		}
 	}
 
-	private static final long powLongCheckedOrUnchecked(OverflowMode overflowMode, DecimalRounding rounding, long longBase, int exponent) {
-		return overflowMode == OverflowMode.UNCHECKED ? powLong(rounding, longBase, exponent)
-				: powLongChecked(rounding, longBase, exponent);
-	}
-
 	/**
 	 * Power function for checked or unchecked arithmetic. The result is within
 	 * 1 ULP for positive exponents.
@@ -151,6 +147,33 @@ final class Pow {
 	 * @return {@code uDecimalbase ^ exponent}
 	 */
 	public static final long pow(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalBase, int exponent) {
+		return pow(arith, rounding, uDecimalBase, exponent, null);
+	}
+
+	/**
+	 * Power function reporting overflow and rounding to the given status. The
+	 * result is within 1 ULP for positive exponents. If {@code status} is
+	 * null, overflows are handled according to the overflow mode of the
+	 * arithmetic. The special cases with exponent -1 and 2 are delegated to
+	 * {@link DecimalArithmetic#invert(long) invert} and
+	 * {@link DecimalArithmetic#square(long) square} of the given arithmetic.
+	 * 
+	 * @param arith
+	 *            the arithmetic
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param uDecimalBase
+	 *            the unscaled base
+	 * @param exponent
+	 *            the exponent
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} and {@link ArithmeticStatus#INEXACT INEXACT} flags,
+	 *            or null to apply the arithmetic's overflow mode
+	 * @return {@code uDecimalbase ^ exponent}, the truncated result if an
+	 *         overflow occurs and status is not null
+	 */
+	public static final long pow(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalBase, int exponent, ArithmeticStatus status) {
 		checkExponent(exponent);
 		final SpecialPowResult special = SpecialPowResult.getFor(arith, uDecimalBase, exponent);
 		if (special != null) {
@@ -164,27 +187,51 @@ final class Pow {
 		final long fraVal = uDecimalBase - scaleMetrics.multiplyByScaleFactor(intVal);
 		if (exponent >= 0 & fraVal == 0) {
 			// integer
-			final long result = powLongCheckedOrUnchecked(arith.getOverflowMode(), rounding, intVal, exponent);
-			return longToUnscaledCheckedOrUnchecekd(arith, uDecimalBase, exponent, result);
+			return powInteger(arith, uDecimalBase, exponent, intVal, exponent, status);
+		}
+		if (exponent < 0 & scaleMetrics.getScale() == 0) {
+			// special cases have been dealt with, hence 0 < abs(result) < 0.5
+			if (status != null) {
+				status.raise(ArithmeticStatus.INEXACT);
+			}
+			return powLong(rounding, uDecimalBase, exponent);
 		}
 		if (exponent < 0 & intVal == 0) {
 			final long one = scaleMetrics.getScaleFactor();
 			if ((one % fraVal) == 0) {
 				// inverted value is an integer
-				final long result = powLongCheckedOrUnchecked(arith.getOverflowMode(), rounding, one / fraVal,
-						-exponent);
-				return longToUnscaledCheckedOrUnchecekd(arith, uDecimalBase, exponent, result);
+				return powInteger(arith, uDecimalBase, exponent, one / fraVal, -exponent, status);
+			}
+		}
+		if (status == null & arith.getOverflowMode().isChecked()) {
+			final ArithmeticStatus overflow = Checked.clearedStatus();
+			final long result = powWithPrecision18(arith, rounding, intVal, fraVal, exponent, overflow);
+			if (overflow.isOverflow()) {
+				throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalBase, "^", 0, exponent);
 			}
+			return result;
+		}
+		return powWithPrecision18(arith, rounding, intVal, fraVal, exponent, status);
+	}
+
+	// PRECONDITION: n > 0, result is exact unless it overflows
+	private static final long powInteger(DecimalArithmetic arith, long uDecimalBase, int exponent, long lBase, int n, ArithmeticStatus status) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		if (status == null & !arith.getOverflowMode().isChecked()) {
+			return scaleMetrics.multiplyByScaleFactor(powLongWithPositiveExponent(lBase, n));
 		}
-		try {
-			return powWithPrecision18(arith, rounding, intVal, fraVal, exponent);
-		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalBase) + "^" + exponent);
+		final long result = powLongCheckedWithPositiveExponent(lBase, n, status);
+		if (!scaleMetrics.isValidIntegerValue(result)) {
+			if (status == null) {
+				throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimalBase, "^", 0, exponent);
+			}
+			status.raise(ArithmeticStatus.OVERFLOW);
 		}
+		return scaleMetrics.multiplyByScaleFactor(result);
 	}
 
 	// PRECONDITION: n != 0 and n in [-999999999,999999999]
-	private static final long powWithPrecision18(DecimalArithmetic arith, DecimalRounding rounding, long ival, long fval, int n) {
+	private static final long powWithPrecision18(DecimalArithmetic arith, DecimalRounding rounding, long ival, long fval, int n, ArithmeticStatus status) {
 		// eliminate sign
 		final int sgn = ((n & 0x1) != 0) ? Long.signum(ival | fval) : 1;
 		final long absInt = Math.abs(ival);
@@ -195,9 +242,34 @@ final class Pow {
 		final UnsignedDecimal9i36f lhs = UnsignedDecimal9i36f.THREAD_LOCAL_1.get().init(absInt, absFra,
 				arith.getScaleMetrics());
 
-		// 36 digit accumulator, initialized with one
-		final UnsignedDecimal9i36f acc = UnsignedDecimal9i36f.THREAD_LOCAL_2.get().initOne();
+		// 36 digit accumulator
+		final UnsignedDecimal9i36f acc = UnsignedDecimal9i36f.THREAD_LOCAL_2.get();
+		pow(acc, lhs, sgn, n, powRounding);
 
+		if (n < 0) {
+			return acc.getInverted(sgn, arith, rounding, powRounding, status);
+		}
+		return acc.getDecimal(sgn, arith, rounding, status);
+	}
+
+	/**
+	 * Assigns <tt>lhs<sup>abs(n)</sup></tt> to the given accumulator using
+	 * square and multiply with 36 digit precision.
+	 * 
+	 * @param acc
+	 *            the accumulator receiving the result, not the same as
+	 *            {@code lhs}
+	 * @param lhs
+	 *            the unsigned base value
+	 * @param sgn
+	 *            the sign of the final result, used for rounding
+	 * @param n
+	 *            the exponent, its sign is ignored
+	 * @param powRounding
+	 *            the rounding applied to intermediate products
+	 */
+	static final void pow(UnsignedDecimal9i36f acc, UnsignedDecimal9i36f lhs, int sgn, int n, DecimalRounding powRounding) {
+		acc.initOne();
 		// ready to carry out power calculation...
 		int mag = Math.abs(n);
 		boolean seenbit = false; // avoid squaring ONE
@@ -218,11 +290,6 @@ final class Pow {
 				acc.multiply(sgn, acc, powRounding); // acc=acc*acc [square]
 			}// else (!seenbit) no point in squaring ONE
 		}
-
-		if (n < 0) {
-			return acc.getInverted(sgn, arith, rounding, powRounding);
-		}
-		return acc.getDecimal(sgn, arith, rounding);
 	}
 
 	private static final long powLongWithPositiveExponent(long lBase, int exponent) {
@@ -247,7 +314,13 @@ final class Pow {
 		}
 	}
 
-	private static final long powLongCheckedWithPositiveExponent(long lBase, int exponent) {
+	/**
+	 * Calculates {@code lBase^exponent} for a positive exponent throwing an
+	 * exception if {@code status} is null and raising the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag otherwise if an overflow
+	 * occurs.
+	 */
+	private static final long powLongCheckedWithPositiveExponent(long lBase, int exponent, ArithmeticStatus status) {
 		assert(exponent > 0);
 		if (lBase >= -2 & lBase <= 2) {
 			switch ((int) lBase) {
@@ -259,33 +332,41 @@ final class Pow {
 				return ((exponent & 1) == 0) ? 1 : -1;
 			case 2:
 				if (exponent >= Long.SIZE - 1) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					return overflow(status, lBase, exponent);
 				}
 				return 1L << exponent;
 			case (-2):
 				if (exponent >= Long.SIZE) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					return overflow(status, lBase, exponent);
 				}
 				return ((exponent & 1) == 0) ? (1L << exponent) : (-1L << exponent);
 			default:
 				throw new AssertionError();
 			}
 		}
+		final long base = lBase;
+		final int n = exponent;
 		long accum = 1;
 		while (true) {
 			switch (exponent) {
 			case 0:
 				return accum;
-			case 1:
-				return Checked.multiplyLong(accum, lBase);
+			case 1: {
+				final long result = accum * lBase;
+				return Checked.isMultiplyOverflow(accum, lBase, result) ? overflow(status, base, n) : result;
+			}
 			default:
 				if ((exponent & 1) != 0) {
-					accum = Checked.multiplyLong(accum, lBase);
+					final long result = accum * lBase;
+					if (Checked.isMultiplyOverflow(accum, lBase, result)) {
+						return overflow(status, base, n);
+					}
+					accum = result;
 				}
 				exponent >>= 1;
 				if (exponent > 0) {
 					if (lBase > FLOOR_SQRT_MAX_LONG | lBase < -FLOOR_SQRT_MAX_LONG) {
-						throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+						return overflow(status, base, n);
 					}
 					lBase *= lBase;
 				}
@@ -293,15 +374,17 @@ final class Pow {
 		}
 	}
 
-	private static final long longToUnscaledCheckedOrUnchecekd(DecimalArithmetic arith, long uBase, int exponent, long longResult) {
-		if (!arith.getOverflowMode().isChecked()) {
-			return LongConversion.longToUnscaledUnchecked(arith.getScaleMetrics(), longResult);
-		}
-		try {
-			return LongConversion.longToUnscaled(arith.getScaleMetrics(), longResult);
-		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uBase) + "^" + exponent + "=" + longResult);
+	/**
+	 * Throws an overflow exception if {@code status} is null and raises the
+	 * {@link ArithmeticStatus#OVERFLOW OVERFLOW} flag otherwise. In the latter
+	 * case the low order 64 bits of {@code lBase^exponent} are returned.
+	 */
+	private static final long overflow(ArithmeticStatus status, long lBase, int exponent) {
+		if (status == null) {
+			throw Exceptions.newOverflowArithmeticException(0, lBase, "^", 0, exponent);
 		}
+		status.raise(ArithmeticStatus.OVERFLOW);
+		return powLongWithPositiveExponent(lBase, exponent);
 	}
 
 	// no instances
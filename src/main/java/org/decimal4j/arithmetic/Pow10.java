@@ -122,6 +122,24 @@ final class Pow10 {
 		}
 	}
 
+	/**
+	 * Returns true if the multiplication of the given value by a power of 10
+	 * overflows. No overflow can occur for non-positive {@code n}.
+	 * 
+	 * @param uDecimal
+	 *            the value to multiply
+	 * @param n
+	 *            the power-ten exponent
+	 * @return true if <tt>uDecimal * 10<sup>n</sup></tt> is out of the long
+	 *         range
+	 */
+	public static final boolean isMultiplyByPowerOf10Overflow(final long uDecimal, final int n) {
+		if (uDecimal == 0 | n <= 0) {
+			return false;
+		}
+		return n > 18 || !Scales.getScaleMetrics(n).isValidIntegerValue(uDecimal);
+	}
+
 	/**
 	 * Calculates the multiple by a power of 10 truncating the result if
 	 * necessary for negative {@code n}. An exception is thrown if an overflow
@@ -145,7 +163,7 @@ final class Pow10 {
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " * 10^", 0, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -187,7 +205,7 @@ final class Pow10 {
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " * 10^", 0, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -337,7 +355,7 @@ final class Pow10 {
 				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
 				return scaleMetrics.multiplyByScaleFactorExact(uDecimal);
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " / 10^", 0, n);
 		}
 	}
 
@@ -386,7 +404,7 @@ final class Pow10 {
 			return truncated + inc;
 		} else {
 			if (n < -18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+				throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " / 10^", 0, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
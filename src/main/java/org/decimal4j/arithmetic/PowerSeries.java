@@ -0,0 +1,296 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Generator for the consecutive powers of a Decimal base value, for instance
+ * the compounding factors <tt>(1+r)<sup>1</sup>, (1+r)<sup>2</sup>, ...,
+ * (1+r)<sup>N</sup></tt> of an interest schedule or the discount factors
+ * <tt>(1+r)<sup>-1</sup>, (1+r)<sup>-2</sup>, ...</tt> of a present value
+ * calculation.
+ * <p>
+ * Every returned value is identical to the result of
+ * {@link DecimalArithmetic#pow(long, int)} for the same base and exponent,
+ * including rounding and overflow handling. {@code pow} uses square and
+ * multiply with 36 digits precision, that is, it evaluates the powers of the
+ * base for all leading bits of the exponent. The generator keeps these
+ * intermediate powers between steps and only recalculates those whose bits
+ * have changed, hence most further powers cost one or two multiplications
+ * instead of a full {@code pow} calculation.
+ * <p>
+ * The absolute value of the exponent always grows: an {@link #ascending}
+ * series starts with a non-negative exponent and increments it, a
+ * {@link #descending} series starts with a non-positive exponent and
+ * decrements it. Instances are not thread safe; apart from construction the
+ * generator allocates no objects.
+ */
+public final class PowerSeries {
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final DecimalRounding powRounding;
+	private final long uDecimalBase;
+	private final int step;
+	private final boolean powDirect;
+	private final UnsignedDecimal9i36f base = new UnsignedDecimal9i36f();
+	private final UnsignedDecimal9i36f acc = new UnsignedDecimal9i36f();
+	private final Powers positivePowers;
+	private final Powers negativePowers;
+	private final ArithmeticStatus status = new ArithmeticStatus();
+	private int exponent;
+
+	private PowerSeries(DecimalArithmetic arithmetic, long uDecimalBase, int firstExponent, int step) {
+		Pow.checkExponent(firstExponent);
+		this.arithmetic = arithmetic;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.powRounding = step > 0 ? rounding : RoundingInverse.RECIPROCAL.invert(rounding);
+		this.uDecimalBase = uDecimalBase;
+		this.step = step;
+		this.exponent = firstExponent;
+		final ScaleMetrics scaleMetrics = arithmetic.getScaleMetrics();
+		final long intVal = scaleMetrics.divideByScaleFactor(uDecimalBase);
+		final long fraVal = uDecimalBase - scaleMetrics.multiplyByScaleFactor(intVal);
+		final long one = scaleMetrics.getScaleFactor();
+		// same cases as in Pow.pow(..) which do not use 36 digits precision
+		if (step > 0) {
+			this.powDirect = fraVal == 0;
+		} else {
+			this.powDirect = scaleMetrics.getScale() == 0 || (intVal == 0 && (fraVal == 0 || (one % fraVal) == 0));
+		}
+		if (powDirect) {
+			this.positivePowers = null;
+			this.negativePowers = null;
+		} else {
+			base.init(Math.abs(intVal), Math.abs(fraVal), scaleMetrics);
+			this.positivePowers = new Powers(base);
+			this.negativePowers = uDecimalBase < 0 ? new Powers(base) : null;
+		}
+	}
+
+	/**
+	 * Returns a series with the powers <tt>uDecimalBase<sup>n</sup></tt> for
+	 * {@code n = firstExponent, firstExponent+1, ...}.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode of
+	 *            base and result values
+	 * @param uDecimalBase
+	 *            the unscaled decimal base value
+	 * @param firstExponent
+	 *            the exponent of the first power returned by {@link #next()},
+	 *            not negative
+	 * @return a new power series generator
+	 * @throws IllegalArgumentException
+	 *             if {@code firstExponent} is negative or larger than
+	 *             {@code 999999999}
+	 */
+	public static final PowerSeries ascending(DecimalArithmetic arithmetic, long uDecimalBase, int firstExponent) {
+		if (firstExponent < 0) {
+			throw new IllegalArgumentException("First exponent of ascending series must not be negative: " + firstExponent);
+		}
+		return new PowerSeries(arithmetic, uDecimalBase, firstExponent, 1);
+	}
+
+	/**
+	 * Returns a series with the powers <tt>uDecimalBase<sup>n</sup></tt> for
+	 * {@code n = firstExponent, firstExponent-1, ...}, for instance the
+	 * discount factors <tt>(1+r)<sup>-1</sup>, (1+r)<sup>-2</sup>, ...</tt>
+	 * with {@code firstExponent=-1}.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode of
+	 *            base and result values
+	 * @param uDecimalBase
+	 *            the unscaled decimal base value
+	 * @param firstExponent
+	 *            the exponent of the first power returned by {@link #next()},
+	 *            not positive
+	 * @return a new power series generator
+	 * @throws IllegalArgumentException
+	 *             if {@code firstExponent} is positive or smaller than
+	 *             {@code -999999999}
+	 */
+	public static final PowerSeries descending(DecimalArithmetic arithmetic, long uDecimalBase, int firstExponent) {
+		if (firstExponent > 0) {
+			throw new IllegalArgumentException("First exponent of descending series must not be positive: " + firstExponent);
+		}
+		return new PowerSeries(arithmetic, uDecimalBase, firstExponent, -1);
+	}
+
+	/**
+	 * Returns the arithmetic of base and result values.
+	 * 
+	 * @return the arithmetic defining scale, rounding and overflow mode
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled base value of this power series.
+	 * 
+	 * @return the unscaled decimal base value
+	 */
+	public final long getBase() {
+		return uDecimalBase;
+	}
+
+	/**
+	 * Returns the exponent of the power returned by the next invocation of
+	 * {@link #next()}.
+	 * 
+	 * @return the next exponent
+	 */
+	public final int getExponent() {
+		return exponent;
+	}
+
+	/**
+	 * Returns the unscaled power <tt>base<sup>exponent</sup></tt> for the
+	 * current {@link #getExponent() exponent} and advances the exponent by one
+	 * step. If an exception is thrown the series is not advanced.
+	 * 
+	 * @return <tt>round(base<sup>exponent</sup>)</tt>
+	 * @throws IllegalArgumentException
+	 *             if the exponent has exceeded the range
+	 *             {@code [-999999999, 999999999]}
+	 * @throws ArithmeticException
+	 *             if the base is zero and the exponent is negative, if the
+	 *             rounding mode is UNNECESSARY and rounding is necessary or if
+	 *             an overflow occurs and the arithmetic's overflow mode is set
+	 *             to throw an exception
+	 */
+	public final long next() {
+		final long power = current();
+		exponent += step;
+		return power;
+	}
+
+	/**
+	 * Assigns the next {@code length} unscaled powers to the {@code target}
+	 * array starting at {@code offset}. This is equivalent to invoking
+	 * {@link #next()} {@code length} times. If an exception is thrown, the
+	 * series is advanced to the exponent that caused the exception and
+	 * elements before that exponent have been assigned.
+	 * 
+	 * @param target
+	 *            the array receiving the unscaled powers
+	 * @param offset
+	 *            the index of the first element to assign
+	 * @param length
+	 *            the number of powers to assign
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if
+	 *             {@code offset+length} exceeds the target array length
+	 * @throws IllegalArgumentException
+	 *             if the exponent exceeds the range
+	 *             {@code [-999999999, 999999999]}
+	 * @throws ArithmeticException
+	 *             if the base is zero and an exponent is negative, if the
+	 *             rounding mode is UNNECESSARY and rounding is necessary or if
+	 *             an overflow occurs and the arithmetic's overflow mode is set
+	 *             to throw an exception
+	 */
+	public final void next(long[] target, int offset, int length) {
+		if (offset < 0 | length < 0 | offset > target.length - length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", target.length=" + target.length);
+		}
+		for (int i = 0; i < length; i++) {
+			target[offset + i] = next();
+		}
+	}
+
+	private final long current() {
+		final int n = exponent;
+		if (powDirect || SpecialPowResult.getFor(arithmetic, uDecimalBase, n) != null) {
+			return arithmetic.pow(uDecimalBase, n);
+		}
+		Pow.checkExponent(n);
+		final int sgn = sgn(n);
+		acc.init((sgn > 0 ? positivePowers : negativePowers).get(Math.abs(n), sgn, base, powRounding));
+		status.reset();
+		final long power = n > 0 ? acc.getDecimal(sgn, arithmetic, rounding, status) : acc.getInverted(sgn, arithmetic, rounding, powRounding, status);
+		return status.isOverflow() ? overflow(n) : power;
+	}
+
+	//leaves it to pow to saturate, throw or return the boundary value -2^63
+	//which cannot be represented by the unsigned accumulator
+	private final long overflow(int n) {
+		return arithmetic.pow(uDecimalBase, n);
+	}
+
+	//sign of base^n
+	private final int sgn(int n) {
+		return uDecimalBase < 0 & (n & 0x1) != 0 ? -1 : 1;
+	}
+
+	@Override
+	public final String toString() {
+		return "PowerSeries[base=" + arithmetic.toString(uDecimalBase) + ", exponent=" + exponent + "]";
+	}
+
+	/**
+	 * The powers of the base for the leading bits of the exponent as
+	 * calculated by {@link Pow#pow(UnsignedDecimal9i36f, UnsignedDecimal9i36f, int, int, DecimalRounding)}
+	 * for one sign of the result; the sign affects the rounding of the
+	 * intermediate products.
+	 */
+	private static final class Powers {
+		//NOTE: the exponent has at most 30 bits
+		private final UnsignedDecimal9i36f[] powers = new UnsignedDecimal9i36f[30];
+		private final int[] prefixes = new int[30];
+
+		Powers(UnsignedDecimal9i36f base) {
+			for (int i = 0; i < powers.length; i++) {
+				powers[i] = new UnsignedDecimal9i36f();
+			}
+			powers[0].init(base);
+			prefixes[0] = 1;
+		}
+
+		//PRECONDITION: 0 < n <= 999999999
+		UnsignedDecimal9i36f get(int n, int sgn, UnsignedDecimal9i36f base, DecimalRounding powRounding) {
+			final int top = 31 - Integer.numberOfLeadingZeros(n);
+			int i = 1;
+			while (i <= top && prefixes[i] == n >>> (top - i)) {
+				i++;
+			}
+			for (; i <= top; i++) {
+				final int prefix = n >>> (top - i);
+				final UnsignedDecimal9i36f power = powers[i].init(powers[i - 1]);
+				power.multiply(sgn, power, powRounding);// square
+				if ((prefix & 0x1) != 0) {
+					power.multiply(sgn, base, powRounding);
+				}
+				prefixes[i] = prefix;
+			}
+			return powers[top];
+		}
+	}
+}
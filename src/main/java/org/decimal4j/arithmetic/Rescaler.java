@@ -0,0 +1,273 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Converts unscaled decimal values from one scale to another, for instance
+ * columns of scale 8 to scale 2 for reporting or of scale 4 to scale 10. The
+ * result is the same as for {@link DecimalArithmetic#fromUnscaled(long, int)}
+ * or {@link DecimalArithmetic#toUnscaled(long, int)} depending on the factory
+ * method used to create the rescaler.
+ * <p>
+ * The scale difference, the power of ten factor and the rounding are
+ * resolved once when the rescaler is created. Scaling up multiplies with the
+ * factor after comparing the value against a precomputed bound; scaling down
+ * divides by the factor and cannot overflow. Values exceeding the bound and
+ * scale differences larger than 18 are delegated to the arithmetic. Instances
+ * are immutable and thread safe.
+ */
+public final class Rescaler {
+
+	private final DecimalArithmetic arithmetic;
+	private final int sourceScale;
+	private final int targetScale;
+	private final boolean toArithmeticScale;
+	private final DecimalRounding rounding;
+	private final int scaleDiff;
+	private final long factor;// 0 if abs(scaleDiff) > 18
+	private final long bound;// largest value that can be scaled up without overflow
+
+	private Rescaler(DecimalArithmetic arithmetic, int sourceScale, int targetScale, boolean toArithmeticScale) {
+		this.arithmetic = arithmetic;
+		this.sourceScale = sourceScale;
+		this.targetScale = targetScale;
+		this.toArithmeticScale = toArithmeticScale;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.scaleDiff = getScaleDiff(targetScale, sourceScale);
+		final int absDiff = Math.abs(scaleDiff);
+		this.factor = absDiff <= Scales.MAX_SCALE ? Scales.getScaleMetrics(absDiff).getScaleFactor() : 0;
+		this.bound = factor == 0 ? 0 : Long.MAX_VALUE / factor;
+	}
+
+	/**
+	 * Returns a rescaler converting unscaled values of the given source scale
+	 * into unscaled values of the scale of the specified arithmetic. Rescaled
+	 * values are the same as those returned by
+	 * {@link DecimalArithmetic#fromUnscaled(long, int)
+	 * arithmetic.fromUnscaled(unscaledValue, sourceScale)}.
+	 * 
+	 * @param sourceScale
+	 *            the scale of the values to convert
+	 * @param arithmetic
+	 *            the arithmetic defining target scale and rounding mode
+	 * @return a rescaler from {@code sourceScale} to the arithmetic's scale
+	 * @throws IllegalArgumentException
+	 *             if the scale difference is out of integer range
+	 */
+	public static final Rescaler fromScale(int sourceScale, DecimalArithmetic arithmetic) {
+		return new Rescaler(arithmetic, sourceScale, arithmetic.getScale(), true);
+	}
+
+	/**
+	 * Returns a rescaler converting unscaled values of the scale of the
+	 * specified arithmetic into unscaled values of the given target scale.
+	 * Rescaled values are the same as those returned by
+	 * {@link DecimalArithmetic#toUnscaled(long, int)
+	 * arithmetic.toUnscaled(uDecimal, targetScale)}.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining source scale and rounding mode
+	 * @param targetScale
+	 *            the scale of the converted values
+	 * @return a rescaler from the arithmetic's scale to {@code targetScale}
+	 * @throws IllegalArgumentException
+	 *             if the scale difference is out of integer range
+	 */
+	public static final Rescaler toScale(DecimalArithmetic arithmetic, int targetScale) {
+		return new Rescaler(arithmetic, arithmetic.getScale(), targetScale, false);
+	}
+
+	/**
+	 * Returns the arithmetic defining rounding mode and either source or
+	 * target scale.
+	 * 
+	 * @return the arithmetic of this rescaler
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the scale of the values passed to this rescaler.
+	 * 
+	 * @return the source scale
+	 */
+	public final int getSourceScale() {
+		return sourceScale;
+	}
+
+	/**
+	 * Returns the scale of the values returned by this rescaler.
+	 * 
+	 * @return the target scale
+	 */
+	public final int getTargetScale() {
+		return targetScale;
+	}
+
+	/**
+	 * Converts the specified unscaled value from source to target scale.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value with the source scale
+	 * @return the unscaled value with the target scale, rounded if necessary
+	 * @throws IllegalArgumentException
+	 *             if the value is too large to be represented with the target
+	 *             scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final long rescale(long unscaledValue) {
+		if (scaleDiff == 0) {
+			return unscaledValue;
+		}
+		if (scaleDiff > 0) {
+			return scaleUp(unscaledValue);
+		}
+		if (factor == 0) {
+			return rescaleByArithmetic(unscaledValue);
+		}
+		return rounding == DecimalRounding.DOWN ? unscaledValue / factor : scaleDown(unscaledValue);
+	}
+
+	/**
+	 * Converts the specified range of values in place from source to target
+	 * scale. If an exception is thrown, the values before the failing element
+	 * have been converted.
+	 * 
+	 * @param values
+	 *            the unscaled values to convert
+	 * @param offset
+	 *            the index of the first value
+	 * @param length
+	 *            the number of values to convert
+	 * @throws IndexOutOfBoundsException
+	 *             if offset or length is negative or if the range exceeds the
+	 *             array bounds
+	 * @throws IllegalArgumentException
+	 *             if a value is too large to be represented with the target
+	 *             scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final void rescale(long[] values, int offset, int length) {
+		rescale(values, offset, values, offset, length);
+	}
+
+	/**
+	 * Converts {@code length} values of the {@code src} array starting at
+	 * {@code srcOffset} from source to target scale and assigns the results to
+	 * the {@code dst} array starting at {@code dstOffset}. Source and
+	 * destination can be the same array to convert the values in place. If an
+	 * exception is thrown, the values before the failing element have been
+	 * assigned.
+	 * 
+	 * @param src
+	 *            the unscaled values with the source scale
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the array receiving the values with the target scale
+	 * @param dstOffset
+	 *            the index of the first result in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @throws IndexOutOfBoundsException
+	 *             if an offset or the length is negative or if a range
+	 *             exceeds the array bounds
+	 * @throws IllegalArgumentException
+	 *             if a value is too large to be represented with the target
+	 *             scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final void rescale(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+		checkRange("src", src, srcOffset, length);
+		checkRange("dst", dst, dstOffset, length);
+		if (scaleDiff == 0) {
+			System.arraycopy(src, srcOffset, dst, dstOffset, length);
+		} else if (scaleDiff > 0) {
+			for (int i = 0; i < length; i++) {
+				dst[dstOffset + i] = scaleUp(src[srcOffset + i]);
+			}
+		} else if (factor == 0) {
+			for (int i = 0; i < length; i++) {
+				dst[dstOffset + i] = rescaleByArithmetic(src[srcOffset + i]);
+			}
+		} else if (rounding == DecimalRounding.DOWN) {
+			for (int i = 0; i < length; i++) {
+				dst[dstOffset + i] = src[srcOffset + i] / factor;
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				dst[dstOffset + i] = scaleDown(src[srcOffset + i]);
+			}
+		}
+	}
+
+	private final long scaleUp(long unscaledValue) {
+		if (unscaledValue > bound | unscaledValue < -bound) {
+			//throws the overflow exception unless the value is representable after all
+			return rescaleByArithmetic(unscaledValue);
+		}
+		return unscaledValue * factor;
+	}
+
+	private final long scaleDown(long unscaledValue) {
+		final long truncated = unscaledValue / factor;
+		final long remainder = unscaledValue - truncated * factor;
+		return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, factor);
+	}
+
+	private final long rescaleByArithmetic(long unscaledValue) {
+		return toArithmeticScale ? arithmetic.fromUnscaled(unscaledValue, sourceScale) : arithmetic.toUnscaled(unscaledValue, targetScale);
+	}
+
+	private static final int getScaleDiff(int targetScale, int sourceScale) {
+		final int diffScale = targetScale - sourceScale;
+		if (!Checked.isSubtractOverflow(targetScale, sourceScale, diffScale)) {
+			return diffScale;
+		}
+		throw new IllegalArgumentException("Cannot convert from scale " + sourceScale + " to " + targetScale
+				+ " (scale difference is out of integer range)");
+	}
+
+	private static final void checkRange(String name, long[] array, int offset, int length) {
+		if (offset < 0 | length < 0 | offset > array.length - length) {
+			throw new IndexOutOfBoundsException(name + ": offset=" + offset + ", length=" + length + ", array.length=" + array.length);
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return "Rescaler[sourceScale=" + sourceScale + ", targetScale=" + targetScale + ", arithmetic=" + arithmetic + "]";
+	}
+}
@@ -118,6 +118,71 @@ final class Round {
 																													// overflow
 	}
 
+	/**
+	 * Rounds the specified value to a multiple of the given increment.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param increment
+	 *            the unscaled decimal increment to round to
+	 * @return <tt>round(uDecimal / increment) * increment</tt>
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 */
+	public static final long roundToIncrement(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, long increment) {
+		checkIncrement(arith, increment);
+		return roundToIncrement(arith, rounding, uDecimal, increment, uDecimal / increment);
+	}
+
+	/**
+	 * Rounds the specified value to a multiple of the given increment given
+	 * the truncated quotient {@code uDecimal / increment}.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param increment
+	 *            the positive unscaled decimal increment to round to
+	 * @param quotient
+	 *            the quotient {@code uDecimal / increment} rounded DOWN
+	 * @return <tt>round(uDecimal / increment) * increment</tt>
+	 */
+	static final long roundToIncrement(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, long increment, long quotient) {
+		final long truncatedDigits = uDecimal - quotient * increment;
+		if (truncatedDigits == 0) {
+			return uDecimal;
+		}
+		final int roundingInc = Rounding.calculateRoundingIncrementForDivision(rounding, quotient, truncatedDigits, increment);
+		final long truncatedValue = uDecimal - truncatedDigits;
+		if (roundingInc == 0) {
+			return truncatedValue;
+		}
+		return arith.add(truncatedValue, roundingInc > 0 ? increment : -increment);// add via arith to check for overflow
+	}
+
+	/**
+	 * Throws an exception if the given increment is not positive.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the increment
+	 * @param increment
+	 *            the unscaled decimal increment to check
+	 * @throws IllegalArgumentException
+	 *             if {@code increment} is not positive
+	 */
+	static final void checkIncrement(DecimalArithmetic arith, long increment) {
+		if (increment <= 0) {
+			throw new IllegalArgumentException("Increment must be positive: " + arith.toString(increment));
+		}
+	}
+
 	// no instances
 	private Round() {
 		super();
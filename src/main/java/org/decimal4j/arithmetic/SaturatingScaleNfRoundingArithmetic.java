@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Arithmetic implementation with rounding for scales other than zero. If an
+ * operation leads to an overflow, the result is clamped to the largest or
+ * smallest representable value.
+ */
+public final class SaturatingScaleNfRoundingArithmetic extends AbstractSaturatingArithmetic {
+
+	/**
+	 * Constructor for decimal arithmetic with given scale, rounding mode and
+	 * {@link OverflowMode#SATURATING} overflow mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics for this decimal arithmetic
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public SaturatingScaleNfRoundingArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this(scaleMetrics, DecimalRounding.valueOf(roundingMode));
+	}
+
+	/**
+	 * Constructor for decimal arithmetic with given scale, rounding mode and
+	 * {@link OverflowMode#SATURATING} overflow mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics for this decimal arithmetic
+	 * @param rounding
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public SaturatingScaleNfRoundingArithmetic(ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		super(new CheckedScaleNfRoundingArithmetic(scaleMetrics, rounding), new UncheckedScaleNfRoundingArithmetic(scaleMetrics, rounding));
+	}
+}
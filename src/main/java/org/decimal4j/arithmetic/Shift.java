@@ -130,8 +130,7 @@ final class Shift {
 					}
 				}
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " << " + positions + " = "
-					+ arith.toString(uDecimal << positions));
+			throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " << ", 0, positions);
 		}
 		// one shift missing for (-Integer.MIN_VALUE) but does not matter as
 		// result is always between 0 (incl) and 0.5 (excl)
@@ -169,8 +168,7 @@ final class Shift {
 				// ignore, throw again below with correct shift direction
 			}
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " >> " + positions + " = "
-				+ arith.toString(uDecimal >> positions));
+		throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " >> ", 0, positions);
 	}
 
 	// no instances
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.TruncatedPart;
 
@@ -132,6 +133,29 @@ final class Sqrt {
 	 *             if {@code uDecimal < 0}
 	 */
 	public static final long sqrt(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal) {
+		return sqrt(arith, rounding, uDecimal, null);
+	}
+
+	/**
+	 * Calculates the square root of the specified unscaled decimal value
+	 * rounding the result if necessary and raising the
+	 * {@link ArithmeticStatus#INEXACT INEXACT} flag on the given status if the
+	 * root is not exact.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param status
+	 *            the status to raise the inexact flag, or null if rounding
+	 *            need not be reported
+	 * @return <tt>round(uDecimal)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code uDecimal < 0}
+	 */
+	public static final long sqrt(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, ArithmeticStatus status) {
 		if (uDecimal < 0) {
 			throw new ArithmeticException("Square root of a negative value: " + arith.toString(uDecimal));
 		}
@@ -205,6 +229,9 @@ final class Sqrt {
 
 		// round result if necessary
 		final long truncated = root >>> 1;
+		if (rem != 0 & status != null) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
 		if (rem == 0 | rounding == DecimalRounding.DOWN | rounding == DecimalRounding.FLOOR) {
 			return truncated;
 		}
@@ -172,7 +172,7 @@ final class Square {
 				final long fxf = scaleMetrics.divideByScaleFactor(f * f);// unchecked:ok
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw Exceptions.newOverflowArithmeticException(0, ixf, " << ", 0, 1);
 				final long ixfx2 = ixf << 1;
 				// add it all up now, every operation checked
 				long result = scaleMetrics.multiplyByScaleFactorExact(ixi);
@@ -193,7 +193,7 @@ final class Square {
 				final long hxlr = hxl - scaleDiff09.multiplyByScaleFactor(hxld);
 				// check whether we can multiply hxld by 2
 				if (hxld < 0)
-					throw new ArithmeticException("Overflow: " + hxld + "<<1");
+					throw Exceptions.newOverflowArithmeticException(0, hxld, " << ", 0, 1);
 				final long hxldx2 = hxld << 1;
 				// add it all up now, every operation checked
 				long result = scaleDiff18.multiplyByScaleFactorExact(hxh);
@@ -238,7 +238,7 @@ final class Square {
 				final long ixf = i * f;// cannot overflow
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw Exceptions.newOverflowArithmeticException(0, ixf, " << ", 0, 1);
 				final long ixfx2 = ixf << 1;
 
 				final long fxfd = scaleMetrics.divideByScaleFactor(fxf);
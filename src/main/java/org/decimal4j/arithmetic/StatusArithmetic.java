@@ -0,0 +1,609 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Decorator for a {@link DecimalArithmetic} performing all operations in
+ * {@link OverflowMode#UNCHECKED UNCHECKED} overflow mode and raising sticky
+ * flags on an {@link ArithmeticStatus} instead of throwing exceptions:
+ * <ul>
+ * <li>{@link ArithmeticStatus#OVERFLOW OVERFLOW} if the exact result does
+ * not fit into a long, the truncated result is returned in this case</li>
+ * <li>{@link ArithmeticStatus#INEXACT INEXACT} if the result was rounded</li>
+ * <li>{@link ArithmeticStatus#DIVISION_BY_ZERO DIVISION_BY_ZERO} if the
+ * divisor is zero, the result is zero in this case</li>
+ * </ul>
+ * Scale and rounding mode are taken from the decorated arithmetic, its
+ * overflow mode is ignored. Arithmetic derived from this instance report to
+ * the same status. Necessary rounding with
+ * {@link RoundingMode#UNNECESSARY UNNECESSARY} rounding mode and the square
+ * root of a negative value still throw an {@link ArithmeticException}.
+ * Conversion methods such as {@link #fromDouble(double)} or
+ * {@link #parse(String)} are not affected by the decoration and do not
+ * raise any flags, except for {@link #fromLong(long)} which reports an
+ * overflow.
+ * <p>
+ * Addition, subtraction, negation, power of ten and shift operations detect
+ * overflow and rounding inline. Multiplication, division, square root,
+ * powers, exponential function and logarithms report overflow and rounding
+ * from a single evaluation of the respective kernel; rounding is detected
+ * from the truncated part computed by the kernel. No exceptions are thrown
+ * and caught internally.
+ * <p>
+ * Instances are not thread safe as the status is not.
+ */
+public final class StatusArithmetic implements DecimalArithmetic {
+
+	private final DecimalArithmetic unchecked;
+	private final DecimalRounding rounding;
+	private final ArithmeticStatus status;
+
+	/**
+	 * Creates a new arithmetic decorating the given {@code arithmetic} and
+	 * raising flags on the specified {@code status}.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode
+	 * @param status
+	 *            the status receiving the flags
+	 */
+	public StatusArithmetic(DecimalArithmetic arithmetic, ArithmeticStatus status) {
+		final DecimalArithmetic arith = arithmetic instanceof StatusArithmetic ? ((StatusArithmetic) arithmetic).unchecked : arithmetic;
+		final RoundingMode roundingMode = arith.getRoundingMode();
+		this.unchecked = arith.deriveArithmetic(roundingMode, OverflowMode.UNCHECKED);
+		this.rounding = DecimalRounding.valueOf(roundingMode);
+		this.status = Objects.requireNonNull(status, "status cannot be null");
+	}
+
+	/**
+	 * Returns the status receiving the flags raised by this arithmetic.
+	 * 
+	 * @return the status of this arithmetic
+	 */
+	public final ArithmeticStatus getStatus() {
+		return status;
+	}
+
+	private final StatusArithmetic decorate(DecimalArithmetic arith) {
+		return arith == unchecked ? this : new StatusArithmetic(arith, status);
+	}
+
+	private final long overflow(long result) {
+		status.raise(ArithmeticStatus.OVERFLOW);
+		return result;
+	}
+
+	private final long divisionByZero() {
+		status.raise(ArithmeticStatus.DIVISION_BY_ZERO);
+		return 0;
+	}
+
+	private static final boolean isDivisible(ScaleMetrics scaleMetrics, long value) {
+		return scaleMetrics.multiplyByScaleFactor(scaleMetrics.divideByScaleFactor(value)) == value;
+	}
+
+	/**
+	 * Returns {@code uDecimal + value * 10^n} for {@code n > 0}; the product
+	 * may overflow while the sum is still valid if the signs are opposite,
+	 * hence half of the product is added twice which is exact as {@code 10^n}
+	 * is even.
+	 */
+	private final long addPowerOf10Multiple(long uDecimal, long value, int n) {
+		if (n > 19) {
+			//value != 0, hence |value * 10^n| >= 10^20
+			return overflow(uDecimal + Pow10.multiplyByPowerOf10(value, n));
+		}
+		final long halfPow10 = 5 * Scales.getScaleMetrics(n - 1).getScaleFactor();
+		final long half = value * halfPow10;
+		final long partial = uDecimal + half;
+		final long result = partial + half;
+		if (Checked.isMultiplyOverflow(value, halfPow10, half) | Checked.isAddOverflow(uDecimal, half, partial) | Checked.isAddOverflow(partial, half, result)) {
+			return overflow(result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns {@code uDecimal - value * 10^n} for {@code n > 0}, see
+	 * {@link #addPowerOf10Multiple(long, long, int)}.
+	 */
+	private final long subtractPowerOf10Multiple(long uDecimal, long value, int n) {
+		if (n > 19) {
+			return overflow(uDecimal - Pow10.multiplyByPowerOf10(value, n));
+		}
+		final long halfPow10 = 5 * Scales.getScaleMetrics(n - 1).getScaleFactor();
+		final long half = value * halfPow10;
+		final long partial = uDecimal - half;
+		final long result = partial - half;
+		if (Checked.isMultiplyOverflow(value, halfPow10, half) | Checked.isSubtractOverflow(uDecimal, half, partial) | Checked.isSubtractOverflow(partial, half, result)) {
+			return overflow(result);
+		}
+		return result;
+	}
+
+	private final void checkPowerOf10(long uDecimal, long n) {
+		if (uDecimal == 0) {
+			return;
+		}
+		if (n > 0) {
+			if (n > 18 || !Scales.getScaleMetrics((int) n).isValidIntegerValue(uDecimal)) {
+				status.raise(ArithmeticStatus.OVERFLOW);
+			}
+		} else if (n < 0) {
+			if (n < -18 || !isDivisible(Scales.getScaleMetrics((int) -n), uDecimal)) {
+				status.raise(ArithmeticStatus.INEXACT);
+			}
+		}
+	}
+
+	private final void checkShift(long uDecimal, long n) {
+		if (uDecimal == 0) {
+			return;
+		}
+		if (n > 0) {
+			if (n > 63 || ((uDecimal << n) >> n) != uDecimal) {
+				status.raise(ArithmeticStatus.OVERFLOW);
+			}
+		} else if (n < 0) {
+			if (n < -63 || (uDecimal & ((1L << -n) - 1)) != 0) {
+				status.raise(ArithmeticStatus.INEXACT);
+			}
+		}
+	}
+
+	@Override
+	public final int getScale() {
+		return unchecked.getScale();
+	}
+
+	@Override
+	public final ScaleMetrics getScaleMetrics() {
+		return unchecked.getScaleMetrics();
+	}
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return unchecked.getRoundingMode();
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return OverflowMode.UNCHECKED;
+	}
+
+	@Override
+	public final TruncationPolicy getTruncationPolicy() {
+		return unchecked.getTruncationPolicy();
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(int scale) {
+		return decorate(unchecked.deriveArithmetic(scale));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode) {
+		return decorate(unchecked.deriveArithmetic(roundingMode));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode, OverflowMode overflowMode) {
+		return decorate(unchecked.deriveArithmetic(roundingMode));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(OverflowMode overflowMode) {
+		return this;
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(TruncationPolicy truncationPolicy) {
+		return decorate(unchecked.deriveArithmetic(truncationPolicy.getRoundingMode()));
+	}
+
+	@Override
+	public final long one() {
+		return unchecked.one();
+	}
+
+	@Override
+	public final int signum(long uDecimal) {
+		return unchecked.signum(uDecimal);
+	}
+
+	@Override
+	public final int compare(long uDecimal1, long uDecimal2) {
+		return unchecked.compare(uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final int compareToUnscaled(long uDecimal, long unscaled, int scale) {
+		return unchecked.compareToUnscaled(uDecimal, unscaled, scale);
+	}
+
+	@Override
+	public final long add(long uDecimal1, long uDecimal2) {
+		final long result = uDecimal1 + uDecimal2;
+		return Checked.isAddOverflow(uDecimal1, uDecimal2, result) ? overflow(result) : result;
+	}
+
+	@Override
+	public final long addLong(long uDecimal, long lValue) {
+		final ScaleMetrics scaleMetrics = getScaleMetrics();
+		if (scaleMetrics.isValidIntegerValue(lValue)) {
+			return add(uDecimal, scaleMetrics.multiplyByScaleFactor(lValue));
+		}
+		return addPowerOf10Multiple(uDecimal, lValue, scaleMetrics.getScale());
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+		final int scaleDiff = scale - getScale();
+		if (unscaled == 0 | scaleDiff == 0) {
+			return add(uDecimal, unscaled);
+		} else if (scaleDiff < 0) {
+			return addPowerOf10Multiple(uDecimal, unscaled, -scaleDiff);
+		}
+		if (!isDivisible(Scales.getScaleMetrics(scaleDiff), unscaled)) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		final long sum = unchecked.addUnscaled(uDecimal, unscaled, scale);
+		return Checked.isAddOverflow(uDecimal, unscaled, sum) ? overflow(sum) : sum;
+	}
+
+	@Override
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend) {
+		final long result = uDecimalMinuend - uDecimalSubtrahend;
+		return Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result) ? overflow(result) : result;
+	}
+
+	@Override
+	public final long subtractLong(long uDecimal, long lValue) {
+		final ScaleMetrics scaleMetrics = getScaleMetrics();
+		if (scaleMetrics.isValidIntegerValue(lValue)) {
+			return subtract(uDecimal, scaleMetrics.multiplyByScaleFactor(lValue));
+		}
+		return subtractPowerOf10Multiple(uDecimal, lValue, scaleMetrics.getScale());
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+		final int scaleDiff = scale - getScale();
+		if (unscaled == 0 | scaleDiff == 0) {
+			return subtract(uDecimal, unscaled);
+		} else if (scaleDiff < 0) {
+			return subtractPowerOf10Multiple(uDecimal, unscaled, -scaleDiff);
+		}
+		if (!isDivisible(Scales.getScaleMetrics(scaleDiff), unscaled)) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		final long diff = unchecked.subtractUnscaled(uDecimal, unscaled, scale);
+		return Checked.isSubtractOverflow(uDecimal, unscaled, diff) ? overflow(diff) : diff;
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		return Mul.multiply(getScaleMetrics(), rounding, uDecimal1, uDecimal2, status);
+	}
+
+	@Override
+	public final long multiplyByLong(long uDecimal, long lValue) {
+		final long result = uDecimal * lValue;
+		return Checked.isMultiplyOverflow(uDecimal, lValue, result) ? overflow(result) : result;
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+		return Mul.multiplyByUnscaled(getScaleMetrics(), rounding, uDecimal, unscaled, scale, status);
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+		checkPowerOf10(uDecimal, n);
+		return unchecked.multiplyByPowerOf10(uDecimal, n);
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		if (uDecimalDivisor == 0) {
+			return divisionByZero();
+		}
+		return Div.divide(getScaleMetrics(), rounding, uDecimalDividend, uDecimalDivisor, status);
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+		if (lDivisor == 0) {
+			return divisionByZero();
+		}
+		if (uDecimalDividend % lDivisor != 0) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		final long result = unchecked.divideByLong(uDecimalDividend, lDivisor);
+		return Checked.isDivideOverflow(uDecimalDividend, lDivisor) ? overflow(result) : result;
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+		if (unscaled == 0) {
+			return divisionByZero();
+		}
+		return Div.divideByUnscaled(getScaleMetrics(), rounding, uDecimal, unscaled, scale, status);
+	}
+
+	@Override
+	public final long divideToIntegralValue(long uDecimalDividend, long uDecimalDivisor) {
+		if (uDecimalDivisor == 0) {
+			return divisionByZero();
+		}
+		final long result = unchecked.divideToIntegralValue(uDecimalDividend, uDecimalDivisor);
+		return DivRem.isOverflow(getScaleMetrics(), uDecimalDividend, uDecimalDivisor, uDecimalDividend / uDecimalDivisor) ? overflow(result) : result;
+	}
+
+	@Override
+	public final long remainder(long uDecimalDividend, long uDecimalDivisor) {
+		if (uDecimalDivisor == 0) {
+			return divisionByZero();
+		}
+		return uDecimalDividend % uDecimalDivisor;
+	}
+
+	@Override
+	public final void divideAndRemainder(long uDecimalDividend, long uDecimalDivisor, long[] quotientAndRemainder) {
+		if (uDecimalDivisor == 0) {
+			quotientAndRemainder[1] = quotientAndRemainder[0] = divisionByZero();
+			return;
+		}
+		unchecked.divideAndRemainder(uDecimalDividend, uDecimalDivisor, quotientAndRemainder);
+		if (DivRem.isOverflow(getScaleMetrics(), uDecimalDividend, uDecimalDivisor, uDecimalDividend / uDecimalDivisor)) {
+			overflow(quotientAndRemainder[0]);
+		}
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+		checkPowerOf10(uDecimal, -(long) n);
+		return unchecked.divideByPowerOf10(uDecimal, n);
+	}
+
+	@Override
+	public final long tryAdd(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		return unchecked.tryAdd(uDecimal1, uDecimal2, status);
+	}
+
+	@Override
+	public final long trySubtract(long uDecimalMinuend, long uDecimalSubtrahend, ArithmeticStatus status) {
+		return unchecked.trySubtract(uDecimalMinuend, uDecimalSubtrahend, status);
+	}
+
+	@Override
+	public final long tryMultiply(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		return unchecked.tryMultiply(uDecimal1, uDecimal2, status);
+	}
+
+	@Override
+	public final long tryDivide(long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status) {
+		return unchecked.tryDivide(uDecimalDividend, uDecimalDivisor, status);
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+		if (((uDecimal1 ^ uDecimal2) & 0x1) != 0) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		return unchecked.avg(uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long abs(long uDecimal) {
+		return uDecimal == Long.MIN_VALUE ? overflow(uDecimal) : Math.abs(uDecimal);
+	}
+
+	@Override
+	public final long negate(long uDecimal) {
+		return uDecimal == Long.MIN_VALUE ? overflow(uDecimal) : -uDecimal;
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		if (uDecimal == 0) {
+			return divisionByZero();
+		}
+		return divide(one(), uDecimal);
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+		return multiply(uDecimal, uDecimal);
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		return Sqrt.sqrt(this, rounding, uDecimal, status);
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, int exponent) {
+		if (uDecimalBase == 0 & exponent < 0) {
+			return divisionByZero();
+		}
+		return Pow.pow(this, rounding, uDecimalBase, exponent, status);
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		if (uDecimalBase == 0 & unscaledExponent < 0) {
+			return divisionByZero();
+		}
+		return Exp.pow(this, rounding, uDecimalBase, unscaledExponent, scale, status);
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		return Exp.exp(this, rounding, uDecimal, status);
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		return Log.ln(this, rounding, uDecimal, status);
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		return Log.log10(this, rounding, uDecimal, status);
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int n) {
+		checkShift(uDecimal, n);
+		return unchecked.shiftLeft(uDecimal, n);
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int n) {
+		checkShift(uDecimal, -(long) n);
+		return unchecked.shiftRight(uDecimal, n);
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		if (precision < getScale()) {
+			checkPowerOf10(uDecimal, (long) precision - getScale());
+		}
+		final long result = unchecked.round(uDecimal, precision);
+		//rounding can only change the sign if the result overflows
+		return (uDecimal ^ result) < 0 & result != 0 ? overflow(result) : result;
+	}
+
+	@Override
+	public final long roundToIncrement(long uDecimal, long uDecimalIncrement) {
+		final long result = unchecked.roundToIncrement(uDecimal, uDecimalIncrement);
+		if (uDecimal % uDecimalIncrement != 0) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		//rounding can only change the sign if the result overflows
+		return (uDecimal ^ result) < 0 & result != 0 ? overflow(result) : result;
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		final ScaleMetrics scaleMetrics = getScaleMetrics();
+		final long result = scaleMetrics.multiplyByScaleFactor(value);
+		return scaleMetrics.isValidIntegerValue(value) ? result : overflow(result);
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		return unchecked.fromFloat(value);
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		return unchecked.fromDouble(value);
+	}
+
+	@Override
+	public final long fromBigInteger(BigInteger value) {
+		return unchecked.fromBigInteger(value);
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		return unchecked.fromBigDecimal(value);
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		return unchecked.fromUnscaled(unscaledValue, scale);
+	}
+
+	@Override
+	public final long parse(String value) {
+		return unchecked.parse(value);
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		return unchecked.parse(value, start, end);
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+		return unchecked.toLong(uDecimal);
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		return unchecked.toUnscaled(uDecimal, scale);
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		return unchecked.toFloat(uDecimal);
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		return unchecked.toDouble(uDecimal);
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal) {
+		return unchecked.toBigDecimal(uDecimal);
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal, int scale) {
+		return unchecked.toBigDecimal(uDecimal, scale);
+	}
+
+	@Override
+	public final String toString(long uDecimal) {
+		return unchecked.toString(uDecimal);
+	}
+
+	@Override
+	public final void toString(long uDecimal, Appendable appendable) throws IOException {
+		unchecked.toString(uDecimal, appendable);
+	}
+
+	@Override
+	public final String toString() {
+		return getClass().getSimpleName() + "[" + unchecked + ", " + status + "]";
+	}
+}
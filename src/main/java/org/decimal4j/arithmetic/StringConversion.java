@@ -138,17 +138,23 @@ final class StringConversion {
 		if (truncatedPart.isGreaterThanZero() & rounding == DecimalRounding.UNNECESSARY) {
 			throw Exceptions.newRoundingNecessaryArithmeticException();
 		}
-		try {
-			final long unscaledIntegeral = scaleMetrics.multiplyByScaleFactorExact(integralPart);
-			final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
-																						// no overflow
-			final long truncatedValue = Checked.add(arith, unscaledIntegeral, unscaledFractional);
-			final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
-					truncatedPart);
-			return roundingIncrement == 0 ? truncatedValue : Checked.add(arith, truncatedValue, roundingIncrement);
-		} catch (ArithmeticException e) {
-			throw newNumberFormatExceptionFor(arith, s, start, end, e);
+		if (!scaleMetrics.isValidIntegerValue(integralPart)) {
+			throw newNumberFormatExceptionFor(arith, s, start, end);
+		}
+		final long unscaledIntegeral = scaleMetrics.multiplyByScaleFactor(integralPart);
+		final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
+																					// no overflow
+		final long truncatedValue = unscaledIntegeral + unscaledFractional;
+		if (Checked.isAddOverflow(unscaledIntegeral, unscaledFractional, truncatedValue)) {
+			throw newNumberFormatExceptionFor(arith, s, start, end);
 		}
+		final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
+				truncatedPart);
+		final long result = truncatedValue + roundingIncrement;
+		if (Checked.isAddOverflow(truncatedValue, roundingIncrement, result)) {
+			throw newNumberFormatExceptionFor(arith, s, start, end);
+		}
+		return result;
 	}
 
 	private static final long parseFractionalPart(DecimalArithmetic arith, CharSequence s, int start, int end) {
@@ -371,12 +377,6 @@ final class StringConversion {
 				"Cannot parse Decimal value with scale " + arith.getScale() + " for input string: \"" + s.subSequence(start, end) + "\"");
 	}
 
-	private static final NumberFormatException newNumberFormatExceptionFor(DecimalArithmetic arith, CharSequence s, int start, int end, Exception cause) {
-		final NumberFormatException ex = newNumberFormatExceptionFor(arith, s, start, end);
-		ex.initCause(cause);
-		return ex;
-	}
-
 	// no instances
 	private StringConversion() {
 		super();
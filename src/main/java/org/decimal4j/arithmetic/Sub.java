@@ -99,11 +99,7 @@ final class Sub {
 		if (lValue == 0 | scale == 0) {
 			return arith.subtract(uDecimal, lValue);
 		}
-		try {
-			return subtractForNegativeScaleDiff(arith, uDecimal, lValue, -scale);
-		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + lValue, e);
-		}
+		return subtractForNegativeScaleDiff(arith, uDecimal, lValue, 0, -scale);
 	}
 
 	/**
@@ -188,17 +184,13 @@ final class Sub {
 		if (unscaled == 0 | scaleDiff == 0) {
 			return arith.subtract(uDecimal, unscaled);
 		} else if (scaleDiff < 0) {
-			try {
-				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
-			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
-			}
+			return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scale, scaleDiff);
 		}
 		final long diff = subtractForPositiveScaleDiff(uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " - ", scale, unscaled);
 	}
 	
 	/**
@@ -226,17 +218,13 @@ final class Sub {
 		if (unscaled == 0 | scaleDiff == 0) {
 			return arith.subtract(uDecimal, unscaled);
 		} else if (scaleDiff < 0) {
-			try {
-				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
-			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
-			}
+			return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scale, scaleDiff);
 		}
 		final long diff = subtractForPositiveScaleDiff(rounding, uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " - ", scale, unscaled);
 	}
 
 	/**
@@ -293,8 +281,9 @@ final class Sub {
 
 	/**
 	 * Calculates checked subtraction of an unscaled value and another
-	 * unscaled value with the given {@code scaleDiff = scal2 - scale1 > 0} which must be negative, such that the subtracted
-	 * value can be rescaled through multiplication.
+	 * unscaled value with the given {@code scaleDiff = scale2 - scale1} which
+	 * must be negative, such that the second value can be rescaled through
+	 * multiplication.
 	 * 
 	 * @param arith
 	 *            the arithmetic associated with the first value
@@ -302,23 +291,45 @@ final class Sub {
 	 *            the first unscaled value
 	 * @param unscaled
 	 *            the second unscaled value
-	 * @param scaleDiff
+	 * @param scale
 	 *            the scale of the second value
+	 * @param scaleDiff
+	 *            scale2 - scale1, must be negative
 	 * @return the subtraction result with overflow checks
+	 * @throws ArithmeticException
+	 *             if an overflow occurs
 	 */
 	//PRECONDITION: scaleDiff < 0
-	private static final long subtractForNegativeScaleDiff(DecimalArithmetic arith, long uDecimal, long unscaled, int scaleDiff) {
-		//NOTE: multiplication by power of 10 may lead to an overflow but the result may still be valid if signs are same
+	private static final long subtractForNegativeScaleDiff(DecimalArithmetic arith, long uDecimal, long unscaled, int scale, int scaleDiff) {
+		final int n = -scaleDiff;
+		if (n <= 18) {
+			final ScaleMetrics diffMetrics = Scales.getScaleMetrics(n);
+			if (diffMetrics.isValidIntegerValue(unscaled)) {
+				final long scaled = diffMetrics.multiplyByScaleFactor(unscaled);
+				final long result = uDecimal - scaled;
+				if (!Checked.isSubtractOverflow(uDecimal, scaled, result)) {
+					return result;
+				}
+				throw newOverflowException(arith, uDecimal, unscaled, scale);
+			}
+		}
+		//NOTE: multiplication by power of 10 leads to an overflow but the result may still be valid if signs are same
 		//		--> therefore we multiply only half of the value with pow10 and subtract it twice
-		//		--> then we subtract the remainder 1 (x pow10) if the value was odd (again in halves to avoid overflow)
-		final long half = Pow10.divideByPowerOf10Checked(arith, unscaled / 2, scaleDiff);//multiplication;
-		final long halfReminder = ((unscaled & 0x1) == 0) ? 0 : Pow10.divideByPowerOf10Checked(arith, unscaled > 0 ? 5 : -5, scaleDiff + 1);
-		long result = uDecimal;
-		result = arith.subtract(result, half);
-		result = arith.subtract(result, half);
-		result = arith.subtract(result, halfReminder);
-		result = arith.subtract(result, halfReminder);
-		return result;
+		//		--> the result is exact as 10^n is even
+		if ((uDecimal ^ unscaled) >= 0 & n <= 19) {
+			final long halfPow10 = 5 * Scales.getScaleMetrics(n - 1).getScaleFactor();
+			final long half = unscaled * halfPow10;
+			final long partial = uDecimal - half;//cannot overflow, signs are same
+			final long result = partial - half;
+			if (!Checked.isMultiplyOverflow(unscaled, halfPow10, half) & !Checked.isSubtractOverflow(partial, half, result)) {
+				return result;
+			}
+		}
+		throw newOverflowException(arith, uDecimal, unscaled, scale);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, long unscaled, int scale) {
+		return Exceptions.newOverflowArithmeticException(arith.getScale(), uDecimal, " - ", scale, unscaled);
 	}
 
 	// no instances
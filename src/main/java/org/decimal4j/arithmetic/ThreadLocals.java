@@ -39,6 +39,8 @@ public final class ThreadLocals {
 		StringConversion.STRING_BUILDER_THREAD_LOCAL.remove();
 		UnsignedDecimal9i36f.THREAD_LOCAL_1.remove();
 		UnsignedDecimal9i36f.THREAD_LOCAL_2.remove();
+		UnsignedFixed9i36f.THREAD_LOCAL.remove();
+		Checked.STATUS_THREAD_LOCAL.remove();
 	}
 	
 	// no instances
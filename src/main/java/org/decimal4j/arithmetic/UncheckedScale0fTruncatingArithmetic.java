@@ -107,6 +107,26 @@ public final class UncheckedScale0fTruncatingArithmetic extends AbstractUnchecke
 		return Pow.powLong(this, DecimalRounding.DOWN, uDecimal, exponent);
 	}
 
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		return Exp.pow(this, DecimalRounding.DOWN, uDecimalBase, unscaledExponent, scale);
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		return Exp.exp(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		return Log.ln(this, DecimalRounding.DOWN, uDecimal);
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		return Log.log10(this, DecimalRounding.DOWN, uDecimal);
+	}
+
 	@Override
 	public final long shiftLeft(long uDecimal, int positions) {
 		return Shift.shiftLeft(DecimalRounding.DOWN, uDecimal, positions);
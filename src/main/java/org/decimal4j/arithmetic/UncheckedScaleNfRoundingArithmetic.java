@@ -136,6 +136,26 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 		return Pow.pow(this, rounding, uDecimal, exponent);
 	}
 
+	@Override
+	public final long pow(long uDecimalBase, long unscaledExponent, int scale) {
+		return Exp.pow(this, rounding, uDecimalBase, unscaledExponent, scale);
+	}
+
+	@Override
+	public final long exp(long uDecimal) {
+		return Exp.exp(this, rounding, uDecimal);
+	}
+
+	@Override
+	public final long ln(long uDecimal) {
+		return Log.ln(this, rounding, uDecimal);
+	}
+
+	@Override
+	public final long log10(long uDecimal) {
+		return Log.log10(this, rounding, uDecimal);
+	}
+
 	@Override
 	public final long shiftLeft(long uDecimal, int positions) {
 		return Shift.shiftLeft(rounding, uDecimal, positions);
@@ -61,11 +61,10 @@ final class UnscaledConversion {
 	 *             if the conversion cannot be performed due to overflow
 	 */
 	public static final long unscaledToLong(DecimalArithmetic arith, long unscaledValue, int scale) {
-		try {
-			return Pow10.divideByPowerOf10Checked(arith, unscaledValue, scale);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, unscaledValue, scale, arith.getScale());
+		if (Pow10.isMultiplyByPowerOf10Overflow(unscaledValue, -scale)) {
+			throw newOverflowException(unscaledValue, scale, arith.getScale());
 		}
+		return Pow10.divideByPowerOf10(unscaledValue, scale);
 	}
 
 	/**
@@ -89,11 +88,10 @@ final class UnscaledConversion {
 	 *             if rounding is necessary and {@code rounding==UNNECESSARY}
 	 */
 	public static final long unscaledToLong(DecimalArithmetic arith, DecimalRounding rounding, long unscaledValue, int scale) {
-		try {
-			return Pow10.divideByPowerOf10Checked(arith, rounding, unscaledValue, scale);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, unscaledValue, scale, arith.getScale());
+		if (Pow10.isMultiplyByPowerOf10Overflow(unscaledValue, -scale)) {
+			throw newOverflowException(unscaledValue, scale, arith.getScale());
 		}
+		return Pow10.divideByPowerOf10(rounding, unscaledValue, scale);
 	}
 
 	/**
@@ -113,11 +111,10 @@ final class UnscaledConversion {
 	 */
 	public static final long unscaledToUnscaled(DecimalArithmetic arith, long unscaledValue, int scale) {
 		final int scaleDiff = getScaleDiff(arith.getScaleMetrics(), scale);
-		try {
-			return Pow10.multiplyByPowerOf10Checked(arith, unscaledValue, scaleDiff);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, unscaledValue, scale, arith.getScale());
+		if (Pow10.isMultiplyByPowerOf10Overflow(unscaledValue, scaleDiff)) {
+			throw newOverflowException(unscaledValue, scale, arith.getScale());
 		}
+		return Pow10.multiplyByPowerOf10(unscaledValue, scaleDiff);
 	}
 
 	/**
@@ -142,11 +139,10 @@ final class UnscaledConversion {
 	 */
 	public static final long unscaledToUnscaled(DecimalArithmetic arith, DecimalRounding rounding, long unscaledValue, int scale) {
 		final int scaleDiff = getScaleDiff(arith.getScaleMetrics(), scale);
-		try {
-			return Pow10.multiplyByPowerOf10Checked(arith, rounding, unscaledValue, scaleDiff);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, unscaledValue, scale, arith.getScale());
+		if (Pow10.isMultiplyByPowerOf10Overflow(unscaledValue, scaleDiff)) {
+			throw newOverflowException(unscaledValue, scale, arith.getScale());
 		}
+		return Pow10.multiplyByPowerOf10(rounding, unscaledValue, scaleDiff);
 	}
 
 	/**
@@ -167,11 +163,10 @@ final class UnscaledConversion {
 	 */
 	public static final long unscaledToUnscaled(int targetScale, DecimalArithmetic arith, long uDecimal) {
 		final int scaleDiff = getScaleDiff(targetScale, arith.getScale());
-		try {
-			return Pow10.multiplyByPowerOf10Checked(arith, uDecimal, scaleDiff);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, uDecimal, arith.getScale(), targetScale);
+		if (Pow10.isMultiplyByPowerOf10Overflow(uDecimal, scaleDiff)) {
+			throw newOverflowException(uDecimal, arith.getScale(), targetScale);
 		}
+		return Pow10.multiplyByPowerOf10(uDecimal, scaleDiff);
 	}
 
 	/**
@@ -196,21 +191,19 @@ final class UnscaledConversion {
 	 */
 	public static final long unscaledToUnscaled(DecimalRounding rounding, int targetScale, DecimalArithmetic arith, long uDecimal) {
 		final int scaleDiff = getScaleDiff(targetScale, arith.getScale());
-		try {
-			return Pow10.multiplyByPowerOf10Checked(arith, rounding, uDecimal, scaleDiff);
-		} catch (ArithmeticException e) {
-			throw toIllegalArgumentExceptionOrRethrow(e, uDecimal, arith.getScale(), targetScale);
+		if (Pow10.isMultiplyByPowerOf10Overflow(uDecimal, scaleDiff)) {
+			throw newOverflowException(uDecimal, arith.getScale(), targetScale);
 		}
+		return Pow10.multiplyByPowerOf10(rounding, uDecimal, scaleDiff);
 	}
 
-	private static final IllegalArgumentException toIllegalArgumentExceptionOrRethrow(ArithmeticException e, long unscaledValue, int sourceScale, int targetScale) {
-		Exceptions.rethrowIfRoundingNecessary(e);
+	private static final IllegalArgumentException newOverflowException(long unscaledValue, int sourceScale, int targetScale) {
 		if (targetScale > 0) {
 			return new IllegalArgumentException("Overflow: Cannot convert unscaled value " + unscaledValue
-					+ " from scale " + sourceScale + " to scale " + targetScale, e);
+					+ " from scale " + sourceScale + " to scale " + targetScale);
 		} else {
 			return new IllegalArgumentException("Overflow: Cannot convert unscaled value " + unscaledValue
-					+ " from scale " + sourceScale + " to long", e);
+					+ " from scale " + sourceScale + " to long");
 		}
 	}
 
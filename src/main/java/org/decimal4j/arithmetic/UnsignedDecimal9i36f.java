@@ -23,16 +23,14 @@
  */
 package org.decimal4j.arithmetic;
 
-import java.math.RoundingMode;
-
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.Scale18f;
 import org.decimal4j.scale.Scale8f;
 import org.decimal4j.scale.Scale9f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.decimal4j.truncate.DecimalRounding;
-import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -73,9 +71,11 @@ final class UnsignedDecimal9i36f {
 	private long val2;
 	private long val1;
 	private long val0;
+	/** True if non-zero digits have been rounded off since the last init */
+	private boolean inexact;
 	
 	/** Constructor */
-	private UnsignedDecimal9i36f() {
+	UnsignedDecimal9i36f() {
 		super();
 	}
 	
@@ -92,6 +92,7 @@ final class UnsignedDecimal9i36f {
 		this.val2 = 0;
 		this.val1 = 0;
 		this.val0 = 0;
+		this.inexact = false;
 		return this;
 	}
 
@@ -110,6 +111,7 @@ final class UnsignedDecimal9i36f {
 		this.val2 = copy.val2;
 		this.val1 = copy.val1;
 		this.val0 = copy.val0;
+		this.inexact = copy.inexact;
 		return this;
 	}
 
@@ -127,6 +129,7 @@ final class UnsignedDecimal9i36f {
 	 */
 	public final UnsignedDecimal9i36f init(long ival, long fval, ScaleMetrics scaleMetrics) {
 		final ScaleMetrics diffMetrics = Scales.getScaleMetrics(18 - scaleMetrics.getScale());
+		this.inexact = false;
 		normalizeAndRound(1, 0, ival, diffMetrics.multiplyByScaleFactor(fval), 0, 0, 0, DecimalRounding.UNNECESSARY);
 		return this;
 	}
@@ -220,6 +223,7 @@ final class UnsignedDecimal9i36f {
 		this.val2 = val2;
 		this.val1 = 0;
 		this.val0 = 0;
+		this.inexact |= val1 != 0 | nonZeroAfterVal1;
 	}
 	private final void normalize09() {
 		final long val3 = this.val3;
@@ -336,6 +340,7 @@ final class UnsignedDecimal9i36f {
 		this.val2 = val36;
 		this.val1 = val54;
 		this.val0 = val72;
+		this.inexact |= factor.inexact;
 	}
 	
 	private static final int getRoundingIncrement(int sgn, long truncated, ScaleMetrics scaleMetrics, long remainder, boolean nonZeroAfterRemainder, DecimalRounding rounding) {
@@ -360,17 +365,18 @@ final class UnsignedDecimal9i36f {
 		final int log10 = log10(ival);
 		return (ival >= Scales.getScaleMetrics(log10 - 1).getScaleFactor()*3) ? log10 : log10 - 1;//we want to normalize the ival part to be between 1 and 5
 	}
-	private final long getInvNorm(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private final long getInvNorm(int sgn, DecimalArithmetic arith, DecimalRounding rounding, ArithmeticStatus status) {
 		final int pow10 = -getInvNormPow10();
 		if (pow10 >= 0) {
-			return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding, status);
 		}
-		return getDecimal(sgn, pow10 + 18, 0, ival, val3, val2, val1, val0, 0, 0, 0, arith, rounding);
+		return getDecimal(sgn, pow10 + 18, 0, ival, val3, val2, val1, val0, 0, 0, 0, arith, rounding, status);
 	}
 	
 	/**
 	 * Returns the inverted result resulting from exponentiation with a negative
-	 * exponent. The result is best-effort accurate.
+	 * exponent. Exact results are recognized and returned exactly even if they
+	 * overflow, other results are best-effort accurate.
 	 * 
 	 * @param sgn
 	 *            the sign of the final result
@@ -381,17 +387,78 @@ final class UnsignedDecimal9i36f {
 	 * @param powRounding
 	 *            reciprocal rounding if exponent is negative and rounding
 	 *            otherwise
-	 * @return <tt>round(1 / this)</tt>
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the result
+	 *            was rounded, or null if neither needs to be reported
+	 * @return <tt>round(1 / this)</tt>, the truncated result if an overflow
+	 *         occurs
+	 * @throws ArithmeticException
+	 *             if {@code rounding} is UNNECESSARY and rounding is necessary
 	 */
-	public final long getInverted(int sgn, DecimalArithmetic arith, DecimalRounding rounding, DecimalRounding powRounding) {
+	public final long getInverted(int sgn, DecimalArithmetic arith, DecimalRounding rounding, DecimalRounding powRounding, ArithmeticStatus status) {
 		//1) get scale18 value normalized to 0.3 <= x < 3 (i.e. make it invertible without overflow for uninverted and inverted value)
 		final DecimalArithmetic arith18 = Scale18f.INSTANCE.getArithmetic(rounding.getRoundingMode());//unchecked is fine, see comments below
-		final long divisor = this.getInvNorm(sgn, arith18, powRounding);
-		//2) invert normalized scale18 value 
-		final long inverted = arith18.invert(divisor);//can't overflow as for x=abs(divisor): 0.9 <= x < 9 
-		//3) apply inverted powers of 10, including powers from normalization and rescaling 
+		final long divisor = this.getInvNorm(sgn, arith18, powRounding, status);
+		//2) the result is 10^pow10Inv / divisor, including powers from normalization and rescaling
 		final int pow10 = this.getPow10() + this.getInvNormPow10() + (18 - arith.getScale());
-		return arith.multiplyByPowerOf10(inverted, -pow10);//overflow possible
+		final int pow10Inv = 36 - pow10;
+		//3) exactness is decided before rounding as an exact result may still overflow
+		if (!inexact && isInverseExact(divisor, pow10Inv)) {
+			return getExactInverse(divisor, pow10Inv, status);
+		}
+		if (rounding == DecimalRounding.UNNECESSARY) {
+			throw Exceptions.newRoundingNecessaryArithmeticException();
+		}
+		//4) invert normalized scale18 value and apply inverted powers of 10
+		final long inverted = arith18.invert(divisor);//can't overflow as for x=abs(divisor): 0.9 <= x < 9 
+		if (status != null) {
+			if (Pow10.isMultiplyByPowerOf10Overflow(inverted, -pow10)) {
+				status.raise(ArithmeticStatus.OVERFLOW);
+			}
+			status.raise(ArithmeticStatus.INEXACT);
+		}
+		return Pow10.multiplyByPowerOf10(rounding, inverted, -pow10);
+	}
+
+	//true if 10^pow10 is a multiple of divisor, that is, if divisor is of the form 2^a * 5^b with a, b <= pow10
+	private static final boolean isInverseExact(long divisor, int pow10) {
+		long abs = Math.abs(divisor);
+		final int twos = Long.numberOfTrailingZeros(abs);
+		abs >>>= twos;
+		int fives = 0;
+		while (abs % 5 == 0) {
+			abs /= 5;
+			fives++;
+		}
+		return abs == 1 & twos <= pow10 & fives <= pow10;
+	}
+
+	//returns 10^pow10 / divisor = 5^(pow10 - fives) * 2^(pow10 - twos), the low order 64 bits if an overflow occurs
+	//PRECONDITION: isInverseExact(divisor, pow10)
+	private static final long getExactInverse(long divisor, int pow10, ArithmeticStatus status) {
+		long abs = Math.abs(divisor);
+		final int twos = Long.numberOfTrailingZeros(abs);
+		abs >>>= twos;
+		int fives = 0;
+		while (abs > 1) {
+			abs /= 5;
+			fives++;
+		}
+		long result = 1;
+		boolean overflow = false;
+		for (int i = fives; i < pow10; i++) {
+			overflow |= result > Long.MAX_VALUE / 5;
+			result *= 5;
+		}
+		final int shift = pow10 - twos;
+		overflow |= shift >= 63 || result > (Long.MAX_VALUE >> shift);
+		result = shift >= 64 ? 0 : result << shift;
+		if (overflow & status != null) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return divisor < 0 ? -result : result;
 	}
 
 	/**
@@ -404,33 +471,43 @@ final class UnsignedDecimal9i36f {
 	 *            the arithmetic of the base value
 	 * @param rounding
 	 *            the rounding to apply
-	 * @return <tt>round(this)</tt>
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the result
+	 *            was rounded, or null if neither needs to be reported
+	 * @return <tt>round(this)</tt>, the truncated result if an overflow
+	 *         occurs
 	 */
-	public final long getDecimal(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	public final long getDecimal(int sgn, DecimalArithmetic arith, DecimalRounding rounding, ArithmeticStatus status) {
+		if (inexact & status != null) {
+			status.raise(ArithmeticStatus.INEXACT);
+		}
 		if (pow10 >= 0) {
 			if (pow10 <= 18) {
-				return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding);
+				return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding, status);
 			}
-			if (arith.getOverflowMode().isChecked()) {
-				return checkedMultiplyByPowerOf10AndRound(sgn, arith, rounding);
+			//ival is at least 1, hence the value is at least 10^19
+			if (status != null) {
+				status.raise(ArithmeticStatus.OVERFLOW);
 			}
 			return multiplyByPowerOf10AndRound(sgn, arith, rounding);
 		} else {
-			return divideByPowerOf10AndRound(sgn, arith, rounding);
+			return divideByPowerOf10AndRound(sgn, arith, rounding, status);
 		}
 	}
 	private final long multiplyByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
 		long iv = ival * Scale18f.SCALE_FACTOR + val3;
 		if (pow10 <= 36) {
-			return getDecimal(sgn, pow10 - 18, iv, val2, val1, val0, 0, 0, 0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10 - 18, iv, val2, val1, val0, 0, 0, 0, 0, 0, arith, rounding, null);
 		}
 		iv *= Scale18f.SCALE_FACTOR + val2;
 		if (pow10 <= 54) {
-			return getDecimal(sgn, pow10 - 36, iv, val1, val0, 0, 0, 0, 0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10 - 36, iv, val1, val0, 0, 0, 0, 0, 0, 0, arith, rounding, null);
 		}
 		iv *= Scale18f.SCALE_FACTOR + val1;
 		if (pow10 <= 72) {
-			return getDecimal(sgn, pow10 - 54, iv, val0, 0, 0, 0, 0, 0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10 - 54, iv, val0, 0, 0, 0, 0, 0, 0, 0, arith, rounding, null);
 		}
 		iv *= Scale18f.SCALE_FACTOR + val0;
 		int pow = pow10 - 72;
@@ -439,59 +516,35 @@ final class UnsignedDecimal9i36f {
 			pow -= 18;
 		}
 		if (iv != 0) {
-			final long absVal = arith.fromLong(iv);
+			final long absVal = arith.getScaleMetrics().multiplyByScaleFactor(iv);
 			return sgn >= 0 ? absVal : -absVal;
 		}
 		return 0;//overflow, everything was shifted out to the left
 	}
-	private final long checkedMultiplyByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
-		final DecimalArithmetic arith18 = Scale18f.INSTANCE.getCheckedArithmetic(RoundingMode.DOWN);
-		long iv = arith18.add(arith18.fromLong(ival), val3);//ival * 10^18 + val3
-		if (pow10 <= 36) {
-			return getDecimal(sgn, pow10 - 18, iv, val2, val1, val0, 0, 0, 0, 0, 0, arith, rounding);
-		}
-		iv = arith18.add(arith18.fromLong(iv), val2);//iv * 10^18 + val2
-		if (pow10 <= 54) {
-			return getDecimal(sgn, pow10 - 36, iv, val1, val0, 0, 0, 0, 0, 0, 0, arith, rounding);
-		}
-		iv = arith18.add(arith18.fromLong(iv), val1);//iv * 10^18 + val1
-		if (pow10 <= 72) {
-			return getDecimal(sgn, pow10 - 54, iv, val0, 0, 0, 0, 0, 0, 0, 0, arith, rounding);
-		}
-		iv = arith18.add(arith18.fromLong(iv), val0);//iv * 10^18 + val0
-		int pow = pow10 - 72;
-		while (pow > 18 & iv != 0) {
-			iv = arith18.fromLong(iv);//iv * 10^18
-			pow -= 18;
-		}
-		if (iv != 0) {
-			final long absVal = arith.fromLong(iv);
-			return sgn >= 0 ? absVal : arith.negate(absVal);
-		}
-		//should not get here, an overflow exception should have been thrown
-		return 0;//overflow, everything was shifted out to the left
-	}
-	private final long divideByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private final long divideByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding, ArithmeticStatus status) {
 		if (pow10 >= -18) {
-			return getDecimal(sgn, pow10 + 18, 0, ival, val3, val2, val1, val0, 0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10 + 18, 0, ival, val3, val2, val1, val0, 0, 0, 0, arith, rounding, status);
 		} else if (pow10 >= -36) {
-			return getDecimal(sgn, pow10 + 36, 0, 0, ival, val3, val2, val1, val0, 0, 0, arith, rounding);
+			return getDecimal(sgn, pow10 + 36, 0, 0, ival, val3, val2, val1, val0, 0, 0, arith, rounding, status);
 		} else {
 			//only rounding left
-			if (rounding != DecimalRounding.DOWN & (ival != 0 | val3 != 0 | val2 != 0 | val1 != 0 | val0 != 0)) { 
+			final boolean nonZero = ival != 0 | val3 != 0 | val2 != 0 | val1 != 0 | val0 != 0;
+			if (nonZero & status != null) {
+				status.raise(ArithmeticStatus.INEXACT);
+			}
+			if (rounding != DecimalRounding.DOWN & nonZero) { 
 				return rounding.calculateRoundingIncrement(sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 			}
 			return 0;
 		}
 	}
 	//PRECONDITION: 0 <= pow10 <= 18
-	private static final long getDecimal(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, long rem1, long rem2, long rem3, long rem4, DecimalArithmetic arith, DecimalRounding rounding) {
-		final OverflowMode overflowMode = arith.getOverflowMode();
-		
+	private static final long getDecimal(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, long rem1, long rem2, long rem3, long rem4, DecimalArithmetic arith, DecimalRounding rounding, ArithmeticStatus status) {
 		//apply pow10 first and convert to intVal and fra18 (with scale 18, w/o rounding)
 		final long int18;
 		final long fra18;
 		final long rem18;
+		boolean overflow = false;
 		if (pow10 > 0) {
 			final ScaleMetrics mul10Scale = Scales.getScaleMetrics(pow10);
 			final ScaleMetrics div10Scale = Scales.getScaleMetrics(18 - pow10);
@@ -499,7 +552,9 @@ final class UnsignedDecimal9i36f {
 			final long loVal3 = val3 - div10Scale.multiplyByScaleFactor(hiVal3);
 			final long hiVal2 = div10Scale.divideByScaleFactor(val2);
 			final long loVal2 = val2 - div10Scale.multiplyByScaleFactor(hiVal2);
-			int18 = add(mulByScaleFactor(mul10Scale, ival, overflowMode), hiVal3, overflowMode);//overflow possible (2x)
+			final long ival18 = mul10Scale.multiplyByScaleFactor(ival);
+			int18 = ival18 + hiVal3;//overflow possible (2x)
+			overflow = !mul10Scale.isValidIntegerValue(ival) | Checked.isAddOverflow(ival18, hiVal3, int18);
 			fra18 = mul10Scale.multiplyByScaleFactor(loVal3) + hiVal2;//cannot overflow because it is < 1
 			rem18 = loVal2;
 		} else {
@@ -512,17 +567,17 @@ final class UnsignedDecimal9i36f {
 		final ScaleMetrics diffMetrics = Scales.getScaleMetrics(18 - arith.getScale());
 		final long fraVal = diffMetrics.divideByScaleFactor(fra18);
 		final long fraRem = fra18 - diffMetrics.multiplyByScaleFactor(fraVal);
-		final int inc = getRoundingIncrement(sgn, fraVal, diffMetrics, fraRem, rem18 != 0 | val1 != 0 | val0 != 0 | rem1 != 0 | rem2 != 0 | rem3 != 0 | rem4 != 0, rounding);
+		final boolean nonZeroAfterFraRem = rem18 != 0 | val1 != 0 | val0 != 0 | rem1 != 0 | rem2 != 0 | rem3 != 0 | rem4 != 0;
+		final int inc = getRoundingIncrement(sgn, fraVal, diffMetrics, fraRem, nonZeroAfterFraRem, rounding);
 		final long fraRnd = fraVal + inc;//cannot overflow because it is <= 1
-		final long absVal = add(arith.fromLong(int18), fraRnd, overflowMode);//overflow possible (2x)
-		return sgn >= 0 ? absVal : arith.negate(absVal);
-	}
-	
-	private static final long add(long l1, long l2, OverflowMode overflowMode) {
-		return overflowMode == OverflowMode.UNCHECKED ? l1 + l2 : Checked.addLong(l1, l2);
-	}
-	private static final long mulByScaleFactor(ScaleMetrics scaleMetrics, long val, OverflowMode overflowMode) {
-		return val == 0 ? 0 : overflowMode == OverflowMode.UNCHECKED ? scaleMetrics.multiplyByScaleFactor(val) : scaleMetrics.multiplyByScaleFactorExact(val);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final long intVal = scaleMetrics.multiplyByScaleFactor(int18);
+		final long absVal = intVal + fraRnd;//overflow possible (2x)
+		overflow |= !scaleMetrics.isValidIntegerValue(int18) | Checked.isAddOverflow(intVal, fraRnd, absVal) & (sgn >= 0 | absVal != Long.MIN_VALUE);
+		if (status != null) {
+			status.raise((overflow ? ArithmeticStatus.OVERFLOW : 0) | (fraRem != 0 | nonZeroAfterFraRem ? ArithmeticStatus.INEXACT : 0));
+		}
+		return sgn >= 0 ? absVal : -absVal;
 	}
 
 	private static final long[] LONG_TEN_POWERS_TABLE = {
@@ -553,7 +608,7 @@ final class UnsignedDecimal9i36f {
      * @param absVal the {@code long}
      * @return the length of the unscaled value, in deciaml digits.
      */
-    private static final int log10(long absVal) {
+    static final int log10(long absVal) {
         /*
          * As described in "Bit Twiddling Hacks" by Sean Anderson,
          * (http://graphics.stanford.edu/~seander/bithacks.html)
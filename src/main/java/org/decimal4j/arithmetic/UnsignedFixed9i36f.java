@@ -0,0 +1,580 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scale18f;
+import org.decimal4j.scale.Scale9f;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+
+/**
+ * Helper class for an unsigned fixed point value with 9 integral digits and 36
+ * decimal fraction digits used internally by {@link Exp} and {@link Log} to
+ * evaluate transcendental functions. All operations truncate digits beyond
+ * the 36th fraction digit; the value is held in five 9 digit parts.
+ */
+final class UnsignedFixed9i36f {
+	/** Number of temporary values available via {@link #THREAD_LOCAL}*/
+	static final int TEMPORARIES = 6;
+	/** Thread local for temporary values*/
+	static final ThreadLocal<UnsignedFixed9i36f[]> THREAD_LOCAL = new ThreadLocal<UnsignedFixed9i36f[]>() {
+		@Override
+		protected UnsignedFixed9i36f[] initialValue() {
+			final UnsignedFixed9i36f[] temporaries = new UnsignedFixed9i36f[TEMPORARIES];
+			for (int i = 0; i < temporaries.length; i++) {
+				temporaries[i] = new UnsignedFixed9i36f();
+			}
+			return temporaries;
+		}
+	};
+
+	private static final long S9 = Scale9f.SCALE_FACTOR;
+
+	private long ival;
+	private long val3;
+	private long val2;
+	private long val1;
+	private long val0;
+
+	/** Constructor */
+	private UnsignedFixed9i36f() {
+		super();
+	}
+
+	/**
+	 * Returns a new constant with the given integer and 9 digit fraction
+	 * parts. Constants must not be modified.
+	 * 
+	 * @param ival
+	 *            the integer part
+	 * @param val3
+	 *            the fraction digits 1 to 9
+	 * @param val2
+	 *            the fraction digits 10 to 18
+	 * @param val1
+	 *            the fraction digits 19 to 27
+	 * @param val0
+	 *            the fraction digits 28 to 36
+	 * @return a new fixed point value
+	 */
+	static final UnsignedFixed9i36f constant(long ival, long val3, long val2, long val1, long val0) {
+		final UnsignedFixed9i36f value = new UnsignedFixed9i36f();
+		value.ival = ival;
+		value.val3 = val3;
+		value.val2 = val2;
+		value.val1 = val1;
+		value.val0 = val0;
+		return value;
+	}
+
+	/**
+	 * Assigns the value zero to this fixed point value and returns it.
+	 * 
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f setZero() {
+		return setLong(0);
+	}
+
+	/**
+	 * Assigns the value one to this fixed point value and returns it.
+	 * 
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f setOne() {
+		return setLong(1);
+	}
+
+	/**
+	 * Assigns the given non-negative integer value to this fixed point value
+	 * and returns it.
+	 * 
+	 * @param value
+	 *            the integer value to assign
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f setLong(long value) {
+		this.ival = value;
+		this.val3 = 0;
+		this.val2 = 0;
+		this.val1 = 0;
+		this.val0 = 0;
+		return this;
+	}
+
+	/**
+	 * Assigns the value of {@code copy} to this fixed point value and returns
+	 * it.
+	 * 
+	 * @param copy
+	 *            the value to copy
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f set(UnsignedFixed9i36f copy) {
+		this.ival = copy.ival;
+		this.val3 = copy.val3;
+		this.val2 = copy.val2;
+		this.val1 = copy.val1;
+		this.val0 = copy.val0;
+		return this;
+	}
+
+	/**
+	 * Assigns <tt>unsigned * 10<sup>-scale</sup></tt> to this fixed point value
+	 * and returns it. The value is exact.
+	 * 
+	 * @param unsigned
+	 *            the unscaled value, treated as unsigned 64-bit quantity
+	 * @param scale
+	 *            the scale of the value, between 0 and 36
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f setUnscaled(long unsigned, int scale) {
+		final long hi18;
+		final long lo18;
+		if (scale <= 18) {
+			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+			final long ival = Unsigned.divide(unsigned, scaleMetrics.getScaleFactor());
+			this.ival = ival;
+			hi18 = Scales.getScaleMetrics(18 - scale).multiplyByScaleFactor(unsigned - scaleMetrics.multiplyByScaleFactor(ival));
+			lo18 = 0;
+		} else {
+			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale - 18);
+			final long hi = Unsigned.divide(unsigned, scaleMetrics.getScaleFactor());
+			final long lo = unsigned - scaleMetrics.multiplyByScaleFactor(hi);
+			this.ival = hi / (S9 * S9);
+			hi18 = hi - this.ival * (S9 * S9);
+			lo18 = Scales.getScaleMetrics(36 - scale).multiplyByScaleFactor(lo);
+		}
+		this.val3 = hi18 / S9;
+		this.val2 = hi18 - this.val3 * S9;
+		this.val1 = lo18 / S9;
+		this.val0 = lo18 - this.val1 * S9;
+		return this;
+	}
+
+	/**
+	 * Returns the integer part of this fixed point value.
+	 * 
+	 * @return the integral digits
+	 */
+	public final long getIntegerPart() {
+		return ival;
+	}
+
+	/**
+	 * Sets the integer part of this fixed point value to zero and returns it.
+	 * 
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f clearIntegerPart() {
+		this.ival = 0;
+		return this;
+	}
+
+	/**
+	 * Returns true if this fixed point value is zero.
+	 * 
+	 * @return true if all digits are zero
+	 */
+	public final boolean isZero() {
+		return (ival | val3 | val2 | val1 | val0) == 0;
+	}
+
+	/**
+	 * Adds {@code value} to this fixed point value and returns it.
+	 * 
+	 * @param value
+	 *            the value to add
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f add(UnsignedFixed9i36f value) {
+		long sum, carry;
+		sum = val0 + value.val0;
+		carry = sum >= S9 ? 1 : 0;
+		val0 = sum - carry * S9;
+		sum = val1 + value.val1 + carry;
+		carry = sum >= S9 ? 1 : 0;
+		val1 = sum - carry * S9;
+		sum = val2 + value.val2 + carry;
+		carry = sum >= S9 ? 1 : 0;
+		val2 = sum - carry * S9;
+		sum = val3 + value.val3 + carry;
+		carry = sum >= S9 ? 1 : 0;
+		val3 = sum - carry * S9;
+		ival += value.ival + carry;
+		return this;
+	}
+
+	/**
+	 * Adds {@code units} units of the last fraction digit to this fixed point
+	 * value and returns it.
+	 * 
+	 * @param units
+	 *            a non-negative number of units less than
+	 *            <tt>10<sup>18</sup></tt>
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f addUnits(long units) {
+		long sum, carry;
+		sum = val0 + units % S9;
+		carry = sum / S9;
+		val0 = sum - carry * S9;
+		sum = val1 + units / S9 + carry;
+		carry = sum / S9;
+		val1 = sum - carry * S9;
+		sum = val2 + carry;
+		carry = sum / S9;
+		val2 = sum - carry * S9;
+		sum = val3 + carry;
+		carry = sum / S9;
+		val3 = sum - carry * S9;
+		ival += carry;
+		return this;
+	}
+
+	/**
+	 * Subtracts {@code value} from this fixed point value and returns it.
+	 * 
+	 * @param value
+	 *            the value to subtract, must not be greater than this value
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f subtract(UnsignedFixed9i36f value) {
+		long diff, borrow;
+		diff = val0 - value.val0;
+		borrow = diff < 0 ? 1 : 0;
+		val0 = diff + borrow * S9;
+		diff = val1 - value.val1 - borrow;
+		borrow = diff < 0 ? 1 : 0;
+		val1 = diff + borrow * S9;
+		diff = val2 - value.val2 - borrow;
+		borrow = diff < 0 ? 1 : 0;
+		val2 = diff + borrow * S9;
+		diff = val3 - value.val3 - borrow;
+		borrow = diff < 0 ? 1 : 0;
+		val3 = diff + borrow * S9;
+		ival -= value.ival + borrow;
+		return this;
+	}
+
+	/**
+	 * Compares this fixed point value with the specified value.
+	 * 
+	 * @param value
+	 *            the value to compare with
+	 * @return -1, 0 or 1 if this value is less than, equal to or greater than
+	 *         {@code value}
+	 */
+	public final int compareTo(UnsignedFixed9i36f value) {
+		if (ival != value.ival) return ival < value.ival ? -1 : 1;
+		if (val3 != value.val3) return val3 < value.val3 ? -1 : 1;
+		if (val2 != value.val2) return val2 < value.val2 ? -1 : 1;
+		if (val1 != value.val1) return val1 < value.val1 ? -1 : 1;
+		if (val0 != value.val0) return val0 < value.val0 ? -1 : 1;
+		return 0;
+	}
+
+	/**
+	 * Multiplies this fixed point value with a non-negative integer factor and
+	 * returns it. The result is exact.
+	 * 
+	 * @param factor
+	 *            the factor, between 0 and <tt>10<sup>9</sup></tt>
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f multiplyBy(long factor) {
+		long prod, carry;
+		prod = val0 * factor;
+		carry = prod / S9;
+		val0 = prod - carry * S9;
+		prod = val1 * factor + carry;
+		carry = prod / S9;
+		val1 = prod - carry * S9;
+		prod = val2 * factor + carry;
+		carry = prod / S9;
+		val2 = prod - carry * S9;
+		prod = val3 * factor + carry;
+		carry = prod / S9;
+		val3 = prod - carry * S9;
+		ival = ival * factor + carry;
+		return this;
+	}
+
+	/**
+	 * Divides this fixed point value by a positive integer divisor and returns
+	 * it. Digits after the 36th fraction digit are truncated.
+	 * 
+	 * @param divisor
+	 *            the divisor, between 1 and <tt>9*10<sup>9</sup></tt>
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f divideBy(long divisor) {
+		long quot, rem;
+		quot = ival / divisor;
+		rem = ival - quot * divisor;
+		ival = quot;
+		rem = rem * S9 + val3;
+		quot = rem / divisor;
+		val3 = quot;
+		rem = (rem - quot * divisor) * S9 + val2;
+		quot = rem / divisor;
+		val2 = quot;
+		rem = (rem - quot * divisor) * S9 + val1;
+		quot = rem / divisor;
+		val1 = quot;
+		rem = (rem - quot * divisor) * S9 + val0;
+		val0 = rem / divisor;
+		return this;
+	}
+
+	/**
+	 * Multiplies this fixed point value with another one and returns it.
+	 * Digits after the 36th fraction digit are truncated.
+	 * 
+	 * @param factor
+	 *            the factor, with an integer part less than
+	 *            <tt>10<sup>9</sup></tt>
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f multiply(UnsignedFixed9i36f factor) {
+		//PRECONDITION: ival < Scale9f.SCALE_FACTOR for this and factor
+		final long lhs4 = this.ival;
+		final long lhs3 = this.val3;
+		final long lhs2 = this.val2;
+		final long lhs1 = this.val1;
+		final long lhs0 = this.val0;
+		final long rhs4 = factor.ival;
+		final long rhs3 = factor.val3;
+		final long rhs2 = factor.val2;
+		final long rhs1 = factor.val1;
+		final long rhs0 = factor.val0;
+
+		//NOTE: each product < Scale18f.SCALE_FACTOR and at most 5 products per
+		//      column, hence no column overflows even with carries added
+		final long scale72 = lhs0 * rhs0;
+		long scale63 = lhs1 * rhs0 + rhs1 * lhs0;
+		long scale54 = lhs2 * rhs0 + rhs2 * lhs0 + lhs1 * rhs1;
+		long scale45 = lhs3 * rhs0 + rhs3 * lhs0 + lhs2 * rhs1 + rhs2 * lhs1;
+		long scale36 = lhs4 * rhs0 + rhs4 * lhs0 + lhs3 * rhs1 + rhs3 * lhs1 + lhs2 * rhs2;
+		long scale27 = lhs4 * rhs1 + rhs4 * lhs1 + lhs3 * rhs2 + rhs3 * lhs2;
+		long scale18 = lhs4 * rhs2 + rhs4 * lhs2 + lhs3 * rhs3;
+		long scale09 = lhs4 * rhs3 + rhs4 * lhs3;
+		final long scale00 = lhs4 * rhs4;
+
+		//propagate carries, digits below scale36 are truncated
+		scale63 += scale72 / S9;
+		scale54 += scale63 / S9;
+		scale45 += scale54 / S9;
+		scale36 += scale45 / S9;
+		scale27 += scale36 / S9;
+		scale18 += scale27 / S9;
+		scale09 += scale18 / S9;
+
+		this.ival = scale00 + scale09 / S9;
+		this.val3 = scale09 % S9;
+		this.val2 = scale18 % S9;
+		this.val1 = scale27 % S9;
+		this.val0 = scale36 % S9;
+		return this;
+	}
+
+	/**
+	 * Truncates all fraction digits after the specified number of
+	 * {@code digits} and returns this fixed point value.
+	 * 
+	 * @param digits
+	 *            the number of fraction digits to keep, between 0 and 36
+	 * @return this
+	 */
+	public final UnsignedFixed9i36f truncate(int digits) {
+		val3 = truncate(val3, digits);
+		val2 = truncate(val2, digits - 9);
+		val1 = truncate(val1, digits - 18);
+		val0 = truncate(val0, digits - 27);
+		return this;
+	}
+
+	private static final long truncate(long val, int digits) {
+		if (digits >= 9) {
+			return val;
+		}
+		if (digits <= 0) {
+			return 0;
+		}
+		final long divisor = Scales.getScaleMetrics(9 - digits).getScaleFactor();
+		return val - val % divisor;
+	}
+
+	/**
+	 * Rounds this fixed point value to the nearest value with the specified
+	 * number of fraction {@code digits} if the difference does not exceed the
+	 * given {@code tolerance}. This is used to recover exact results from
+	 * approximations.
+	 * 
+	 * @param digits
+	 *            the number of fraction digits of the grid, between 0 and 36
+	 * @param tolerance
+	 *            the tolerance in units of the last fraction digit, small
+	 *            compared to the grid spacing
+	 * @param temp
+	 *            a temporary value to use for the calculation
+	 * @return true if this value was moved onto the grid, and false if it is
+	 *         not within {@code tolerance} of a grid value and was left
+	 *         unchanged
+	 */
+	public final boolean snapToGrid(int digits, long tolerance, UnsignedFixed9i36f temp) {
+		temp.set(this).addUnits(tolerance).truncate(digits);
+		if (compareTo(temp) < 0) {
+			//grid value is above but within tolerance
+			set(temp);
+			return true;
+		}
+		temp.set(this).truncate(digits);
+		if (val3 == temp.val3 & val2 == temp.val2 & (val1 - temp.val1) * S9 + (val0 - temp.val0) <= tolerance) {
+			//grid value is below but within tolerance
+			set(temp);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns an approximation of this fixed point value as a double.
+	 * 
+	 * @return this value as double
+	 */
+	public final double doubleValue() {
+		return ival + (val3 + (val2 + (val1 + val0 / 1e9) / 1e9) / 1e9) / 1e9;
+	}
+
+	/**
+	 * Returns the unscaled decimal value of <tt>sgn * this * 10<sup>pow10</sup></tt>
+	 * rounded to the scale of the given arithmetic.
+	 * 
+	 * @param sgn
+	 *            the sign of the final result
+	 * @param pow10
+	 *            the power-ten exponent applied to this value
+	 * @param inexact
+	 *            true if this value is only an approximation of the exact
+	 *            value, that is, if the exact value has non-zero digits after
+	 *            the 36th fraction digit
+	 * @param arith
+	 *            the arithmetic defining the scale of the result
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param status
+	 *            the status to raise the {@link ArithmeticStatus#OVERFLOW
+	 *            OVERFLOW} flag if an overflow occurs and the
+	 *            {@link ArithmeticStatus#INEXACT INEXACT} flag if the result
+	 *            was rounded, or null if neither needs to be reported
+	 * @return the rounded unscaled decimal value, the truncated result if an
+	 *         overflow occurs
+	 * @throws ArithmeticException
+	 *             if {@code rounding} is UNNECESSARY and rounding is necessary
+	 */
+	public final long getDecimal(int sgn, int pow10, boolean inexact, DecimalArithmetic arith, DecimalRounding rounding, ArithmeticStatus status) {
+		final int shift = arith.getScale() + pow10;
+		final long hi18 = val3 * S9 + val2;
+		final long lo18 = val1 * S9 + val0;
+		final long absTruncated;
+		final TruncatedPart truncatedPart;
+		boolean overflow = false;
+		if (shift > 18) {
+			//NOTE: only possible for an overflow since ival > 0 in this case
+			if (rounding == DecimalRounding.UNNECESSARY & (inexact || (shift < 36 && lo18 % Scales.getScaleMetrics(36 - shift).getScaleFactor() != 0))) {
+				throw Exceptions.newRoundingNecessaryArithmeticException();
+			}
+			if (status != null) {
+				status.raise(ArithmeticStatus.OVERFLOW);
+			}
+			final long factor = Scale18f.SCALE_FACTOR * Scales.getScaleMetrics(Math.min(shift - 18, 18)).getScaleFactor();
+			return sgn * ival * factor;
+		}
+		if (shift >= 0) {
+			final ScaleMetrics intMetrics = Scales.getScaleMetrics(shift);
+			final long divisor = Scales.getScaleMetrics(18 - shift).getScaleFactor();
+			final long intFrac = hi18 / divisor;
+			final long intVal = intMetrics.multiplyByScaleFactor(ival);
+			absTruncated = intVal + intFrac;
+			overflow = !intMetrics.isValidIntegerValue(ival) | Checked.isAddOverflow(intVal, intFrac, absTruncated);
+			if (shift == 18) {
+				truncatedPart = truncatedPartFor(lo18, Scale18f.SCALE_FACTOR, inexact);
+			} else {
+				truncatedPart = truncatedPartFor(hi18 - intFrac * divisor, divisor, lo18 != 0 | inexact);
+			}
+		} else if (shift > -18) {
+			final long divisor = Scales.getScaleMetrics(-shift).getScaleFactor();
+			absTruncated = ival / divisor;
+			truncatedPart = truncatedPartFor(ival - absTruncated * divisor, divisor, (hi18 | lo18) != 0 | inexact);
+		} else {
+			//NOTE: ival < 10^9, hence the value is less than half ULP
+			absTruncated = 0;
+			truncatedPart = isZero() & !inexact ? TruncatedPart.ZERO : TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+		}
+		final long truncated = sgn < 0 ? -absTruncated : absTruncated;
+		final int inc = rounding.calculateRoundingIncrement(sgn < 0 ? -1 : 1, truncated, truncatedPart);
+		final long result = truncated + inc;
+		if (status != null) {
+			overflow |= Checked.isAddOverflow(truncated, inc, result);
+			status.raise((overflow ? ArithmeticStatus.OVERFLOW : 0) | (truncatedPart == TruncatedPart.ZERO ? 0 : ArithmeticStatus.INEXACT));
+		}
+		return result;
+	}
+
+	private static final TruncatedPart truncatedPartFor(long remainder, long divisor, boolean nonZeroAfterRemainder) {
+		final TruncatedPart truncatedPart = Rounding.truncatedPartFor(remainder, divisor);
+		if (nonZeroAfterRemainder) {
+			if (truncatedPart == TruncatedPart.ZERO) {
+				return TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+			}
+			if (truncatedPart == TruncatedPart.EQUAL_TO_HALF) {
+				return TruncatedPart.GREATER_THAN_HALF;
+			}
+		}
+		return truncatedPart;
+	}
+
+	@Override
+	public final String toString() {
+		final StringBuilder sb = new StringBuilder(48);
+		sb.append(ival).append('.');
+		appendPadded(sb, val3);
+		appendPadded(sb, val2);
+		appendPadded(sb, val1);
+		appendPadded(sb, val0);
+		return sb.toString();
+	}
+
+	private static final void appendPadded(StringBuilder sb, long val) {
+		final int len = sb.length();
+		sb.append(val);
+		sb.insert(len, "000000000", 0, len + 9 - sb.length());
+	}
+}
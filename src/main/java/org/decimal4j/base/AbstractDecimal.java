@@ -127,7 +127,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	 *         rounding and the given {@code overflowMode}
 	 */
 	protected DecimalArithmetic getArithmeticFor(OverflowMode overflowMode) {
-		return getScaleMetrics().getArithmetic(overflowMode == OverflowMode.CHECKED ? CheckedRounding.HALF_UP : UncheckedRounding.HALF_UP);
+		return getScaleMetrics().getDefaultArithmetic().deriveArithmetic(overflowMode);
 	}
 
 	/**
@@ -329,6 +329,15 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		return createOrAssign(getScaleMetrics().moduloByScaleFactor(unscaledValue()));
 	}
 
+	@Override
+	public void integralAndFractionalPart(MutableDecimal<S> integralPart, MutableDecimal<S> fractionalPart) {
+		checkDistinctTargets(integralPart, fractionalPart);
+		final long unscaled = unscaledValue();
+		final long fractional = getScaleMetrics().moduloByScaleFactor(unscaled);
+		integralPart.setUnscaled(unscaled - fractional);
+		fractionalPart.setUnscaled(fractional);
+	}
+
 	/* ----------------------------- rounding ------------------------------ */
 	@Override
 	public D round(int precision) {
@@ -354,6 +363,21 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		return self();
 	}
 
+	@Override
+	public D roundToIncrement(Decimal<S> increment) {
+		return createOrAssign(getDefaultArithmetic().roundToIncrement(unscaledValue(), increment.unscaledValue()));
+	}
+
+	@Override
+	public D roundToIncrement(Decimal<S> increment, RoundingMode roundingMode) {
+		return createOrAssign(getArithmeticFor(roundingMode).roundToIncrement(unscaledValue(), increment.unscaledValue()));
+	}
+
+	@Override
+	public D roundToIncrement(Decimal<S> increment, TruncationPolicy truncationPolicy) {
+		return createOrAssign(getArithmeticFor(truncationPolicy).roundToIncrement(unscaledValue(), increment.unscaledValue()));
+	}
+
 	/* -------------------------------- add -------------------------------- */
 
 	@Override
@@ -777,6 +801,10 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	@Override
 	public D divideToIntegralValue(Decimal<S> divisor, OverflowMode overflowMode) {
 		if (!overflowMode.isChecked()) {
+			if (overflowMode.isSaturating()) {
+				final long longValue = divideToLongValue(divisor, overflowMode);
+				return createOrAssign(getArithmeticFor(overflowMode).multiplyByLong(getScaleMetrics().getScaleFactor(), longValue));
+			}
 			return divideToIntegralValue(divisor);
 		}
 		final long longValue = divideToLongValue(divisor, overflowMode);
@@ -790,7 +818,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 
 	@Override
 	public long divideToLongValue(Decimal<S> divisor, OverflowMode overflowMode) {
-		final DecimalArithmetic arith = getArithmeticFor(overflowMode == OverflowMode.CHECKED ? CheckedRounding.DOWN : UncheckedRounding.DOWN);
+		final DecimalArithmetic arith = getScaleMetrics().getRoundingDownArithmetic().deriveArithmetic(overflowMode);
 		try {
 			return arith.divideByLong(unscaledValue(), divisor.unscaledValue());
 		} catch (ArithmeticException e) {
@@ -816,20 +844,63 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 
 	@Override
 	public D[] divideAndRemainder(Decimal<S> divisor, OverflowMode overflowMode) {
-		if (!overflowMode.isChecked()) {
+		//a saturated quotient would not be consistent with the remainder, hence SATURATING throws like CHECKED
+		if (overflowMode == OverflowMode.UNCHECKED) {
 			return divideAndRemainder(divisor);
 		}
+		final long uDividend = unscaledValue();
+		final long uDivisor = divisor.unscaledValue();
+		final long lIntegral = divideToLongValueExact(divisor);
+		final long uIntegral = getScaleMetrics().multiplyByScaleFactor(lIntegral);
+		final long uReminder = uDividend - uDivisor * lIntegral;
+		final D[] result = createArray(2);
+		result[0] = create(uIntegral);
+		result[1] = create(uReminder);
+		return result;
+	}
+
+	@Override
+	public void divideAndRemainder(Decimal<S> divisor, MutableDecimal<S> quotient, MutableDecimal<S> remainder) {
+		checkDistinctTargets(quotient, remainder);
+		final long uDividend = unscaledValue();
+		final long uDivisor = divisor.unscaledValue();
+		final long lIntegral = uDividend / uDivisor;
+		quotient.setUnscaled(getScaleMetrics().multiplyByScaleFactor(lIntegral));
+		remainder.setUnscaled(uDividend - uDivisor * lIntegral);
+	}
+
+	@Override
+	public void divideAndRemainder(Decimal<S> divisor, MutableDecimal<S> quotient, MutableDecimal<S> remainder,
+			OverflowMode overflowMode) {
+		//a saturated quotient would not be consistent with the remainder, hence SATURATING throws like CHECKED
+		if (overflowMode == OverflowMode.UNCHECKED) {
+			divideAndRemainder(divisor, quotient, remainder);
+			return;
+		}
+		checkDistinctTargets(quotient, remainder);
+		final long uDividend = unscaledValue();
+		final long uDivisor = divisor.unscaledValue();
+		final long lIntegral = divideToLongValueExact(divisor);
+		quotient.setUnscaled(getScaleMetrics().multiplyByScaleFactor(lIntegral));
+		remainder.setUnscaled(uDividend - uDivisor * lIntegral);
+	}
+
+	/**
+	 * Returns the integer part of {@code this / divisor} as long value making
+	 * sure that the result can also be represented as a Decimal.
+	 * 
+	 * @param divisor
+	 *            value by which this {@code Decimal} is to be divided
+	 * @return the integer part of {@code this / divisor}
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0} or if an overflow occurs
+	 */
+	private long divideToLongValueExact(Decimal<S> divisor) {
 		try {
 			final DecimalArithmetic arith = getArithmeticFor(CheckedRounding.DOWN);
-			final long uDividend = unscaledValue();
-			final long uDivisor = divisor.unscaledValue();
-			final long lIntegral = arith.divideByLong(uDividend, uDivisor);
-			final long uIntegral = getScaleMetrics().multiplyByScaleFactorExact(lIntegral);
-			final long uReminder = uDividend - uDivisor * lIntegral;
-			final D[] result = createArray(2);
-			result[0] = create(uIntegral);
-			result[1] = create(uReminder);
-			return result;
+			final long lIntegral = arith.divideByLong(unscaledValue(), divisor.unscaledValue());
+			getScaleMetrics().multiplyByScaleFactorExact(lIntegral);
+			return lIntegral;
 		} catch (ArithmeticException e) {
 			if (divisor.isZero()) {
 				throw new ArithmeticException("Division by zero: integral(" + this + " / " + divisor + ")");
@@ -838,6 +909,12 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		}
 	}
 
+	private static void checkDistinctTargets(Decimal<?> target1, Decimal<?> target2) {
+		if (target1 == target2) {
+			throw new IllegalArgumentException("Target values must be different instances: " + target1);
+		}
+	}
+
 	@Override
 	public D remainder(Decimal<S> divisor) {
 		return createOrAssign(unscaledValue() % divisor.unscaledValue());
@@ -959,6 +1036,66 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		return createOrAssign(getArithmeticFor(truncationPolicy).pow(unscaledValue(), n));
 	}
 
+	@Override
+	public D pow(Decimal<?> exponent) {
+		return createOrAssign(getDefaultArithmetic().pow(unscaledValue(), exponent.unscaledValue(), exponent.getScale()));
+	}
+
+	@Override
+	public D pow(Decimal<?> exponent, RoundingMode roundingMode) {
+		return createOrAssign(getArithmeticFor(roundingMode).pow(unscaledValue(), exponent.unscaledValue(), exponent.getScale()));
+	}
+
+	@Override
+	public D pow(Decimal<?> exponent, TruncationPolicy truncationPolicy) {
+		return createOrAssign(getArithmeticFor(truncationPolicy).pow(unscaledValue(), exponent.unscaledValue(), exponent.getScale()));
+	}
+
+	@Override
+	public D exp() {
+		return createOrAssign(getDefaultArithmetic().exp(unscaledValue()));
+	}
+
+	@Override
+	public D exp(RoundingMode roundingMode) {
+		return createOrAssign(getArithmeticFor(roundingMode).exp(unscaledValue()));
+	}
+
+	@Override
+	public D exp(TruncationPolicy truncationPolicy) {
+		return createOrAssign(getArithmeticFor(truncationPolicy).exp(unscaledValue()));
+	}
+
+	@Override
+	public D ln() {
+		return createOrAssign(getDefaultArithmetic().ln(unscaledValue()));
+	}
+
+	@Override
+	public D ln(RoundingMode roundingMode) {
+		return createOrAssign(getArithmeticFor(roundingMode).ln(unscaledValue()));
+	}
+
+	@Override
+	public D ln(TruncationPolicy truncationPolicy) {
+		return createOrAssign(getArithmeticFor(truncationPolicy).ln(unscaledValue()));
+	}
+
+	@Override
+	public D log10() {
+		return createOrAssign(getDefaultArithmetic().log10(unscaledValue()));
+	}
+
+	@Override
+	public D log10(RoundingMode roundingMode) {
+		return createOrAssign(getArithmeticFor(roundingMode).log10(unscaledValue()));
+	}
+
+	@Override
+	public D log10(TruncationPolicy truncationPolicy) {
+		return createOrAssign(getArithmeticFor(truncationPolicy).log10(unscaledValue()));
+	}
+
 	/* --------------------------- compare etc. ---------------------------- */
 
 	@Override
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.factory;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.io.VarintDecimalCodec;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Serialization proxy for all {@link Decimal} implementations of this library. The decimal classes replace themselves
+ * with an instance of this class when they are serialized and the proxy resolves back into a decimal of the original
+ * type when it is deserialized.
+ * <p>
+ * The serialized form is compact: a single byte with the decimal type and the scale followed by the value encoded
+ * with {@link VarintDecimalCodec} in 1 to 10 bytes. Deserialized immutable decimals are obtained through the
+ * {@link DecimalFactory}, hence constants such as {@code ZERO} or {@code ONE} are returned as the cached instances.
+ * <p>
+ * This class is public only because {@link Externalizable} requires it; it is not intended to be used directly.
+ */
+public final class DecimalSerializationProxy implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Type constant for an immutable decimal such as {@code Decimal2f}
+	 */
+	public static final int IMMUTABLE = 0;
+	/**
+	 * Type constant for a mutable decimal such as {@code MutableDecimal2f}
+	 */
+	public static final int MUTABLE = 1;
+	/**
+	 * Type constant for {@code GenericImmutableDecimal}
+	 */
+	public static final int GENERIC_IMMUTABLE = 2;
+	/**
+	 * Type constant for {@code GenericMutableDecimal}
+	 */
+	public static final int GENERIC_MUTABLE = 3;
+
+	private static final int TYPE_SHIFT = 5;
+	private static final int SCALE_MASK = (1 << TYPE_SHIFT) - 1;
+
+	private int type;
+	private int scale;
+	private long unscaled;
+
+	/**
+	 * Public no-arg constructor required by {@link Externalizable}, used only during deserialization.
+	 */
+	public DecimalSerializationProxy() {
+		super();
+	}
+
+	/**
+	 * Constructor used by the decimal classes to replace themselves with a proxy for serialization.
+	 * 
+	 * @param type
+	 *            the decimal type, one of {@link #IMMUTABLE}, {@link #MUTABLE}, {@link #GENERIC_IMMUTABLE} or
+	 *            {@link #GENERIC_MUTABLE}
+	 * @param value
+	 *            the decimal value to serialize
+	 */
+	public DecimalSerializationProxy(int type, Decimal<?> value) {
+		if (type < IMMUTABLE | type > GENERIC_MUTABLE) {
+			throw new IllegalArgumentException("Invalid decimal type: " + type);
+		}
+		this.type = type;
+		this.scale = value.getScale();
+		this.unscaled = value.unscaledValue();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeByte((type << TYPE_SHIFT) | scale);
+		VarintDecimalCodec.encode(unscaled, scale, out);
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		final int header = in.readUnsignedByte();
+		type = header >>> TYPE_SHIFT;
+		scale = header & SCALE_MASK;
+		if (type > GENERIC_MUTABLE || scale > Scales.MAX_SCALE) {
+			throw new InvalidObjectException("Invalid serialized decimal header: " + header);
+		}
+		try {
+			unscaled = VarintDecimalCodec.decode(in, Scales.getScaleMetrics(scale).getDefaultArithmetic());
+		} catch (IllegalArgumentException e) {
+			final InvalidObjectException exception = new InvalidObjectException("Invalid serialized decimal value: " + e.getMessage());
+			exception.initCause(e);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Resolves this proxy into the decimal value that was serialized.
+	 * 
+	 * @return the deserialized decimal value
+	 * @throws ObjectStreamException
+	 *             if the serialized type is invalid
+	 */
+	private Object readResolve() throws ObjectStreamException {
+		switch (type) {
+		case IMMUTABLE:
+			return Factories.getDecimalFactory(scale).valueOfUnscaled(unscaled);
+		case MUTABLE:
+			return Factories.getDecimalFactory(scale).newMutable().setUnscaled(unscaled);
+		case GENERIC_IMMUTABLE:
+			return Factories.getGenericDecimalFactory(scale).valueOfUnscaled(unscaled);
+		case GENERIC_MUTABLE:
+			return Factories.getGenericDecimalFactory(scale).newMutable().setUnscaled(unscaled);
+		default:
+			throw new InvalidObjectException("Invalid serialized decimal type: " + type);
+		}
+	}
+}
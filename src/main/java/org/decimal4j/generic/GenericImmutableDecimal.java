@@ -28,6 +28,7 @@ import java.util.Objects;
 import org.decimal4j.api.Decimal;
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.base.AbstractImmutableDecimal;
+import org.decimal4j.factory.DecimalSerializationProxy;
 import org.decimal4j.factory.Factories;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
@@ -169,4 +170,15 @@ public final class GenericImmutableDecimal<S extends ScaleMetrics> extends Abstr
 	public GenericImmutableDecimal<S> toImmutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this {@code GenericImmutableDecimal} with a compact {@link DecimalSerializationProxy}
+	 * when it is serialized. The proxy stores only scale and unscaled value
+	 * instead of the scale metrics object.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.GENERIC_IMMUTABLE, this);
+	}
 }
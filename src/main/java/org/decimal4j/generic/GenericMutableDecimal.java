@@ -28,6 +28,7 @@ import java.util.Objects;
 import org.decimal4j.api.Decimal;
 import org.decimal4j.api.MutableDecimal;
 import org.decimal4j.base.AbstractMutableDecimal;
+import org.decimal4j.factory.DecimalSerializationProxy;
 import org.decimal4j.factory.Factories;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
@@ -182,4 +183,15 @@ public final class GenericMutableDecimal<S extends ScaleMetrics>
 	public GenericMutableDecimal<S> toMutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this {@code GenericMutableDecimal} with a compact {@link DecimalSerializationProxy}
+	 * when it is serialized. The proxy stores only scale and unscaled value
+	 * instead of the scale metrics object.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.GENERIC_MUTABLE, this);
+	}
 }
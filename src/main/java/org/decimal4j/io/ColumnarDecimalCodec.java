@@ -0,0 +1,364 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * <tt>ColumnarDecimalCodec</tt> converts between columns of unscaled {@code long} values and the decimal buffer
+ * layouts used by columnar formats such as Apache Arrow and Apache Parquet. No dependency on these libraries is
+ * required; the methods operate directly on the raw data and validity buffers.
+ * <p>
+ * The following layouts are supported:
+ * <ul>
+ * <li><b>INT64:</b> 8 bytes per value, little-endian two's complement; Parquet {@code INT64} decimal and Arrow
+ * {@code Decimal64}</li>
+ * <li><b>Decimal128 little-endian:</b> 16 bytes per value, little-endian two's complement; Arrow
+ * {@code Decimal128}</li>
+ * <li><b>Decimal128 big-endian:</b> 16 bytes per value, big-endian two's complement; Parquet
+ * {@code FIXED_LEN_BYTE_ARRAY(16)} decimal</li>
+ * </ul>
+ * The byte order of the 128 bit layouts is selected with a {@link ByteOrder} argument; the byte order set on the
+ * buffers themselves is ignored. Data buffers are accessed with absolute indices, their position and limit are not
+ * modified.
+ * <p>
+ * The scale of the buffer data is a column level attribute passed to every method. Values are rescaled to or from
+ * the scale of the {@link DecimalArithmetic} argument with {@link DecimalArithmetic#multiplyByPowerOf10(long, int)}
+ * which applies the arithmetic's rounding mode. Overflows are handled according to the arithmetic's
+ * {@link OverflowMode}: a checked arithmetic throws an {@link ArithmeticException}, a saturating arithmetic clamps
+ * the value to {@code Long.MIN_VALUE} or {@code Long.MAX_VALUE} and an unchecked arithmetic silently truncates the
+ * value to its 64 lowest bits. 128 bit values outside of the {@code long} range are treated as overflow even if
+ * rescaling would bring them back into range.
+ * <p>
+ * Null values are represented by Arrow validity bitmaps: bit {@code i % 8} of byte {@code i / 8} is set if row
+ * {@code i} is valid (not null). A validity buffer argument of null means that all rows are valid. Null rows are
+ * mapped to a {@code nullValue} in the {@code long} column chosen by the caller.
+ */
+public final class ColumnarDecimalCodec {
+
+	/**
+	 * Number of bytes per value in INT64 layout.
+	 */
+	public static final int INT64_WIDTH = 8;
+	/**
+	 * Number of bytes per value in 128 bit layout.
+	 */
+	public static final int DECIMAL128_WIDTH = 16;
+
+	/**
+	 * Returns the number of bytes of a validity bitmap for the given number of rows, that is, the row count divided by
+	 * 8 and rounded up. Note that Arrow recommends padding buffers to a multiple of 8 or 64 bytes.
+	 * 
+	 * @param rowCount
+	 *            the number of rows
+	 * @return the minimum length of the validity bitmap in bytes
+	 */
+	public static final int validityLength(int rowCount) {
+		return (rowCount + 7) >>> 3;
+	}
+
+	/**
+	 * Returns true if the specified row is valid (not null) according to the validity bitmap.
+	 * 
+	 * @param validity
+	 *            the validity bitmap, null if all rows are valid
+	 * @param row
+	 *            the row index
+	 * @return true if the row is valid and false if it is null
+	 */
+	public static final boolean isValid(ByteBuffer validity, int row) {
+		return validity == null || (validity.get(row >>> 3) & (1 << (row & 7))) != 0;
+	}
+
+	/**
+	 * Sets or clears the validity bit of the specified row in the validity bitmap.
+	 * 
+	 * @param validity
+	 *            the validity bitmap
+	 * @param row
+	 *            the row index
+	 * @param valid
+	 *            true if the row is valid and false if it is null
+	 */
+	public static final void setValid(ByteBuffer validity, int row, boolean valid) {
+		final int index = row >>> 3;
+		final int bit = 1 << (row & 7);
+		final int bits = validity.get(index);
+		validity.put(index, (byte) (valid ? bits | bit : bits & ~bit));
+	}
+
+	/**
+	 * Reads values from a buffer in INT64 layout into a column of unscaled values with the scale of the given
+	 * arithmetic.
+	 * 
+	 * @param data
+	 *            the data buffer with 8 bytes per row
+	 * @param validity
+	 *            the validity bitmap, or null if all rows are valid
+	 * @param dataScale
+	 *            the scale of the values in the data buffer
+	 * @param row
+	 *            the index of the first row to read
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the result values
+	 * @param dst
+	 *            the destination column for the unscaled values
+	 * @param offset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of rows to read
+	 * @param nullValue
+	 *            the value assigned to {@code dst} for null rows
+	 * @return the number of null rows read
+	 * @throws IndexOutOfBoundsException
+	 *             if the rows exceed the buffer limits or the values exceed the destination array
+	 * @throws ArithmeticException
+	 *             if rescaling causes an overflow and the arithmetic is checked, or if rounding is necessary and the
+	 *             arithmetic's rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final int readInt64(ByteBuffer data, ByteBuffer validity, int dataScale, int row,
+			DecimalArithmetic arith, long[] dst, int offset, int length, long nullValue) {
+		checkArrayRange(dst.length, offset, length);
+		final boolean reverse = data.order() != ByteOrder.LITTLE_ENDIAN;
+		final int scaleDiff = arith.getScale() - dataScale;
+		int nulls = 0;
+		for (int i = 0; i < length; i++) {
+			final int r = row + i;
+			if (isValid(validity, r)) {
+				final long value = data.getLong(r * INT64_WIDTH);
+				dst[offset + i] = rescale(arith, reverse ? Long.reverseBytes(value) : value, scaleDiff);
+			} else {
+				dst[offset + i] = nullValue;
+				nulls++;
+			}
+		}
+		return nulls;
+	}
+
+	/**
+	 * Writes a column of unscaled values to a buffer in INT64 layout. Values are rescaled to the scale of the given
+	 * arithmetic, which defines the scale of the data buffer.
+	 * 
+	 * @param src
+	 *            the source column with the unscaled values
+	 * @param offset
+	 *            the index of the first value in {@code src}
+	 * @param length
+	 *            the number of values to write
+	 * @param srcScale
+	 *            the scale of the values in {@code src}
+	 * @param nullValue
+	 *            values equal to this value are written as null rows if a validity bitmap is given
+	 * @param arith
+	 *            the arithmetic defining data scale, rounding and overflow mode of the written values
+	 * @param data
+	 *            the data buffer with 8 bytes per row
+	 * @param validity
+	 *            the validity bitmap to update, or null if all values are written as valid
+	 * @param row
+	 *            the index of the first row to write
+	 * @return the number of null rows written
+	 * @throws IndexOutOfBoundsException
+	 *             if the rows exceed the buffer limits or the values exceed the source array
+	 * @throws ArithmeticException
+	 *             if rescaling causes an overflow and the arithmetic is checked, or if rounding is necessary and the
+	 *             arithmetic's rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final int writeInt64(long[] src, int offset, int length, int srcScale, long nullValue,
+			DecimalArithmetic arith, ByteBuffer data, ByteBuffer validity, int row) {
+		checkArrayRange(src.length, offset, length);
+		final boolean reverse = data.order() != ByteOrder.LITTLE_ENDIAN;
+		final int scaleDiff = arith.getScale() - srcScale;
+		int nulls = 0;
+		for (int i = 0; i < length; i++) {
+			final int r = row + i;
+			final long value = src[offset + i];
+			long unscaled = 0;
+			if (validity != null && value == nullValue) {
+				setValid(validity, r, false);
+				nulls++;
+			} else {
+				unscaled = rescale(arith, value, scaleDiff);
+				if (validity != null) {
+					setValid(validity, r, true);
+				}
+			}
+			data.putLong(r * INT64_WIDTH, reverse ? Long.reverseBytes(unscaled) : unscaled);
+		}
+		return nulls;
+	}
+
+	/**
+	 * Reads values from a buffer in 128 bit layout into a column of unscaled values with the scale of the given
+	 * arithmetic.
+	 * 
+	 * @param data
+	 *            the data buffer with 16 bytes per row
+	 * @param order
+	 *            {@link ByteOrder#LITTLE_ENDIAN} for Arrow {@code Decimal128} and {@link ByteOrder#BIG_ENDIAN} for
+	 *            Parquet {@code FIXED_LEN_BYTE_ARRAY(16)}
+	 * @param validity
+	 *            the validity bitmap, or null if all rows are valid
+	 * @param dataScale
+	 *            the scale of the values in the data buffer
+	 * @param row
+	 *            the index of the first row to read
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the result values
+	 * @param dst
+	 *            the destination column for the unscaled values
+	 * @param offset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of rows to read
+	 * @param nullValue
+	 *            the value assigned to {@code dst} for null rows
+	 * @return the number of null rows read
+	 * @throws IndexOutOfBoundsException
+	 *             if the rows exceed the buffer limits or the values exceed the destination array
+	 * @throws ArithmeticException
+	 *             if a value exceeds the {@code long} range or if rescaling causes an overflow and the arithmetic is
+	 *             checked, or if rounding is necessary and the arithmetic's rounding mode is
+	 *             {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}; a saturating arithmetic clamps such values
+	 *             to {@code Long.MIN_VALUE} or {@code Long.MAX_VALUE} instead
+	 */
+	public static final int readDecimal128(ByteBuffer data, ByteOrder order, ByteBuffer validity, int dataScale,
+			int row, DecimalArithmetic arith, long[] dst, int offset, int length, long nullValue) {
+		checkArrayRange(dst.length, offset, length);
+		final boolean reverse = data.order() != order;
+		final boolean littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+		final OverflowMode overflowMode = arith.getOverflowMode();
+		final int scaleDiff = arith.getScale() - dataScale;
+		int nulls = 0;
+		for (int i = 0; i < length; i++) {
+			final int r = row + i;
+			if (isValid(validity, r)) {
+				final int index = r * DECIMAL128_WIDTH;
+				final long first = data.getLong(index);
+				final long second = data.getLong(index + 8);
+				final long low = littleEndian ? first : second;
+				final long high = littleEndian ? second : first;
+				final long value = reverse ? Long.reverseBytes(low) : low;
+				final long signedHigh = reverse ? Long.reverseBytes(high) : high;
+				if (signedHigh != (value >> 63) && overflowMode != OverflowMode.UNCHECKED) {
+					if (overflowMode.isSaturating()) {
+						dst[offset + i] = signedHigh < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+						continue;
+					}
+					throw new ArithmeticException("Overflow: 128 bit decimal value in row " + r
+							+ " exceeds the long range");
+				}
+				dst[offset + i] = rescale(arith, value, scaleDiff);
+			} else {
+				dst[offset + i] = nullValue;
+				nulls++;
+			}
+		}
+		return nulls;
+	}
+
+	/**
+	 * Writes a column of unscaled values to a buffer in 128 bit layout. Values are rescaled to the scale of the given
+	 * arithmetic, which defines the scale of the data buffer, and sign extended to 128 bits.
+	 * 
+	 * @param src
+	 *            the source column with the unscaled values
+	 * @param offset
+	 *            the index of the first value in {@code src}
+	 * @param length
+	 *            the number of values to write
+	 * @param srcScale
+	 *            the scale of the values in {@code src}
+	 * @param nullValue
+	 *            values equal to this value are written as null rows if a validity bitmap is given
+	 * @param arith
+	 *            the arithmetic defining data scale, rounding and overflow mode of the written values
+	 * @param data
+	 *            the data buffer with 16 bytes per row
+	 * @param order
+	 *            {@link ByteOrder#LITTLE_ENDIAN} for Arrow {@code Decimal128} and {@link ByteOrder#BIG_ENDIAN} for
+	 *            Parquet {@code FIXED_LEN_BYTE_ARRAY(16)}
+	 * @param validity
+	 *            the validity bitmap to update, or null if all values are written as valid
+	 * @param row
+	 *            the index of the first row to write
+	 * @return the number of null rows written
+	 * @throws IndexOutOfBoundsException
+	 *             if the rows exceed the buffer limits or the values exceed the source array
+	 * @throws ArithmeticException
+	 *             if rescaling causes an overflow and the arithmetic is checked, or if rounding is necessary and the
+	 *             arithmetic's rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final int writeDecimal128(long[] src, int offset, int length, int srcScale, long nullValue,
+			DecimalArithmetic arith, ByteBuffer data, ByteOrder order, ByteBuffer validity, int row) {
+		checkArrayRange(src.length, offset, length);
+		final boolean reverse = data.order() != order;
+		final boolean littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+		final int scaleDiff = arith.getScale() - srcScale;
+		int nulls = 0;
+		for (int i = 0; i < length; i++) {
+			final int r = row + i;
+			final long value = src[offset + i];
+			long low = 0;
+			if (validity != null && value == nullValue) {
+				setValid(validity, r, false);
+				nulls++;
+			} else {
+				low = rescale(arith, value, scaleDiff);
+				if (validity != null) {
+					setValid(validity, r, true);
+				}
+			}
+			long high = low >> 63;
+			if (reverse) {
+				low = Long.reverseBytes(low);
+				high = Long.reverseBytes(high);
+			}
+			final int index = r * DECIMAL128_WIDTH;
+			data.putLong(index, littleEndian ? low : high);
+			data.putLong(index + 8, littleEndian ? high : low);
+		}
+		return nulls;
+	}
+
+	private static final long rescale(DecimalArithmetic arith, long unscaled, int scaleDiff) {
+		return scaleDiff == 0 ? unscaled : arith.multiplyByPowerOf10(unscaled, scaleDiff);
+	}
+
+	private static final void checkArrayRange(int arrayLength, int offset, int length) {
+		if (offset < 0 | length < 0 | offset + length > arrayLength | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + arrayLength);
+		}
+	}
+
+	// no instances
+	private ColumnarDecimalCodec() {
+		super();
+	}
+}
@@ -0,0 +1,636 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * <tt>Decimal64Codec</tt> converts between IEEE 754-2008 {@code decimal64} values and unscaled values of a fixed scale
+ * without going through {@link java.math.BigDecimal}. Both standard encodings of {@code decimal64} are supported:
+ * <ul>
+ * <li><b>BID</b> (binary integer decimal): the coefficient is stored as binary integer</li>
+ * <li><b>DPD</b> (densely packed decimal): the coefficient is stored as 5 declets of 3 digits each plus one leading
+ * digit in the combination field</li>
+ * </ul>
+ * A {@code decimal64} value has a coefficient of up to 16 digits and an exponent in the range {@code [-398, 369]}.
+ * Decoding rescales the value to the scale of the given {@link DecimalArithmetic}, rounding with its rounding mode
+ * and handling overflows according to its overflow mode; a {@link org.decimal4j.truncate.OverflowMode#CHECKED
+ * checked} arithmetic should be used to detect values outside of the representable range. Encoding rounds unscaled
+ * values with more than 16 digits using the arithmetic's rounding mode; it always produces finite values with
+ * exponent {@code -scale} unless rounding was necessary.
+ * <p>
+ * Every method also exists in a variant with {@link ScaleMetrics} and {@link DecimalRounding} arguments instead of an
+ * arithmetic; these variants always check for overflows.
+ * <p>
+ * Infinite and NaN values cannot be decoded and cause an {@link IllegalArgumentException}. Non-canonical
+ * coefficients are decoded as zero as required by the standard.
+ * <p>
+ * All methods are static and thread safe.
+ */
+public final class Decimal64Codec {
+
+	private static final int EXPONENT_BIAS = 398;
+	private static final int DIGITS = 16;
+	private static final long MAX_COEFFICIENT = 9999999999999999L;
+	private static final long[] POW10 = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+			1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L };
+
+	private static final long SIGN_MASK = Long.MIN_VALUE;
+	private static final long BID_SMALL_COEFFICIENT_MASK = (1L << 53) - 1;
+	private static final long BID_LARGE_COEFFICIENT_MASK = (1L << 51) - 1;
+	private static final long BID_LARGE_COEFFICIENT_PREFIX = 1L << 53;
+	private static final int SPECIAL_BITS = 0x3;// combination bits 11
+	private static final int INFINITY_OR_NAN = 0xf;// combination bits 1111
+
+	private static final short[] BIN_TO_DPD = new short[1000];
+	private static final short[] DPD_TO_BIN = new short[1024];
+
+	static {
+		for (int declet = 0; declet < DPD_TO_BIN.length; declet++) {
+			DPD_TO_BIN[declet] = (short) decodeDeclet(declet);
+		}
+		for (int value = 0; value < BIN_TO_DPD.length; value++) {
+			BIN_TO_DPD[value] = (short) encodeDeclet(value);
+		}
+	}
+
+	/**
+	 * Decodes a {@code decimal64} value in BID encoding and returns it as unscaled value with the scale of the given
+	 * arithmetic.
+	 * 
+	 * @param bid
+	 *            the {@code decimal64} value in BID encoding
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the result
+	 * @return the unscaled value in the scale of {@code arith}
+	 * @throws IllegalArgumentException
+	 *             if the value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long decodeBID(long bid, DecimalArithmetic arith) {
+		final int exponent;
+		long coefficient;
+		if (((int) (bid >>> 61) & SPECIAL_BITS) != SPECIAL_BITS) {
+			exponent = (int) (bid >>> 53) & 0x3ff;
+			coefficient = bid & BID_SMALL_COEFFICIENT_MASK;
+		} else {
+			checkFinite(bid, (int) (bid >>> 59) & INFINITY_OR_NAN);
+			exponent = (int) (bid >>> 51) & 0x3ff;
+			coefficient = BID_LARGE_COEFFICIENT_PREFIX | (bid & BID_LARGE_COEFFICIENT_MASK);
+		}
+		if (coefficient > MAX_COEFFICIENT) {
+			coefficient = 0;// non-canonical
+		}
+		return toUnscaled(bid < 0 ? -coefficient : coefficient, exponent, arith);
+	}
+
+	/**
+	 * Decodes a {@code decimal64} value in DPD encoding and returns it as unscaled value with the scale of the given
+	 * arithmetic.
+	 * 
+	 * @param dpd
+	 *            the {@code decimal64} value in DPD encoding
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the result
+	 * @return the unscaled value in the scale of {@code arith}
+	 * @throws IllegalArgumentException
+	 *             if the value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long decodeDPD(long dpd, DecimalArithmetic arith) {
+		final int combination = (int) (dpd >>> 58) & 0x1f;
+		final int exponentHigh;
+		final int leadingDigit;
+		if ((combination >>> 3) != SPECIAL_BITS) {
+			exponentHigh = combination >>> 3;
+			leadingDigit = combination & 0x7;
+		} else {
+			checkFinite(dpd, combination >>> 1);
+			exponentHigh = (combination >>> 1) & 0x3;
+			leadingDigit = 8 | (combination & 0x1);
+		}
+		final int exponent = (exponentHigh << 8) | ((int) (dpd >>> 50) & 0xff);
+		long coefficient = leadingDigit;
+		for (int shift = 40; shift >= 0; shift -= 10) {
+			coefficient = coefficient * 1000 + DPD_TO_BIN[(int) (dpd >>> shift) & 0x3ff];
+		}
+		return toUnscaled(dpd < 0 ? -coefficient : coefficient, exponent, arith);
+	}
+
+	/**
+	 * Encodes an unscaled value with the scale of the given arithmetic as {@code decimal64} value in BID encoding.
+	 * Values with more than 16 digits are rounded with the arithmetic's rounding mode.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with the scale of {@code arith}
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode
+	 * @return the {@code decimal64} value in BID encoding
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode is {@link java.math.RoundingMode#UNNECESSARY
+	 *             UNNECESSARY}
+	 */
+	public static final long encodeBID(long unscaled, DecimalArithmetic arith) {
+		final int truncatedDigits = truncatedDigits(unscaled);
+		long coefficient = truncatedDigits == 0 ? unscaled : arith.divideByPowerOf10(unscaled, truncatedDigits);
+		int exponent = EXPONENT_BIAS - arith.getScale() + truncatedDigits;
+		if (coefficient > MAX_COEFFICIENT | coefficient < -MAX_COEFFICIENT) {
+			// rounded up to 10^16
+			coefficient /= 10;
+			exponent++;
+		}
+		final long sign = coefficient & SIGN_MASK;
+		final long abs = Math.abs(coefficient);
+		if (abs <= BID_SMALL_COEFFICIENT_MASK) {
+			return sign | ((long) exponent << 53) | abs;
+		}
+		return sign | ((long) SPECIAL_BITS << 61) | ((long) exponent << 51) | (abs & BID_LARGE_COEFFICIENT_MASK);
+	}
+
+	/**
+	 * Encodes an unscaled value with the scale of the given arithmetic as {@code decimal64} value in DPD encoding.
+	 * Values with more than 16 digits are rounded with the arithmetic's rounding mode.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with the scale of {@code arith}
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode
+	 * @return the {@code decimal64} value in DPD encoding
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode is {@link java.math.RoundingMode#UNNECESSARY
+	 *             UNNECESSARY}
+	 */
+	public static final long encodeDPD(long unscaled, DecimalArithmetic arith) {
+		final int truncatedDigits = truncatedDigits(unscaled);
+		long coefficient = truncatedDigits == 0 ? unscaled : arith.divideByPowerOf10(unscaled, truncatedDigits);
+		int exponent = EXPONENT_BIAS - arith.getScale() + truncatedDigits;
+		if (coefficient > MAX_COEFFICIENT | coefficient < -MAX_COEFFICIENT) {
+			// rounded up to 10^16
+			coefficient /= 10;
+			exponent++;
+		}
+		final long sign = coefficient & SIGN_MASK;
+		long abs = Math.abs(coefficient);
+		long declets = 0;
+		for (int shift = 0; shift <= 40; shift += 10) {
+			final long quotient = abs / 1000;
+			declets |= ((long) BIN_TO_DPD[(int) (abs - quotient * 1000)]) << shift;
+			abs = quotient;
+		}
+		final int leadingDigit = (int) abs;
+		final int exponentHigh = exponent >>> 8;
+		final int combination = leadingDigit < 8 ? (exponentHigh << 3) | leadingDigit
+				: (SPECIAL_BITS << 3) | (exponentHigh << 1) | (leadingDigit & 0x1);
+		return sign | ((long) combination << 58) | ((long) (exponent & 0xff) << 50) | declets;
+	}
+
+	/**
+	 * Decodes {@code decimal64} values in BID encoding and stores them as unscaled values with the scale of the given
+	 * arithmetic in the destination array.
+	 * 
+	 * @param src
+	 *            the {@code decimal64} values in BID encoding
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the results
+	 * @throws IllegalArgumentException
+	 *             if a value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void decodeBID(long[] src, int srcOffset, long[] dst, int dstOffset, int length, DecimalArithmetic arith) {
+		checkRanges(src, srcOffset, dst, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = decodeBID(src[srcOffset + i], arith);
+		}
+	}
+
+	/**
+	 * Decodes {@code decimal64} values in DPD encoding and stores them as unscaled values with the scale of the given
+	 * arithmetic in the destination array.
+	 * 
+	 * @param src
+	 *            the {@code decimal64} values in DPD encoding
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the results
+	 * @throws IllegalArgumentException
+	 *             if a value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void decodeDPD(long[] src, int srcOffset, long[] dst, int dstOffset, int length, DecimalArithmetic arith) {
+		checkRanges(src, srcOffset, dst, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = decodeDPD(src[srcOffset + i], arith);
+		}
+	}
+
+	/**
+	 * Encodes unscaled values with the scale of the given arithmetic as {@code decimal64} values in BID encoding and
+	 * stores them in the destination array.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of {@code arith}
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the {@code decimal64} values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode is {@link java.math.RoundingMode#UNNECESSARY
+	 *             UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void encodeBID(long[] src, int srcOffset, long[] dst, int dstOffset, int length, DecimalArithmetic arith) {
+		checkRanges(src, srcOffset, dst, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = encodeBID(src[srcOffset + i], arith);
+		}
+	}
+
+	/**
+	 * Encodes unscaled values with the scale of the given arithmetic as {@code decimal64} values in DPD encoding and
+	 * stores them in the destination array.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of {@code arith}
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the {@code decimal64} values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode is {@link java.math.RoundingMode#UNNECESSARY
+	 *             UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void encodeDPD(long[] src, int srcOffset, long[] dst, int dstOffset, int length, DecimalArithmetic arith) {
+		checkRanges(src, srcOffset, dst, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = encodeDPD(src[srcOffset + i], arith);
+		}
+	}
+
+	/**
+	 * Decodes a {@code decimal64} value in BID encoding and returns it as unscaled value with the given scale
+	 * metrics, throwing an exception if an overflow occurs.
+	 * 
+	 * @param bid
+	 *            the {@code decimal64} value in BID encoding
+	 * @param scaleMetrics
+	 *            the scale metrics of the result
+	 * @param rounding
+	 *            the rounding to apply if the value has more fraction digits than the scale of the result
+	 * @return the unscaled value in the scale of {@code scaleMetrics}
+	 * @throws IllegalArgumentException
+	 *             if the value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if rounding is necessary and {@code rounding} is
+	 *             {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long decodeBID(long bid, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		return decodeBID(bid, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Decodes a {@code decimal64} value in DPD encoding and returns it as unscaled value with the given scale
+	 * metrics, throwing an exception if an overflow occurs.
+	 * 
+	 * @param dpd
+	 *            the {@code decimal64} value in DPD encoding
+	 * @param scaleMetrics
+	 *            the scale metrics of the result
+	 * @param rounding
+	 *            the rounding to apply if the value has more fraction digits than the scale of the result
+	 * @return the unscaled value in the scale of {@code scaleMetrics}
+	 * @throws IllegalArgumentException
+	 *             if the value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if rounding is necessary and {@code rounding} is
+	 *             {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long decodeDPD(long dpd, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		return decodeDPD(dpd, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Encodes an unscaled value with the given scale metrics as {@code decimal64} value in BID encoding. Values
+	 * with more than 16 digits are rounded with the given rounding.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with the scale of {@code scaleMetrics}
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled value
+	 * @param rounding
+	 *            the rounding to apply if the value has more than 16 digits
+	 * @return the {@code decimal64} value in BID encoding
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding} is {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long encodeBID(long unscaled, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		return encodeBID(unscaled, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Encodes an unscaled value with the given scale metrics as {@code decimal64} value in DPD encoding. Values
+	 * with more than 16 digits are rounded with the given rounding.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with the scale of {@code scaleMetrics}
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled value
+	 * @param rounding
+	 *            the rounding to apply if the value has more than 16 digits
+	 * @return the {@code decimal64} value in DPD encoding
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding} is {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long encodeDPD(long unscaled, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		return encodeDPD(unscaled, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Decodes {@code decimal64} values in BID encoding and stores them as unscaled values with the given scale
+	 * metrics in the destination array, throwing an exception if an overflow occurs.
+	 * 
+	 * @param src
+	 *            the {@code decimal64} values in BID encoding
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param scaleMetrics
+	 *            the scale metrics of the results
+	 * @param rounding
+	 *            the rounding to apply if a value has more fraction digits than the scale of the results
+	 * @throws IllegalArgumentException
+	 *             if a value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if rounding is necessary and {@code rounding} is
+	 *             {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void decodeBID(long[] src, int srcOffset, long[] dst, int dstOffset, int length, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		decodeBID(src, srcOffset, dst, dstOffset, length, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Decodes {@code decimal64} values in DPD encoding and stores them as unscaled values with the given scale
+	 * metrics in the destination array, throwing an exception if an overflow occurs.
+	 * 
+	 * @param src
+	 *            the {@code decimal64} values in DPD encoding
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param scaleMetrics
+	 *            the scale metrics of the results
+	 * @param rounding
+	 *            the rounding to apply if a value has more fraction digits than the scale of the results
+	 * @throws IllegalArgumentException
+	 *             if a value is infinite or NaN
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if rounding is necessary and {@code rounding} is
+	 *             {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void decodeDPD(long[] src, int srcOffset, long[] dst, int dstOffset, int length, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		decodeDPD(src, srcOffset, dst, dstOffset, length, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Encodes unscaled values with the given scale metrics as {@code decimal64} values in BID encoding and stores
+	 * them in the destination array.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of {@code scaleMetrics}
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the {@code decimal64} values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param rounding
+	 *            the rounding to apply if a value has more than 16 digits
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding} is {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void encodeBID(long[] src, int srcOffset, long[] dst, int dstOffset, int length, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		encodeBID(src, srcOffset, dst, dstOffset, length, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	/**
+	 * Encodes unscaled values with the given scale metrics as {@code decimal64} values in DPD encoding and stores
+	 * them in the destination array.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of {@code scaleMetrics}
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param dst
+	 *            the destination array for the {@code decimal64} values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param rounding
+	 *            the rounding to apply if a value has more than 16 digits
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding} is {@link DecimalRounding#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void encodeDPD(long[] src, int srcOffset, long[] dst, int dstOffset, int length, ScaleMetrics scaleMetrics, DecimalRounding rounding) {
+		encodeDPD(src, srcOffset, dst, dstOffset, length, scaleMetrics.getCheckedArithmetic(rounding.getRoundingMode()));
+	}
+
+	private static final long toUnscaled(long coefficient, int biasedExponent, DecimalArithmetic arith) {
+		final int n = biasedExponent - EXPONENT_BIAS + arith.getScale();
+		return coefficient == 0 | n == 0 ? coefficient : arith.multiplyByPowerOf10(coefficient, n);
+	}
+
+	private static final int truncatedDigits(long unscaled) {
+		// NOTE: negative comparison to handle Long.MIN_VALUE
+		final long negative = unscaled > 0 ? -unscaled : unscaled;
+		if (negative >= -MAX_COEFFICIENT) {
+			return 0;
+		}
+		int digits = 1;
+		while (digits < POW10.length - DIGITS && negative <= -POW10[DIGITS + digits]) {
+			digits++;
+		}
+		return digits;
+	}
+
+	private static final void checkFinite(long value, int specialBits) {
+		if (specialBits == INFINITY_OR_NAN) {
+			throw new IllegalArgumentException("Cannot convert decimal64 to unscaled value: "
+					+ ((value >>> 58 & 0x1) == 0 ? (value < 0 ? "-Infinity" : "Infinity") : "NaN"));
+		}
+	}
+
+	private static final int decodeDeclet(int declet) {
+		final int p = (declet >>> 9) & 1, q = (declet >>> 8) & 1, r = (declet >>> 7) & 1;
+		final int s = (declet >>> 6) & 1, t = (declet >>> 5) & 1, u = (declet >>> 4) & 1;
+		final int v = (declet >>> 3) & 1, w = (declet >>> 2) & 1, x = (declet >>> 1) & 1, y = declet & 1;
+		final int pqr = (p << 2) | (q << 1) | r;
+		final int stu = (s << 2) | (t << 1) | u;
+		final int d1, d2, d3;
+		if (v == 0) {
+			d1 = pqr;
+			d2 = stu;
+			d3 = (w << 2) | (x << 1) | y;
+		} else if (w == 0 & x == 0) {
+			d1 = pqr;
+			d2 = stu;
+			d3 = 8 + y;
+		} else if (w == 0 & x == 1) {
+			d1 = pqr;
+			d2 = 8 + u;
+			d3 = (s << 2) | (t << 1) | y;
+		} else if (w == 1 & x == 0) {
+			d1 = 8 + r;
+			d2 = stu;
+			d3 = (p << 2) | (q << 1) | y;
+		} else if (s == 0 & t == 0) {
+			d1 = 8 + r;
+			d2 = 8 + u;
+			d3 = (p << 2) | (q << 1) | y;
+		} else if (s == 0 & t == 1) {
+			d1 = 8 + r;
+			d2 = (p << 2) | (q << 1) | u;
+			d3 = 8 + y;
+		} else if (s == 1 & t == 0) {
+			d1 = pqr;
+			d2 = 8 + u;
+			d3 = 8 + y;
+		} else {
+			d1 = 8 + r;
+			d2 = 8 + u;
+			d3 = 8 + y;
+		}
+		return d1 * 100 + d2 * 10 + d3;
+	}
+
+	private static final int encodeDeclet(int value) {
+		final int d1 = value / 100, d2 = (value / 10) % 10, d3 = value % 10;
+		final int aei = ((d1 >>> 3) << 2) | ((d2 >>> 3) << 1) | (d3 >>> 3);
+		final int bcd = d1 & 0x7, fgh = d2 & 0x7, jkm = d3 & 0x7;
+		final int d = d1 & 1, h = d2 & 1, m = d3 & 1;
+		final int jk = jkm >>> 1, fg = fgh >>> 1;
+		switch (aei) {
+		case 0:// bcd fgh 0 jkm
+			return (bcd << 7) | (fgh << 4) | jkm;
+		case 1:// bcd fgh 1 00m
+			return (bcd << 7) | (fgh << 4) | 0x8 | m;
+		case 2:// bcd jkh 1 01m
+			return (bcd << 7) | (jk << 5) | (h << 4) | 0xa | m;
+		case 3:// bcd 10h 1 11m
+			return (bcd << 7) | (0x2 << 5) | (h << 4) | 0xe | m;
+		case 4:// jkd fgh 1 10m
+			return (jk << 8) | (d << 7) | (fgh << 4) | 0xc | m;
+		case 5:// fgd 01h 1 11m
+			return (fg << 8) | (d << 7) | (0x1 << 5) | (h << 4) | 0xe | m;
+		case 6:// jkd 00h 1 11m
+			return (jk << 8) | (d << 7) | (h << 4) | 0xe | m;
+		default:// 00d 11h 1 11m
+			return (d << 7) | (0x3 << 5) | (h << 4) | 0xe | m;
+		}
+	}
+
+	private static final void checkRanges(long[] src, int srcOffset, long[] dst, int dstOffset, int length) {
+		if (srcOffset < 0 | length < 0 | srcOffset + length > src.length | srcOffset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + srcOffset + ", " + (srcOffset + length)
+					+ ") is out of bounds for source array length " + src.length);
+		}
+		if (dstOffset < 0 | dstOffset + length > dst.length | dstOffset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + dstOffset + ", " + (dstOffset + length)
+					+ ") is out of bounds for destination array length " + dst.length);
+		}
+	}
+
+	// no instances
+	private Decimal64Codec() {
+		super();
+	}
+}
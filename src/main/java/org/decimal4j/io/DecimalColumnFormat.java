@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Defines the binary layout of a decimal column file as written by {@link DecimalColumnWriter} and read by
+ * {@link MappedDecimalColumn}. All values are stored in little-endian byte order:
+ * 
+ * <pre>
+ * offset  size  content
+ *      0     4  magic number "D4JC"
+ *      4     2  format version
+ *      6     2  scale of the unscaled values
+ *      8     8  row count
+ *     16     8  checksum of the unscaled values
+ *     24     8  reserved (zero)
+ *     32   8*n  unscaled values
+ * </pre>
+ */
+final class DecimalColumnFormat {
+
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	static final int MAGIC = 'D' | ('4' << 8) | ('J' << 16) | ('C' << 24);
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = 32;
+
+	static final int MAGIC_OFFSET = 0;
+	static final int VERSION_OFFSET = 4;
+	static final int SCALE_OFFSET = 6;
+	static final int ROW_COUNT_OFFSET = 8;
+	static final int CHECKSUM_OFFSET = 16;
+
+	static final long CHECKSUM_SEED = 0x6A09E667F3BCC908L;
+	private static final long CHECKSUM_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Returns the updated checksum after adding the given value. The checksum depends on value and position of every
+	 * row and is cheap enough to be computed while writing or scanning.
+	 * 
+	 * @param checksum
+	 *            the current checksum
+	 * @param value
+	 *            the next unscaled value
+	 * @return the new checksum
+	 */
+	static final long updateChecksum(long checksum, long value) {
+		return Long.rotateLeft((checksum ^ value) * CHECKSUM_MULTIPLIER, 31);
+	}
+
+	/**
+	 * Writes a header into the given buffer at the given absolute position.
+	 * 
+	 * @param header
+	 *            the buffer with little-endian byte order
+	 * @param scaleMetrics
+	 *            the scale of the column
+	 * @param rowCount
+	 *            the number of rows
+	 * @param checksum
+	 *            the checksum of all rows
+	 */
+	static final void writeHeader(ByteBuffer header, ScaleMetrics scaleMetrics, long rowCount, long checksum) {
+		header.putInt(MAGIC_OFFSET, MAGIC);
+		header.putShort(VERSION_OFFSET, VERSION);
+		header.putShort(SCALE_OFFSET, (short) scaleMetrics.getScale());
+		header.putLong(ROW_COUNT_OFFSET, rowCount);
+		header.putLong(CHECKSUM_OFFSET, checksum);
+		header.putLong(CHECKSUM_OFFSET + 8, 0);
+	}
+
+	/**
+	 * Validates magic number and version of the header and returns the scale metrics.
+	 * 
+	 * @param header
+	 *            the buffer with little-endian byte order containing the header
+	 * @return the scale metrics of the column
+	 * @throws IOException
+	 *             if the header is not a valid column file header
+	 */
+	static final ScaleMetrics readScaleMetrics(ByteBuffer header) throws IOException {
+		if (header.limit() < HEADER_SIZE || header.getInt(MAGIC_OFFSET) != MAGIC) {
+			throw new IOException("Not a decimal column file, header is invalid");
+		}
+		final short version = header.getShort(VERSION_OFFSET);
+		if (version != VERSION) {
+			throw new IOException("Unsupported decimal column file version: " + version);
+		}
+		final short scale = header.getShort(SCALE_OFFSET);
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IOException("Invalid scale in decimal column file: " + scale);
+		}
+		return Scales.getScaleMetrics(scale);
+	}
+
+	// no instances
+	private DecimalColumnFormat() {
+		super();
+	}
+}
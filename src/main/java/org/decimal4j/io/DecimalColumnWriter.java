@@ -0,0 +1,232 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * <tt>DecimalColumnWriter</tt> writes a column of unscaled decimal values with a fixed scale to a binary column file.
+ * The file can be memory mapped and read with {@link MappedDecimalColumn}.
+ * <p>
+ * The file starts with a 32 byte header containing scale, row count and checksum followed by the unscaled values as
+ * little-endian 8 byte longs. Row count and checksum are written to the header when the writer is
+ * {@link #close() closed}.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class DecimalColumnWriter implements Closeable {
+
+	/**
+	 * The default buffer size in bytes used if no buffer is provided in the constructor.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	private final FileChannel channel;
+	private final ScaleMetrics scaleMetrics;
+	private final ByteBuffer buffer;
+
+	private long rowCount;
+	private long checksum = DecimalColumnFormat.CHECKSUM_SEED;
+	private boolean closed;
+
+	/**
+	 * Creates a writer for the given file channel using a new direct buffer of {@link #DEFAULT_BUFFER_SIZE} bytes. The
+	 * column file is written from the start of the channel and any existing content is truncated.
+	 * 
+	 * @param channel
+	 *            the writable file channel
+	 * @param scaleMetrics
+	 *            the scale of all values written to the column
+	 * @throws IOException
+	 *             if an I/O error occurs when writing the initial header
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public DecimalColumnWriter(FileChannel channel, ScaleMetrics scaleMetrics) throws IOException {
+		this(channel, scaleMetrics, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+	}
+
+	/**
+	 * Creates a writer for the given file channel using the provided buffer. The column file is written from the start
+	 * of the channel and any existing content is truncated. The buffer is {@link ByteBuffer#clear() cleared} and its
+	 * byte order is changed to little-endian.
+	 * 
+	 * @param channel
+	 *            the writable file channel
+	 * @param scaleMetrics
+	 *            the scale of all values written to the column
+	 * @param buffer
+	 *            the buffer used to write values to the channel, usually a direct buffer; the capacity must be at least
+	 *            32 bytes
+	 * @throws IOException
+	 *             if an I/O error occurs when writing the initial header
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 * @throws IllegalArgumentException
+	 *             if the buffer capacity is less than 32 bytes
+	 */
+	public DecimalColumnWriter(FileChannel channel, ScaleMetrics scaleMetrics, ByteBuffer buffer) throws IOException {
+		if (buffer.capacity() < DecimalColumnFormat.HEADER_SIZE) {
+			throw new IllegalArgumentException("Buffer capacity must be at least " + DecimalColumnFormat.HEADER_SIZE
+					+ " but was " + buffer.capacity());
+		}
+		this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.buffer = buffer;
+		this.buffer.clear();
+		this.buffer.order(DecimalColumnFormat.BYTE_ORDER);
+		channel.truncate(0);
+		channel.position(0);
+		// header placeholder, rewritten on close
+		DecimalColumnFormat.writeHeader(buffer, scaleMetrics, 0, 0);
+		buffer.position(DecimalColumnFormat.HEADER_SIZE);
+	}
+
+	/**
+	 * Returns the scale metrics of the values written to the column.
+	 * 
+	 * @return the column's scale metrics
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of values written so far.
+	 * 
+	 * @return the number of rows
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Appends the given unscaled value to the column.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value with the scale of this writer
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public DecimalColumnWriter append(long unscaled) throws IOException {
+		if (buffer.remaining() < 8) {
+			flush();
+		}
+		buffer.putLong(unscaled);
+		checksum = DecimalColumnFormat.updateChecksum(checksum, unscaled);
+		rowCount++;
+		return this;
+	}
+
+	/**
+	 * Appends the given Decimal value to the column.
+	 * 
+	 * @param value
+	 *            the value to append, must have the same scale as this writer
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the scale of the value is different from the scale of this writer
+	 */
+	public DecimalColumnWriter append(Decimal<?> value) throws IOException {
+		if (value.getScale() != scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Expected value with scale " + scaleMetrics.getScale() + " but found "
+					+ value.getScale() + ": " + value);
+		}
+		return append(value.unscaledValue());
+	}
+
+	/**
+	 * Appends {@code length} unscaled values from the given array to the column.
+	 * 
+	 * @param unscaled
+	 *            the unscaled values with the scale of this writer
+	 * @param offset
+	 *            the index of the first value to append
+	 * @param length
+	 *            the number of values to append
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IndexOutOfBoundsException
+	 *             if offset or length are out of the bounds of the array
+	 */
+	public DecimalColumnWriter append(long[] unscaled, int offset, int length) throws IOException {
+		if (offset < 0 | length < 0 | offset + length > unscaled.length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + unscaled.length);
+		}
+		for (int i = offset; i < offset + length; i++) {
+			append(unscaled[i]);
+		}
+		return this;
+	}
+
+	private final void flush() throws IOException {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} finally {
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Writes all buffered values, updates the header with row count and checksum and closes the channel.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			flush();
+			DecimalColumnFormat.writeHeader(buffer, scaleMetrics, rowCount, checksum);
+			buffer.limit(DecimalColumnFormat.HEADER_SIZE);
+			long position = 0;
+			while (buffer.hasRemaining()) {
+				position += channel.write(buffer, position);
+			}
+			buffer.clear();
+			channel.force(false);
+		} finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,429 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.base.AbstractDecimal;
+import org.decimal4j.factory.DecimalSerializationProxy;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.generic.GenericDecimalFactory;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * <tt>DecimalFlyweight</tt> is a {@link MutableDecimal} whose unscaled value is not stored in a field but in 8 bytes
+ * of a {@link ByteBuffer} or {@code byte[]} array. The flyweight is positioned on a value with one of the
+ * {@code wrap(..)} methods and can be repositioned any number of times, for instance once per message received.
+ * <p>
+ * The unscaled value is read from the buffer whenever it is accessed and all operations modifying {@code this}
+ * decimal write the result back to the buffer. Hence a flyweight can be used as read-only view, for instance for
+ * {@link #compareTo(Decimal) comparison} or {@link #toString(Appendable) formatting} of message fields, or as
+ * read-write view such as the target of an arithmetic operation, without copying the value or allocating objects.
+ * <p>
+ * The byte order of the value is fixed when the flyweight is created; it is independent of the
+ * {@link ByteBuffer#order() order} of the wrapped buffer. A newly created flyweight wraps its own 8 byte buffer
+ * holding the value zero.
+ * <p>
+ * Flyweights are not thread safe. A flyweight is serialized as a copy of its current value and deserialized as
+ * {@link org.decimal4j.generic.GenericMutableDecimal GenericMutableDecimal}.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+public final class DecimalFlyweight<S extends ScaleMetrics> extends AbstractDecimal<S, DecimalFlyweight<S>>
+		implements MutableDecimal<S>, Cloneable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of bytes occupied by a decimal value in the wrapped buffer.
+	 */
+	public static final int SIZE = 8;
+
+	private final S scaleMetrics;
+	private final ByteOrder order;
+	private transient ByteBuffer buffer;
+	private transient byte[] array;
+	private transient int offset;
+	private transient boolean reverse;
+
+	/**
+	 * Creates a new flyweight with the given scale reading and writing values in
+	 * {@link ByteOrder#LITTLE_ENDIAN little-endian} byte order.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the wrapped values
+	 */
+	public DecimalFlyweight(S scaleMetrics) {
+		this(scaleMetrics, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new flyweight with the given scale reading and writing values in the specified byte order.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the wrapped values
+	 * @param order
+	 *            the byte order of the wrapped values
+	 */
+	public DecimalFlyweight(S scaleMetrics, ByteOrder order) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.order = Objects.requireNonNull(order, "order cannot be null");
+		wrap(new byte[SIZE], 0);
+	}
+
+	/**
+	 * Positions this flyweight on the value stored at the given index of the buffer. The buffer's position, limit and
+	 * byte order are not modified by this or any other method of the flyweight.
+	 * 
+	 * @param buffer
+	 *            the buffer holding the value
+	 * @param index
+	 *            the index of the first byte of the value in the buffer
+	 * @return this flyweight
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or if less than 8 bytes are available after index
+	 */
+	public DecimalFlyweight<S> wrap(ByteBuffer buffer, int index) {
+		if (index < 0 | index > buffer.limit() - SIZE) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for buffer limit "
+					+ buffer.limit());
+		}
+		this.buffer = buffer;
+		this.array = null;
+		this.offset = index;
+		this.reverse = buffer.order() != order;
+		return this;
+	}
+
+	/**
+	 * Positions this flyweight on the value stored at the given offset of the array.
+	 * 
+	 * @param array
+	 *            the array holding the value
+	 * @param offset
+	 *            the index of the first byte of the value in the array
+	 * @return this flyweight
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if less than 8 bytes are available after offset
+	 */
+	public DecimalFlyweight<S> wrap(byte[] array, int offset) {
+		if (offset < 0 | offset > array.length - SIZE) {
+			throw new IndexOutOfBoundsException("Offset " + offset + " is out of bounds for array length "
+					+ array.length);
+		}
+		if (this.array != array) {
+			this.buffer = ByteBuffer.wrap(array).order(order);
+			this.array = array;
+		}
+		this.offset = offset;
+		this.reverse = false;
+		return this;
+	}
+
+	/**
+	 * Returns the buffer currently wrapped by this flyweight. If an array is wrapped, a buffer backed by the array is
+	 * returned.
+	 * 
+	 * @return the wrapped buffer
+	 */
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	/**
+	 * Returns the index of the first byte of the wrapped value in the {@link #buffer() buffer}.
+	 * 
+	 * @return the index of the wrapped value
+	 */
+	public int offset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the byte order of the wrapped values.
+	 * 
+	 * @return the byte order used to read and write values
+	 */
+	public ByteOrder order() {
+		return order;
+	}
+
+	@Override
+	public long unscaledValue() {
+		final long value = buffer.getLong(offset);
+		return reverse ? Long.reverseBytes(value) : value;
+	}
+
+	private void write(long unscaled) {
+		buffer.putLong(offset, reverse ? Long.reverseBytes(unscaled) : unscaled);
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	@Override
+	public GenericDecimalFactory<S> getFactory() {
+		return Factories.getGenericDecimalFactory(scaleMetrics);
+	}
+
+	@Override
+	protected DecimalFlyweight<S> createOrAssign(long unscaled) {
+		write(unscaled);
+		return this;
+	}
+
+	@Override
+	protected DecimalFlyweight<S> create(long unscaled) {
+		return new DecimalFlyweight<S>(scaleMetrics, order).setUnscaled(unscaled);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected DecimalFlyweight<S>[] createArray(int length) {
+		return new DecimalFlyweight[length];
+	}
+
+	@Override
+	protected DecimalFlyweight<S> self() {
+		return this;
+	}
+
+	@Override
+	public MutableDecimal<?> scale(int scale) {
+		return scale(scale, RoundingMode.HALF_UP);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> MutableDecimal<S> scale(S scaleMetrics) {
+		return scale(scaleMetrics, RoundingMode.HALF_UP);
+	}
+
+	@Override
+	public MutableDecimal<?> scale(int scale, RoundingMode roundingMode) {
+		return scale(Scales.getScaleMetrics(scale), roundingMode);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> MutableDecimal<S> scale(S scaleMetrics, RoundingMode roundingMode) {
+		if (scaleMetrics == getScaleMetrics()) {
+			@SuppressWarnings("unchecked")
+			//safe: we know it is the same scale metrics
+			final MutableDecimal<S> self = (MutableDecimal<S>) this;
+			return self;
+		}
+		try {
+			final long targetUnscaled = scaleMetrics.getArithmetic(roundingMode).fromUnscaled(unscaledValue(), getScale());
+			return getFactory().deriveFactory(scaleMetrics).newMutable().setUnscaled(targetUnscaled);
+		} catch (IllegalArgumentException e) {
+			throw Exceptions.newArithmeticExceptionWithCause("Overflow: cannot convert " + this + " to scale " + scaleMetrics.getScale(), e);
+		}
+	}
+
+	@Override
+	public MutableDecimal<?> multiplyExact(Decimal<?> multiplicand) {
+		final int targetScale = getScale() + multiplicand.getScale();
+		if (targetScale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("sum of scales exceeds max scale: " + targetScale + " > " + Scales.MAX_SCALE);
+		}
+		try {
+			final long unscaledProduct = getCheckedArithmeticFor(RoundingMode.DOWN).multiplyByLong(unscaledValue(), multiplicand.unscaledValue());
+			return getFactory().deriveFactory(targetScale).newMutable().setUnscaled(unscaledProduct);
+		} catch (ArithmeticException e) {
+			throw Exceptions.newOverflowArithmeticException(getScale(), unscaledValue(), " * ", multiplicand.getScale(), multiplicand.unscaledValue());
+		}
+	}
+
+	@Override
+	public DecimalFlyweight<S> setZero() {
+		write(0);
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setOne() {
+		write(scaleMetrics.getScaleFactor());
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setMinusOne() {
+		write(-scaleMetrics.getScaleFactor());
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setUlp() {
+		write(1);
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(Decimal<S> value) {
+		return setUnscaled(value.unscaledValue());
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(Decimal<?> value, RoundingMode roundingMode) {
+		return setUnscaled(value.unscaledValue(), value.getScale(), roundingMode);
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(long value) {
+		write(getDefaultCheckedArithmetic().fromLong(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(BigInteger value) {
+		write(getDefaultCheckedArithmetic().fromBigInteger(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(float value) {
+		write(getDefaultCheckedArithmetic().fromFloat(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(float value, RoundingMode roundingMode) {
+		write(getCheckedArithmeticFor(roundingMode).fromFloat(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(double value) {
+		write(getDefaultCheckedArithmetic().fromDouble(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(double value, RoundingMode roundingMode) {
+		write(getCheckedArithmeticFor(roundingMode).fromDouble(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(BigDecimal value) {
+		write(getDefaultCheckedArithmetic().fromBigDecimal(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(BigDecimal value, RoundingMode roundingMode) {
+		write(getCheckedArithmeticFor(roundingMode).fromBigDecimal(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setUnscaled(long unscaledValue) {
+		write(unscaledValue);
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setUnscaled(long unscaledValue, int scale) {
+		write(getDefaultCheckedArithmetic().fromUnscaled(unscaledValue, scale));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> setUnscaled(long unscaledValue, int scale, RoundingMode roundingMode) {
+		write(getCheckedArithmeticFor(roundingMode).fromUnscaled(unscaledValue, scale));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(String value) {
+		write(getDefaultCheckedArithmetic().parse(value));
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> set(String value, RoundingMode roundingMode) {
+		write(getCheckedArithmeticFor(roundingMode).parse(value));
+		return this;
+	}
+
+	@Override
+	public MutableDecimal<S> min(MutableDecimal<S> val) {
+		return isLessThanOrEqualTo(val) ? this : val;
+	}
+
+	@Override
+	public MutableDecimal<S> max(MutableDecimal<S> val) {
+		return isGreaterThanOrEqualTo(val) ? this : val;
+	}
+
+	/**
+	 * Returns a new flyweight with the same scale and byte order wrapping its own buffer with a copy of the current
+	 * value of this flyweight.
+	 * 
+	 * @return a detached copy of this flyweight
+	 */
+	@Override
+	public DecimalFlyweight<S> clone() {
+		return create(unscaledValue());
+	}
+
+	@Override
+	public ImmutableDecimal<S> toImmutableDecimal() {
+		return Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaledValue());
+	}
+
+	@Override
+	public MutableDecimal<S> toMutableDecimal() {
+		return this;
+	}
+
+	/**
+	 * Replaces this flyweight with a compact {@link DecimalSerializationProxy} holding a copy of the current value
+	 * when it is serialized.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.GENERIC_MUTABLE, this);
+	}
+}
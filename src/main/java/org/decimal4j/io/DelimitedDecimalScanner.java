@@ -0,0 +1,366 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * <tt>DelimitedDecimalScanner</tt> reads delimiter separated records such as CSV or PSV lines from a
+ * {@link ReadableByteChannel} and decodes selected columns directly into unscaled {@code long} arrays.
+ * <p>
+ * The scanner uses a single reusable direct {@link ByteBuffer}. Delimiters and line ends are located in the buffer and
+ * the column values are parsed in place through {@link DecimalArithmetic#parse(CharSequence, int, int)}; no
+ * {@code String} is created per field or line. Extra fraction digits are rounded with the rounding mode of the
+ * arithmetic associated with the column.
+ * <p>
+ * Input is expected to be ASCII encoded (or any ASCII compatible encoding such as UTF-8 or ISO-8859-1). Lines are
+ * terminated by {@code '\n'}, optionally preceded by {@code '\r'}; empty lines are skipped. Quoted fields are not
+ * supported. A single line must fit into the buffer. The channel must be blocking; non-blocking channels are rejected
+ * instead of polled in a busy loop.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class DelimitedDecimalScanner implements Closeable {
+
+	/**
+	 * The default buffer size in bytes used if not specified in the constructor.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final ByteBufferChars chars;
+	private final byte delimiter;
+	private final DecimalArithmetic[] arithmetics;
+	private final int[] slotByField;
+
+	private long lineNumber;
+	private boolean endOfInput;
+
+	/**
+	 * Creates a scanner for the given channel parsing the specified columns with the same arithmetic and using a
+	 * buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+	 * 
+	 * @param channel
+	 *            the channel to read from
+	 * @param delimiter
+	 *            the field delimiter, for instance ',', ';', '|' or '\t'; must be an ASCII character
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of all parsed values
+	 * @param columns
+	 *            the zero based field indices of the columns to parse, in the order they appear in the result arrays
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 * @throws IllegalArgumentException
+	 *             if no columns are specified, if a column index is negative or appears twice, if the delimiter is
+	 *             not an ASCII character or if the channel is a {@link SelectableChannel} in non-blocking mode
+	 */
+	public DelimitedDecimalScanner(ReadableByteChannel channel, char delimiter, DecimalArithmetic arithmetic, int... columns) {
+		this(channel, delimiter, fill(new DecimalArithmetic[columns.length], arithmetic), columns, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a scanner for the given channel parsing the specified columns each with its own arithmetic.
+	 * 
+	 * @param channel
+	 *            the channel to read from
+	 * @param delimiter
+	 *            the field delimiter, for instance ',', ';', '|' or '\t'; must be an ASCII character
+	 * @param arithmetics
+	 *            the arithmetic per column defining scale and rounding mode of the parsed values, the array must have
+	 *            the same length as {@code columns}
+	 * @param columns
+	 *            the zero based field indices of the columns to parse, in the order they appear in the result arrays
+	 * @param bufferSize
+	 *            the size of the direct byte buffer, must be large enough to hold the longest line
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 * @throws IllegalArgumentException
+	 *             if no columns are specified, if a column index is negative or appears twice, if the arrays have
+	 *             different lengths, if the delimiter is not an ASCII character, if the buffer size is not positive
+	 *             or if the channel is a {@link SelectableChannel} in non-blocking mode
+	 */
+	public DelimitedDecimalScanner(ReadableByteChannel channel, char delimiter, DecimalArithmetic[] arithmetics, int[] columns, int bufferSize) {
+		if (columns.length == 0 | columns.length != arithmetics.length) {
+			throw new IllegalArgumentException("Expected at least one column and one arithmetic per column but found "
+					+ columns.length + " columns and " + arithmetics.length + " arithmetics");
+		}
+		if (delimiter > 127 | delimiter == '\n' | delimiter == '\r') {
+			throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line separator: " + delimiter);
+		}
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+		}
+		if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+			throw new IllegalArgumentException("Channel must be in blocking mode: " + channel);
+		}
+		this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+		this.delimiter = (byte) delimiter;
+		this.arithmetics = new DecimalArithmetic[arithmetics.length];
+		this.slotByField = slotByField(columns);
+		for (int i = 0; i < arithmetics.length; i++) {
+			this.arithmetics[i] = Objects.requireNonNull(arithmetics[i], "arithmetic cannot be null");
+		}
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		this.buffer.flip();// nothing to read yet
+		this.chars = new ByteBufferChars(buffer);
+	}
+
+	private static final DecimalArithmetic[] fill(DecimalArithmetic[] arithmetics, DecimalArithmetic arithmetic) {
+		Arrays.fill(arithmetics, arithmetic);
+		return arithmetics;
+	}
+
+	private static final int[] slotByField(int[] columns) {
+		int maxColumn = -1;
+		for (final int column : columns) {
+			if (column < 0) {
+				throw new IllegalArgumentException("Column index cannot be negative: " + column);
+			}
+			maxColumn = Math.max(maxColumn, column);
+		}
+		final int[] slotByField = new int[maxColumn + 1];
+		Arrays.fill(slotByField, -1);
+		for (int slot = 0; slot < columns.length; slot++) {
+			if (slotByField[columns[slot]] >= 0) {
+				throw new IllegalArgumentException("Column index appears twice: " + columns[slot]);
+			}
+			slotByField[columns[slot]] = slot;
+		}
+		return slotByField;
+	}
+
+	/**
+	 * Returns the number of columns parsed by this scanner, that is, the number of arrays expected by
+	 * {@link #read(long[][], int, int)}.
+	 * 
+	 * @return the number of selected columns
+	 */
+	public int getColumnCount() {
+		return arithmetics.length;
+	}
+
+	/**
+	 * Returns the number of lines consumed so far including skipped and empty lines.
+	 * 
+	 * @return the line number of the last line that was read or skipped, zero if nothing has been read yet
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Skips the next line, for instance a header line. The skipped line is not parsed and may have any content.
+	 * 
+	 * @return true if a line was skipped and false if the end of the input has been reached
+	 * @throws IOException
+	 *             if an I/O error occurs or if the line does not fit into the buffer
+	 */
+	public boolean skipLine() throws IOException {
+		final int lineEnd = nextLineEnd();
+		if (lineEnd < 0) {
+			return false;
+		}
+		consumeLine(lineEnd);
+		return true;
+	}
+
+	/**
+	 * Reads up to {@code length} records and stores the parsed unscaled values of the selected columns in the given
+	 * arrays. The value of the {@code i-th} selected column of the {@code k-th} record read by this call is stored in
+	 * {@code columns[i][offset + k]}.
+	 * 
+	 * @param columns
+	 *            the target arrays, one per selected column
+	 * @param offset
+	 *            the index of the first element to write in every target array
+	 * @param length
+	 *            the maximum number of records to read
+	 * @return the number of records read, or -1 if the end of the input has been reached before any record was read
+	 * @throws IOException
+	 *             if an I/O error occurs, if a line does not fit into the buffer or if a line has fewer fields than
+	 *             required by the selected columns
+	 * @throws NumberFormatException
+	 *             if a selected field does not represent a valid decimal value for the column's scale
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the column's rounding mode is
+	 *             {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 * @throws IllegalArgumentException
+	 *             if fewer arrays than {@link #getColumnCount()} are provided
+	 * @throws IndexOutOfBoundsException
+	 *             if a target array is too short to hold {@code length} values starting at {@code offset}
+	 */
+	public int read(long[][] columns, int offset, int length) throws IOException {
+		if (columns.length < arithmetics.length) {
+			throw new IllegalArgumentException("Expected " + arithmetics.length + " target arrays but found " + columns.length);
+		}
+		int count = 0;
+		while (count < length) {
+			final int lineEnd = nextLineEnd();
+			if (lineEnd < 0) {
+				break;
+			}
+			if (parseLine(columns, offset + count, buffer.position(), lineEnd)) {
+				count++;
+			}
+			consumeLine(lineEnd);
+		}
+		return count == 0 & length > 0 ? -1 : count;
+	}
+
+	private final boolean parseLine(long[][] columns, int index, int start, int lineEnd) throws IOException {
+		final int end = lineEnd > start && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+		if (start == end) {
+			return false;// skip empty line
+		}
+		final int lastField = slotByField.length - 1;
+		int field = 0;
+		int fieldStart = start;
+		for (int i = start; ; i++) {
+			if (i == end || buffer.get(i) == delimiter) {
+				final int slot = slotByField[field];
+				if (slot >= 0) {
+					columns[slot][index] = parseField(slot, field, fieldStart, i);
+				}
+				if (field == lastField) {
+					return true;
+				}
+				if (i == end) {
+					throw new IOException("Line " + (lineNumber + 1) + " has only " + (field + 1) + " fields but "
+							+ (lastField + 1) + " are required");
+				}
+				field++;
+				fieldStart = i + 1;
+			}
+		}
+	}
+
+	private final long parseField(int slot, int field, int start, int end) {
+		try {
+			return arithmetics[slot].parse(chars, start, end);
+		} catch (NumberFormatException e) {
+			final NumberFormatException ex = new NumberFormatException(
+					e.getMessage() + " in line " + (lineNumber + 1) + ", field " + field);
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
+	private final void consumeLine(int lineEnd) {
+		buffer.position(lineEnd < buffer.limit() ? lineEnd + 1 : lineEnd);
+		lineNumber++;
+	}
+
+	/**
+	 * Returns the absolute index of the line separator terminating the line at the current buffer position, or the
+	 * buffer limit for the last line without line separator. Returns -1 if no more data is available.
+	 */
+	private final int nextLineEnd() throws IOException {
+		int from = buffer.position();
+		while (true) {
+			final int limit = buffer.limit();
+			for (int i = from; i < limit; i++) {
+				if (buffer.get(i) == '\n') {
+					return i;
+				}
+			}
+			if (endOfInput) {
+				return buffer.hasRemaining() ? limit : -1;
+			}
+			if (buffer.position() == 0 & limit == buffer.capacity()) {
+				throw new IOException("Line " + (lineNumber + 1) + " exceeds the buffer size of " + buffer.capacity() + " bytes");
+			}
+			from = limit - buffer.position();
+			readMore();
+		}
+	}
+
+	private final void readMore() throws IOException {
+		buffer.compact();
+		try {
+			final int n = channel.read(buffer);
+			if (n == 0) {
+				// a blocking channel reads at least one byte or signals the end of the stream
+				throw new IOException("No bytes read from channel, non-blocking channels are not supported");
+			}
+			endOfInput = n < 0;
+		} finally {
+			buffer.flip();
+		}
+	}
+
+	/**
+	 * Closes the underlying channel.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs when closing the channel
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Read-only ASCII character view of the scanner's byte buffer used to parse fields in place.
+	 */
+	private static final class ByteBufferChars implements CharSequence {
+		private final ByteBuffer buffer;
+
+		private ByteBufferChars(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int length() {
+			return buffer.limit();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (buffer.get(index) & 0xff);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			final StringBuilder sb = new StringBuilder(end - start);
+			for (int i = start; i < end; i++) {
+				sb.append(charAt(i));
+			}
+			return sb.toString();
+		}
+
+		@Override
+		public String toString() {
+			return subSequence(buffer.position(), buffer.limit()).toString();
+		}
+	}
+}
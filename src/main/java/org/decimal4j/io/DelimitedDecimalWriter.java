@@ -0,0 +1,358 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * <tt>DelimitedDecimalWriter</tt> writes Decimal values as ASCII text in delimiter separated or fixed-width format to
+ * a {@link WritableByteChannel}.
+ * <p>
+ * Unscaled values are formatted directly into a {@link ByteBuffer} without creating an intermediate {@code String}
+ * or applying any charset encoding. The format of a value is the same as that of {@link Decimal#toString()}, that is,
+ * all {@link ScaleMetrics#getScale() scale} fraction digits are written even if they are zero. Values can optionally
+ * be right aligned to a fixed width by padding them with leading spaces.
+ * <p>
+ * The buffer is written to the channel only when it cannot hold the next value or when {@link #flush()} is called,
+ * hence many lines are batched into a single channel write. The buffer can be provided by the caller, for instance a
+ * direct buffer taken from a pool that is reused for several exports.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class DelimitedDecimalWriter implements Closeable, Flushable {
+
+	/**
+	 * The default buffer size in bytes used if no buffer is provided in the constructor.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Constant to pass as delimiter to the constructor if fields should not be separated, for instance for fixed-width
+	 * formats.
+	 */
+	public static final char NO_DELIMITER = '\0';
+
+	/**
+	 * Max length of a formatted value: 19 digits, sign, decimal point and leading zero
+	 */
+	private static final int MAX_LENGTH = 19 + 1 + 2;
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final byte delimiter;
+	private final byte[] digits = new byte[MAX_LENGTH];
+
+	private boolean firstField = true;
+
+	/**
+	 * Creates a writer for the given channel with a new direct buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+	 * 
+	 * @param channel
+	 *            the channel to write to
+	 * @param delimiter
+	 *            the field delimiter, for instance ',', ';', '|' or '\t', or {@link #NO_DELIMITER} if fields should not
+	 *            be separated; must be an ASCII character
+	 * @throws NullPointerException
+	 *             if channel is null
+	 * @throws IllegalArgumentException
+	 *             if the delimiter is not an ASCII character
+	 */
+	public DelimitedDecimalWriter(WritableByteChannel channel, char delimiter) {
+		this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE), delimiter);
+	}
+
+	/**
+	 * Creates a writer for the given channel using the provided buffer. The buffer is {@link ByteBuffer#clear()
+	 * cleared} before it is used.
+	 * 
+	 * @param channel
+	 *            the channel to write to
+	 * @param buffer
+	 *            the buffer to format values into, usually a direct buffer; must at least hold 22 bytes plus the
+	 *            largest fixed width passed to the write methods
+	 * @param delimiter
+	 *            the field delimiter, for instance ',', ';', '|' or '\t', or {@link #NO_DELIMITER} if fields should not
+	 *            be separated; must be an ASCII character
+	 * @throws NullPointerException
+	 *             if channel or buffer is null
+	 * @throws IllegalArgumentException
+	 *             if the delimiter is not an ASCII character or if the buffer capacity is too small
+	 */
+	public DelimitedDecimalWriter(WritableByteChannel channel, ByteBuffer buffer, char delimiter) {
+		if (delimiter > 127 | delimiter == '\n' | delimiter == '\r') {
+			throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line separator: " + delimiter);
+		}
+		if (buffer.capacity() < MAX_LENGTH + 1) {
+			throw new IllegalArgumentException("Buffer capacity must be at least " + (MAX_LENGTH + 1) + " but was " + buffer.capacity());
+		}
+		this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+		this.buffer = buffer;
+		this.delimiter = (byte) delimiter;
+		this.buffer.clear();
+	}
+
+	/**
+	 * Writes the given Decimal value as next field of the current line.
+	 * 
+	 * @param value
+	 *            the value to write
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public DelimitedDecimalWriter write(Decimal<?> value) throws IOException {
+		return write(value.getScaleMetrics(), value.unscaledValue(), 0);
+	}
+
+	/**
+	 * Writes the given Decimal value right aligned to the given width as next field of the current line.
+	 * 
+	 * @param value
+	 *            the value to write
+	 * @param width
+	 *            the minimum width of the field, shorter values are padded with leading spaces; zero for no padding
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the formatted value is longer than {@code width}, or if width is negative or exceeds the buffer
+	 *             capacity
+	 */
+	public DelimitedDecimalWriter write(Decimal<?> value, int width) throws IOException {
+		return write(value.getScaleMetrics(), value.unscaledValue(), width);
+	}
+
+	/**
+	 * Writes the given unscaled value as next field of the current line.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics defining the scale of the unscaled value
+	 * @param unscaled
+	 *            the unscaled value to write
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public DelimitedDecimalWriter write(ScaleMetrics scaleMetrics, long unscaled) throws IOException {
+		return write(scaleMetrics, unscaled, 0);
+	}
+
+	/**
+	 * Writes the given unscaled value right aligned to the given width as next field of the current line.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics defining the scale of the unscaled value
+	 * @param unscaled
+	 *            the unscaled value to write
+	 * @param width
+	 *            the minimum width of the field, shorter values are padded with leading spaces; zero for no padding
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the formatted value is longer than {@code width}, or if width is negative or exceeds the buffer
+	 *             capacity
+	 */
+	public DelimitedDecimalWriter write(ScaleMetrics scaleMetrics, long unscaled, int width) throws IOException {
+		final int start = format(scaleMetrics.getScale(), unscaled);
+		final int length = MAX_LENGTH - start;
+		final int padding = padding(width, length);
+		ensureRemaining(1 + padding + length);
+		writeDelimiter();
+		for (int i = 0; i < padding; i++) {
+			buffer.put((byte) ' ');
+		}
+		buffer.put(digits, start, length);
+		return this;
+	}
+
+	/**
+	 * Writes the given ASCII text as next field of the current line, for instance a header or an identifier column.
+	 * Non-ASCII characters are replaced by {@code '?'}.
+	 * 
+	 * @param text
+	 *            the text to write
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public DelimitedDecimalWriter writeText(CharSequence text) throws IOException {
+		ensureRemaining(1);
+		writeDelimiter();
+		final int len = text.length();
+		for (int i = 0; i < len; i++) {
+			ensureRemaining(1);
+			final char ch = text.charAt(i);
+			buffer.put(ch < 128 ? (byte) ch : (byte) '?');
+		}
+		return this;
+	}
+
+	/**
+	 * Terminates the current line with a {@code '\n'} line separator. The next field is written to a new line.
+	 * 
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public DelimitedDecimalWriter endLine() throws IOException {
+		ensureRemaining(1);
+		buffer.put((byte) '\n');
+		firstField = true;
+		return this;
+	}
+
+	/**
+	 * Writes {@code length} lines each containing one field per column. Line {@code k} contains the values
+	 * {@code columns[i][offset + k]} for all columns {@code i}.
+	 * 
+	 * @param scales
+	 *            the scale metrics per column
+	 * @param widths
+	 *            the width per column for right aligned fixed-width output, zero for no padding, or null if no column
+	 *            is padded
+	 * @param columns
+	 *            the unscaled values, one array per column
+	 * @param offset
+	 *            the index of the first value to write in every column array
+	 * @param length
+	 *            the number of lines to write
+	 * @return this writer
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the array lengths of {@code scales}, {@code widths} and {@code columns} differ, or if a value does
+	 *             not fit into the width of its column
+	 * @throws IndexOutOfBoundsException
+	 *             if a column array is too short to provide {@code length} values starting at {@code offset}
+	 */
+	public DelimitedDecimalWriter writeLines(ScaleMetrics[] scales, int[] widths, long[][] columns, int offset, int length) throws IOException {
+		if (scales.length != columns.length | (widths != null && widths.length != columns.length)) {
+			throw new IllegalArgumentException("Expected the same number of scales, widths and columns but found "
+					+ scales.length + ", " + (widths == null ? "null" : String.valueOf(widths.length)) + " and " + columns.length);
+		}
+		for (int row = offset; row < offset + length; row++) {
+			for (int col = 0; col < columns.length; col++) {
+				write(scales[col], columns[col][row], widths == null ? 0 : widths[col]);
+			}
+			endLine();
+		}
+		return this;
+	}
+
+	/**
+	 * Writes all buffered bytes to the channel.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void flush() throws IOException {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} finally {
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Flushes all buffered bytes and closes the underlying channel.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private final int padding(int width, int length) {
+		if (width < 0 | width > buffer.capacity() - 1) {
+			throw new IllegalArgumentException("Width must be in [0," + (buffer.capacity() - 1) + "] but was " + width);
+		}
+		if (width == 0) {
+			return 0;
+		}
+		if (length > width) {
+			throw new IllegalArgumentException("Value " + new String(digits, MAX_LENGTH - length, length)
+					+ " does not fit into width " + width);
+		}
+		return width - length;
+	}
+
+	private final void writeDelimiter() {
+		if (!firstField & delimiter != NO_DELIMITER) {
+			buffer.put(delimiter);
+		}
+		firstField = false;
+	}
+
+	private final void ensureRemaining(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	/**
+	 * Formats the given value into the digits array aligned to the end of the array. Returns the start index.
+	 */
+	private final int format(int scale, long unscaled) {
+		final byte[] digits = this.digits;
+		int pos = MAX_LENGTH;
+		// work with negative values to handle Long.MIN_VALUE
+		long value = unscaled < 0 ? unscaled : -unscaled;
+		for (int i = 0; i < scale; i++) {
+			final long quot = value / 10;
+			digits[--pos] = (byte) ('0' + (quot * 10 - value));
+			value = quot;
+		}
+		if (scale > 0) {
+			digits[--pos] = '.';
+		}
+		do {
+			final long quot = value / 10;
+			digits[--pos] = (byte) ('0' + (quot * 10 - value));
+			value = quot;
+		} while (value != 0);
+		if (unscaled < 0) {
+			digits[--pos] = '-';
+		}
+		return pos;
+	}
+}
@@ -0,0 +1,402 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * <tt>DeltaDecimalCodec</tt> compresses blocks of unscaled values with a fixed scale. Consecutive values of a price or
+ * tick series are usually close to each other; the codec therefore stores only the differences between values (or the
+ * differences between differences), zigzag encodes them and packs them with the minimum number of bits required for
+ * the largest difference in the block.
+ * <p>
+ * An encoded block is self-describing and has the following layout:
+ * <ul>
+ * <li>the first value, encoded with {@link VarintDecimalCodec} including the scale</li>
+ * <li>the number of values in the block as unsigned varint</li>
+ * <li>one byte with the {@link Encoding} in bit 7 and the bit width of the packed values in bits 6 to 0</li>
+ * <li>for {@link Encoding#DELTA_OF_DELTA} with more than one value: the first delta as zigzag varint</li>
+ * <li>the bit packed zigzag residuals in little-endian bit order</li>
+ * </ul>
+ * Decoding a block requires no state from previous blocks, hence blocks can be accessed randomly if their start
+ * positions are known, see {@link DeltaDecimalColumn}.
+ * <p>
+ * Differences are calculated with wrap-around long arithmetic which is reversed exactly when decoding; arbitrary
+ * unscaled values can therefore be encoded without overflow checks, only the compression ratio suffers for wildly
+ * varying values.
+ * <p>
+ * Instances of this class are immutable and can be safely used by multiple threads.
+ */
+public final class DeltaDecimalCodec {
+
+	/**
+	 * The encoding applied to consecutive values of a block.
+	 */
+	public static enum Encoding {
+		/**
+		 * Stores the difference between consecutive values. Suitable for random walk series such as trade prices.
+		 */
+		DELTA,
+		/**
+		 * Stores the difference between consecutive deltas. Suitable for series with an approximately constant slope
+		 * such as timestamps or accumulated volumes.
+		 */
+		DELTA_OF_DELTA;
+	}
+
+	private static final int ENCODING_BIT = 0x80;
+	private static final int WIDTH_MASK = 0x7f;
+	private static final int MAX_VARINT_LENGTH = 10;
+
+	private final ScaleMetrics scaleMetrics;
+	private final Encoding encoding;
+
+	/**
+	 * Constructor for a codec with the given scale and encoding.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of all values encoded or decoded with this codec
+	 * @param encoding
+	 *            the encoding applied when encoding values; decoding accepts blocks of both encodings
+	 */
+	public DeltaDecimalCodec(ScaleMetrics scaleMetrics, Encoding encoding) {
+		if (scaleMetrics == null) {
+			throw new NullPointerException("scaleMetrics cannot be null");
+		}
+		if (encoding == null) {
+			throw new NullPointerException("encoding cannot be null");
+		}
+		this.scaleMetrics = scaleMetrics;
+		this.encoding = encoding;
+	}
+
+	/**
+	 * Returns the scale metrics of the values encoded or decoded by this codec.
+	 * 
+	 * @return the scale metrics
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the encoding used to encode values.
+	 * 
+	 * @return the encoding
+	 */
+	public Encoding getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Returns the maximum number of bytes required to encode a block with the given number of values.
+	 * 
+	 * @param length
+	 *            the number of values in the block
+	 * @return the maximum encoded length of the block in bytes
+	 */
+	public static int maxEncodedLength(int length) {
+		return VarintDecimalCodec.MAX_ENCODED_LENGTH + 5 + 1 + MAX_VARINT_LENGTH + 8 * length;
+	}
+
+	/**
+	 * Encodes the specified unscaled values as a single block into the destination buffer starting at the buffer's
+	 * current position and advances the position.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of this codec
+	 * @param offset
+	 *            the index of the first value to encode
+	 * @param length
+	 *            the number of values to encode, must be positive
+	 * @param dst
+	 *            the destination buffer
+	 * @return the number of bytes written
+	 * @throws IllegalArgumentException
+	 *             if {@code length} is not positive
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} and {@code length} exceed the bounds of the source array
+	 * @throws java.nio.BufferOverflowException
+	 *             if the buffer has insufficient space, see {@link #maxEncodedLength(int)}
+	 */
+	public int encode(long[] src, int offset, int length, ByteBuffer dst) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("Length must be positive: " + length);
+		}
+		if (offset < 0 | offset + length > src.length | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + src.length);
+		}
+		final int start = dst.position();
+		final int end = offset + length;
+		VarintDecimalCodec.encode(src[offset], scaleMetrics.getScale(), dst);
+		putVarint(length, dst);
+		long bits = 0;
+		if (encoding == Encoding.DELTA) {
+			for (int i = offset + 1; i < end; i++) {
+				bits |= zigzag(src[i] - src[i - 1]);
+			}
+		} else {
+			for (int i = offset + 2; i < end; i++) {
+				bits |= zigzag(src[i] - 2 * src[i - 1] + src[i - 2]);
+			}
+		}
+		final int width = Long.SIZE - Long.numberOfLeadingZeros(bits);
+		dst.put((byte) (encoding == Encoding.DELTA ? width : width | ENCODING_BIT));
+		if (encoding == Encoding.DELTA) {
+			pack(src, offset + 1, end, width, false, dst);
+		} else if (length > 1) {
+			putVarint(zigzag(src[offset + 1] - src[offset]), dst);
+			pack(src, offset + 2, end, width, true, dst);
+		}
+		return dst.position() - start;
+	}
+
+	/**
+	 * Decodes the block at the source buffer's current position into the destination array and advances the position
+	 * to the start of the next block.
+	 * 
+	 * @param src
+	 *            the source buffer
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param offset
+	 *            the index in {@code dst} for the first decoded value
+	 * @return the number of values decoded, see also {@link #decodedLength(ByteBuffer)}
+	 * @throws IllegalArgumentException
+	 *             if the block is invalid or if the scale of the block differs from the scale of this codec
+	 * @throws IndexOutOfBoundsException
+	 *             if the destination array is too small for all values of the block
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the block
+	 */
+	public int decode(ByteBuffer src, long[] dst, int offset) {
+		final int scale = VarintDecimalCodec.decodeScale(src);
+		if (scale != scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Block scale " + scale + " does not match codec scale "
+					+ scaleMetrics.getScale());
+		}
+		final long first = VarintDecimalCodec.decode(src, scaleMetrics.getDefaultArithmetic());
+		final int length = getLength(src);
+		if (offset < 0 | offset + length > dst.length | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Block with " + length + " values does not fit into array of length "
+					+ dst.length + " at offset " + offset);
+		}
+		final int header = src.get() & 0xff;
+		final int width = header & WIDTH_MASK;
+		if (width > Long.SIZE) {
+			throw newInvalidBlockException("invalid bit width " + width);
+		}
+		dst[offset] = first;
+		if ((header & ENCODING_BIT) == 0) {
+			unpack(src, dst, offset + 1, offset + length, width, false);
+		} else if (length > 1) {
+			dst[offset + 1] = first + unzigzag(getVarint(src));
+			unpack(src, dst, offset + 2, offset + length, width, true);
+		}
+		return length;
+	}
+
+	/**
+	 * Returns the number of values in the block starting at the source buffer's current position. The position of
+	 * the buffer is not modified.
+	 * 
+	 * @param src
+	 *            the source buffer
+	 * @return the number of values in the block
+	 * @throws IllegalArgumentException
+	 *             if the block is invalid
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the block header
+	 */
+	public static int decodedLength(ByteBuffer src) {
+		final ByteBuffer header = src.duplicate();
+		skipFirstValue(header);
+		return getLength(header);
+	}
+
+	/**
+	 * Advances the position of the source buffer to the start of the next block without decoding the values of the
+	 * current block.
+	 * 
+	 * @param src
+	 *            the source buffer positioned at the start of a block
+	 * @return the number of values in the skipped block
+	 * @throws IllegalArgumentException
+	 *             if the block is invalid
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the block
+	 */
+	public static int skip(ByteBuffer src) {
+		skipFirstValue(src);
+		final int length = getLength(src);
+		final int header = src.get() & 0xff;
+		final int width = header & WIDTH_MASK;
+		if (width > Long.SIZE) {
+			throw newInvalidBlockException("invalid bit width " + width);
+		}
+		int residuals = length - 1;
+		if ((header & ENCODING_BIT) != 0 && length > 1) {
+			getVarint(src);
+			residuals--;
+		}
+		final long packedBytes = (residuals * (long) width + 7) >>> 3;
+		if (packedBytes > src.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		src.position(src.position() + (int) packedBytes);
+		return length;
+	}
+
+	private static void skipFirstValue(ByteBuffer src) {
+		int b;
+		int count = 0;
+		do {
+			if (++count > VarintDecimalCodec.MAX_ENCODED_LENGTH) {
+				throw newInvalidBlockException("invalid first value");
+			}
+			b = src.get();
+		} while ((b & 0x80) != 0);
+	}
+
+	private static int getLength(ByteBuffer src) {
+		final long length = getVarint(src);
+		if (length <= 0 | length > Integer.MAX_VALUE) {
+			throw newInvalidBlockException("invalid length " + length);
+		}
+		return (int) length;
+	}
+
+	private static void pack(long[] src, int from, int to, int width, boolean deltaOfDelta, ByteBuffer dst) {
+		if (width == 0) {
+			return;
+		}
+		long acc = 0;
+		int bits = 0;
+		for (int i = from; i < to; i++) {
+			final long value = deltaOfDelta ? zigzag(src[i] - 2 * src[i - 1] + src[i - 2]) : zigzag(src[i] - src[i - 1]);
+			acc |= value << bits;
+			bits += width;
+			if (bits >= Long.SIZE) {
+				putLongLE(acc, dst);
+				bits -= Long.SIZE;
+				acc = bits == 0 ? 0 : value >>> (width - bits);
+			}
+		}
+		for (; bits > 0; bits -= 8) {
+			dst.put((byte) acc);
+			acc >>>= 8;
+		}
+	}
+
+	private static void unpack(ByteBuffer src, long[] dst, int from, int to, int width, boolean deltaOfDelta) {
+		final long packedBytes = ((to - from) * (long) width + 7) >>> 3;
+		if (packedBytes > src.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		final int end = src.position() + (int) packedBytes;
+		final long mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+		final boolean bigEndian = src.order() == ByteOrder.BIG_ENDIAN;
+		long acc = 0;
+		int avail = 0;
+		for (int i = from; i < to; i++) {
+			final long value;
+			if (avail >= width) {
+				value = acc & mask;
+				acc = width == Long.SIZE ? 0 : acc >>> width;
+				avail -= width;
+			} else {
+				final long next = getLongLE(src, end, bigEndian);
+				final int consumed = width - avail;
+				value = (acc | (next << avail)) & mask;
+				acc = consumed == Long.SIZE ? 0 : next >>> consumed;
+				avail = Long.SIZE - consumed;
+			}
+			if (deltaOfDelta) {
+				dst[i] = 2 * dst[i - 1] - dst[i - 2] + unzigzag(value);
+			} else {
+				dst[i] = dst[i - 1] + unzigzag(value);
+			}
+		}
+		src.position(end);
+	}
+
+	private static void putLongLE(long value, ByteBuffer dst) {
+		dst.putLong(dst.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value));
+	}
+
+	private static long getLongLE(ByteBuffer src, int end, boolean bigEndian) {
+		final int pos = src.position();
+		if (end - pos >= 8) {
+			final long value = src.getLong();
+			return bigEndian ? Long.reverseBytes(value) : value;
+		}
+		long value = 0;
+		for (int shift = 0; src.position() < end; shift += 8) {
+			value |= (src.get() & 0xffL) << shift;
+		}
+		return value;
+	}
+
+	private static void putVarint(long value, ByteBuffer dst) {
+		while ((value & ~0x7fL) != 0) {
+			dst.put((byte) ((value & 0x7f) | 0x80));
+			value >>>= 7;
+		}
+		dst.put((byte) value);
+	}
+
+	private static long getVarint(ByteBuffer src) {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			final int b = src.get();
+			value |= ((long) (b & 0x7f)) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw newInvalidBlockException("varint too long");
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long zigzag) {
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+
+	private static IllegalArgumentException newInvalidBlockException(String reason) {
+		return new IllegalArgumentException("Invalid encoded decimal block: " + reason);
+	}
+
+	@Override
+	public String toString() {
+		return "DeltaDecimalCodec[scale=" + scaleMetrics.getScale() + ", encoding=" + encoding + "]";
+	}
+}
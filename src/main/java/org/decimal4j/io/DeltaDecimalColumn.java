@@ -0,0 +1,332 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * <tt>DeltaDecimalColumn</tt> is a read-only column of unscaled values stored as a sequence of blocks compressed with
+ * a {@link DeltaDecimalCodec}. All blocks except the last contain the same number of values, hence the block holding
+ * a given row is found in constant time and can be decoded independently of all other blocks.
+ * <p>
+ * The encoded bytes are simply the concatenation of all blocks. They can be stored and later restored with
+ * {@link #wrap(ScaleMetrics, ByteBuffer)}, for instance from a memory mapped file.
+ * <p>
+ * Values are best accessed block-wise with {@link #decodeBlock(int, long[], int)} and an array of
+ * {@link #getBlockSize() block size} length that is reused for all blocks.
+ * <p>
+ * Instances of this class are immutable and can be safely used by multiple threads.
+ */
+public final class DeltaDecimalColumn {
+
+	/**
+	 * The default number of values per block.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private final DeltaDecimalCodec codec;
+	private final ByteBuffer encoded;
+	private final int[] blockOffsets;
+	private final int blockSize;
+	private final int size;
+
+	private DeltaDecimalColumn(DeltaDecimalCodec codec, ByteBuffer encoded, int[] blockOffsets, int blockSize, int size) {
+		this.codec = codec;
+		this.encoded = encoded;
+		this.blockOffsets = blockOffsets;
+		this.blockSize = blockSize;
+		this.size = size;
+	}
+
+	/**
+	 * Encodes the given unscaled values with the {@link #DEFAULT_BLOCK_SIZE default block size}.
+	 * 
+	 * @param codec
+	 *            the codec defining scale and encoding
+	 * @param values
+	 *            the unscaled values to encode
+	 * @param offset
+	 *            the index of the first value to encode
+	 * @param length
+	 *            the number of values to encode
+	 * @return the encoded column
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} and {@code length} exceed the bounds of the values array
+	 */
+	public static DeltaDecimalColumn encode(DeltaDecimalCodec codec, long[] values, int offset, int length) {
+		return encode(codec, values, offset, length, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Encodes the given unscaled values in blocks of the specified size.
+	 * 
+	 * @param codec
+	 *            the codec defining scale and encoding
+	 * @param values
+	 *            the unscaled values to encode
+	 * @param offset
+	 *            the index of the first value to encode
+	 * @param length
+	 *            the number of values to encode
+	 * @param blockSize
+	 *            the number of values per block
+	 * @return the encoded column
+	 * @throws IllegalArgumentException
+	 *             if {@code blockSize} is not positive
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} and {@code length} exceed the bounds of the values array
+	 */
+	public static DeltaDecimalColumn encode(DeltaDecimalCodec codec, long[] values, int offset, int length, int blockSize) {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+		}
+		if (offset < 0 | length < 0 | offset + length > values.length | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + values.length);
+		}
+		final int blockCount = (int) ((length + (long) blockSize - 1) / blockSize);
+		final int[] blockOffsets = new int[blockCount];
+		ByteBuffer buffer = ByteBuffer.allocate(DeltaDecimalCodec.maxEncodedLength(Math.min(length, blockSize)));
+		for (int block = 0; block < blockCount; block++) {
+			final int from = offset + block * blockSize;
+			final int count = Math.min(blockSize, offset + length - from);
+			final int maxLength = DeltaDecimalCodec.maxEncodedLength(count);
+			if (buffer.remaining() < maxLength) {
+				buffer = grow(buffer, maxLength);
+			}
+			blockOffsets[block] = buffer.position();
+			codec.encode(values, from, count, buffer);
+		}
+		buffer.flip();
+		final ByteBuffer encoded = ByteBuffer.allocate(buffer.remaining());
+		encoded.put(buffer).flip();
+		return new DeltaDecimalColumn(codec, encoded, blockOffsets, blockSize, length);
+	}
+
+	/**
+	 * Creates a column from encoded blocks, for instance the bytes returned by {@link #getEncoded()} of another
+	 * column. The block index is rebuilt by skipping through the block headers; no values are decoded. The buffer
+	 * content between its position and limit must not be modified after calling this method.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale of the encoded values
+	 * @param encoded
+	 *            the encoded blocks between position and limit of the buffer
+	 * @return the column
+	 * @throws IllegalArgumentException
+	 *             if the encoded bytes are not valid, if blocks other than the last have different sizes or if the
+	 *             scale of the blocks differs from {@code scaleMetrics}
+	 */
+	public static DeltaDecimalColumn wrap(ScaleMetrics scaleMetrics, ByteBuffer encoded) {
+		final ByteBuffer blocks = encoded.slice();
+		final DeltaDecimalCodec codec = new DeltaDecimalCodec(scaleMetrics, DeltaDecimalCodec.Encoding.DELTA);
+		int[] blockOffsets = new int[16];
+		int blockCount = 0;
+		int blockSize = 0;
+		int lastBlockSize = 0;
+		long size = 0;
+		try {
+			while (blocks.hasRemaining()) {
+				if (blockCount > 0 && lastBlockSize != blockSize) {
+					throw new IllegalArgumentException("Invalid encoded decimal column: block " + (blockCount - 1)
+							+ " has " + lastBlockSize + " values but block 0 has " + blockSize);
+				}
+				final int scale = VarintDecimalCodec.decodeScale(blocks);
+				if (scale != scaleMetrics.getScale()) {
+					throw new IllegalArgumentException("Block scale " + scale + " does not match column scale "
+							+ scaleMetrics.getScale());
+				}
+				if (blockCount == blockOffsets.length) {
+					blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+				}
+				blockOffsets[blockCount++] = blocks.position();
+				lastBlockSize = DeltaDecimalCodec.skip(blocks);
+				if (blockCount == 1) {
+					blockSize = lastBlockSize;
+				}
+				size += lastBlockSize;
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Invalid encoded decimal column: last block is truncated", e);
+		}
+		if (size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid encoded decimal column: too many values " + size);
+		}
+		blocks.flip();
+		return new DeltaDecimalColumn(codec, blocks, Arrays.copyOf(blockOffsets, blockCount), Math.max(blockSize, 1), (int) size);
+	}
+
+	private static ByteBuffer grow(ByteBuffer buffer, int minRemaining) {
+		final long capacity = Math.max(buffer.capacity() * 2L, buffer.position() + (long) minRemaining);
+		final ByteBuffer grown = ByteBuffer.allocate((int) Math.min(capacity, Integer.MAX_VALUE));
+		buffer.flip();
+		grown.put(buffer);
+		return grown;
+	}
+
+	/**
+	 * Returns the scale metrics of the values in this column.
+	 * 
+	 * @return the scale metrics
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return codec.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the number of values in this column.
+	 * 
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of values per block; only the last block can contain fewer values.
+	 * 
+	 * @return the block size
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * Returns the number of blocks in this column.
+	 * 
+	 * @return the block count
+	 */
+	public int getBlockCount() {
+		return blockOffsets.length;
+	}
+
+	/**
+	 * Returns the number of bytes of the encoded blocks.
+	 * 
+	 * @return the encoded size in bytes
+	 */
+	public int getEncodedSize() {
+		return encoded.limit();
+	}
+
+	/**
+	 * Returns a read-only view of the encoded blocks. The returned buffer is positioned at the start of the first
+	 * block and its limit is set to the end of the last block.
+	 * 
+	 * @return the encoded bytes of this column
+	 */
+	public ByteBuffer getEncoded() {
+		return encoded.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Decodes all values of the specified block into the destination array.
+	 * 
+	 * @param block
+	 *            the block index, in {@code [0, getBlockCount())}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param offset
+	 *            the index in {@code dst} for the first decoded value
+	 * @return the number of values decoded, equal to the block size for all but the last block
+	 * @throws IndexOutOfBoundsException
+	 *             if the block index is invalid or if the destination array is too small for the block's values
+	 */
+	public int decodeBlock(int block, long[] dst, int offset) {
+		if (block < 0 | block >= blockOffsets.length) {
+			throw new IndexOutOfBoundsException("Block " + block + " is out of bounds for block count "
+					+ blockOffsets.length);
+		}
+		final ByteBuffer src = encoded.duplicate();
+		src.position(blockOffsets[block]);
+		return codec.decode(src, dst, offset);
+	}
+
+	/**
+	 * Copies the specified range of unscaled values into the destination array. Only the blocks overlapping with the
+	 * range are decoded.
+	 * 
+	 * @param index
+	 *            the index of the first value to read
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} for the first value
+	 * @param length
+	 *            the number of values to read
+	 * @throws IndexOutOfBoundsException
+	 *             if the range exceeds the bounds of this column or of the destination array
+	 */
+	public void read(int index, long[] dst, int offset, int length) {
+		if (index < 0 | length < 0 | index + length > size | index + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + index + ", " + (index + length)
+					+ ") is out of bounds for column size " + size);
+		}
+		if (offset < 0 | offset + length > dst.length | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + dst.length);
+		}
+		if (length == 0) {
+			return;
+		}
+		final int end = index + length;
+		final long[] buffer = new long[Math.min(blockSize, size)];
+		for (int block = index / blockSize; block * (long) blockSize < end; block++) {
+			final int blockStart = block * blockSize;
+			final int count = decodeBlock(block, buffer, 0);
+			final int from = Math.max(index, blockStart);
+			final int to = Math.min(end, blockStart + count);
+			System.arraycopy(buffer, from - blockStart, dst, offset + from - index, to - from);
+		}
+	}
+
+	/**
+	 * Returns the unscaled value at the given index. Note that this method decodes the whole block containing the
+	 * value; use {@link #decodeBlock(int, long[], int)} or {@link #read(int, long[], int, int)} to access many values.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return the unscaled value at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of bounds
+	 */
+	public long getUnscaled(int index) {
+		if (index < 0 | index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for column size " + size);
+		}
+		final long[] buffer = new long[Math.min(blockSize, size)];
+		decodeBlock(index / blockSize, buffer, 0);
+		return buffer[index % blockSize];
+	}
+
+	@Override
+	public String toString() {
+		return "DeltaDecimalColumn[scale=" + getScaleMetrics().getScale() + ", size=" + size + ", blocks="
+				+ blockOffsets.length + ", encodedSize=" + getEncodedSize() + "]";
+	}
+}
@@ -0,0 +1,342 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.base.AbstractDecimal;
+import org.decimal4j.factory.DecimalSerializationProxy;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.generic.GenericDecimalFactory;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * <tt>LazyDecimal</tt> is a {@link Decimal} holding a reference to the character range of its string representation
+ * instead of the parsed value. The range is parsed through {@link DecimalArithmetic#parse(CharSequence, int, int)}
+ * when the value is accessed for the first time and the unscaled result is cached for subsequent accesses.
+ * <p>
+ * A lazy decimal is intended for message fields that are often not read at all: {@link #reset(CharSequence, int, int)
+ * resetting} the decimal to a new range only captures the source and the range bounds, hence unused fields cost
+ * nothing beyond that. The same instance can be reset for every message received. Note that the source is not copied;
+ * it must not be modified until the value has been accessed or until the decimal is reset.
+ * <p>
+ * Arithmetic operations never modify a lazy decimal, they return a new instance holding the already computed result.
+ * If the range is not a valid decimal, a {@link NumberFormatException} is thrown by the first and every subsequent
+ * numeric access until the decimal is reset. Lazy decimals are not thread safe and are serialized as a copy of their
+ * value, deserialized as {@link org.decimal4j.generic.GenericImmutableDecimal GenericImmutableDecimal}.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+public final class LazyDecimal<S extends ScaleMetrics> extends AbstractDecimal<S, LazyDecimal<S>> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final S scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final transient AsciiChars asciiChars = new AsciiChars();
+	private transient CharSequence source;
+	private transient int start;
+	private transient int end;
+	private transient boolean parsed;
+	private transient long unscaled;
+
+	/**
+	 * Creates a new lazy decimal with the given scale and value zero. Values with more fractional digits than the
+	 * scale are rounded {@link RoundingMode#HALF_UP HALF_UP} when they are parsed.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the parsed values
+	 */
+	public LazyDecimal(S scaleMetrics) {
+		this(scaleMetrics, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Creates a new lazy decimal with the given scale and value zero using the specified rounding mode when parsing
+	 * values with more fractional digits than the scale.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the parsed values
+	 * @param roundingMode
+	 *            the rounding mode applied when parsing values
+	 */
+	public LazyDecimal(S scaleMetrics, RoundingMode roundingMode) {
+		this(scaleMetrics, scaleMetrics.getArithmetic(roundingMode), 0);
+	}
+
+	private LazyDecimal(S scaleMetrics, DecimalArithmetic arithmetic, long unscaled) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.arithmetic = arithmetic;
+		this.parsed = true;
+		this.unscaled = unscaled;
+	}
+
+	/**
+	 * Resets this decimal to the value represented by the given character sequence. The sequence is not parsed until
+	 * the value is accessed.
+	 * 
+	 * @param source
+	 *            the character sequence containing the string representation of the value
+	 * @return this decimal
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start} or {@code end} are out of the bounds of the source
+	 */
+	public LazyDecimal<S> reset(CharSequence source) {
+		return reset(source, 0, source.length());
+	}
+
+	/**
+	 * Resets this decimal to the value represented by the characters from {@code start} (inclusive) to {@code end}
+	 * (exclusive) of the given character sequence. The range is not parsed until the value is accessed.
+	 * 
+	 * @param source
+	 *            the character sequence containing the string representation of the value
+	 * @param start
+	 *            the index of the first character of the value in the source
+	 * @param end
+	 *            the index after the last character of the value in the source
+	 * @return this decimal
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start} or {@code end} are out of the bounds of the source
+	 */
+	public LazyDecimal<S> reset(CharSequence source, int start, int end) {
+		checkRange(start, end, source.length());
+		this.source = source;
+		this.start = start;
+		this.end = end;
+		this.parsed = false;
+		return this;
+	}
+
+	/**
+	 * Resets this decimal to the value represented by the ASCII characters from {@code start} (inclusive) to
+	 * {@code end} (exclusive) of the given byte array. The range is not parsed until the value is accessed.
+	 * 
+	 * @param source
+	 *            the byte array containing the ASCII string representation of the value
+	 * @param start
+	 *            the index of the first byte of the value in the source
+	 * @param end
+	 *            the index after the last byte of the value in the source
+	 * @return this decimal
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start} or {@code end} are out of the bounds of the source
+	 */
+	public LazyDecimal<S> reset(byte[] source, int start, int end) {
+		checkRange(start, end, source.length);
+		asciiChars.bytes = source;
+		this.source = asciiChars;
+		this.start = start;
+		this.end = end;
+		this.parsed = false;
+		return this;
+	}
+
+	/**
+	 * Resets this decimal to the given unscaled value. The value is available immediately and no parsing is involved.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value
+	 * @return this decimal
+	 */
+	public LazyDecimal<S> resetUnscaled(long unscaled) {
+		clearSource();
+		this.unscaled = unscaled;
+		this.parsed = true;
+		return this;
+	}
+
+	/**
+	 * Returns true if the value of this decimal has already been parsed or if no parsing is required.
+	 * 
+	 * @return true if the value is available without parsing
+	 */
+	public boolean isParsed() {
+		return parsed;
+	}
+
+	private static void checkRange(int start, int end, int length) {
+		if (start < 0 | start > end | end > length) {
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + length);
+		}
+	}
+
+	private void clearSource() {
+		asciiChars.bytes = null;
+		source = null;
+	}
+
+	@Override
+	public long unscaledValue() {
+		if (!parsed) {
+			unscaled = arithmetic.parse(source, start, end);
+			parsed = true;
+			clearSource();
+		}
+		return unscaled;
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	@Override
+	public GenericDecimalFactory<S> getFactory() {
+		return Factories.getGenericDecimalFactory(scaleMetrics);
+	}
+
+	@Override
+	protected LazyDecimal<S> createOrAssign(long unscaled) {
+		return create(unscaled);
+	}
+
+	@Override
+	protected LazyDecimal<S> create(long unscaled) {
+		return new LazyDecimal<S>(scaleMetrics, arithmetic, unscaled);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected LazyDecimal<S>[] createArray(int length) {
+		return new LazyDecimal[length];
+	}
+
+	@Override
+	protected LazyDecimal<S> self() {
+		return this;
+	}
+
+	@Override
+	public Decimal<?> scale(int scale) {
+		return scale(scale, RoundingMode.HALF_UP);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> Decimal<S> scale(S scaleMetrics) {
+		return scale(scaleMetrics, RoundingMode.HALF_UP);
+	}
+
+	@Override
+	public Decimal<?> scale(int scale, RoundingMode roundingMode) {
+		return scale(Scales.getScaleMetrics(scale), roundingMode);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> Decimal<S> scale(S scaleMetrics, RoundingMode roundingMode) {
+		if (scaleMetrics == getScaleMetrics()) {
+			@SuppressWarnings("unchecked")
+			// safe: we know it is the same scale metrics
+			final Decimal<S> self = (Decimal<S>) this;
+			return self;
+		}
+		try {
+			final long targetUnscaled = scaleMetrics.getArithmetic(roundingMode).fromUnscaled(unscaledValue(), getScale());
+			return getFactory().deriveFactory(scaleMetrics).valueOfUnscaled(targetUnscaled);
+		} catch (IllegalArgumentException e) {
+			throw Exceptions.newArithmeticExceptionWithCause(
+					"Overflow: cannot convert " + this + " to scale " + scaleMetrics.getScale(), e);
+		}
+	}
+
+	@Override
+	public Decimal<?> multiplyExact(Decimal<?> multiplicand) {
+		final int targetScale = getScale() + multiplicand.getScale();
+		if (targetScale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("sum of scales in exact multiplication exceeds max scale "
+					+ Scales.MAX_SCALE + ": " + this + " * " + multiplicand);
+		}
+		try {
+			final long unscaledProduct = getDefaultCheckedArithmetic().multiplyByLong(unscaledValue(),
+					multiplicand.unscaledValue());
+			return getFactory().deriveFactory(targetScale).valueOfUnscaled(unscaledProduct);
+		} catch (ArithmeticException e) {
+			throw Exceptions.newOverflowArithmeticException(getScale(), unscaledValue(), " * ",
+					multiplicand.getScale(), multiplicand.unscaledValue());
+		}
+	}
+
+	@Override
+	public ImmutableDecimal<S> toImmutableDecimal() {
+		return getFactory().valueOfUnscaled(unscaledValue());
+	}
+
+	@Override
+	public MutableDecimal<S> toMutableDecimal() {
+		return getFactory().newMutable().setUnscaled(unscaledValue());
+	}
+
+	/**
+	 * Replaces this lazy decimal with a compact {@link DecimalSerializationProxy} holding a copy of its value when it
+	 * is serialized.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.GENERIC_IMMUTABLE, this);
+	}
+
+	/**
+	 * Reusable ASCII character view of a byte array.
+	 */
+	private static final class AsciiChars implements CharSequence {
+		private byte[] bytes;
+
+		@Override
+		public int length() {
+			return bytes.length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (bytes[index] & 0xff);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return new String(bytes, 0, bytes.length, StandardCharsets.US_ASCII);
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * <tt>MantissaExponentCodec</tt> converts between the {@code (mantissa, exponent)} representation of decimal numbers
+ * used by binary market data protocols such as SBE or FIX and unscaled values of a fixed scale. The value of a
+ * mantissa/exponent pair is <tt>mantissa &times; 10<sup>exponent</sup></tt>; exponents are signed bytes and usually
+ * vary from message to message.
+ * <p>
+ * Conversion to unscaled values uses a table of powers of ten and the corresponding overflow thresholds so that the
+ * common case of a non-negative scale difference costs a multiplication and a range check. Negative scale differences
+ * require rounding and are delegated to {@link DecimalArithmetic#multiplyByPowerOf10(long, int)} using the
+ * arithmetic's rounding and overflow mode.
+ * <p>
+ * Conversion from unscaled values strips trailing zeros to obtain the shortest mantissa and the largest exponent; zero
+ * is represented with mantissa and exponent zero.
+ * <p>
+ * All methods are static and thread safe.
+ */
+public final class MantissaExponentCodec {
+
+	private static final long[] POW10 = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+			1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L };
+	private static final long[] MAX_MULTIPLIABLE = new long[POW10.length];
+
+	static {
+		for (int i = 0; i < POW10.length; i++) {
+			MAX_MULTIPLIABLE[i] = Long.MAX_VALUE / POW10[i];
+		}
+	}
+
+	/**
+	 * Converts a mantissa/exponent pair into an unscaled value with the scale of the given arithmetic.
+	 * 
+	 * @param mantissa
+	 *            the mantissa
+	 * @param exponent
+	 *            the power of ten exponent
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the result
+	 * @return the unscaled value <tt>round(mantissa &times; 10<sup>exponent + scale</sup>)</tt>
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public static final long toUnscaled(long mantissa, int exponent, DecimalArithmetic arith) {
+		final int n = exponent + arith.getScale();
+		if (n >= 0 & n < POW10.length) {
+			if (mantissa <= MAX_MULTIPLIABLE[n] & mantissa >= -MAX_MULTIPLIABLE[n]) {
+				return mantissa * POW10[n];
+			}
+		}
+		return arith.multiplyByPowerOf10(mantissa, n);
+	}
+
+	/**
+	 * Converts mantissa/exponent pairs into unscaled values with the scale of the given arithmetic.
+	 * 
+	 * @param mantissas
+	 *            the mantissas
+	 * @param exponents
+	 *            the power of ten exponents, one per mantissa
+	 * @param srcOffset
+	 *            the index of the first pair in {@code mantissas} and {@code exponents}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index of the first value in {@code dst}
+	 * @param length
+	 *            the number of values to convert
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode of the results
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked, or if rounding is necessary and
+	 *             the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void toUnscaled(long[] mantissas, byte[] exponents, int srcOffset, long[] dst, int dstOffset,
+			int length, DecimalArithmetic arith) {
+		checkRange("mantissas", mantissas.length, srcOffset, length);
+		checkRange("exponents", exponents.length, srcOffset, length);
+		checkRange("dst", dst.length, dstOffset, length);
+		final int scale = arith.getScale();
+		for (int i = 0; i < length; i++) {
+			final long mantissa = mantissas[srcOffset + i];
+			final int n = exponents[srcOffset + i] + scale;
+			if (n >= 0 && n < POW10.length && mantissa <= MAX_MULTIPLIABLE[n] & mantissa >= -MAX_MULTIPLIABLE[n]) {
+				dst[dstOffset + i] = mantissa * POW10[n];
+			} else {
+				dst[dstOffset + i] = arith.multiplyByPowerOf10(mantissa, n);
+			}
+		}
+	}
+
+	/**
+	 * Converts unscaled values with the given scale into mantissa/exponent pairs with the shortest possible mantissa.
+	 * 
+	 * @param src
+	 *            the unscaled values
+	 * @param srcOffset
+	 *            the index of the first value in {@code src}
+	 * @param scale
+	 *            the scale of the unscaled values
+	 * @param mantissas
+	 *            the destination array for the mantissas
+	 * @param exponents
+	 *            the destination array for the exponents
+	 * @param dstOffset
+	 *            the index of the first pair in {@code mantissas} and {@code exponents}
+	 * @param length
+	 *            the number of values to convert
+	 * @throws IllegalArgumentException
+	 *             if the scale is not in {@code [0, 18]}
+	 * @throws IndexOutOfBoundsException
+	 *             if the ranges exceed the array bounds
+	 */
+	public static final void fromUnscaled(long[] src, int srcOffset, int scale, long[] mantissas, byte[] exponents,
+			int dstOffset, int length) {
+		if (scale < 0 | scale >= POW10.length) {
+			throw new IllegalArgumentException("Illegal scale, must be in [0," + (POW10.length - 1) + "] but was: "
+					+ scale);
+		}
+		checkRange("src", src.length, srcOffset, length);
+		checkRange("mantissas", mantissas.length, dstOffset, length);
+		checkRange("exponents", exponents.length, dstOffset, length);
+		for (int i = 0; i < length; i++) {
+			final long unscaled = src[srcOffset + i];
+			final int zeros = trailingZeros(unscaled);
+			mantissas[dstOffset + i] = zeros == 0 ? unscaled : unscaled / POW10[zeros];
+			exponents[dstOffset + i] = (byte) (unscaled == 0 ? 0 : zeros - scale);
+		}
+	}
+
+	/**
+	 * Returns the number of decimal trailing zeros of the given value, a value between 0 and 18. Zero has no trailing
+	 * zeros by definition of this method.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the number of trailing zeros in the decimal representation of {@code value}
+	 */
+	public static final int trailingZeros(long value) {
+		if (value == 0 || (value & 1) != 0 || value % 10 != 0) {
+			return 0;
+		}
+		long v = value / 10;
+		int zeros = 1;
+		if (v % 100000000 == 0) {
+			v /= 100000000;
+			zeros += 8;
+			if (v % 100000000 == 0) {
+				v /= 100000000;
+				zeros += 8;
+			}
+		}
+		if (v % 10000 == 0) {
+			v /= 10000;
+			zeros += 4;
+		}
+		if (v % 100 == 0) {
+			v /= 100;
+			zeros += 2;
+		}
+		if (v % 10 == 0) {
+			zeros++;
+		}
+		return zeros;
+	}
+
+	private static final void checkRange(String name, int arrayLength, int offset, int length) {
+		if (offset < 0 | length < 0 | offset + length > arrayLength | offset + length < 0) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for " + name + " array length " + arrayLength);
+		}
+	}
+
+	// no instances
+	private MantissaExponentCodec() {
+		super();
+	}
+}
@@ -0,0 +1,359 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * <tt>MappedDecimalColumn</tt> provides read access to a binary column file written by {@link DecimalColumnWriter}.
+ * The file is memory mapped, hence opening even very large files is fast and values are read directly from the
+ * mapped pages without copying the data into the heap.
+ * <p>
+ * The column acts like a read-only array of unscaled values with the column's {@link #getScaleMetrics() scale}.
+ * Values can be accessed randomly by index or in bulk. Bulk scans such as {@link #sum(DecimalArithmetic, long, long)}
+ * use a {@link DecimalArithmetic} for the operations on the unscaled values.
+ * <p>
+ * Files larger than 2GB are mapped in several segments. Note that mapped memory is only released when the column
+ * object is garbage collected; {@link #close()} closes the file channel but the mapped values remain accessible.
+ * <p>
+ * Instances of this class can be safely used by multiple threads.
+ */
+public final class MappedDecimalColumn implements Closeable {
+
+	private static final int SEGMENT_SHIFT = 27;// 2^27 longs = 1GB per segment
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+	private final FileChannel channel;
+	private final ScaleMetrics scaleMetrics;
+	private final long size;
+	private final long checksum;
+	private final LongBuffer[] segments;
+
+	private MappedDecimalColumn(FileChannel channel) throws IOException {
+		final long fileSize = channel.size();
+		final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+				Math.min(fileSize, DecimalColumnFormat.HEADER_SIZE));
+		header.order(DecimalColumnFormat.BYTE_ORDER);
+		this.channel = channel;
+		this.scaleMetrics = DecimalColumnFormat.readScaleMetrics(header);
+		this.size = header.getLong(DecimalColumnFormat.ROW_COUNT_OFFSET);
+		this.checksum = header.getLong(DecimalColumnFormat.CHECKSUM_OFFSET);
+		if (size < 0 || (fileSize - DecimalColumnFormat.HEADER_SIZE) / 8 < size) {
+			throw new IOException("Decimal column file is truncated, expected " + size + " rows but file size is "
+					+ fileSize + " bytes");
+		}
+		this.segments = mapSegments(channel, size);
+	}
+
+	private static final LongBuffer[] mapSegments(FileChannel channel, long size) throws IOException {
+		final int segmentCount = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+		final LongBuffer[] segments = new LongBuffer[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			final long first = ((long) i) << SEGMENT_SHIFT;
+			final long count = Math.min(size - first, 1L << SEGMENT_SHIFT);
+			final ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+					DecimalColumnFormat.HEADER_SIZE + first * 8, count * 8);
+			segments[i] = bytes.order(DecimalColumnFormat.BYTE_ORDER).asLongBuffer();
+		}
+		return segments;
+	}
+
+	/**
+	 * Opens and maps the column file at the given path.
+	 * 
+	 * @param path
+	 *            the path of the column file
+	 * @return the mapped column
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file is not a valid column file
+	 */
+	public static MappedDecimalColumn open(Path path) throws IOException {
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new MappedDecimalColumn(channel);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		} catch (RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Maps the column file accessible through the given file channel. The channel is closed when the returned column
+	 * is {@link #close() closed}.
+	 * 
+	 * @param channel
+	 *            a readable file channel of a column file
+	 * @return the mapped column
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file is not a valid column file
+	 */
+	public static MappedDecimalColumn map(FileChannel channel) throws IOException {
+		return new MappedDecimalColumn(channel);
+	}
+
+	/**
+	 * Returns the scale metrics of the values in this column.
+	 * 
+	 * @return the column's scale metrics
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of values in this column.
+	 * 
+	 * @return the row count of the column
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the unscaled value at the given index.
+	 * 
+	 * @param index
+	 *            the row index
+	 * @return the unscaled value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not less than {@link #size()}
+	 */
+	public long getUnscaled(long index) {
+		checkIndex(index);
+		return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+	}
+
+	/**
+	 * Returns the value at the given index as a new immutable Decimal. Use {@link #getUnscaled(long)} to avoid the
+	 * allocation.
+	 * 
+	 * @param index
+	 *            the row index
+	 * @return the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not less than {@link #size()}
+	 */
+	public Decimal<?> get(long index) {
+		return GenericImmutableDecimal.valueOfUnscaled(scaleMetrics, getUnscaled(index));
+	}
+
+	/**
+	 * Copies {@code length} unscaled values starting at the given column index into the destination array.
+	 * 
+	 * @param index
+	 *            the column index of the first value to copy
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first element to write in {@code dst}
+	 * @param length
+	 *            the number of values to copy
+	 * @throws IndexOutOfBoundsException
+	 *             if the column range or the destination range is out of bounds
+	 */
+	public void read(long index, long[] dst, int offset, int length) {
+		checkRange(index, index + length);
+		if (offset < 0 | length < 0 | offset + length > dst.length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+					+ ") is out of bounds for array length " + dst.length);
+		}
+		long pos = index;
+		int off = offset;
+		int remaining = length;
+		while (remaining > 0) {
+			final LongBuffer segment = segments[(int) (pos >>> SEGMENT_SHIFT)].duplicate();
+			segment.position((int) (pos & SEGMENT_MASK));
+			final int n = Math.min(remaining, segment.remaining());
+			segment.get(dst, off, n);
+			pos += n;
+			off += n;
+			remaining -= n;
+		}
+	}
+
+	/**
+	 * Returns the sum of the values in the row range {@code [from, to)} using the given arithmetic. The arithmetic
+	 * determines the scale of the result and whether overflows are checked. If the arithmetic has a different scale
+	 * than the column, the column values are converted with
+	 * {@link DecimalArithmetic#addUnscaled(long, long, int) addUnscaled(..)} and rounded if necessary.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to add the values
+	 * @param from
+	 *            the first row index, inclusive
+	 * @param to
+	 *            the last row index, exclusive
+	 * @return the unscaled sum with the scale of {@code arith}
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is checked
+	 */
+	public long sum(DecimalArithmetic arith, long from, long to) {
+		checkRange(from, to);
+		final int scale = scaleMetrics.getScale();
+		final boolean sameScale = arith.getScale() == scale;
+		long sum = 0;
+		for (long pos = from; pos < to;) {
+			final LongBuffer segment = segments[(int) (pos >>> SEGMENT_SHIFT)];
+			final int start = (int) (pos & SEGMENT_MASK);
+			final int end = (int) Math.min(segment.limit(), start + (to - pos));
+			if (sameScale) {
+				for (int i = start; i < end; i++) {
+					sum = arith.add(sum, segment.get(i));
+				}
+			} else {
+				for (int i = start; i < end; i++) {
+					sum = arith.addUnscaled(sum, segment.get(i), scale);
+				}
+			}
+			pos += end - start;
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the smallest unscaled value in the row range {@code [from, to)}.
+	 * 
+	 * @param from
+	 *            the first row index, inclusive
+	 * @param to
+	 *            the last row index, exclusive
+	 * @return the minimum unscaled value in the range
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 * @throws NoSuchElementException
+	 *             if the range is empty
+	 */
+	public long min(long from, long to) {
+		return minOrMax(from, to, true);
+	}
+
+	/**
+	 * Returns the largest unscaled value in the row range {@code [from, to)}.
+	 * 
+	 * @param from
+	 *            the first row index, inclusive
+	 * @param to
+	 *            the last row index, exclusive
+	 * @return the maximum unscaled value in the range
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 * @throws NoSuchElementException
+	 *             if the range is empty
+	 */
+	public long max(long from, long to) {
+		return minOrMax(from, to, false);
+	}
+
+	private final long minOrMax(long from, long to, boolean min) {
+		checkRange(from, to);
+		if (from == to) {
+			throw new NoSuchElementException("Range [" + from + ", " + to + ") is empty");
+		}
+		long result = min ? Long.MAX_VALUE : Long.MIN_VALUE;
+		for (long pos = from; pos < to;) {
+			final LongBuffer segment = segments[(int) (pos >>> SEGMENT_SHIFT)];
+			final int start = (int) (pos & SEGMENT_MASK);
+			final int end = (int) Math.min(segment.limit(), start + (to - pos));
+			if (min) {
+				for (int i = start; i < end; i++) {
+					result = Math.min(result, segment.get(i));
+				}
+			} else {
+				for (int i = start; i < end; i++) {
+					result = Math.max(result, segment.get(i));
+				}
+			}
+			pos += end - start;
+		}
+		return result;
+	}
+
+	/**
+	 * Scans all values and compares their checksum with the checksum stored in the file header. Note that this method
+	 * reads the whole file.
+	 * 
+	 * @return true if the checksum matches and false otherwise
+	 */
+	public boolean verifyChecksum() {
+		long actual = DecimalColumnFormat.CHECKSUM_SEED;
+		for (final LongBuffer segment : segments) {
+			final int end = segment.limit();
+			for (int i = 0; i < end; i++) {
+				actual = DecimalColumnFormat.updateChecksum(actual, segment.get(i));
+			}
+		}
+		return actual == checksum;
+	}
+
+	private final void checkIndex(long index) {
+		if (index < 0 | index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for column size " + size);
+		}
+	}
+
+	private final void checkRange(long from, long to) {
+		if (from < 0 | from > to | to > size) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is out of bounds for column size " + size);
+		}
+	}
+
+	/**
+	 * Closes the underlying file channel. The mapped values remain accessible until this object is garbage collected.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Returns a string with scale and size of this column.
+	 * 
+	 * @return a string like "MappedDecimalColumn[scale=2, size=1000000]"
+	 */
+	@Override
+	public String toString() {
+		return "MappedDecimalColumn[scale=" + scaleMetrics.getScale() + ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,507 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.Scales;
+
+/**
+ * <tt>VarintDecimalCodec</tt> encodes Decimal values into a compact variable length binary format and decodes them
+ * back without allocating any objects.
+ * <p>
+ * The unscaled value is zigzag encoded so that small negative values result in small positive numbers. The first byte
+ * holds a continuation flag in bit 7, the scale in bits 6 to 2 and the two lowest bits of the zigzag value. The
+ * remaining bits follow in little-endian groups of 7 bits with bit 7 of every byte signalling that another byte
+ * follows. An encoded value occupies between 1 and {@link #MAX_ENCODED_LENGTH} bytes:
+ * <ul>
+ * <li>1 byte for unscaled values in {@code [-2, 1]}</li>
+ * <li>2 bytes for unscaled values in {@code [-256, 255]}</li>
+ * <li>3 bytes for unscaled values in {@code [-32768, 32767]}</li>
+ * <li>5 bytes for unscaled values with up to 30 bits (about 9 digits)</li>
+ * <li>10 bytes for very large unscaled values</li>
+ * </ul>
+ * All methods are static and thread safe.
+ */
+public final class VarintDecimalCodec {
+
+	/**
+	 * The maximum number of bytes of an encoded value.
+	 */
+	public static final int MAX_ENCODED_LENGTH = 10;
+
+	private static final int CONTINUATION_BIT = 0x80;
+	private static final int SCALE_SHIFT = 2;
+	private static final int SCALE_MASK = 0x1f;
+	private static final int LOW_BITS = 2;
+	private static final int LOW_MASK = 0x3;
+
+	/**
+	 * Returns the number of bytes required to encode the given unscaled value (independent of the scale).
+	 * 
+	 * @param unscaled
+	 *            the unscaled value
+	 * @return the encoded length, a value between 1 and {@link #MAX_ENCODED_LENGTH}
+	 */
+	public static final int encodedLength(long unscaled) {
+		final long high = zigzag(unscaled) >>> LOW_BITS;
+		return 1 + (Long.SIZE - Long.numberOfLeadingZeros(high) + 6) / 7;
+	}
+
+	/**
+	 * Returns the number of bytes of the encoded value starting at the given offset.
+	 * 
+	 * @param src
+	 *            the array with the encoded value
+	 * @param offset
+	 *            the index of the first byte of the encoded value
+	 * @return the number of bytes occupied by the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value
+	 * @throws IndexOutOfBoundsException
+	 *             if the encoded value exceeds the array bounds
+	 */
+	public static final int encodedLength(byte[] src, int offset) {
+		int index = offset;
+		while ((src[index++] & CONTINUATION_BIT) != 0) {
+			if (index - offset >= MAX_ENCODED_LENGTH) {
+				throw newInvalidEncodingException("too many bytes");
+			}
+		}
+		return index - offset;
+	}
+
+	/**
+	 * Encodes the given Decimal value into the array starting at the given offset.
+	 * 
+	 * @param value
+	 *            the value to encode
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if the array is too short, at most {@link #MAX_ENCODED_LENGTH} bytes are required
+	 */
+	public static final int encode(Decimal<?> value, byte[] dst, int offset) {
+		return encode(value.unscaledValue(), value.getScale(), dst, offset);
+	}
+
+	/**
+	 * Encodes the given unscaled value and scale into the array starting at the given offset.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to encode
+	 * @param scale
+	 *            the scale of the unscaled value, must be in {@code [0, 18]}
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IllegalArgumentException
+	 *             if the scale is not in {@code [0, 18]}
+	 * @throws IndexOutOfBoundsException
+	 *             if the array is too short, at most {@link #MAX_ENCODED_LENGTH} bytes are required
+	 */
+	public static final int encode(long unscaled, int scale, byte[] dst, int offset) {
+		final long zigzag = zigzag(unscaled);
+		long high = zigzag >>> LOW_BITS;
+		int index = offset;
+		dst[index++] = (byte) firstByte(zigzag, scale, high != 0);
+		while (high != 0) {
+			final int bits = (int) (high & 0x7f);
+			high >>>= 7;
+			dst[index++] = (byte) (high != 0 ? bits | CONTINUATION_BIT : bits);
+		}
+		return index - offset;
+	}
+
+	/**
+	 * Encodes the given Decimal value into the buffer at its current position and advances the position.
+	 * 
+	 * @param value
+	 *            the value to encode
+	 * @param dst
+	 *            the destination buffer
+	 * @throws java.nio.BufferOverflowException
+	 *             if the buffer has insufficient space, at most {@link #MAX_ENCODED_LENGTH} bytes are required
+	 */
+	public static final void encode(Decimal<?> value, ByteBuffer dst) {
+		encode(value.unscaledValue(), value.getScale(), dst);
+	}
+
+	/**
+	 * Encodes the given unscaled value and scale into the buffer at its current position and advances the position.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to encode
+	 * @param scale
+	 *            the scale of the unscaled value, must be in {@code [0, 18]}
+	 * @param dst
+	 *            the destination buffer
+	 * @throws IllegalArgumentException
+	 *             if the scale is not in {@code [0, 18]}
+	 * @throws java.nio.BufferOverflowException
+	 *             if the buffer has insufficient space, at most {@link #MAX_ENCODED_LENGTH} bytes are required
+	 */
+	public static final void encode(long unscaled, int scale, ByteBuffer dst) {
+		final long zigzag = zigzag(unscaled);
+		long high = zigzag >>> LOW_BITS;
+		dst.put((byte) firstByte(zigzag, scale, high != 0));
+		while (high != 0) {
+			final int bits = (int) (high & 0x7f);
+			high >>>= 7;
+			dst.put((byte) (high != 0 ? bits | CONTINUATION_BIT : bits));
+		}
+	}
+
+	/**
+	 * Encodes the given Decimal value and writes it to the data output.
+	 * 
+	 * @param value
+	 *            the value to encode
+	 * @param out
+	 *            the data output to write to
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static final void encode(Decimal<?> value, DataOutput out) throws IOException {
+		encode(value.unscaledValue(), value.getScale(), out);
+	}
+
+	/**
+	 * Encodes the given unscaled value and scale and writes it to the data output.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to encode
+	 * @param scale
+	 *            the scale of the unscaled value, must be in {@code [0, 18]}
+	 * @param out
+	 *            the data output to write to
+	 * @throws IllegalArgumentException
+	 *             if the scale is not in {@code [0, 18]}
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static final void encode(long unscaled, int scale, DataOutput out) throws IOException {
+		final long zigzag = zigzag(unscaled);
+		long high = zigzag >>> LOW_BITS;
+		out.writeByte(firstByte(zigzag, scale, high != 0));
+		while (high != 0) {
+			final int bits = (int) (high & 0x7f);
+			high >>>= 7;
+			out.writeByte(high != 0 ? bits | CONTINUATION_BIT : bits);
+		}
+	}
+
+	/**
+	 * Returns the scale of the encoded value starting at the given offset.
+	 * 
+	 * @param src
+	 *            the array with the encoded value
+	 * @param offset
+	 *            the index of the first byte of the encoded value
+	 * @return the scale of the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the scale is not valid
+	 */
+	public static final int decodeScale(byte[] src, int offset) {
+		return scaleOf(src[offset]);
+	}
+
+	/**
+	 * Returns the scale of the encoded value at the buffer's current position. The position of the buffer is not
+	 * modified.
+	 * 
+	 * @param src
+	 *            the buffer with the encoded value
+	 * @return the scale of the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the scale is not valid
+	 * @throws IndexOutOfBoundsException
+	 *             if the buffer has no remaining bytes
+	 */
+	public static final int decodeScale(ByteBuffer src) {
+		return scaleOf(src.get(src.position()));
+	}
+
+	/**
+	 * Returns the unscaled value of the encoded value starting at the given offset. The returned value has the scale
+	 * returned by {@link #decodeScale(byte[], int)}.
+	 * 
+	 * @param src
+	 *            the array with the encoded value
+	 * @param offset
+	 *            the index of the first byte of the encoded value
+	 * @return the unscaled value in the encoded scale
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value
+	 * @throws IndexOutOfBoundsException
+	 *             if the encoded value exceeds the array bounds
+	 */
+	public static final long decodeUnscaled(byte[] src, int offset) {
+		int index = offset;
+		int b = src[index++];
+		long zigzag = b & LOW_MASK;
+		int shift = LOW_BITS;
+		while ((b & CONTINUATION_BIT) != 0) {
+			if (shift > Long.SIZE) {
+				throw newInvalidEncodingException("too many bytes");
+			}
+			b = src[index++];
+			zigzag |= ((long) (b & 0x7f)) << shift;
+			shift += 7;
+		}
+		return unzigzag(zigzag);
+	}
+
+	/**
+	 * Decodes the encoded value starting at the given offset and returns it as unscaled value with the scale of the
+	 * given arithmetic. The value is rounded with the arithmetic's rounding mode if necessary.
+	 * 
+	 * @param src
+	 *            the array with the encoded value
+	 * @param offset
+	 *            the index of the first byte of the encoded value
+	 * @param arith
+	 *            the arithmetic defining scale and rounding of the result
+	 * @return the unscaled value in the scale of {@code arith}
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             arithmetic's scale
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the arithmetic's rounding mode is {@link RoundingMode#UNNECESSARY}
+	 */
+	public static final long decode(byte[] src, int offset, DecimalArithmetic arith) {
+		final int scale = decodeScale(src, offset);
+		final long unscaled = decodeUnscaled(src, offset);
+		return scale == arith.getScale() ? unscaled : arith.fromUnscaled(unscaled, scale);
+	}
+
+	/**
+	 * Decodes the value at the buffer's current position, advances the position and returns the value as unscaled
+	 * value with the scale of the given arithmetic. The value is rounded with the arithmetic's rounding mode if
+	 * necessary.
+	 * 
+	 * @param src
+	 *            the source buffer
+	 * @param arith
+	 *            the arithmetic defining scale and rounding of the result
+	 * @return the unscaled value in the scale of {@code arith}
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             arithmetic's scale
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the arithmetic's rounding mode is {@link RoundingMode#UNNECESSARY}
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the encoded value
+	 */
+	public static final long decode(ByteBuffer src, DecimalArithmetic arith) {
+		int b = src.get();
+		final int scale = scaleOf(b);
+		long zigzag = b & LOW_MASK;
+		int shift = LOW_BITS;
+		while ((b & CONTINUATION_BIT) != 0) {
+			if (shift > Long.SIZE) {
+				throw newInvalidEncodingException("too many bytes");
+			}
+			b = src.get();
+			zigzag |= ((long) (b & 0x7f)) << shift;
+			shift += 7;
+		}
+		final long unscaled = unzigzag(zigzag);
+		return scale == arith.getScale() ? unscaled : arith.fromUnscaled(unscaled, scale);
+	}
+
+	/**
+	 * Reads and decodes a value from the data input and returns it as unscaled value with the scale of the given
+	 * arithmetic. The value is rounded with the arithmetic's rounding mode if necessary.
+	 * 
+	 * @param in
+	 *            the data input to read from
+	 * @param arith
+	 *            the arithmetic defining scale and rounding of the result
+	 * @return the unscaled value in the scale of {@code arith}
+	 * @throws IOException
+	 *             if an I/O error occurs or if the input ends before the end of the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             arithmetic's scale
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the arithmetic's rounding mode is {@link RoundingMode#UNNECESSARY}
+	 */
+	public static final long decode(DataInput in, DecimalArithmetic arith) throws IOException {
+		int b = in.readByte();
+		final int scale = scaleOf(b);
+		long zigzag = b & LOW_MASK;
+		int shift = LOW_BITS;
+		while ((b & CONTINUATION_BIT) != 0) {
+			if (shift > Long.SIZE) {
+				throw newInvalidEncodingException("too many bytes");
+			}
+			b = in.readByte();
+			zigzag |= ((long) (b & 0x7f)) << shift;
+			shift += 7;
+		}
+		final long unscaled = unzigzag(zigzag);
+		return scale == arith.getScale() ? unscaled : arith.fromUnscaled(unscaled, scale);
+	}
+
+	/**
+	 * Decodes the value at the buffer's current position into the given mutable target and advances the position. The
+	 * value is rounded with {@link RoundingMode#HALF_UP HALF_UP} rounding if the encoded scale is larger than the
+	 * target's scale.
+	 * 
+	 * @param src
+	 *            the source buffer
+	 * @param target
+	 *            the mutable decimal to assign the decoded value to
+	 * @param <D>
+	 *            the mutable decimal type
+	 * @return the {@code target} argument
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             scale of the target
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the encoded value
+	 */
+	public static final <D extends MutableDecimal<?>> D decode(ByteBuffer src, D target) {
+		return decode(src, target, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Decodes the value at the buffer's current position into the given mutable target and advances the position. The
+	 * value is rounded with the specified rounding mode if the encoded scale is larger than the target's scale.
+	 * 
+	 * @param src
+	 *            the source buffer
+	 * @param target
+	 *            the mutable decimal to assign the decoded value to
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @param <D>
+	 *            the mutable decimal type
+	 * @return the {@code target} argument
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             scale of the target
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code roundingMode} is {@link RoundingMode#UNNECESSARY}
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the end of the encoded value
+	 */
+	public static final <D extends MutableDecimal<?>> D decode(ByteBuffer src, D target, RoundingMode roundingMode) {
+		final DecimalArithmetic arith = target.getScaleMetrics().getArithmetic(roundingMode);
+		target.setUnscaled(decode(src, arith));
+		return target;
+	}
+
+	/**
+	 * Reads and decodes a value from the data input into the given mutable target. The value is rounded with
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding if the encoded scale is larger than the target's scale.
+	 * 
+	 * @param in
+	 *            the data input to read from
+	 * @param target
+	 *            the mutable decimal to assign the decoded value to
+	 * @param <D>
+	 *            the mutable decimal type
+	 * @return the {@code target} argument
+	 * @throws IOException
+	 *             if an I/O error occurs or if the input ends before the end of the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             scale of the target
+	 */
+	public static final <D extends MutableDecimal<?>> D decode(DataInput in, D target) throws IOException {
+		target.setUnscaled(decode(in, target.getScaleMetrics().getDefaultArithmetic()));
+		return target;
+	}
+
+	/**
+	 * Decodes the encoded value starting at the given offset into the given mutable target. The value is rounded with
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding if the encoded scale is larger than the target's scale.
+	 * 
+	 * @param src
+	 *            the array with the encoded value
+	 * @param offset
+	 *            the index of the first byte of the encoded value
+	 * @param target
+	 *            the mutable decimal to assign the decoded value to
+	 * @return the number of bytes consumed
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not represent a valid encoded value or if the value cannot be represented with the
+	 *             scale of the target
+	 * @throws IndexOutOfBoundsException
+	 *             if the encoded value exceeds the array bounds
+	 */
+	public static final int decode(byte[] src, int offset, MutableDecimal<?> target) {
+		target.setUnscaled(decode(src, offset, target.getScaleMetrics().getDefaultArithmetic()));
+		return encodedLength(src, offset);
+	}
+
+	private static final long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static final long unzigzag(long zigzag) {
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+
+	private static final int firstByte(long zigzag, int scale, boolean more) {
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be in [" + Scales.MIN_SCALE + ","
+					+ Scales.MAX_SCALE + "] but was: " + scale);
+		}
+		final int first = (scale << SCALE_SHIFT) | (int) (zigzag & LOW_MASK);
+		return more ? first | CONTINUATION_BIT : first;
+	}
+
+	private static final int scaleOf(int firstByte) {
+		final int scale = (firstByte >>> SCALE_SHIFT) & SCALE_MASK;
+		if (scale > Scales.MAX_SCALE) {
+			throw newInvalidEncodingException("invalid scale " + scale);
+		}
+		return scale;
+	}
+
+	private static final IllegalArgumentException newInvalidEncodingException(String reason) {
+		return new IllegalArgumentException("Invalid encoded decimal value: " + reason);
+	}
+
+	// no instances
+	private VarintDecimalCodec() {
+		super();
+	}
+}
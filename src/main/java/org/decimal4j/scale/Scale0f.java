@@ -29,6 +29,7 @@ import static java.math.RoundingMode.HALF_EVEN;
 import static java.math.RoundingMode.HALF_UP;
 import static java.math.RoundingMode.UNNECESSARY;
 import static org.decimal4j.truncate.OverflowMode.CHECKED;
+import static org.decimal4j.truncate.OverflowMode.SATURATING;
 import static org.decimal4j.truncate.OverflowMode.UNCHECKED;
 
 import java.math.BigDecimal;
@@ -38,6 +39,8 @@ import java.math.RoundingMode;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.arithmetic.CheckedScale0fRoundingArithmetic;
 import org.decimal4j.arithmetic.CheckedScale0fTruncatingArithmetic;
+import org.decimal4j.arithmetic.SaturatingScale0fRoundingArithmetic;
+import org.decimal4j.arithmetic.SaturatingScale0fTruncatingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScale0fRoundingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScale0fTruncatingArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
@@ -73,6 +76,7 @@ public enum Scale0f implements ScaleMetrics {
 
 	private static final DecimalArithmetic[] UNCHECKED_ARITHMETIC = initArithmetic(UNCHECKED);
 	private static final DecimalArithmetic[] CHECKED_ARITHMETIC = initArithmetic(CHECKED);
+	private static final DecimalArithmetic[] SATURATING_ARITHMETIC = initArithmetic(SATURATING);
 
 	private static final DecimalArithmetic DEFAULT_ARITHMETIC = UNCHECKED_ARITHMETIC[HALF_UP.ordinal()];
 	private static final DecimalArithmetic DEFAULT_CHECKED_ARITHMETIC = CHECKED_ARITHMETIC[HALF_UP.ordinal()];
@@ -82,15 +86,16 @@ public enum Scale0f implements ScaleMetrics {
 	private static final DecimalArithmetic ROUNDING_UNNECESSARY_ARITHMETIC = UNCHECKED_ARITHMETIC[UNNECESSARY.ordinal()];
 
 	private static final DecimalArithmetic[] initArithmetic(OverflowMode overflowMode) {
-		final boolean checked = overflowMode == CHECKED;
 		final DecimalArithmetic[] arith = new DecimalArithmetic[DecimalRounding.VALUES.size()];
 		for (final DecimalRounding dr : DecimalRounding.VALUES) {
 			final int index = dr.getRoundingMode().ordinal();
 			if (dr == DecimalRounding.DOWN) {
-				arith[index] = checked ? CheckedScale0fTruncatingArithmetic.INSTANCE
+				arith[index] = overflowMode == CHECKED ? CheckedScale0fTruncatingArithmetic.INSTANCE
+						: overflowMode == SATURATING ? SaturatingScale0fTruncatingArithmetic.INSTANCE
 						: UncheckedScale0fTruncatingArithmetic.INSTANCE;
 			} else {
-				arith[index] = checked ? new CheckedScale0fRoundingArithmetic(dr)
+				arith[index] = overflowMode == CHECKED ? new CheckedScale0fRoundingArithmetic(dr)
+						: overflowMode == SATURATING ? new SaturatingScale0fRoundingArithmetic(dr)
 						: new UncheckedScale0fRoundingArithmetic(dr);
 			}
 		}
@@ -221,7 +226,7 @@ public enum Scale0f implements ScaleMetrics {
 	public final DecimalArithmetic getArithmetic(TruncationPolicy truncationPolicy) {
 		final OverflowMode overflow = truncationPolicy.getOverflowMode();
 		final RoundingMode rounding = truncationPolicy.getRoundingMode();
-		return (overflow == UNCHECKED ? UNCHECKED_ARITHMETIC : CHECKED_ARITHMETIC)[rounding.ordinal()];
+		return (overflow == UNCHECKED ? UNCHECKED_ARITHMETIC : overflow == CHECKED ? CHECKED_ARITHMETIC : SATURATING_ARITHMETIC)[rounding.ordinal()];
 	}
 
 	@Override
@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.truncate;
+
+/**
+ * Mutable status receiving flags from arithmetic operations that report
+ * exceptional conditions such as overflow instead of throwing an exception.
+ * Flags are sticky: once raised they remain set until the status is
+ * {@link #reset() reset}, hence a single status object can collect the
+ * outcome of a whole sequence of operations. Flags are bit masks that can be
+ * combined with bitwise or, similar to the status flags of IEEE 754
+ * floating point arithmetic.
+ * <p>
+ * Instances are not thread safe and are usually reused by a single thread.
+ */
+public final class ArithmeticStatus {
+
+	/**
+	 * Flag indicating that the exact result of an operation did not fit into
+	 * a long unscaled value.
+	 */
+	public static final int OVERFLOW = 0x1;
+
+	/**
+	 * Flag indicating that the result of an operation was rounded, that is,
+	 * the returned value differs from the exact mathematical result.
+	 */
+	public static final int INEXACT = 0x2;
+
+	/**
+	 * Flag indicating a division by zero.
+	 */
+	public static final int DIVISION_BY_ZERO = 0x4;
+
+	private int flags;
+
+	/**
+	 * Creates a new status with all flags cleared.
+	 */
+	public ArithmeticStatus() {
+		super();
+	}
+
+	/**
+	 * Raises the given flags; previously raised flags remain set.
+	 * 
+	 * @param flags
+	 *            the flags to raise, for instance {@link #OVERFLOW}
+	 */
+	public final void raise(int flags) {
+		this.flags |= flags;
+	}
+
+	/**
+	 * Returns all raised flags as bit mask.
+	 * 
+	 * @return the raised flags, zero if no flag is set
+	 */
+	public final int getFlags() {
+		return flags;
+	}
+
+	/**
+	 * Returns true if all the specified flags are raised.
+	 * 
+	 * @param flags
+	 *            the flags to test
+	 * @return true if all bits of {@code flags} are set in this status
+	 */
+	public final boolean isRaised(int flags) {
+		return (this.flags & flags) == flags;
+	}
+
+	/**
+	 * Returns true if the {@link #OVERFLOW} flag is raised.
+	 * 
+	 * @return true if an overflow has been reported since the last reset
+	 */
+	public final boolean isOverflow() {
+		return (flags & OVERFLOW) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #INEXACT} flag is raised.
+	 * 
+	 * @return true if a rounded result has been reported since the last reset
+	 */
+	public final boolean isInexact() {
+		return (flags & INEXACT) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #DIVISION_BY_ZERO} flag is raised.
+	 * 
+	 * @return true if a division by zero has been reported since the last
+	 *         reset
+	 */
+	public final boolean isDivisionByZero() {
+		return (flags & DIVISION_BY_ZERO) != 0;
+	}
+
+	/**
+	 * Returns true if no flag is raised.
+	 * 
+	 * @return true if no condition has been reported since the last reset
+	 */
+	public final boolean isClear() {
+		return flags == 0;
+	}
+
+	/**
+	 * Clears all flags.
+	 */
+	public final void reset() {
+		flags = 0;
+	}
+
+	/**
+	 * Returns all raised flags and clears them, for instance to query the
+	 * outcome of a batch and start the next one.
+	 * 
+	 * @return the flags raised before the reset
+	 */
+	public final int getAndReset() {
+		final int result = flags;
+		flags = 0;
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "ArithmeticStatus[overflow=" + isOverflow() + ", inexact=" + isInexact() + ", divisionByZero="
+				+ isDivisionByZero() + "]";
+	}
+}
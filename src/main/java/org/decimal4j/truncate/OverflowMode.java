@@ -35,7 +35,15 @@ public enum OverflowMode {
 	/**
 	 * Operations causing an overflow throw an {@link ArithmeticException}.
 	 */
-	CHECKED;
+	CHECKED, //
+	/**
+	 * Operations causing an overflow return the largest representable value,
+	 * {@link Long#MAX_VALUE} as unscaled value, if the exact result is
+	 * positive, and the smallest representable value, {@link Long#MIN_VALUE}
+	 * as unscaled value, if the exact result is negative; no exception is
+	 * thrown.
+	 */
+	SATURATING;
 
 	/**
 	 * Returns true if overflow leads to an {@link ArithmeticException}
@@ -45,4 +53,14 @@ public enum OverflowMode {
 	public final boolean isChecked() {
 		return this == CHECKED;
 	}
+
+	/**
+	 * Returns true if overflow leads to a result clamped to the largest or
+	 * smallest representable value.
+	 * 
+	 * @return true if {@code this == SATURATING}
+	 */
+	public final boolean isSaturating() {
+		return this == SATURATING;
+	}
 }
@@ -27,6 +27,9 @@ package org.decimal4j.truncate;
 /**
  * Represents the truncated part for instance after division. It is passed to
  * the rounding methods in {@link DecimalRounding}
+ * <p>
+ * Note that the order of the constants must not be changed as it is used to
+ * look up the rounding increment in {@link DecimalRounding}.
  */
 public enum TruncatedPart {
 	/**
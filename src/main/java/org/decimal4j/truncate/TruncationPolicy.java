@@ -34,13 +34,15 @@ import java.util.Set;
  * {@link #getOverflowMode overflow mode} and {@link #getRoundingMode() rounding
  * mode}.
  * <p>
- * Truncation policies are are defined by {@link UncheckedRounding} and {@link CheckedRounding}.
+ * Truncation policies are are defined by {@link UncheckedRounding}, {@link CheckedRounding} and
+ * {@link SaturatingRounding}.
  * Some special truncation policies are also defined by
  * <ul>
  * <li>{@link #DEFAULT}</li>
  * <li>{@link #VALUES}</li>
  * <li>{@link UncheckedRounding#VALUES}</li>
  * <li>{@link CheckedRounding#VALUES}</li>
+ * <li>{@link SaturatingRounding#VALUES}</li>
  * </ul>
  */
 public interface TruncationPolicy {
@@ -57,6 +59,7 @@ public interface TruncationPolicy {
 		{
 			addAll(UncheckedRounding.VALUES);
 			addAll(CheckedRounding.VALUES);
+			addAll(SaturatingRounding.VALUES);
 		}
 	});
 
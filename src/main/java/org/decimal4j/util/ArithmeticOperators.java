@@ -0,0 +1,403 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Primitive functional views of a {@link DecimalArithmetic}. The operator instances are created once per arithmetic,
+ * hence obtaining an operator from an {@code ArithmeticOperators} instance does not allocate. Instances for the
+ * arithmetics provided by {@link org.decimal4j.scale.ScaleMetrics#getArithmetic(TruncationPolicy)} are cached and the
+ * same instance is returned for the same scale and truncation policy. Instances for other arithmetics, for instance
+ * decorators such as {@link org.decimal4j.arithmetic.StatusArithmetic StatusArithmetic}, are created on every call of
+ * {@link #of(DecimalArithmetic)} and should be kept by the caller.
+ * <p>
+ * Every operation is implemented by a single operator class shared by all arithmetics. The call to the arithmetic
+ * inside the operator hence sees every arithmetic type used with this operation and is not specialized for a
+ * particular arithmetic; operators remove the allocation of capturing lambdas but not the virtual dispatch to the
+ * arithmetic. Performance critical loops over a single arithmetic should call the arithmetic directly.
+ * <p>
+ * The operator interfaces have the same method signatures as the primitive functional interfaces of
+ * {@code java.util.function}. On Java 8 they can be used in {@code LongStream} pipelines via method reference without
+ * allocating wrapper lambdas per call site, for instance
+ * 
+ * <pre>
+ * ArithmeticOperators ops = ArithmeticOperators.of(Scale2f.INSTANCE.getDefaultArithmetic());
+ * LongStream prices = ...;
+ * long total = prices.map(ops.getRescalerFrom(4)::applyAsLong).reduce(0, ops.getAdder()::applyAsLong);
+ * </pre>
+ * 
+ * Exact sums without intermediate overflow can be collected into a {@link DecimalSummaryStatistics} via its
+ * {@link DecimalSummaryStatistics#acceptUnscaled(long) acceptUnscaled} method.
+ */
+public final class ArithmeticOperators {
+
+	private static final int OVERFLOW_MODES = OverflowMode.values().length;
+	private static final int ROUNDING_MODES = RoundingMode.values().length;
+	private static final AtomicReferenceArray<ArithmeticOperators> CACHE = new AtomicReferenceArray<ArithmeticOperators>(
+			Scales.VALUES.size() * OVERFLOW_MODES * ROUNDING_MODES);
+
+	private final DecimalArithmetic arithmetic;
+	private final UnscaledBinaryOperator adder;
+	private final UnscaledBinaryOperator subtractor;
+	private final UnscaledBinaryOperator multiplier;
+	private final UnscaledBinaryOperator divider;
+	private final UnscaledBinaryOperator averager;
+	private final UnscaledUnaryOperator negator;
+	private final UnscaledUnaryOperator absolute;
+	private final UnscaledUnaryOperator squarer;
+	private final UnscaledUnaryOperator sqrt;
+	private final UnscaledUnaryOperator inverter;
+	private final UnscaledUnaryOperator fromLong;
+	private final UnscaledUnaryOperator toLong;
+	private final UnscaledToDoubleFunction toDouble;
+	private final UnscaledUnaryOperator[] rounders;
+	private final UnscaledUnaryOperator[] rescalersFrom;
+	private final UnscaledUnaryOperator[] rescalersTo;
+
+	private ArithmeticOperators(final DecimalArithmetic arith) {
+		this.arithmetic = arith;
+		this.adder = new UnscaledBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return arith.add(left, right);
+			}
+		};
+		this.subtractor = new UnscaledBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return arith.subtract(left, right);
+			}
+		};
+		this.multiplier = new UnscaledBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return arith.multiply(left, right);
+			}
+		};
+		this.divider = new UnscaledBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return arith.divide(left, right);
+			}
+		};
+		this.averager = new UnscaledBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return arith.avg(left, right);
+			}
+		};
+		this.negator = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.negate(unscaled);
+			}
+		};
+		this.absolute = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.abs(unscaled);
+			}
+		};
+		this.squarer = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.square(unscaled);
+			}
+		};
+		this.sqrt = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.sqrt(unscaled);
+			}
+		};
+		this.inverter = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.invert(unscaled);
+			}
+		};
+		this.fromLong = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long value) {
+				return arith.fromLong(value);
+			}
+		};
+		this.toLong = new UnscaledUnaryOperator() {
+			@Override
+			public long applyAsLong(long unscaled) {
+				return arith.toLong(unscaled);
+			}
+		};
+		this.toDouble = new UnscaledToDoubleFunction() {
+			@Override
+			public double applyAsDouble(long unscaled) {
+				return arith.toDouble(unscaled);
+			}
+		};
+		this.rounders = new UnscaledUnaryOperator[Scales.MAX_SCALE + 1];
+		for (int i = 0; i < rounders.length; i++) {
+			final int precision = arith.getScale() - Scales.MAX_SCALE + i;
+			rounders[i] = new UnscaledUnaryOperator() {
+				@Override
+				public long applyAsLong(long unscaled) {
+					return arith.round(unscaled, precision);
+				}
+			};
+		}
+		this.rescalersFrom = new UnscaledUnaryOperator[Scales.MAX_SCALE + 1];
+		this.rescalersTo = new UnscaledUnaryOperator[Scales.MAX_SCALE + 1];
+		for (int i = 0; i <= Scales.MAX_SCALE; i++) {
+			final int scale = i;
+			rescalersFrom[i] = new UnscaledUnaryOperator() {
+				@Override
+				public long applyAsLong(long unscaled) {
+					return arith.fromUnscaled(unscaled, scale);
+				}
+			};
+			rescalersTo[i] = new UnscaledUnaryOperator() {
+				@Override
+				public long applyAsLong(long unscaled) {
+					return arith.toUnscaled(unscaled, scale);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Returns the operators for the given arithmetic. For the arithmetics provided by
+	 * {@link org.decimal4j.scale.ScaleMetrics#getArithmetic(TruncationPolicy)} the returned instance is cached and the
+	 * same instance is returned for subsequent invocations with the same arithmetic. For all other arithmetics a new
+	 * instance is returned.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic performing the operations
+	 * @return the operators for {@code arithmetic}
+	 */
+	public static ArithmeticOperators of(DecimalArithmetic arithmetic) {
+		final TruncationPolicy truncationPolicy = arithmetic.getTruncationPolicy();
+		if (arithmetic != arithmetic.getScaleMetrics().getArithmetic(truncationPolicy)) {
+			//not a built-in arithmetic, caching could keep the arithmetic alive forever
+			return new ArithmeticOperators(arithmetic);
+		}
+		final int index = (arithmetic.getScale() * OVERFLOW_MODES + truncationPolicy.getOverflowMode().ordinal())
+				* ROUNDING_MODES + truncationPolicy.getRoundingMode().ordinal();
+		final ArithmeticOperators ops = CACHE.get(index);
+		if (ops != null) {
+			return ops;
+		}
+		final ArithmeticOperators created = new ArithmeticOperators(arithmetic);
+		return CACHE.compareAndSet(index, null, created) ? created : CACHE.get(index);
+	}
+
+	/**
+	 * Returns the arithmetic performing the operations.
+	 * 
+	 * @return the arithmetic of these operators
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#add(long, long)}.
+	 * 
+	 * @return the addition operator
+	 */
+	public UnscaledBinaryOperator getAdder() {
+		return adder;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#subtract(long, long)}.
+	 * 
+	 * @return the subtraction operator
+	 */
+	public UnscaledBinaryOperator getSubtractor() {
+		return subtractor;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#multiply(long, long)}.
+	 * 
+	 * @return the multiplication operator
+	 */
+	public UnscaledBinaryOperator getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#divide(long, long)}.
+	 * 
+	 * @return the division operator
+	 */
+	public UnscaledBinaryOperator getDivider() {
+		return divider;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#avg(long, long)}.
+	 * 
+	 * @return the average operator
+	 */
+	public UnscaledBinaryOperator getAverager() {
+		return averager;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#negate(long)}.
+	 * 
+	 * @return the negation operator
+	 */
+	public UnscaledUnaryOperator getNegator() {
+		return negator;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#abs(long)}.
+	 * 
+	 * @return the absolute value operator
+	 */
+	public UnscaledUnaryOperator getAbsolute() {
+		return absolute;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#square(long)}.
+	 * 
+	 * @return the square operator
+	 */
+	public UnscaledUnaryOperator getSquarer() {
+		return squarer;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#sqrt(long)}.
+	 * 
+	 * @return the square root operator
+	 */
+	public UnscaledUnaryOperator getSqrt() {
+		return sqrt;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#invert(long)}.
+	 * 
+	 * @return the reciprocal operator
+	 */
+	public UnscaledUnaryOperator getInverter() {
+		return inverter;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#fromLong(long)} converting long values into unscaled decimals.
+	 * 
+	 * @return the operator converting from long
+	 */
+	public UnscaledUnaryOperator getFromLong() {
+		return fromLong;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#toLong(long)} converting unscaled decimals into long values.
+	 * 
+	 * @return the operator converting to long
+	 */
+	public UnscaledUnaryOperator getToLong() {
+		return toLong;
+	}
+
+	/**
+	 * Returns a function for {@link DecimalArithmetic#toDouble(long)}.
+	 * 
+	 * @return the function converting to double
+	 */
+	public UnscaledToDoubleFunction getToDouble() {
+		return toDouble;
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#round(long, int)} with the given precision.
+	 * 
+	 * @param precision
+	 *            the precision to round to, must be at least {@code scale - 18}
+	 * @return the rounding operator for {@code precision}, an operator returning its argument unchanged if
+	 *         {@code precision} is not less than the scale
+	 * @throws IllegalArgumentException
+	 *             if {@code precision < scale - 18}
+	 */
+	public UnscaledUnaryOperator getRounder(int precision) {
+		final int index = precision - arithmetic.getScale() + Scales.MAX_SCALE;
+		if (index < 0) {
+			throw new IllegalArgumentException("Precision must be at least " + (arithmetic.getScale() - Scales.MAX_SCALE) + ": " + precision);
+		}
+		return rounders[Math.min(index, Scales.MAX_SCALE)];
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#fromUnscaled(long, int)} converting unscaled values of the given
+	 * scale into unscaled values of the scale of the arithmetic.
+	 * 
+	 * @param scale
+	 *            the scale of the operands
+	 * @return the rescaling operator
+	 * @throws IllegalArgumentException
+	 *             if scale is not in {@code [0, 18]}
+	 */
+	public UnscaledUnaryOperator getRescalerFrom(int scale) {
+		return rescalersFrom[checkScale(scale)];
+	}
+
+	/**
+	 * Returns an operator for {@link DecimalArithmetic#toUnscaled(long, int)} converting unscaled values of the scale
+	 * of the arithmetic into unscaled values of the given scale.
+	 * 
+	 * @param scale
+	 *            the scale of the results
+	 * @return the rescaling operator
+	 * @throws IllegalArgumentException
+	 *             if scale is not in {@code [0, 18]}
+	 */
+	public UnscaledUnaryOperator getRescalerTo(int scale) {
+		return rescalersTo[checkScale(scale)];
+	}
+
+	private static int checkScale(int scale) {
+		if (scale < 0 | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("illegal scale, must be in [" + Scales.MIN_SCALE + "," + Scales.MAX_SCALE + "] but was: " + scale);
+		}
+		return scale;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + arithmetic + "]";
+	}
+}
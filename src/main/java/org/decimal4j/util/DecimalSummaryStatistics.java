@@ -0,0 +1,331 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * A state object for collecting statistics such as count, min, max, sum and average of {@link Decimal} values with a
+ * common scale, analogous to {@code java.util.LongSummaryStatistics}.
+ * <p>
+ * The sum is accumulated exactly in 128 bits, no intermediate result can overflow and no object is allocated per
+ * accepted value. Statistics collected for different partitions of the values, for instance by different threads,
+ * can be merged with {@link #combine(DecimalSummaryStatistics)}; since the accumulation is exact the result is
+ * independent of partitioning and order. Rounding is applied only once when the {@link #getAverage(RoundingMode)
+ * average} is requested, and an {@link ArithmeticException} is thrown if the {@link #getSum() sum} is requested but
+ * does not fit into a decimal of the given scale.
+ * <p>
+ * This class is not thread safe; each thread should collect into its own instance before the instances are combined.
+ * 
+ * @param <S>
+ *            the scale metrics type of the collected values
+ */
+public final class DecimalSummaryStatistics<S extends ScaleMetrics> {
+
+	private final S scaleMetrics;
+	private long count;
+	private long sumHi;
+	private long sumLo;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+
+	/**
+	 * Creates an empty statistics object for values of the given scale.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the collected values
+	 */
+	public DecimalSummaryStatistics(S scaleMetrics) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+	}
+
+	/**
+	 * Returns the scale metrics of the collected values.
+	 * 
+	 * @return the scale metrics passed to the constructor
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Records a new value into the summary information.
+	 * 
+	 * @param value
+	 *            the value to record
+	 * @return this statistics object
+	 */
+	public DecimalSummaryStatistics<S> accept(Decimal<S> value) {
+		return acceptUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Records a new value given as unscaled value of the scale of this statistics object.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to record
+	 * @return this statistics object
+	 */
+	public DecimalSummaryStatistics<S> acceptUnscaled(long unscaled) {
+		add(unscaled);
+		count++;
+		min = Math.min(min, unscaled);
+		max = Math.max(max, unscaled);
+		return this;
+	}
+
+	/**
+	 * Records all unscaled values from {@code offset} (inclusive) to {@code offset + length} (exclusive) of the given
+	 * array.
+	 * 
+	 * @param unscaled
+	 *            the unscaled values to record
+	 * @param offset
+	 *            the index of the first value to record
+	 * @param length
+	 *            the number of values to record
+	 * @return this statistics object
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the array bounds
+	 */
+	public DecimalSummaryStatistics<S> acceptUnscaled(long[] unscaled, int offset, int length) {
+		if (offset < 0 | length < 0 | offset > unscaled.length - length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+					+ ") is out of bounds for array length " + unscaled.length);
+		}
+		long hi = sumHi;
+		long lo = sumLo;
+		long mn = min;
+		long mx = max;
+		for (int i = offset; i < offset + length; i++) {
+			final long value = unscaled[i];
+			final long sum = lo + value;
+			hi += (value >> 63) + (isUnsignedLess(sum, lo) ? 1 : 0);
+			lo = sum;
+			mn = Math.min(mn, value);
+			mx = Math.max(mx, value);
+		}
+		sumHi = hi;
+		sumLo = lo;
+		min = mn;
+		max = mx;
+		count += length;
+		return this;
+	}
+
+	/**
+	 * Combines the state of another statistics object into this one. The result is exact and does not depend on the
+	 * order in which partial statistics are combined.
+	 * 
+	 * @param other
+	 *            another statistics object for values of the same scale
+	 * @return this statistics object
+	 * @throws IllegalArgumentException
+	 *             if {@code other} collects values of a different scale
+	 */
+	public DecimalSummaryStatistics<S> combine(DecimalSummaryStatistics<S> other) {
+		if (other.scaleMetrics != scaleMetrics) {
+			throw new IllegalArgumentException("Cannot combine statistics of scale " + other.scaleMetrics.getScale()
+					+ " with statistics of scale " + scaleMetrics.getScale());
+		}
+		final long lo = sumLo + other.sumLo;
+		sumHi += other.sumHi + (isUnsignedLess(lo, sumLo) ? 1 : 0);
+		sumLo = lo;
+		count += other.count;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		return this;
+	}
+
+	private void add(long value) {
+		final long lo = sumLo + value;
+		sumHi += (value >> 63) + (isUnsignedLess(lo, sumLo) ? 1 : 0);
+		sumLo = lo;
+	}
+
+	private static boolean isUnsignedLess(long a, long b) {
+		return (a ^ Long.MIN_VALUE) < (b ^ Long.MIN_VALUE);
+	}
+
+	private boolean isSumLong() {
+		return sumHi == (sumLo >> 63);
+	}
+
+	private DecimalFactory<S> getFactory() {
+		return Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 * 
+	 * @return the count of values
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the exact sum of the recorded values, or zero if no values have been recorded.
+	 * 
+	 * @return the sum of the values
+	 * @throws ArithmeticException
+	 *             if the sum cannot be represented as a decimal of the scale of this statistics object
+	 */
+	public ImmutableDecimal<S> getSum() {
+		return getFactory().valueOfUnscaled(getSumUnscaled());
+	}
+
+	/**
+	 * Returns the unscaled value of the exact sum of the recorded values, or zero if no values have been recorded.
+	 * 
+	 * @return the unscaled sum of the values
+	 * @throws ArithmeticException
+	 *             if the sum cannot be represented as a decimal of the scale of this statistics object
+	 */
+	public long getSumUnscaled() {
+		if (isSumLong()) {
+			return sumLo;
+		}
+		throw new SumOverflowException(sumHi, sumLo, scaleMetrics.getScale());
+	}
+
+	/**
+	 * Returns the exact sum of the recorded values as {@link BigDecimal} which never overflows.
+	 * 
+	 * @return the sum of the values as big decimal with the scale of this statistics object
+	 */
+	public BigDecimal getSumAsBigDecimal() {
+		return new BigDecimal(toBigInteger(sumHi, sumLo), scaleMetrics.getScale());
+	}
+
+	private static BigInteger toBigInteger(long hi, long lo) {
+		final BigInteger high = BigInteger.valueOf(hi).shiftLeft(Long.SIZE);
+		final BigInteger low = BigInteger.valueOf(lo >>> 1).shiftLeft(1).or(BigInteger.valueOf(lo & 1));
+		return high.add(low);
+	}
+
+	/**
+	 * Returns the minimum recorded value, or the {@link DecimalFactory#valueOfUnscaled(long) largest} decimal of the
+	 * scale if no values have been recorded.
+	 * 
+	 * @return the minimum value
+	 */
+	public ImmutableDecimal<S> getMin() {
+		return getFactory().valueOfUnscaled(min);
+	}
+
+	/**
+	 * Returns the maximum recorded value, or the {@link DecimalFactory#valueOfUnscaled(long) smallest} decimal of the
+	 * scale if no values have been recorded.
+	 * 
+	 * @return the maximum value
+	 */
+	public ImmutableDecimal<S> getMax() {
+		return getFactory().valueOfUnscaled(max);
+	}
+
+	/**
+	 * Returns the average of the recorded values rounded {@link RoundingMode#HALF_UP HALF_UP}, or zero if no values
+	 * have been recorded.
+	 * 
+	 * @return the average of the values
+	 */
+	public ImmutableDecimal<S> getAverage() {
+		return getAverage(RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Returns the average of the recorded values, or zero if no values have been recorded. The exact quotient of sum
+	 * and count is rounded once using the specified rounding mode.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @return the average of the values
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode} is {@link RoundingMode#UNNECESSARY UNNECESSARY} and rounding is necessary
+	 */
+	public ImmutableDecimal<S> getAverage(RoundingMode roundingMode) {
+		return getFactory().valueOfUnscaled(getAverageUnscaled(roundingMode));
+	}
+
+	/**
+	 * Returns the unscaled value of the average of the recorded values, or zero if no values have been recorded. The
+	 * exact quotient of sum and count is rounded once using the specified rounding mode.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @return the unscaled average of the values
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode} is {@link RoundingMode#UNNECESSARY UNNECESSARY} and rounding is necessary
+	 */
+	public long getAverageUnscaled(RoundingMode roundingMode) {
+		if (count == 0) {
+			return 0;
+		}
+		if (isSumLong()) {
+			return scaleMetrics.getArithmetic(roundingMode).divideByLong(sumLo, count);
+		}
+		//the average always fits into a long, only the sum does not
+		final BigDecimal sum = new BigDecimal(toBigInteger(sumHi, sumLo));
+		return sum.divide(BigDecimal.valueOf(count), 0, roundingMode).longValueExact();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{count=" + count + ", sum=" + getSumAsBigDecimal() + ", min=" + getMin()
+				+ ", average=" + getAverage() + ", max=" + getMax() + "}";
+	}
+
+	/**
+	 * Overflow exception for a sum exceeding the long range; the message is formatted only if it is accessed.
+	 */
+	private static final class SumOverflowException extends ArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		private final long sumHi;
+		private final long sumLo;
+		private final int scale;
+
+		private SumOverflowException(long sumHi, long sumLo, int scale) {
+			this.sumHi = sumHi;
+			this.sumLo = sumLo;
+			this.scale = scale;
+		}
+
+		@Override
+		public String getMessage() {
+			return "Overflow: sum " + new BigDecimal(toBigInteger(sumHi, sumLo), scale).toPlainString()
+					+ " exceeds the range of a decimal with scale " + scale;
+		}
+	}
+}
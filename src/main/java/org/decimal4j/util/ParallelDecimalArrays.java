@@ -0,0 +1,724 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.Rescaler;
+import org.decimal4j.arithmetic.StatusArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.ArithmeticStatus;
+
+/**
+ * Bulk operations on arrays of unscaled decimal values executed in parallel in a {@link ForkJoinPool}.
+ * <p>
+ * The index range of an operation is split recursively until sub-ranges contain no more than
+ * {@link #getThreshold() threshold} elements; ranges at or below the threshold are processed by the calling thread
+ * without forking. Splits are at multiples of {@link #SPLIT_ALIGNMENT} elements, which spans 64 bytes and reduces
+ * false sharing between tasks writing to a destination array. Array data is not guaranteed to start at a cache line
+ * boundary, hence adjacent tasks may still share one cache line at their common boundary.
+ * <p>
+ * Results are identical to sequential evaluation: element-wise operations are independent per element and sums are
+ * accumulated exactly in 128 bits via {@link DecimalSummaryStatistics}. If an operation fails, for instance because
+ * of an overflow with a checked arithmetic, the exception is rethrown to the caller; elements of the destination
+ * array may have been written in this case.
+ * <p>
+ * The element-wise arithmetic operations are also available with an {@link ArithmeticStatus} argument. These
+ * operations never throw an exception because of an overflow, instead they raise the flags of a
+ * {@link StatusArithmetic}. Every task collects the flags in its own status and the flags are combined with bitwise
+ * or when the tasks are joined.
+ */
+public final class ParallelDecimalArrays {
+
+	/**
+	 * The default threshold, the maximum number of elements processed sequentially by a single task.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+	/**
+	 * Split indices are multiples of this number of elements (8 longs span 64 bytes, the typical cache line size).
+	 */
+	public static final int SPLIT_ALIGNMENT = 8;
+
+	private static final class DefaultHolder {
+		private static final ParallelDecimalArrays DEFAULT = new ParallelDecimalArrays(new ForkJoinPool(), DEFAULT_THRESHOLD);
+	}
+
+	private final ForkJoinPool pool;
+	private final int threshold;
+
+	/**
+	 * Creates a new instance running operations in the given pool.
+	 * 
+	 * @param pool
+	 *            the pool executing the tasks
+	 * @param threshold
+	 *            the maximum number of elements processed sequentially, operations on ranges up to this length are not
+	 *            forked at all
+	 * @throws IllegalArgumentException
+	 *             if threshold is less than {@link #SPLIT_ALIGNMENT}
+	 */
+	public ParallelDecimalArrays(ForkJoinPool pool, int threshold) {
+		if (threshold < SPLIT_ALIGNMENT) {
+			throw new IllegalArgumentException("Threshold must be at least " + SPLIT_ALIGNMENT + ": " + threshold);
+		}
+		this.pool = Objects.requireNonNull(pool, "pool cannot be null");
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Returns the default instance using a shared pool with parallelism equal to the number of available processors
+	 * and the {@link #DEFAULT_THRESHOLD default threshold}.
+	 * 
+	 * @return the default instance
+	 */
+	public static ParallelDecimalArrays getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Returns the pool executing the operations.
+	 * 
+	 * @return the fork join pool
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Returns the maximum number of elements processed sequentially by a single task.
+	 * 
+	 * @return the parallelism threshold
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.add(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param a
+	 *            the unscaled augends
+	 * @param b
+	 *            the unscaled addends
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 * @throws ArithmeticException
+	 *             if an operation overflows and {@code arith} is checked
+	 */
+	public void add(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.add(a[i], b[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.subtract(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param a
+	 *            the unscaled minuends
+	 * @param b
+	 *            the unscaled subtrahends
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 * @throws ArithmeticException
+	 *             if an operation overflows and {@code arith} is checked
+	 */
+	public void subtract(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.subtract(a[i], b[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.multiply(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param a
+	 *            the unscaled multiplicands
+	 * @param b
+	 *            the unscaled multipliers
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 * @throws ArithmeticException
+	 *             if an operation overflows and {@code arith} is checked, or if rounding is necessary and the rounding
+	 *             mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public void multiply(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.multiply(a[i], b[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.divide(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param a
+	 *            the unscaled dividends
+	 * @param b
+	 *            the unscaled divisors
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 * @throws ArithmeticException
+	 *             if a divisor is zero, if an operation overflows and {@code arith} is checked, or if rounding is
+	 *             necessary and the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 */
+	public void divide(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.divide(a[i], b[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.add(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)} and
+	 * raises the flags of all operations on the given {@code status} as described in {@link StatusArithmetic}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode, the overflow mode is ignored
+	 * @param a
+	 *            the unscaled augends
+	 * @param b
+	 *            the unscaled addends
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param status
+	 *            the status receiving the flags raised by the operations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void add(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length, ArithmeticStatus status) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new StatusAction(arith, offset, offset + length) {
+			@Override
+			void computeDirectly(DecimalArithmetic arith, int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.add(a[i], b[i]);
+				}
+			}
+		}, status);
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.subtract(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)} and
+	 * raises the flags of all operations on the given {@code status} as described in {@link StatusArithmetic}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode, the overflow mode is ignored
+	 * @param a
+	 *            the unscaled minuends
+	 * @param b
+	 *            the unscaled subtrahends
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param status
+	 *            the status receiving the flags raised by the operations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void subtract(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length, ArithmeticStatus status) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new StatusAction(arith, offset, offset + length) {
+			@Override
+			void computeDirectly(DecimalArithmetic arith, int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.subtract(a[i], b[i]);
+				}
+			}
+		}, status);
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.multiply(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)} and
+	 * raises the flags of all operations on the given {@code status} as described in {@link StatusArithmetic}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode, the overflow mode is ignored
+	 * @param a
+	 *            the unscaled multiplicands
+	 * @param b
+	 *            the unscaled multipliers
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param status
+	 *            the status receiving the flags raised by the operations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void multiply(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length, ArithmeticStatus status) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new StatusAction(arith, offset, offset + length) {
+			@Override
+			void computeDirectly(DecimalArithmetic arith, int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.multiply(a[i], b[i]);
+				}
+			}
+		}, status);
+	}
+
+	/**
+	 * Computes {@code dst[i] = arith.divide(a[i], b[i])} for all {@code i} in {@code [offset, offset + length)} and
+	 * raises the flags of all operations on the given {@code status} as described in {@link StatusArithmetic}. The
+	 * destination may be the same array as one of the operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode, the overflow mode is ignored
+	 * @param a
+	 *            the unscaled dividends
+	 * @param b
+	 *            the unscaled divisors
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param status
+	 *            the status receiving the flags raised by the operations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void divide(final DecimalArithmetic arith, final long[] a, final long[] b, final long[] dst, int offset, int length, ArithmeticStatus status) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new StatusAction(arith, offset, offset + length) {
+			@Override
+			void computeDirectly(DecimalArithmetic arith, int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = arith.divide(a[i], b[i]);
+				}
+			}
+		}, status);
+	}
+
+	/**
+	 * Computes {@code dst[i] = operator.applyAsLong(src[i])} for all {@code i} in {@code [offset, offset + length)}.
+	 * The destination may be the same array as the source.
+	 * 
+	 * @param operator
+	 *            the operator to apply, invoked concurrently by different threads, for instance one of the
+	 *            {@link ArithmeticOperators}
+	 * @param src
+	 *            the unscaled operands
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void apply(final UnscaledUnaryOperator operator, final long[] src, final long[] dst, int offset, int length) {
+		checkRange(offset, length, src, src, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = operator.applyAsLong(src[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes {@code dst[i] = operator.applyAsLong(a[i], b[i])} for all {@code i} in
+	 * {@code [offset, offset + length)}. The destination may be the same array as one of the operands.
+	 * 
+	 * @param operator
+	 *            the operator to apply, invoked concurrently by different threads, for instance one of the
+	 *            {@link ArithmeticOperators}
+	 * @param a
+	 *            the first unscaled operands
+	 * @param b
+	 *            the second unscaled operands
+	 * @param dst
+	 *            the destination for the unscaled results
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 */
+	public void apply(final UnscaledBinaryOperator operator, final long[] a, final long[] b, final long[] dst, int offset, int length) {
+		checkRange(offset, length, a, b, dst);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				for (int i = from; i < to; i++) {
+					dst[i] = operator.applyAsLong(a[i], b[i]);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Converts unscaled values of scale {@code srcScale} into unscaled values of the scale of the given arithmetic,
+	 * that is, {@code dst[i] = arith.fromUnscaled(src[i], srcScale)} for all {@code i} in
+	 * {@code [offset, offset + length)}. The destination may be the same array as the source.
+	 * 
+	 * @param src
+	 *            the unscaled source values
+	 * @param srcScale
+	 *            the scale of the source values
+	 * @param arith
+	 *            the arithmetic defining target scale and rounding mode
+	 * @param dst
+	 *            the destination for the rescaled unscaled values
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of one of the arrays
+	 * @throws IllegalArgumentException
+	 *             if a value cannot be represented at the target scale
+	 */
+	public void rescale(final long[] src, final int srcScale, final DecimalArithmetic arith, final long[] dst, int offset, int length) {
+		checkRange(offset, length, src, src, dst);
+		final Rescaler rescaler = Rescaler.fromScale(srcScale, arith);
+		invoke(new ElementAction(offset, offset + length) {
+			@Override
+			void computeDirectly(int from, int to) {
+				rescaler.rescale(src, from, dst, from, to - from);
+			}
+		});
+	}
+
+	/**
+	 * Returns count, exact sum, minimum and maximum of the unscaled values in {@code [offset, offset + length)}.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale of the values
+	 * @param values
+	 *            the unscaled values
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the summary statistics of the values
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of the array
+	 */
+	public <S extends ScaleMetrics> DecimalSummaryStatistics<S> summaryStatistics(S scaleMetrics, long[] values, int offset, int length) {
+		checkRange(offset, length, values, values, values);
+		return pool.invoke(new StatisticsTask<S>(scaleMetrics, values, offset, offset + length));
+	}
+
+	/**
+	 * Counts the unscaled values in {@code [offset, offset + length)} matching the given predicate.
+	 * 
+	 * @param values
+	 *            the unscaled values
+	 * @param offset
+	 *            the index of the first element
+	 * @param length
+	 *            the number of elements
+	 * @param predicate
+	 *            the predicate to test, invoked concurrently by different threads
+	 * @return the number of matching values
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of the array
+	 */
+	public int countWhere(long[] values, int offset, int length, UnscaledPredicate predicate) {
+		checkRange(offset, length, values, values, values);
+		return pool.invoke(new CountTask(values, offset, offset + length, predicate));
+	}
+
+	private static void checkRange(int offset, int length, long[] a, long[] b, long[] c) {
+		final int minLength = Math.min(a.length, Math.min(b.length, c.length));
+		if (offset < 0 | length < 0 | offset > minLength - length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+					+ ") is out of bounds for array length " + minLength);
+		}
+	}
+
+	private void invoke(ElementAction action) {
+		if (action.to - action.from <= threshold) {
+			action.computeDirectly(action.from, action.to);
+		} else {
+			pool.invoke(action);
+		}
+	}
+
+	private void invoke(StatusAction action, ArithmeticStatus status) {
+		final int flags;
+		if (action.to - action.from <= threshold) {
+			flags = action.computeDirectly(action.from, action.to);
+		} else {
+			flags = pool.invoke(action);
+		}
+		status.raise(flags);
+	}
+
+	/**
+	 * Returns the split index for the given range, or -1 if the range is not split.
+	 */
+	private int split(int from, int to) {
+		if (to - from <= threshold) {
+			return -1;
+		}
+		final int mid = (from + ((to - from) >>> 1)) & -SPLIT_ALIGNMENT;
+		return mid > from ? mid : -1;
+	}
+
+	private abstract class ElementAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int from;
+		private final int to;
+
+		ElementAction(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		abstract void computeDirectly(int from, int to);
+
+		@Override
+		protected void compute() {
+			compute(from, to);
+		}
+
+		private void compute(int from, int to) {
+			final int mid = split(from, to);
+			if (mid < 0) {
+				computeDirectly(from, to);
+				return;
+			}
+			final Part right = new Part(mid, to);
+			right.fork();
+			compute(from, mid);
+			right.join();
+		}
+
+		private final class Part extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			private final int from;
+			private final int to;
+
+			Part(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				ElementAction.this.compute(from, to);
+			}
+		}
+	}
+
+	private abstract class StatusAction extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+		private final DecimalArithmetic arith;
+		private final int from;
+		private final int to;
+
+		StatusAction(DecimalArithmetic arith, int from, int to) {
+			this.arith = arith;
+			this.from = from;
+			this.to = to;
+		}
+
+		abstract void computeDirectly(DecimalArithmetic arith, int from, int to);
+
+		int computeDirectly(int from, int to) {
+			final ArithmeticStatus status = new ArithmeticStatus();
+			computeDirectly(new StatusArithmetic(arith, status), from, to);
+			return status.getFlags();
+		}
+
+		@Override
+		protected Integer compute() {
+			return compute(from, to);
+		}
+
+		private int compute(int from, int to) {
+			final int mid = split(from, to);
+			if (mid < 0) {
+				return computeDirectly(from, to);
+			}
+			final Part right = new Part(mid, to);
+			right.fork();
+			final int left = compute(from, mid);
+			return left | right.join();
+		}
+
+		private final class Part extends RecursiveTask<Integer> {
+			private static final long serialVersionUID = 1L;
+			private final int from;
+			private final int to;
+
+			Part(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected Integer compute() {
+				return StatusAction.this.compute(from, to);
+			}
+		}
+	}
+
+	private final class StatisticsTask<S extends ScaleMetrics> extends RecursiveTask<DecimalSummaryStatistics<S>> {
+		private static final long serialVersionUID = 1L;
+		private final S scaleMetrics;
+		private final long[] values;
+		private final int from;
+		private final int to;
+
+		StatisticsTask(S scaleMetrics, long[] values, int from, int to) {
+			this.scaleMetrics = scaleMetrics;
+			this.values = values;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected DecimalSummaryStatistics<S> compute() {
+			final int mid = split(from, to);
+			if (mid < 0) {
+				return new DecimalSummaryStatistics<S>(scaleMetrics).acceptUnscaled(values, from, to - from);
+			}
+			final StatisticsTask<S> right = new StatisticsTask<S>(scaleMetrics, values, mid, to);
+			right.fork();
+			final DecimalSummaryStatistics<S> left = new StatisticsTask<S>(scaleMetrics, values, from, mid).compute();
+			return left.combine(right.join());
+		}
+	}
+
+	private final class CountTask extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+		private final long[] values;
+		private final int from;
+		private final int to;
+		private final UnscaledPredicate predicate;
+
+		CountTask(long[] values, int from, int to, UnscaledPredicate predicate) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected Integer compute() {
+			final int mid = split(from, to);
+			if (mid < 0) {
+				int count = 0;
+				for (int i = from; i < to; i++) {
+					if (predicate.test(values[i])) {
+						count++;
+					}
+				}
+				return count;
+			}
+			final CountTask right = new CountTask(values, mid, to, predicate);
+			right.fork();
+			final int left = new CountTask(values, from, mid, predicate).compute();
+			return left + right.join();
+		}
+	}
+}
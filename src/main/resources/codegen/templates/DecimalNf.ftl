@@ -11,6 +11,7 @@ import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.base.AbstractImmutableDecimal;
 import org.decimal4j.exact.Multipliable${scale}f;
+import org.decimal4j.factory.DecimalSerializationProxy;
 import org.decimal4j.factory.Factory${scale}f;
 import org.decimal4j.mutable.MutableDecimal${scale}f;
 import org.decimal4j.scale.Scale${scale}f;
@@ -642,5 +643,15 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	public Decimal${scale}f toImmutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this {@code Decimal${scale}f} with a compact {@link DecimalSerializationProxy}
+	 * when it is serialized. The proxy stores only scale and unscaled value.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.IMMUTABLE, this);
+	}
 }
 </#list> 
\ No newline at end of file
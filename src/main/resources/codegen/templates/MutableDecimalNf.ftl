@@ -11,6 +11,7 @@ import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.base.AbstractMutableDecimal;
 import org.decimal4j.exact.Multipliable${scale}f;
+import org.decimal4j.factory.DecimalSerializationProxy;
 import org.decimal4j.factory.Factory${scale}f;
 import org.decimal4j.immutable.Decimal${scale}f;
 import org.decimal4j.scale.Scale${scale}f;
@@ -568,5 +569,15 @@ public final class MutableDecimal${scale}f extends AbstractMutableDecimal<Scale$
 	public MutableDecimal${scale}f toMutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this {@code MutableDecimal${scale}f} with a compact {@link DecimalSerializationProxy}
+	 * when it is serialized. The proxy stores only scale and unscaled value.
+	 * 
+	 * @return the serialization proxy for this Decimal
+	 */
+	private Object writeReplace() {
+		return new DecimalSerializationProxy(DecimalSerializationProxy.MUTABLE, this);
+	}
 }
 </#list>
\ No newline at end of file
@@ -9,6 +9,7 @@ import static java.math.RoundingMode.HALF_EVEN;
 import static java.math.RoundingMode.HALF_UP;
 import static java.math.RoundingMode.UNNECESSARY;
 import static org.decimal4j.truncate.OverflowMode.CHECKED;
+import static org.decimal4j.truncate.OverflowMode.SATURATING;
 import static org.decimal4j.truncate.OverflowMode.UNCHECKED;
 
 import java.math.BigDecimal;
@@ -18,6 +19,9 @@ import java.math.RoundingMode;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.arithmetic.CheckedScaleNfRoundingArithmetic;
 import org.decimal4j.arithmetic.CheckedScaleNfTruncatingArithmetic;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.SaturatingScaleNfRoundingArithmetic;
+import org.decimal4j.arithmetic.SaturatingScaleNfTruncatingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScaleNfRoundingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScaleNfTruncatingArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
@@ -62,6 +66,7 @@ public enum Scale${scale}f implements ScaleMetrics {
 
 	private static final DecimalArithmetic[] UNCHECKED_ARITHMETIC = initArithmetic(UNCHECKED);
 	private static final DecimalArithmetic[] CHECKED_ARITHMETIC = initArithmetic(CHECKED);
+	private static final DecimalArithmetic[] SATURATING_ARITHMETIC = initArithmetic(SATURATING);
 
 	private static final DecimalArithmetic DEFAULT_ARITHMETIC = UNCHECKED_ARITHMETIC[HALF_UP.ordinal()];
 	private static final DecimalArithmetic DEFAULT_CHECKED_ARITHMETIC = CHECKED_ARITHMETIC[HALF_UP.ordinal()];
@@ -71,15 +76,16 @@ public enum Scale${scale}f implements ScaleMetrics {
 	private static final DecimalArithmetic ROUNDING_UNNECESSARY_ARITHMETIC = UNCHECKED_ARITHMETIC[UNNECESSARY.ordinal()];
 
 	private static final DecimalArithmetic[] initArithmetic(OverflowMode overflowMode) {
-		final boolean checked = overflowMode == CHECKED;
 		final DecimalArithmetic[] arith = new DecimalArithmetic[DecimalRounding.VALUES.size()];
 		for (final DecimalRounding dr : DecimalRounding.VALUES) {
 			final int index = dr.getRoundingMode().ordinal();
 			if (dr == DecimalRounding.DOWN) {
-				arith[index] = checked ? new CheckedScaleNfTruncatingArithmetic(INSTANCE)
+				arith[index] = overflowMode == CHECKED ? new CheckedScaleNfTruncatingArithmetic(INSTANCE)
+						: overflowMode == SATURATING ? new SaturatingScaleNfTruncatingArithmetic(INSTANCE)
 						: new UncheckedScaleNfTruncatingArithmetic(INSTANCE);
 			} else {
-				arith[index] = checked ? new CheckedScaleNfRoundingArithmetic(INSTANCE, dr)
+				arith[index] = overflowMode == CHECKED ? new CheckedScaleNfRoundingArithmetic(INSTANCE, dr)
+						: overflowMode == SATURATING ? new SaturatingScaleNfRoundingArithmetic(INSTANCE, dr)
 						: new UncheckedScaleNfRoundingArithmetic(INSTANCE, dr);
 			}
 		}
@@ -137,7 +143,7 @@ public enum Scale${scale}f implements ScaleMetrics {
 		if (MIN_INTEGER_VALUE <= factor & factor <= MAX_INTEGER_VALUE) {
 			return result;
 		}
-		throw new ArithmeticException("Overflow: " + factor + " * " + SCALE_FACTOR + " = " + result);
+		throw Exceptions.newOverflowArithmeticException(0, factor, " * ", 0, SCALE_FACTOR);
 	}
 	
 	@Override
@@ -223,7 +229,7 @@ public enum Scale${scale}f implements ScaleMetrics {
 	public final DecimalArithmetic getArithmetic(TruncationPolicy truncationPolicy) {
 		final OverflowMode overflow = truncationPolicy.getOverflowMode();
 		final RoundingMode rounding = truncationPolicy.getRoundingMode();
-		return (overflow == UNCHECKED ? UNCHECKED_ARITHMETIC : CHECKED_ARITHMETIC)[rounding.ordinal()];
+		return (overflow == UNCHECKED ? UNCHECKED_ARITHMETIC : overflow == CHECKED ? CHECKED_ARITHMETIC : SATURATING_ARITHMETIC)[rounding.ordinal()];
 	}
 
 	@Override
@@ -36,6 +36,7 @@ import org.decimal4j.scale.Scales;
 import org.decimal4j.test.TestSettings;
 import org.decimal4j.truncate.CheckedRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
 import org.decimal4j.truncate.TruncationPolicy;
 import org.decimal4j.truncate.UncheckedRounding;
 import org.junit.Test;
@@ -79,7 +80,7 @@ public class DeriveArithmeticTest {
 	@Test
 	public void shouldDeriveOtherRoundingMode() {
 		for (final RoundingMode roundingMode : RoundingMode.values()) {
-			final TruncationPolicy tp = arithmetic.getOverflowMode().isChecked() ? CheckedRounding.valueOf(roundingMode) : UncheckedRounding.valueOf(roundingMode);
+			final TruncationPolicy tp = policy(arithmetic.getOverflowMode(), roundingMode);
 			final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 			assertSame("unexpected arithmetic instance for rounding mode " + roundingMode, expected, arithmetic.deriveArithmetic(roundingMode));
 		}
@@ -88,7 +89,7 @@ public class DeriveArithmeticTest {
 	@Test
 	public void shouldDeriveOtherOverflowMode() {
 		for (final OverflowMode overflowMode : OverflowMode.values()) {
-			final TruncationPolicy tp = overflowMode.isChecked() ? CheckedRounding.valueOf(arithmetic.getRoundingMode()) : UncheckedRounding.valueOf(arithmetic.getRoundingMode());
+			final TruncationPolicy tp = policy(overflowMode, arithmetic.getRoundingMode());
 			final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 			assertSame("unexpected arithmetic instance for overflow mode " + overflowMode, expected, arithmetic.deriveArithmetic(overflowMode));
 		}
@@ -97,7 +98,7 @@ public class DeriveArithmeticTest {
 	public void shouldDeriveOtherRoundingModeAndOverflowMode() {
 		for (final RoundingMode roundingMode : RoundingMode.values()) {
 			for (final OverflowMode overflowMode : OverflowMode.values()) {
-				final TruncationPolicy tp = overflowMode.isChecked() ? CheckedRounding.valueOf(roundingMode) : UncheckedRounding.valueOf(roundingMode);
+				final TruncationPolicy tp = policy(overflowMode, roundingMode);
 				final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 				assertSame("unexpected arithmetic instance for rounding/overflow mode " + roundingMode + "/" + overflowMode, expected, arithmetic.deriveArithmetic(roundingMode, overflowMode));
 			}
@@ -111,4 +112,15 @@ public class DeriveArithmeticTest {
 			assertSame("unexpected arithmetic instance for truncation policy " + truncationPolicy, expected, arithmetic.deriveArithmetic(truncationPolicy));
 		}
 	}
+
+	private static TruncationPolicy policy(OverflowMode overflowMode, RoundingMode roundingMode) {
+		switch (overflowMode) {
+		case CHECKED:
+			return CheckedRounding.valueOf(roundingMode);
+		case SATURATING:
+			return SaturatingRounding.valueOf(roundingMode);
+		default:
+			return UncheckedRounding.valueOf(roundingMode);
+		}
+	}
 }
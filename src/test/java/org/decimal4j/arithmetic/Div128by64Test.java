@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.truncate.DecimalRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for the 128 by 64 bit division kernels in {@link Div} comparing
+ * the Knuth and the floating point estimate implementation with the
+ * {@link BigDecimal} result.
+ */
+@RunWith(Parameterized.class)
+public class Div128by64Test {
+
+	private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft(64);
+	private static final long[] SPECIAL_DIVISORS = {1, 2, 3, 7, 10, 0xffffffffL, 0x100000000L, 1000000000000000000L,
+			Long.MAX_VALUE, Long.MIN_VALUE};
+	private static final int RANDOM_CASES = 2000;
+	//divisors are absolute long values, hence at most 2^63
+
+	private final DecimalRounding rounding;
+
+	public Div128by64Test(DecimalRounding rounding) {
+		this.rounding = rounding;
+	}
+
+	@Parameters(name = "{index}: rounding={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final DecimalRounding rounding : DecimalRounding.VALUES) {
+			if (rounding != DecimalRounding.UNNECESSARY) {
+				data.add(new Object[] { rounding });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testSpecialValues() {
+		for (final long v : SPECIAL_DIVISORS) {
+			for (final long u1 : new long[] {0, 1, v >>> 1, v - 1}) {
+				if (Unsigned.isLess(u1, v)) {
+					for (final long u0 : new long[] {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, v, v - 1}) {
+						assertDivision(u1, u0, v);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		final Random rnd = new Random(rounding.ordinal());
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			final long v = rnd.nextLong() >>> (1 + rnd.nextInt(63));
+			if (v != 0) {
+				final long u1 = (rnd.nextLong() >>> rnd.nextInt(64)) % v;
+				assertDivision(u1 < 0 ? u1 + v : u1, rnd.nextLong(), v);
+			}
+		}
+	}
+
+	private void assertDivision(long u1, long u0, long v) {
+		for (final boolean neg : new boolean[] {false, true}) {
+			final String msg = (neg ? "-" : "") + "(" + u1 + ":" + u0 + ") / " + v + " with " + rounding;
+			final long expected = expected(neg, u1, u0, v);
+			assertEquals("Knuth " + msg, expected, Div.div128by64Knuth(rounding, neg, u1, u0, v));
+			assertEquals("float estimate " + msg, expected, Div.div128by64FloatEstimate(rounding, neg, u1, u0, v));
+		}
+	}
+
+	private long expected(boolean neg, long u1, long u0, long v) {
+		final BigInteger dividend = unsigned(u1).shiftLeft(64).add(unsigned(u0));
+		final BigDecimal signedDividend = new BigDecimal(neg ? dividend.negate() : dividend);
+		final BigDecimal quotient = signedDividend.divide(new BigDecimal(unsigned(v)), 0, rounding.getRoundingMode());
+		//overflow wraps as in the division kernels
+		return quotient.toBigInteger().longValue();
+	}
+
+	private static BigInteger unsigned(long value) {
+		final BigInteger big = BigInteger.valueOf(value);
+		return value < 0 ? big.add(TWO_POW_64) : big;
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Exceptions} and the lazily formatted
+ * {@link OverflowArithmeticException}.
+ */
+public class ExceptionsTest {
+	@Test
+	public void testStacklessDisabledByDefault() {
+		assertFalse(Exceptions.isStackless());
+	}
+	@Test
+	public void testBinaryOverflowMessage() {
+		assertEquals("Overflow: 1.23 + 4.56", Exceptions.newOverflowArithmeticException(2, 123, " + ", 2, 456).getMessage());
+		assertEquals("Overflow: 12 * -3", Exceptions.newOverflowArithmeticException(0, 12, " * ", 0, -3).getMessage());
+		assertEquals("Overflow: 0.5 - 7000", Exceptions.newOverflowArithmeticException(1, 5, " - ", -3, 7).getMessage());
+	}
+	@Test
+	public void testUnaryOverflowMessage() {
+		assertEquals("Overflow: abs(-9.223372036854775808)", Exceptions.newOverflowArithmeticException("abs", 18, Long.MIN_VALUE).getMessage());
+		assertEquals("Overflow: -(-9223372036854775808)", Exceptions.newOverflowArithmeticException("-", 0, Long.MIN_VALUE).getMessage());
+	}
+	@Test
+	public void testCheckedAddOverflowMessage() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(2).getArithmetic(CheckedRounding.DOWN);
+		try {
+			arith.add(Long.MAX_VALUE, 1);
+			fail("expected overflow");
+		} catch (ArithmeticException e) {
+			assertEquals("Overflow: 92233720368547758.07 + 0.01", e.getMessage());
+		}
+	}
+	@Test
+	public void testStacklessInstances() {
+		assertEquals(0, Exceptions.STACKLESS_OVERFLOW.getStackTrace().length);
+		assertEquals(0, Exceptions.STACKLESS_ROUNDING_NECESSARY.getStackTrace().length);
+		assertEquals("Overflow", Exceptions.STACKLESS_OVERFLOW.getMessage());
+		assertEquals("Rounding necessary", Exceptions.STACKLESS_ROUNDING_NECESSARY.getMessage());
+	}
+	@Test
+	public void testRethrowStacklessRoundingNecessary() {
+		try {
+			Exceptions.rethrowIfRoundingNecessary(Exceptions.STACKLESS_ROUNDING_NECESSARY);
+			fail("expected rethrow");
+		} catch (ArithmeticException e) {
+			assertSame(Exceptions.STACKLESS_ROUNDING_NECESSARY, e);
+		}
+		//no rethrow
+		Exceptions.rethrowIfRoundingNecessary(Exceptions.STACKLESS_OVERFLOW);
+	}
+	@Test
+	public void testRethrowRoundingNecessaryByType() {
+		final ArithmeticException roundingNecessary = Exceptions.newRoundingNecessaryArithmeticException();
+		try {
+			Exceptions.rethrowIfRoundingNecessary(roundingNecessary);
+			fail("expected rethrow");
+		} catch (ArithmeticException e) {
+			assertSame(roundingNecessary, e);
+		}
+		try {
+			Exceptions.rethrowIfRoundingNecessary(new ArithmeticException("Rounding necessary"));
+			fail("expected rethrow");
+		} catch (ArithmeticException e) {
+			assertEquals("Rounding necessary", e.getMessage());
+		}
+		//no rethrow and no message access
+		Exceptions.rethrowIfRoundingNecessary(new ArithmeticException() {
+			private static final long serialVersionUID = 1L;
+			@Override
+			public String getMessage() {
+				throw new AssertionError("message should not be accessed");
+			}
+		});
+	}
+	@Test(expected = IllegalStateException.class)
+	public void testStacklessInstanceRejectsCause() {
+		Exceptions.STACKLESS_OVERFLOW.initCause(new RuntimeException());
+	}
+	@Test
+	public void testStacklessInstanceIgnoresStackTrace() {
+		Exceptions.STACKLESS_ROUNDING_NECESSARY.setStackTrace(new Throwable().getStackTrace());
+		assertEquals(0, Exceptions.STACKLESS_ROUNDING_NECESSARY.getStackTrace().length);
+	}
+	@Test
+	public void testRoundingNecessaryMessage() {
+		try {
+			DecimalRounding.UNNECESSARY.calculateRoundingIncrement(1, 0, TruncatedPart.EQUAL_TO_HALF);
+			fail("expected rounding necessary exception");
+		} catch (ArithmeticException e) {
+			assertEquals("Rounding necessary", e.getMessage());
+		}
+	}
+}
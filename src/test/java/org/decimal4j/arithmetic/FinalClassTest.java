@@ -65,6 +65,7 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {AbstractCheckedArithmetic.class});
 		data.add(new Object[] {AbstractCheckedScale0fArithmetic.class});
 		data.add(new Object[] {AbstractCheckedScaleNfArithmetic.class});
+		data.add(new Object[] {AbstractSaturatingArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedScale0fArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedScaleNfArithmetic.class});
@@ -79,24 +80,35 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {CheckedScaleNfTruncatingArithmetic.class});
 		data.add(new Object[] {Compare.class});
 		data.add(new Object[] {Div.class});
+		data.add(new Object[] {DivRem.class});
 		data.add(new Object[] {DoubleConversion.class});
 		data.add(new Object[] {Exceptions.class});
+		data.add(new Object[] {Exp.class});
+		data.add(new Object[] {IncrementRounder.class});
 		data.add(new Object[] {FloatConversion.class});
 		data.add(new Object[] {Invert.class});
 		data.add(new Object[] {JDKSupport.class});
+		data.add(new Object[] {Log.class});
 		data.add(new Object[] {LongConversion.class});
 		data.add(new Object[] {Mul.class});
 		data.add(new Object[] {Pow.class});
 		data.add(new Object[] {Pow10.class});
+		data.add(new Object[] {PowerSeries.class});
+		data.add(new Object[] {Rescaler.class});
 		data.add(new Object[] {Round.class});
 		data.add(new Object[] {Rounding.class});
 		data.add(new Object[] {RoundingInverse.class});
+		data.add(new Object[] {SaturatingScale0fRoundingArithmetic.class});
+		data.add(new Object[] {SaturatingScale0fTruncatingArithmetic.class});
+		data.add(new Object[] {SaturatingScaleNfRoundingArithmetic.class});
+		data.add(new Object[] {SaturatingScaleNfTruncatingArithmetic.class});
 		data.add(new Object[] {Shift.class});
 		data.add(new Object[] {SpecialDivisionResult.class});
 		data.add(new Object[] {SpecialMultiplicationResult.class});
 		data.add(new Object[] {SpecialPowResult.class});
 		data.add(new Object[] {Sqrt.class});
 		data.add(new Object[] {Square.class});
+		data.add(new Object[] {StatusArithmetic.class});
 		data.add(new Object[] {StringConversion.class});
 		data.add(new Object[] {Sub.class});
 		data.add(new Object[] {ThreadLocals.class});
@@ -107,6 +119,7 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {UnscaledConversion.class});
 		data.add(new Object[] {Unsigned.class});
 		data.add(new Object[] {UnsignedDecimal9i36f.class});
+		data.add(new Object[] {UnsignedFixed9i36f.class});
 		return data;
 	}
 
@@ -129,13 +142,20 @@ public class FinalClassTest extends AbstractFinalTest {
 	
 	@Override
 	protected boolean isAllowedNonStaticField(Field field) {
-		return AbstractArithmetic.class.isAssignableFrom(clazz);
+		return AbstractArithmetic.class.isAssignableFrom(clazz) || StatusArithmetic.class.equals(clazz) || PowerSeries.class.equals(clazz)
+				|| IncrementRounder.class.equals(clazz) || Rescaler.class.equals(clazz);
 	}
 	
 	@Override
 	protected boolean isAllowedNonFinalField(Field field) {
 		if (UnsignedDecimal9i36f.class.equals(clazz)) {
-			return Arrays.asList("norm", "pow10", "ival", "val3", "val2", "val1", "val0").contains(field.getName());
+			return Arrays.asList("norm", "pow10", "ival", "val3", "val2", "val1", "val0", "inexact").contains(field.getName());
+		}
+		if (UnsignedFixed9i36f.class.equals(clazz)) {
+			return Arrays.asList("ival", "val3", "val2", "val1", "val0").contains(field.getName());
+		}
+		if (PowerSeries.class.equals(clazz)) {
+			return "exponent".equals(field.getName());
 		}
 		return false;
 	}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link IncrementRounder} comparing the quotient estimated
+ * through the reciprocal with
+ * {@link DecimalArithmetic#roundToIncrement(long, long)}.
+ */
+@RunWith(Parameterized.class)
+public class IncrementRounderTest {
+
+	private static final Random RND = new Random();
+	private static final long LIMIT = 1L << 52;
+	private static final long[] INCREMENTS = {2, 3, 5, 25, 3125, 999999937, LIMIT - 1, LIMIT, LIMIT + 1};
+
+	private final DecimalArithmetic arithmetic;
+
+	public IncrementRounderTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] { s, tp });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldRoundLikeArithmetic() {
+		for (final long increment : INCREMENTS) {
+			final IncrementRounder rounder = new IncrementRounder(arithmetic, increment);
+			for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+				assertRound(rounder, randomValue(increment));
+			}
+			for (final long value : boundaryValues(increment)) {
+				assertRound(rounder, value);
+			}
+		}
+	}
+
+	@Test
+	public void shouldRoundArrayInPlaceAndOutOfPlace() {
+		final IncrementRounder rounder = new IncrementRounder(arithmetic, 5);
+		final long[] values = new long[20];
+		final long[] expected = new long[20];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (RND.nextInt(2000) - 1000) * 5L;
+			if (arithmetic.getRoundingMode() != RoundingMode.UNNECESSARY) {
+				values[i] += RND.nextInt(5);
+			}
+			expected[i] = i < 2 || i >= 18 ? values[i] : arithmetic.roundToIncrement(values[i], 5);
+		}
+		final long[] dst = new long[16];
+		rounder.round(values, 2, dst, 0, 16);
+		final long[] expectedDst = new long[16];
+		System.arraycopy(expected, 2, expectedDst, 0, 16);
+		assertArrayEquals("out of place", expectedDst, dst);
+		rounder.round(values, 2, values, 2, 16);
+		assertArrayEquals("in place", expected, values);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForZeroIncrement() {
+		new IncrementRounder(arithmetic, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForNegativeIncrement() {
+		new IncrementRounder(arithmetic, -5);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowForInvalidRange() {
+		new IncrementRounder(arithmetic, 5).round(new long[10], 5, new long[10], 0, 6);
+	}
+
+	private void assertRound(IncrementRounder rounder, long value) {
+		final String message = "round(" + value + ") to " + rounder.getIncrement() + " with " + arithmetic;
+		long expected;
+		try {
+			expected = arithmetic.roundToIncrement(value, rounder.getIncrement());
+		} catch (ArithmeticException e) {
+			expected = Long.MIN_VALUE + 1;//rounding necessary or overflow
+		}
+		long actual;
+		try {
+			actual = rounder.round(value);
+		} catch (ArithmeticException e) {
+			actual = Long.MIN_VALUE + 1;
+		}
+		assertEquals(message, expected, actual);
+	}
+
+	//values mostly within the range where the reciprocal is used
+	private static long randomValue(long increment) {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return (RND.nextInt(2000) - 1000) * increment + RND.nextInt(3) - 1;
+		default:
+			return (RND.nextLong() % LIMIT);
+		}
+	}
+
+	private static long[] boundaryValues(long increment) {
+		final long q = (LIMIT - 1) / increment;
+		return new long[] {0, 1, -1, increment, -increment, increment / 2, -increment / 2, increment / 2 + 1, -increment / 2 - 1,
+				q * increment, -q * increment, q * increment - 1, -q * increment + 1, LIMIT - 1, -LIMIT + 1, LIMIT, -LIMIT,
+				Long.MAX_VALUE, Long.MIN_VALUE};
+	}
+}
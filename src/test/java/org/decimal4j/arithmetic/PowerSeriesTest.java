@@ -0,0 +1,237 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link PowerSeries} asserting that the generated powers are
+ * identical to the result of {@link DecimalArithmetic#pow(long, int)}.
+ */
+@RunWith(Parameterized.class)
+public class PowerSeriesTest {
+
+	private static final Random RND = new Random();
+	private static final int STEPS = 60;
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+
+	public PowerSeriesTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = truncationPolicy.getRoundingMode();
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] { s, tp });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldGenerateAscendingPowers() {
+		for (int i = 0; i < TestSettings.getRandomTestCount() / 100; i++) {
+			final long base = randomBase();
+			final int first = RND.nextInt(5);
+			final PowerSeries series = PowerSeries.ascending(arithmetic, base, first);
+			for (int k = 0; k < STEPS; k++) {
+				if (!assertNext(series, base, first + k)) {
+					break;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldGenerateDescendingPowers() {
+		for (int i = 0; i < TestSettings.getRandomTestCount() / 100; i++) {
+			final long base = randomBase();
+			final int first = -RND.nextInt(5);
+			final PowerSeries series = PowerSeries.descending(arithmetic, base, first);
+			for (int k = 0; k < STEPS; k++) {
+				if (!assertNext(series, base, first - k)) {
+					break;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldAssignPowersToArray() {
+		final long base = randomBase();
+		final long[] expected = new long[10];
+		final long[] actual = new long[12];
+		try {
+			final PowerSeries series = PowerSeries.descending(arithmetic, base, -1);
+			for (int i = 0; i < expected.length; i++) {
+				expected[i] = series.next();
+			}
+		} catch (ArithmeticException e) {
+			return;//rounding necessary
+		}
+		PowerSeries.descending(arithmetic, base, -1).next(actual, 1, 10);
+		assertEquals("actual[0]", 0, actual[0]);
+		assertEquals("actual[11]", 0, actual[11]);
+		final long[] assigned = new long[10];
+		System.arraycopy(actual, 1, assigned, 0, 10);
+		assertArrayEquals("powers of " + arithmetic.toString(base), expected, assigned);
+	}
+
+	@Test
+	public void shouldMatchPowForIntegerBase() {
+		final long base = arithmetic.fromLong(3);
+		final PowerSeries series = PowerSeries.ascending(arithmetic, base, 0);
+		for (int n = 0; n < 20 && scaleMetrics.isValidIntegerValue(BigInteger.valueOf(3).pow(n).longValue()); n++) {
+			assertEquals("3^" + n, arithmetic.pow(base, n), series.next());
+		}
+	}
+
+	@Test
+	public void shouldMatchPowForLongSeries() {
+		final long one = arithmetic.one();
+		final long base = one + one / 1000 * (RND.nextBoolean() ? 1 : -1);
+		final PowerSeries ascending = PowerSeries.ascending(arithmetic, base, 0);
+		final PowerSeries descending = PowerSeries.descending(arithmetic, -base, 0);
+		for (int n = 0; n < 1100; n++) {
+			if (!assertNext(ascending, base, n) | !assertNext(descending, -base, -n)) {
+				break;
+			}
+		}
+	}
+
+	@Test
+	public void shouldMatchPowForReportedValues() {
+		final DecimalArithmetic halfEven4 = Scales.getScaleMetrics(4).getArithmetic(RoundingMode.HALF_EVEN);
+		final PowerSeries series = PowerSeries.descending(halfEven4, halfEven4.parse("0.25"), 0);
+		for (int n = 0; n >= -24; n--) {
+			assertEquals("0.25^" + n, halfEven4.pow(halfEven4.parse("0.25"), n), series.next());
+		}
+		final DecimalArithmetic halfDown18 = Scales.getScaleMetrics(18).getArithmetic(RoundingMode.HALF_DOWN);
+		final long base = halfDown18.parse("-0.169694170549101440");
+		assertEquals("base^-1", halfDown18.pow(base, -1), PowerSeries.descending(halfDown18, base, -1).next());
+	}
+
+	@Test
+	public void shouldAlternateSignForMinusOne() {
+		final long minusOne = -arithmetic.one();
+		final PowerSeries series = PowerSeries.descending(arithmetic, minusOne, 0);
+		for (int n = 0; n < 10; n++) {
+			assertEquals("(-1)^" + -n, (n & 1) == 0 ? arithmetic.one() : minusOne, series.next());
+		}
+	}
+
+	@Test
+	public void shouldHandleZeroBase() {
+		final PowerSeries ascending = PowerSeries.ascending(arithmetic, 0, 0);
+		assertEquals("0^0", arithmetic.one(), ascending.next());
+		assertEquals("0^1", 0, ascending.next());
+		assertEquals("0^2", 0, ascending.next());
+		final PowerSeries descending = PowerSeries.descending(arithmetic, 0, 0);
+		assertEquals("0^0", arithmetic.one(), descending.next());
+		try {
+			descending.next();
+			fail("0^-1 should throw an exception");
+		} catch (ArithmeticException e) {
+			assertEquals("exponent should not advance", -1, descending.getExponent());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForNegativeFirstExponentOfAscendingSeries() {
+		PowerSeries.ascending(arithmetic, arithmetic.one(), -1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForPositiveFirstExponentOfDescendingSeries() {
+		PowerSeries.descending(arithmetic, arithmetic.one(), 1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowForInvalidArrayRange() {
+		PowerSeries.ascending(arithmetic, arithmetic.one(), 0).next(new long[5], 3, 3);
+	}
+
+	//base values around one such as 1+r, sometimes negative
+	private long randomBase() {
+		final long one = scaleMetrics.getScaleFactor();
+		final long base;
+		if (one >= 100 && RND.nextInt(4) != 0) {
+			base = one + (long) ((RND.nextDouble() - 0.3) * one);
+		} else {
+			base = one * (1 + RND.nextInt(3)) + (one > 1 ? RND.nextLong() % one : 0);
+		}
+		return RND.nextInt(10) == 0 ? -base : base;
+	}
+
+	//returns false if no further powers should be tested
+	private boolean assertNext(PowerSeries series, long base, int n) {
+		final String message = arithmetic.toString(base) + "^" + n + " with " + roundingMode;
+		assertEquals(message + ": exponent", n, series.getExponent());
+		Long expected;
+		try {
+			expected = arithmetic.pow(base, n);
+		} catch (ArithmeticException e) {
+			expected = null;//rounding necessary or overflow
+		}
+		final long actual;
+		try {
+			actual = series.next();
+		} catch (ArithmeticException e) {
+			if (expected != null) {
+				throw new AssertionError(message + ": expected " + expected + " but was " + e);
+			}
+			return false;
+		}
+		if (expected == null) {
+			fail(message + ": expected exception but was " + actual);
+		}
+		assertEquals(message, expected.longValue(), actual);
+		return true;
+	}
+}
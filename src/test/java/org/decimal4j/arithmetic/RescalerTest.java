@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Rescaler} comparing the results with
+ * {@link DecimalArithmetic#fromUnscaled(long, int)} and
+ * {@link DecimalArithmetic#toUnscaled(long, int)}.
+ */
+@RunWith(Parameterized.class)
+public class RescalerTest {
+
+	private static final Random RND = new Random();
+	private static final int[] OTHER_SCALES = {-20, -19, -1, 0, 1, 2, 4, 8, 9, 10, 17, 18, 19, 20, 36, 37};
+	private static final long FAILED = Long.MIN_VALUE + 1;
+
+	private final DecimalArithmetic arithmetic;
+
+	public RescalerTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] { s, tp });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldRescaleFromScaleLikeArithmetic() {
+		for (final int scale : OTHER_SCALES) {
+			final Rescaler rescaler = Rescaler.fromScale(scale, arithmetic);
+			for (final long value : testValues()) {
+				long expected;
+				try {
+					expected = arithmetic.fromUnscaled(value, scale);
+				} catch (IllegalArgumentException e) {
+					expected = FAILED;//overflow
+				} catch (ArithmeticException e) {
+					expected = FAILED;//rounding necessary
+				}
+				assertRescale("fromUnscaled(" + value + ", " + scale + ") with " + arithmetic, expected, rescaler, value);
+			}
+		}
+	}
+
+	@Test
+	public void shouldRescaleToScaleLikeArithmetic() {
+		for (final int scale : OTHER_SCALES) {
+			final Rescaler rescaler = Rescaler.toScale(arithmetic, scale);
+			for (final long value : testValues()) {
+				long expected;
+				try {
+					expected = arithmetic.toUnscaled(value, scale);
+				} catch (IllegalArgumentException e) {
+					expected = FAILED;
+				} catch (ArithmeticException e) {
+					expected = FAILED;
+				}
+				assertRescale("toUnscaled(" + value + ", " + scale + ") with " + arithmetic, expected, rescaler, value);
+			}
+		}
+	}
+
+	@Test
+	public void shouldRescaleArrayInPlaceAndOutOfPlace() {
+		for (final int scale : new int[] {arithmetic.getScale() - 2, arithmetic.getScale(), arithmetic.getScale() + 3}) {
+			final Rescaler rescaler = Rescaler.fromScale(scale, arithmetic);
+			final long[] values = new long[20];
+			final long[] expected = new long[20];
+			for (int i = 0; i < values.length; i++) {
+				//multiples of 1000 are exact for all conversions
+				values[i] = (RND.nextInt(2000000) - 1000000) * 1000L;
+				expected[i] = i < 2 || i >= 18 ? values[i] : arithmetic.fromUnscaled(values[i], scale);
+			}
+			final long[] dst = new long[16];
+			rescaler.rescale(values, 2, dst, 0, 16);
+			final long[] expectedDst = new long[16];
+			System.arraycopy(expected, 2, expectedDst, 0, 16);
+			assertArrayEquals("out of place from scale " + scale, expectedDst, dst);
+			rescaler.rescale(values, 2, 16);
+			assertArrayEquals("in place from scale " + scale, expected, values);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForOverflowInArray() {
+		final long[] values = {0, 1, Long.MAX_VALUE};
+		Rescaler.fromScale(arithmetic.getScale() - 1, arithmetic).rescale(values, 0, values.length);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowForScaleDifferenceOutOfIntegerRange() {
+		Rescaler.toScale(arithmetic, Integer.MIN_VALUE);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowForInvalidRange() {
+		Rescaler.fromScale(0, arithmetic).rescale(new long[10], 5, new long[10], 0, 6);
+	}
+
+	private static void assertRescale(String message, long expected, Rescaler rescaler, long value) {
+		long actual;
+		try {
+			actual = rescaler.rescale(value);
+		} catch (IllegalArgumentException e) {
+			actual = FAILED;
+		} catch (ArithmeticException e) {
+			actual = FAILED;
+		}
+		assertEquals(message, expected, actual);
+		final long[] array = {value};
+		try {
+			rescaler.rescale(array, 0, 1);
+		} catch (IllegalArgumentException e) {
+			array[0] = FAILED;
+		} catch (ArithmeticException e) {
+			array[0] = FAILED;
+		}
+		assertEquals("array " + message, expected, array[0]);
+	}
+
+	private static long[] testValues() {
+		final List<Long> values = new ArrayList<Long>();
+		for (final long v : new long[] {0, 1, -1, 4, 5, 6, 15, 25, -5, -15, -25, 999, 1000, 1001, -999, -1000, -1001,
+				Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1}) {
+			values.add(v);
+		}
+		//values around the overflow bound for scaling up by 10^n
+		for (int n = 1; n <= 18; n++) {
+			final long bound = Long.MAX_VALUE / Scales.getScaleMetrics(n).getScaleFactor();
+			for (long d = -1; d <= 1; d++) {
+				values.add(bound + d);
+				values.add(-bound - d);
+			}
+			values.add(Long.MIN_VALUE / Scales.getScaleMetrics(n).getScaleFactor());
+			values.add(5 * Scales.getScaleMetrics(n - 1).getScaleFactor());
+			values.add(-5 * Scales.getScaleMetrics(n - 1).getScaleFactor());
+		}
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			values.add(RND.nextBoolean() ? RND.nextLong() : RND.nextLong() >> RND.nextInt(64));
+		}
+		final long[] result = new long[values.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = values.get(i);
+		}
+		return result;
+	}
+}
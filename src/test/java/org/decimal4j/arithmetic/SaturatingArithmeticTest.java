@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for arithmetic with {@link OverflowMode#SATURATING SATURATING}
+ * overflow mode comparing results with the exact {@link BigDecimal} result
+ * clamped to the range of a long value.
+ */
+@RunWith(Parameterized.class)
+public class SaturatingArithmeticTest {
+
+	private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+	private final long[] values;
+
+	public SaturatingArithmeticTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = scaleMetrics.getArithmetic(SaturatingRounding.valueOf(roundingMode));
+		this.values = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				//UNNECESSARY throws if rounding is necessary, this is tested elsewhere
+				if (mode != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { s, mode });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldHaveSaturatingOverflowMode() {
+		assertSame("overflow mode", OverflowMode.SATURATING, arithmetic.getOverflowMode());
+		assertSame("rounding mode", roundingMode, arithmetic.getRoundingMode());
+		assertSame("truncation policy", SaturatingRounding.valueOf(roundingMode), arithmetic.getTruncationPolicy());
+		assertSame("derived arithmetic", arithmetic, scaleMetrics.getDefaultArithmetic().deriveArithmetic(roundingMode, OverflowMode.SATURATING));
+	}
+
+	@Test
+	public void shouldSaturateUnaryOperations() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			assertResult("negate", a, 0, bdA.negate(), arithmetic.negate(a));
+			assertResult("abs", a, 0, bdA.abs(), arithmetic.abs(a));
+			assertResult("square", a, 0, bdA.multiply(bdA), arithmetic.square(a));
+			assertResult("multiplyByPowerOf10(3)", a, 3, bdA.scaleByPowerOfTen(3), arithmetic.multiplyByPowerOf10(a, 3));
+			assertResult("shiftLeft(5)", a, 5, bdA.multiply(BigDecimal.valueOf(32)), arithmetic.shiftLeft(a, 5));
+		}
+	}
+
+	@Test
+	public void shouldSaturateBinaryOperations() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			for (final long b : values) {
+				final BigDecimal bdB = toBigDecimal(b);
+				assertResult("add", a, b, bdA.add(bdB), arithmetic.add(a, b));
+				assertResult("subtract", a, b, bdA.subtract(bdB), arithmetic.subtract(a, b));
+				assertResult("multiply", a, b, bdA.multiply(bdB), arithmetic.multiply(a, b));
+				assertResult("multiplyByLong", a, b, bdA.multiply(BigDecimal.valueOf(b)), arithmetic.multiplyByLong(a, b));
+				if (b != 0) {
+					final BigDecimal quotient = bdA.divide(bdB, scaleMetrics.getScale(), roundingMode);
+					assertResult("divide", a, b, quotient, arithmetic.divide(a, b));
+				}
+			}
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void shouldThrowOnDivisionByZero() {
+		arithmetic.divide(arithmetic.one(), 0);
+	}
+
+	private BigDecimal toBigDecimal(long unscaled) {
+		return BigDecimal.valueOf(unscaled, scaleMetrics.getScale());
+	}
+
+	private void assertResult(String op, long a, long b, BigDecimal exact, long actual) {
+		final BigInteger unscaled = exact.setScale(scaleMetrics.getScale(), roundingMode).unscaledValue();
+		final long expected = unscaled.compareTo(MAX) > 0 ? Long.MAX_VALUE : unscaled.compareTo(MIN) < 0 ? Long.MIN_VALUE : unscaled.longValue();
+		assertEquals(op + "(" + a + ", " + b + ") with " + arithmetic, expected, actual);
+	}
+}
@@ -0,0 +1,311 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link StatusArithmetic} comparing results and raised flags
+ * with the exact {@link BigDecimal} result.
+ */
+@RunWith(Parameterized.class)
+public class StatusArithmeticTest {
+
+	private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final ArithmeticStatus status = new ArithmeticStatus();
+	private final DecimalArithmetic arithmetic;
+	private final long[] values;
+
+	public StatusArithmeticTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = new StatusArithmetic(scaleMetrics.getArithmetic(CheckedRounding.valueOf(roundingMode)), status);
+		this.values = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				//UNNECESSARY throws if rounding is necessary
+				if (mode != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { s, mode });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldDeriveDecoratedArithmetic() {
+		assertSame("overflow mode", OverflowMode.UNCHECKED, arithmetic.getOverflowMode());
+		assertSame("rounding mode", roundingMode, arithmetic.getRoundingMode());
+		assertSame("derived overflow mode", arithmetic, arithmetic.deriveArithmetic(OverflowMode.CHECKED));
+		final DecimalArithmetic derived = arithmetic.deriveArithmetic(RoundingMode.DOWN);
+		assertTrue("derived should be decorated", derived instanceof StatusArithmetic);
+		assertSame("derived status", status, ((StatusArithmetic) derived).getStatus());
+	}
+
+	@Test
+	public void shouldRaiseFlagsForUnaryOperations() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			assertExact("negate", a, 0, bdA.negate(), arithmetic.negate(a));
+			assertExact("abs", a, 0, bdA.abs(), arithmetic.abs(a));
+			assertExact("square", a, 0, bdA.multiply(bdA), arithmetic.square(a));
+			assertExact("pow(2)", a, 2, bdA.pow(2), arithmetic.pow(a, 2));
+			assertExact("multiplyByPowerOf10(3)", a, 3, bdA.scaleByPowerOfTen(3), arithmetic.multiplyByPowerOf10(a, 3));
+			assertExact("multiplyByPowerOf10(-3)", a, -3, bdA.scaleByPowerOfTen(-3), arithmetic.multiplyByPowerOf10(a, -3));
+			assertExact("divideByPowerOf10(20)", a, 20, bdA.scaleByPowerOfTen(-20), arithmetic.divideByPowerOf10(a, 20));
+			assertExact("shiftLeft(5)", a, 5, bdA.multiply(BigDecimal.valueOf(32)), arithmetic.shiftLeft(a, 5));
+			assertExact("shiftRight(5)", a, 5, bdA.divide(BigDecimal.valueOf(32)), arithmetic.shiftRight(a, 5));
+			final BigDecimal bdRounded = bdA.setScale(0, roundingMode);
+			assertResult("round(0)", a, 0, bdRounded, bdRounded.compareTo(bdA) != 0, arithmetic.round(a, 0));
+			assertExact("fromLong", a, 0, new BigDecimal(a), arithmetic.fromLong(a));
+			if (a != 0) {
+				status.reset();
+				final long inverse = arithmetic.invert(a);
+				final BigDecimal quotient = BigDecimal.ONE.divide(bdA, scaleMetrics.getScale(), roundingMode);
+				assertResult("invert", a, 0, quotient, quotient.multiply(bdA).compareTo(BigDecimal.ONE) != 0, inverse);
+			}
+			if (a >= 0) {
+				status.reset();
+				final long sqrt = arithmetic.sqrt(a);
+				final BigDecimal bdSqrt = toBigDecimal(sqrt);
+				assertResult("sqrt", a, 0, bdSqrt, bdSqrt.multiply(bdSqrt).compareTo(bdA) != 0, sqrt);
+			}
+		}
+	}
+
+	@Test
+	public void shouldRaiseFlagsForBinaryOperations() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			for (final long b : values) {
+				final BigDecimal bdB = toBigDecimal(b);
+				assertExact("add", a, b, bdA.add(bdB), arithmetic.add(a, b));
+				assertExact("subtract", a, b, bdA.subtract(bdB), arithmetic.subtract(a, b));
+				assertExact("multiply", a, b, bdA.multiply(bdB), arithmetic.multiply(a, b));
+				assertExact("multiplyByLong", a, b, bdA.multiply(BigDecimal.valueOf(b)), arithmetic.multiplyByLong(a, b));
+				assertExact("avg", a, b, bdA.add(bdB).divide(BigDecimal.valueOf(2)), arithmetic.avg(a, b));
+				if (b != 0) {
+					status.reset();
+					final long quotient = arithmetic.divide(a, b);
+					final BigDecimal bdQuotient = bdA.divide(bdB, scaleMetrics.getScale(), roundingMode);
+					assertResult("divide", a, b, bdQuotient, bdQuotient.multiply(bdB).compareTo(bdA) != 0, quotient);
+					status.reset();
+					final long lQuotient = arithmetic.divideByLong(a, b);
+					final BigDecimal bdLQuotient = bdA.divide(BigDecimal.valueOf(b), scaleMetrics.getScale(), roundingMode);
+					assertResult("divideByLong", a, b, bdLQuotient, bdLQuotient.multiply(BigDecimal.valueOf(b)).compareTo(bdA) != 0, lQuotient);
+					status.reset();
+					final BigDecimal bdIntegral = bdA.divideToIntegralValue(bdB);
+					assertResult("divideToIntegralValue", a, b, bdIntegral, false, arithmetic.divideToIntegralValue(a, b));
+					assertResult("remainder", a, b, bdA.remainder(bdB), false, arithmetic.remainder(a, b));
+					final long[] quotientAndRemainder = new long[2];
+					arithmetic.divideAndRemainder(a, b, quotientAndRemainder);
+					assertResult("divideAndRemainder[0]", a, b, bdIntegral, false, quotientAndRemainder[0]);
+					if (b > 0) {
+						final BigDecimal bdRounded = bdA.divide(bdB, 0, roundingMode).multiply(bdB);
+						assertResult("roundToIncrement", a, b, bdRounded, bdRounded.compareTo(bdA) != 0, arithmetic.roundToIncrement(a, b));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldRaiseFlagsForLongAndUnscaledOperands() {
+		final int[] scales = { -2, 0, scaleMetrics.getScale(), 17 };
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			for (final long b : values) {
+				final BigDecimal bdL = BigDecimal.valueOf(b);
+				assertExact("addLong", a, b, bdA.add(bdL), arithmetic.addLong(a, b));
+				assertExact("subtractLong", a, b, bdA.subtract(bdL), arithmetic.subtractLong(a, b));
+				for (final int scale : scales) {
+					final BigDecimal bdB = BigDecimal.valueOf(b, scale);
+					assertExact("addUnscaled/" + scale, a, b, bdA.add(bdB), arithmetic.addUnscaled(a, b, scale));
+					assertExact("subtractUnscaled/" + scale, a, b, bdA.subtract(bdB), arithmetic.subtractUnscaled(a, b, scale));
+					assertExact("multiplyByUnscaled/" + scale, a, b, bdA.multiply(bdB), arithmetic.multiplyByUnscaled(a, b, scale));
+					if (b != 0) {
+						final long quotient = arithmetic.divideByUnscaled(a, b, scale);
+						final BigDecimal bdQuotient = bdA.divide(bdB, scaleMetrics.getScale(), roundingMode);
+						assertResult("divideByUnscaled/" + scale, a, b, bdQuotient, bdQuotient.multiply(bdB).compareTo(bdA) != 0, quotient);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldRaiseFlagsForPow() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			assertExact("pow(3)", a, 3, bdA.pow(3), arithmetic.pow(a, 3));
+		}
+		final long a = -5937148023802485310L;
+		arithmetic.pow(a, 3);
+		assertTrue("pow(" + a + ", 3) should raise overflow", status.isOverflow());
+		status.reset();
+		arithmetic.pow(a, 1001);
+		assertTrue("pow(" + a + ", 1001) should raise overflow", status.isOverflow());
+		status.reset();
+	}
+
+	@Test
+	public void shouldRaiseOverflowForExactInversePow() {
+		if (scaleMetrics.getScale() < 6) {
+			return;//base not representable
+		}
+		//-0.000128^-6 = 5^42 * 10^-6 is exact but overflows
+		final long base = scaleMetrics.getArithmetic(roundingMode).parse("-0.000128");
+		arithmetic.pow(base, -6);
+		assertTrue("pow(-0.000128, -6) should raise overflow", status.isOverflow());
+		assertFalse("pow(-0.000128, -6) should not raise inexact", status.isInexact());
+		status.reset();
+		final DecimalArithmetic unnecessary = new StatusArithmetic(scaleMetrics.getArithmetic(CheckedRounding.UNNECESSARY), status);
+		unnecessary.pow(base, -6);
+		assertTrue("pow(-0.000128, -6) with UNNECESSARY should raise overflow", status.isOverflow());
+		assertFalse("pow(-0.000128, -6) with UNNECESSARY should not raise inexact", status.isInexact());
+		status.reset();
+		assertEquals("saturated pow(-0.000128, -6)", Long.MAX_VALUE, scaleMetrics.getArithmetic(SaturatingRounding.UNNECESSARY).pow(base, -6));
+		try {
+			scaleMetrics.getArithmetic(CheckedRounding.UNNECESSARY).pow(base, -6);
+			fail("checked pow(-0.000128, -6) should overflow");
+		} catch (ArithmeticException e) {
+			assertTrue("checked pow(-0.000128, -6) should throw overflow but was " + e, e instanceof OverflowArithmeticException);
+		}
+	}
+
+	@Test
+	public void shouldRaiseOverflowForExp() {
+		arithmetic.exp(Long.MAX_VALUE);
+		assertTrue("exp(" + Long.MAX_VALUE + ") should raise overflow", status.isOverflow());
+		assertFalse("exp(" + Long.MAX_VALUE + ") should not raise division by zero", status.isDivisionByZero());
+		status.reset();
+		assertEquals("exp(0)", arithmetic.one(), arithmetic.exp(0));
+		assertTrue("exp(0) should be exact", status.isClear());
+		final long exp = arithmetic.exp(Long.MIN_VALUE);
+		assertTrue("exp(" + Long.MIN_VALUE + ") should be non-negative", exp >= 0);
+		assertFalse("exp(" + Long.MIN_VALUE + ") should not raise overflow", status.isOverflow());
+		assertTrue("exp(" + Long.MIN_VALUE + ") should raise inexact", status.isInexact());
+		status.reset();
+	}
+
+	@Test
+	public void shouldRaiseOverflowForLn() {
+		final long ln = arithmetic.ln(1);
+		final long log10 = arithmetic.log10(1);
+		if (scaleMetrics.getScale() == 18) {
+			//ln(1e-18) = -41.4 and log10(1e-18) = -18 are both out of range
+			assertTrue("ln(1) and log10(1) should raise overflow", status.isOverflow());
+		} else {
+			assertFalse("ln(1) and log10(1) should not raise overflow", status.isOverflow());
+			assertEquals("log10(1)", -scaleMetrics.getScale(), arithmetic.toLong(log10));
+			if (scaleMetrics.getScale() > 0) {
+				assertTrue("ln(1) should be negative", ln < 0);
+				assertTrue("ln(1) should raise inexact", status.isInexact());
+			}
+		}
+		status.reset();
+		assertEquals("ln(1)", 0, arithmetic.ln(arithmetic.one()));
+		assertTrue("ln(1) should be exact", status.isClear());
+	}
+
+	@Test
+	public void shouldRaiseDivisionByZero() {
+		assertEquals(0, arithmetic.divide(arithmetic.one(), 0));
+		assertTrue("division by zero", status.isDivisionByZero());
+		assertFalse("overflow", status.isOverflow());
+		assertEquals(ArithmeticStatus.DIVISION_BY_ZERO, status.getAndReset());
+		assertEquals(0, arithmetic.divideByLong(arithmetic.one(), 0));
+		assertEquals(0, arithmetic.invert(0));
+		assertEquals(0, arithmetic.pow(0, -1));
+		assertEquals(0, arithmetic.divideToIntegralValue(arithmetic.one(), 0));
+		assertEquals(0, arithmetic.remainder(arithmetic.one(), 0));
+		assertEquals(ArithmeticStatus.DIVISION_BY_ZERO, status.getFlags());
+	}
+
+	@Test
+	public void shouldAccumulateStickyFlags() {
+		arithmetic.add(Long.MAX_VALUE, 1);
+		arithmetic.add(1, 2);
+		assertTrue("overflow should be sticky", status.isOverflow());
+		assertFalse("inexact", status.isInexact());
+		arithmetic.avg(0, 1);
+		assertEquals(ArithmeticStatus.OVERFLOW | ArithmeticStatus.INEXACT, status.getFlags());
+		status.reset();
+		assertTrue("status should be clear after reset", status.isClear());
+	}
+
+	private BigDecimal toBigDecimal(long unscaled) {
+		return BigDecimal.valueOf(unscaled, scaleMetrics.getScale());
+	}
+
+	private void assertExact(String op, long a, long b, BigDecimal exact, long actual) {
+		final BigDecimal rounded = exact.setScale(scaleMetrics.getScale(), roundingMode);
+		assertResult(op, a, b, rounded, rounded.compareTo(exact) != 0, actual);
+	}
+
+	private void assertResult(String op, long a, long b, BigDecimal rounded, boolean inexact, long actual) {
+		final BigInteger unscaled = rounded.setScale(scaleMetrics.getScale(), RoundingMode.UNNECESSARY).unscaledValue();
+		final String msg = op + "(" + a + ", " + b + ") with " + arithmetic;
+		if (unscaled.compareTo(MAX) > 0 || unscaled.compareTo(MIN) < 0) {
+			assertTrue(msg + " should raise overflow", status.isOverflow());
+		} else {
+			assertFalse(msg + " should not raise overflow", status.isOverflow());
+			assertEquals(msg, unscaled.longValue(), actual);
+			assertEquals(msg + " inexact", inexact, status.isInexact());
+		}
+		assertFalse(msg + " should not raise division by zero", status.isDivisionByZero());
+		status.reset();
+	}
+}
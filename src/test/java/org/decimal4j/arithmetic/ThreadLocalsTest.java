@@ -28,6 +28,7 @@ import static org.junit.Assert.assertSame;
 
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.decimal4j.truncate.ArithmeticStatus;
 import org.junit.Test;
 
 /**
@@ -39,6 +40,7 @@ public class ThreadLocalsTest {
 		public final StringBuilder stringBuilder = StringConversion.STRING_BUILDER_THREAD_LOCAL.get();
 		public final UnsignedDecimal9i36f unsignedDecimal1 = UnsignedDecimal9i36f.THREAD_LOCAL_1.get();
 		public final UnsignedDecimal9i36f unsignedDecimal2 = UnsignedDecimal9i36f.THREAD_LOCAL_2.get();
+		public final ArithmeticStatus status = Checked.STATUS_THREAD_LOCAL.get();
 	}
 
 	@Test
@@ -65,6 +67,7 @@ public class ThreadLocalsTest {
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
 		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
+		assertNotSame("status should be different instances", tli1.status, tli2.status);
 	}
 
 	@Test
@@ -77,6 +80,7 @@ public class ThreadLocalsTest {
 		assertSame("string builder should be same instance", tli1.stringBuilder, tli2.stringBuilder);
 		assertSame("unsigned decimal 1 should be same instance", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertSame("unsigned decimal 2 should be same instance", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
+		assertSame("status should be same instance", tli1.status, tli2.status);
 	}
 
 	@Test
@@ -92,6 +96,7 @@ public class ThreadLocalsTest {
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
 		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
+		assertNotSame("status should be different instances", tli1.status, tli2.status);
 	}
 
 }
@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.CheckedRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for the exception free {@code tryXXX} methods of
+ * {@link DecimalArithmetic} comparing results with the exact
+ * {@link BigDecimal} result and asserting that the {@link ArithmeticStatus}
+ * reports overflows.
+ */
+@RunWith(Parameterized.class)
+public class TryArithmeticTest {
+
+	private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+	private final long[] values;
+	private final ArithmeticStatus status = new ArithmeticStatus();
+
+	public TryArithmeticTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = scaleMetrics.getArithmetic(CheckedRounding.valueOf(roundingMode));
+		this.values = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				//UNNECESSARY throws if rounding is necessary, this is tested elsewhere
+				if (mode != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { s, mode });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldReportOverflowInStatus() {
+		for (final long a : values) {
+			final BigDecimal bdA = toBigDecimal(a);
+			for (final long b : values) {
+				final BigDecimal bdB = toBigDecimal(b);
+				status.reset();
+				assertResult("tryAdd", a, b, bdA.add(bdB), arithmetic.tryAdd(a, b, status));
+				status.reset();
+				assertResult("trySubtract", a, b, bdA.subtract(bdB), arithmetic.trySubtract(a, b, status));
+				status.reset();
+				assertResult("tryMultiply", a, b, bdA.multiply(bdB), arithmetic.tryMultiply(a, b, status));
+				if (b != 0) {
+					status.reset();
+					final BigDecimal quotient = bdA.divide(bdB, scaleMetrics.getScale(), roundingMode);
+					assertResult("tryDivide", a, b, quotient, arithmetic.tryDivide(a, b, status));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldKeepOverflowFlagUntilReset() {
+		final long max = Long.MAX_VALUE;
+		assertEquals("truncated sum", Long.MIN_VALUE, arithmetic.tryAdd(max, 1, status));
+		assertEquals("valid sum", 3, arithmetic.tryAdd(1, 2, status));
+		assertTrue("overflow should be sticky", status.isOverflow());
+		status.reset();
+		assertTrue("status should be clear after reset", status.isClear());
+	}
+
+	@Test
+	public void shouldReturnLowOrderBitsOnOverflow() {
+		final long[] operands1 = { Long.MAX_VALUE - 1, 4581754971515351083L, Long.MIN_VALUE };
+		final long[] operands2 = { 4433524604186053902L, -46427, Long.MIN_VALUE + 1, 3 };
+		for (final long a : operands1) {
+			for (final long b : operands2) {
+				status.reset();
+				assertResult("tryMultiply", a, b, toBigDecimal(a).multiply(toBigDecimal(b)), arithmetic.tryMultiply(a, b, status));
+				status.reset();
+				final BigDecimal quotient = toBigDecimal(a).divide(toBigDecimal(b), scaleMetrics.getScale(), roundingMode);
+				assertResult("tryDivide", a, b, quotient, arithmetic.tryDivide(a, b, status));
+			}
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void shouldThrowOnDivisionByZero() {
+		arithmetic.tryDivide(arithmetic.one(), 0, status);
+	}
+
+	private BigDecimal toBigDecimal(long unscaled) {
+		return BigDecimal.valueOf(unscaled, scaleMetrics.getScale());
+	}
+
+	private void assertResult(String op, long a, long b, BigDecimal exact, long actual) {
+		final BigInteger unscaled = exact.setScale(scaleMetrics.getScale(), roundingMode).unscaledValue();
+		final String msg = op + "(" + a + ", " + b + ") with " + arithmetic;
+		if (unscaled.compareTo(MAX) > 0 || unscaled.compareTo(MIN) < 0) {
+			assertTrue(msg + " should report overflow", status.isOverflow());
+		} else {
+			assertFalse(msg + " should not report overflow", status.isOverflow());
+		}
+		//BigInteger.longValue() returns the low order 64 bits, i.e. the exact result mod 2^64
+		assertEquals(msg, unscaled.longValue(), actual);
+	}
+}
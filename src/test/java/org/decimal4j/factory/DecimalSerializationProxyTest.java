@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.generic.GenericDecimalFactory;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.generic.GenericMutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for serialization of decimals with {@link DecimalSerializationProxy}
+ */
+@RunWith(Parameterized.class)
+public class DecimalSerializationProxyTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalFactory<?> factory;
+	private final GenericDecimalFactory<?> genericFactory;
+
+	public DecimalSerializationProxyTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+		this.genericFactory = Factories.getGenericDecimalFactory(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale });
+		}
+		return data;
+	}
+
+	@Test
+	public void testImmutable() throws Exception {
+		for (final long unscaled : values()) {
+			final ImmutableDecimal<?> value = factory.valueOfUnscaled(unscaled);
+			final Object copy = serializeAndDeserialize(value);
+			assertEquals(value.getClass(), copy.getClass());
+			assertEquals(value, copy);
+		}
+	}
+
+	@Test
+	public void testImmutableConstants() throws Exception {
+		final ImmutableDecimal<?> zero = factory.valueOfUnscaled(0);
+		final ImmutableDecimal<?> one = factory.valueOfUnscaled(scaleMetrics.getScaleFactor());
+		final ImmutableDecimal<?> minusOne = factory.valueOfUnscaled(-scaleMetrics.getScaleFactor());
+		final ImmutableDecimal<?> ulp = factory.valueOfUnscaled(1);
+		assertSame(zero, serializeAndDeserialize(zero));
+		assertSame(one, serializeAndDeserialize(one));
+		assertSame(minusOne, serializeAndDeserialize(minusOne));
+		assertSame(ulp, serializeAndDeserialize(ulp));
+	}
+
+	@Test
+	public void testMutable() throws Exception {
+		for (final long unscaled : values()) {
+			final MutableDecimal<?> value = factory.newMutable().setUnscaled(unscaled);
+			final Object copy = serializeAndDeserialize(value);
+			assertEquals(value.getClass(), copy.getClass());
+			assertEquals(value, copy);
+		}
+	}
+
+	@Test
+	public void testGeneric() throws Exception {
+		for (final long unscaled : values()) {
+			final GenericImmutableDecimal<?> immutable = genericFactory.valueOfUnscaled(unscaled);
+			final GenericMutableDecimal<?> mutable = genericFactory.newMutable().setUnscaled(unscaled);
+			final Object immutableCopy = serializeAndDeserialize(immutable);
+			final Object mutableCopy = serializeAndDeserialize(mutable);
+			assertEquals(GenericImmutableDecimal.class, immutableCopy.getClass());
+			assertEquals(GenericMutableDecimal.class, mutableCopy.getClass());
+			assertEquals(immutable, immutableCopy);
+			assertEquals(mutable, mutableCopy);
+			assertSame(scaleMetrics, ((Decimal<?>) immutableCopy).getScaleMetrics());
+			assertSame(scaleMetrics, ((Decimal<?>) mutableCopy).getScaleMetrics());
+		}
+	}
+
+	@Test
+	public void testSharedReferences() throws Exception {
+		final MutableDecimal<?> value = factory.newMutable().setUnscaled(RND.nextLong());
+		final Object[] copy = (Object[]) serializeAndDeserialize(new Object[] { value, value });
+		assertSame(copy[0], copy[1]);
+		assertEquals(value, copy[0]);
+	}
+
+	@Test
+	public void testCompactSize() throws Exception {
+		final int n = 1000;
+		final Object[] decimals = new Object[n];
+		for (int i = 0; i < n; i++) {
+			decimals[i] = factory.valueOfUnscaled(RND.nextInt(1000000));
+		}
+		final int size = serialize(decimals).length;
+		assertTrue("serialized size " + size + " too large for " + n + " values", size < n * 16);
+	}
+
+	private long[] values() {
+		final long[] values = new long[50];
+		values[1] = 1;
+		values[2] = -1;
+		values[3] = scaleMetrics.getScaleFactor();
+		values[4] = Long.MAX_VALUE;
+		values[5] = Long.MIN_VALUE;
+		for (int i = 6; i < values.length; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		}
+		return values;
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object serializeAndDeserialize(Object value) throws IOException, ClassNotFoundException {
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(value)))) {
+			return in.readObject();
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ColumnarDecimalCodec}
+ */
+@RunWith(Parameterized.class)
+public class ColumnarDecimalCodecTest {
+
+	private static final Random RND = new Random();
+	private static final long NULL = Long.MIN_VALUE;
+	private static final int ROWS = 100;
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final DecimalArithmetic checkedArithmetic;
+
+	public ColumnarDecimalCodecTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = scaleMetrics.getArithmetic(RoundingMode.HALF_EVEN);
+		this.checkedArithmetic = scaleMetrics.getArithmetic(CheckedRounding.HALF_EVEN);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale });
+		}
+		return data;
+	}
+
+	@Test
+	public void testInt64RoundTrip() {
+		final long[] values = values();
+		for (final ByteOrder bufferOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			final ByteBuffer data = ByteBuffer.allocate(ROWS * ColumnarDecimalCodec.INT64_WIDTH).order(bufferOrder);
+			final ByteBuffer validity = ByteBuffer.allocate(ColumnarDecimalCodec.validityLength(ROWS));
+			final int nulls = ColumnarDecimalCodec.writeInt64(values, 0, ROWS, scaleMetrics.getScale(), NULL,
+					arithmetic, data, validity, 0);
+			assertEquals(nullCount(values), nulls);
+			for (int i = 0; i < ROWS; i++) {
+				assertEquals("row " + i, values[i] != NULL, ColumnarDecimalCodec.isValid(validity, i));
+				if (values[i] != NULL) {
+					assertEquals("row " + i, values[i], Long.reverseBytes(data.order(ByteOrder.BIG_ENDIAN).getLong(8 * i)));
+				}
+			}
+			data.order(bufferOrder);
+			final long[] read = new long[ROWS];
+			assertEquals(nulls, ColumnarDecimalCodec.readInt64(data, validity, scaleMetrics.getScale(), 0,
+					arithmetic, read, 0, ROWS, NULL));
+			assertArrayEquals(values, read);
+		}
+	}
+
+	@Test
+	public void testDecimal128RoundTrip() {
+		final long[] values = values();
+		for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			final ByteBuffer data = ByteBuffer.allocate(ROWS * ColumnarDecimalCodec.DECIMAL128_WIDTH);
+			final ByteBuffer validity = ByteBuffer.allocate(ColumnarDecimalCodec.validityLength(ROWS));
+			ColumnarDecimalCodec.writeDecimal128(values, 0, ROWS, scaleMetrics.getScale(), NULL, arithmetic, data,
+					order, validity, 0);
+			for (int i = 0; i < ROWS; i++) {
+				if (values[i] != NULL) {
+					assertEquals("row " + i, BigInteger.valueOf(values[i]), toBigInteger(data, order, i));
+				}
+			}
+			final long[] read = new long[ROWS + 1];
+			ColumnarDecimalCodec.readDecimal128(data, order, validity, scaleMetrics.getScale(), 0, checkedArithmetic,
+					read, 1, ROWS, NULL);
+			assertArrayEquals(values, Arrays.copyOfRange(read, 1, ROWS + 1));
+		}
+	}
+
+	@Test
+	public void testRescale() {
+		final long[] values = new long[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			values[i] = RND.nextInt();
+		}
+		for (final ScaleMetrics dataScale : TestSettings.SCALES) {
+			final DecimalArithmetic dataArith = dataScale.getArithmetic(RoundingMode.HALF_EVEN);
+			final ByteBuffer data = ByteBuffer.allocate(ROWS * ColumnarDecimalCodec.DECIMAL128_WIDTH);
+			ColumnarDecimalCodec.writeDecimal128(values, 0, ROWS, scaleMetrics.getScale(), NULL, dataArith, data,
+					ByteOrder.LITTLE_ENDIAN, null, 0);
+			final long[] read = new long[ROWS];
+			ColumnarDecimalCodec.readDecimal128(data, ByteOrder.LITTLE_ENDIAN, null, dataScale.getScale(), 0,
+					arithmetic, read, 0, ROWS, NULL);
+			for (int i = 0; i < ROWS; i++) {
+				final BigDecimal inDataScale = BigDecimal.valueOf(values[i], scaleMetrics.getScale())//
+						.setScale(dataScale.getScale(), RoundingMode.HALF_EVEN);
+				if (inDataScale.unscaledValue().bitLength() >= Long.SIZE) {
+					continue;// overflow in data scale
+				}
+				final BigDecimal expected = inDataScale.setScale(scaleMetrics.getScale(), RoundingMode.HALF_EVEN);
+				assertEquals("row " + i + " via scale " + dataScale.getScale(), expected.unscaledValue().longValue(), read[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testDecimal128Overflow() {
+		final ByteBuffer data = ByteBuffer.allocate(ColumnarDecimalCodec.DECIMAL128_WIDTH).order(ByteOrder.LITTLE_ENDIAN);
+		data.putLong(0, 123);
+		data.putLong(8, 1);
+		final long[] read = new long[1];
+		ColumnarDecimalCodec.readDecimal128(data, ByteOrder.LITTLE_ENDIAN, null, scaleMetrics.getScale(), 0,
+				arithmetic, read, 0, 1, NULL);
+		assertEquals(123, read[0]);
+		try {
+			ColumnarDecimalCodec.readDecimal128(data, ByteOrder.LITTLE_ENDIAN, null, scaleMetrics.getScale(), 0,
+					checkedArithmetic, read, 0, 1, NULL);
+			throw new AssertionError("expected ArithmeticException");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testDecimal128Saturation() {
+		final DecimalArithmetic saturatingArithmetic = scaleMetrics.getArithmetic(SaturatingRounding.HALF_EVEN);
+		final ByteBuffer data = ByteBuffer.allocate(2 * ColumnarDecimalCodec.DECIMAL128_WIDTH).order(ByteOrder.LITTLE_ENDIAN);
+		data.putLong(0, 123);
+		data.putLong(8, 1);
+		data.putLong(16, 123);
+		data.putLong(24, -2);
+		final long[] read = new long[2];
+		ColumnarDecimalCodec.readDecimal128(data, ByteOrder.LITTLE_ENDIAN, null, scaleMetrics.getScale(), 0,
+				saturatingArithmetic, read, 0, 2, NULL);
+		assertEquals(Long.MAX_VALUE, read[0]);
+		assertEquals(Long.MIN_VALUE, read[1]);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testInt64RescaleOverflow() {
+		final ByteBuffer data = ByteBuffer.allocate(ColumnarDecimalCodec.INT64_WIDTH);
+		final long[] values = { Long.MAX_VALUE / 2 };
+		ColumnarDecimalCodec.writeInt64(values, 0, 1, scaleMetrics.getScale() - 1, NULL, checkedArithmetic, data,
+				null, 0);
+	}
+
+	@Test
+	public void testValidity() {
+		final ByteBuffer validity = ByteBuffer.allocate(ColumnarDecimalCodec.validityLength(17));
+		assertEquals(3, validity.capacity());
+		ColumnarDecimalCodec.setValid(validity, 0, true);
+		ColumnarDecimalCodec.setValid(validity, 9, true);
+		ColumnarDecimalCodec.setValid(validity, 16, true);
+		ColumnarDecimalCodec.setValid(validity, 16, false);
+		assertEquals(1, validity.get(0));
+		assertEquals(2, validity.get(1));
+		assertEquals(0, validity.get(2));
+		assertTrue(ColumnarDecimalCodec.isValid(validity, 9));
+		assertFalse(ColumnarDecimalCodec.isValid(validity, 8));
+		assertTrue(ColumnarDecimalCodec.isValid(null, 8));
+	}
+
+	private static BigInteger toBigInteger(ByteBuffer data, ByteOrder order, int row) {
+		final byte[] bytes = new byte[ColumnarDecimalCodec.DECIMAL128_WIDTH];
+		for (int i = 0; i < bytes.length; i++) {
+			final int index = order == ByteOrder.BIG_ENDIAN ? i : bytes.length - 1 - i;
+			bytes[i] = data.get(row * ColumnarDecimalCodec.DECIMAL128_WIDTH + index);
+		}
+		return new BigInteger(bytes);
+	}
+
+	private static int nullCount(long[] values) {
+		int nulls = 0;
+		for (final long value : values) {
+			if (value == NULL) {
+				nulls++;
+			}
+		}
+		return nulls;
+	}
+
+	private static long[] values() {
+		final long[] values = new long[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			values[i] = RND.nextInt(5) == 0 ? NULL : RND.nextLong() >> (1 + RND.nextInt(Long.SIZE - 1));
+		}
+		values[0] = Long.MAX_VALUE;
+		values[1] = Long.MIN_VALUE + 1;
+		values[2] = -1;
+		return values;
+	}
+}
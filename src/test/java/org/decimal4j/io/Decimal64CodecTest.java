@@ -0,0 +1,278 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.DecimalRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal64Codec}
+ */
+@RunWith(Parameterized.class)
+public class Decimal64CodecTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+
+	public Decimal64CodecTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = scaleMetrics.getArithmetic(CheckedRounding.valueOf(roundingMode));
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testKnownEncodings() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(0).getDefaultArithmetic();
+		assertEquals(0x31C0000000000001L, Decimal64Codec.encodeBID(1, arith));
+		assertEquals(0x2238000000000001L, Decimal64Codec.encodeDPD(1, arith));
+		assertEquals(0xB1C0000000000001L, Decimal64Codec.encodeBID(-1, arith));
+		assertEquals(0xA238000000000001L, Decimal64Codec.encodeDPD(-1, arith));
+		// 9999999999999999 with exponent 0: coefficient >= 2^53 in BID, leading digit 9 in DPD
+		assertEquals(0x6C7386F26FC0FFFFL, Decimal64Codec.encodeBID(9999999999999999L, arith));
+		assertEquals(0x6E38FF3FCFF3FCFFL, Decimal64Codec.encodeDPD(9999999999999999L, arith));
+		assertEquals(9999999999999999L, Decimal64Codec.decodeBID(0x6C7386F26FC0FFFFL, arith));
+		assertEquals(9999999999999999L, Decimal64Codec.decodeDPD(0x6E38FF3FCFF3FCFFL, arith));
+	}
+
+	@Test
+	public void testAllDeclets() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(0).getDefaultArithmetic();
+		for (long digits = 0; digits < 1000; digits++) {
+			final long value = digits * 1001001001001L;
+			assertEquals("DPD " + value, value, Decimal64Codec.decodeDPD(Decimal64Codec.encodeDPD(value, arith), arith));
+		}
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (final long value : values()) {
+			if (truncatedDigits(value) == 0) {
+				assertEquals("BID " + value, value, Decimal64Codec.decodeBID(Decimal64Codec.encodeBID(value, arithmetic), arithmetic));
+				assertEquals("DPD " + value, value, Decimal64Codec.decodeDPD(Decimal64Codec.encodeDPD(value, arithmetic), arithmetic));
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeWithRounding() {
+		for (final long value : values()) {
+			final BigDecimal expected = BigDecimal.valueOf(value, scaleMetrics.getScale()).round(
+					new java.math.MathContext(16, roundingMode));
+			final long bid = Decimal64Codec.encodeBID(value, arithmetic);
+			final long dpd = Decimal64Codec.encodeDPD(value, arithmetic);
+			assertEquals("BID " + value, 0, expected.compareTo(toBigDecimalBID(bid)));
+			final DecimalArithmetic exact = Scales.getScaleMetrics(0).getDefaultArithmetic();
+			assertEquals("DPD " + value, Decimal64Codec.decodeBID(bid, exact), Decimal64Codec.decodeDPD(dpd, exact));
+		}
+	}
+
+	@Test
+	public void testDecodeWithRescale() {
+		for (int i = 0; i < 200; i++) {
+			final long coefficient = RND.nextLong() % 10000000000000000L;
+			final int exponent = RND.nextInt(40) - 30;
+			final long bid = toBID(coefficient, exponent);
+			final BigDecimal value = BigDecimal.valueOf(coefficient, -exponent);
+			final BigDecimal expected = value.setScale(scaleMetrics.getScale(), roundingMode);
+			if (expected.unscaledValue().bitLength() >= Long.SIZE) {
+				try {
+					Decimal64Codec.decodeBID(bid, arithmetic);
+					throw new AssertionError("expected overflow for " + value);
+				} catch (ArithmeticException e) {
+					// expected
+				}
+			} else {
+				assertEquals("BID " + value, expected.unscaledValue().longValue(), Decimal64Codec.decodeBID(bid, arithmetic));
+			}
+		}
+	}
+
+	@Test
+	public void testBulk() {
+		final long[] values = values();
+		for (int i = 0; i < values.length; i++) {
+			values[i] %= 10000000000000000L;// avoid overflow when decoding rounded values
+		}
+		final long[] bid = new long[values.length];
+		final long[] dpd = new long[values.length];
+		final long[] decoded = new long[values.length];
+		Decimal64Codec.encodeBID(values, 0, bid, 0, values.length, arithmetic);
+		Decimal64Codec.encodeDPD(values, 0, dpd, 0, values.length, arithmetic);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(Decimal64Codec.encodeBID(values[i], arithmetic), bid[i]);
+			assertEquals(Decimal64Codec.encodeDPD(values[i], arithmetic), dpd[i]);
+		}
+		Decimal64Codec.decodeBID(bid, 0, decoded, 0, values.length, arithmetic);
+		final long[] decodedDpd = new long[values.length];
+		Decimal64Codec.decodeDPD(dpd, 0, decodedDpd, 0, values.length, arithmetic);
+		assertArrayEquals(decoded, decodedDpd);
+	}
+
+	@Test
+	public void testDecimalRounding() {
+		final DecimalRounding rounding = DecimalRounding.valueOf(roundingMode);
+		final long[] values = values();
+		final long[] bid = new long[values.length];
+		final long[] dpd = new long[values.length];
+		Decimal64Codec.encodeBID(values, 0, bid, 0, values.length, scaleMetrics, rounding);
+		Decimal64Codec.encodeDPD(values, 0, dpd, 0, values.length, scaleMetrics, rounding);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(Decimal64Codec.encodeBID(values[i], arithmetic), bid[i]);
+			assertEquals(Decimal64Codec.encodeDPD(values[i], arithmetic), dpd[i]);
+			assertEquals(bid[i], Decimal64Codec.encodeBID(values[i], scaleMetrics, rounding));
+			assertEquals(dpd[i], Decimal64Codec.encodeDPD(values[i], scaleMetrics, rounding));
+		}
+		for (int i = 0; i < 200; i++) {
+			final long coefficient = RND.nextLong() % 10000000000000000L;
+			final long bidValue = toBID(coefficient, RND.nextInt(40) - 30);
+			final long dpdValue = Decimal64Codec.encodeDPD(coefficient, Scales.getScaleMetrics(RND.nextInt(19)).getDefaultArithmetic());
+			assertEquals("BID " + bidValue, decodeOrNull(bidValue, false, arithmetic), decodeOrNull(bidValue, false, rounding));
+			assertEquals("DPD " + dpdValue, decodeOrNull(dpdValue, true, arithmetic), decodeOrNull(dpdValue, true, rounding));
+		}
+		final long[] small = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			small[i] = values[i] % 10000000000000000L;// avoid overflow when decoding rounded values
+		}
+		Decimal64Codec.encodeBID(small, 0, bid, 0, small.length, scaleMetrics, rounding);
+		Decimal64Codec.encodeDPD(small, 0, dpd, 0, small.length, scaleMetrics, rounding);
+		final long[] decoded = new long[values.length];
+		final long[] decodedDpd = new long[values.length];
+		Decimal64Codec.decodeBID(bid, 0, decoded, 0, small.length, scaleMetrics, rounding);
+		Decimal64Codec.decodeDPD(dpd, 0, decodedDpd, 0, small.length, scaleMetrics, rounding);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(Decimal64Codec.decodeBID(bid[i], arithmetic), decoded[i]);
+		}
+		assertArrayEquals(decoded, decodedDpd);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeInfinity() {
+		Decimal64Codec.decodeBID(0x7800000000000000L, arithmetic);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeNaN() {
+		Decimal64Codec.decodeDPD(0x7C00000000000000L, arithmetic);
+	}
+
+	@Test
+	public void testNonCanonicalBID() {
+		// coefficient 2^53 + 2^51 - 1 > 9999999999999999
+		assertEquals(0, Decimal64Codec.decodeBID(0x6C7FFFFFFFFFFFFFL, arithmetic));
+	}
+
+	private static Long decodeOrNull(long value, boolean dpd, DecimalArithmetic arith) {
+		try {
+			return dpd ? Decimal64Codec.decodeDPD(value, arith) : Decimal64Codec.decodeBID(value, arith);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+	private Long decodeOrNull(long value, boolean dpd, DecimalRounding rounding) {
+		try {
+			return dpd ? Decimal64Codec.decodeDPD(value, scaleMetrics, rounding) : Decimal64Codec.decodeBID(value, scaleMetrics, rounding);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+	private static long toBID(long coefficient, int exponent) {
+		final long sign = coefficient < 0 ? Long.MIN_VALUE : 0;
+		final long abs = Math.abs(coefficient);
+		final long biased = exponent + 398;
+		if (abs < (1L << 53)) {
+			return sign | (biased << 53) | abs;
+		}
+		return sign | (3L << 61) | (biased << 51) | (abs & ((1L << 51) - 1));
+	}
+
+	private static BigDecimal toBigDecimalBID(long bid) {
+		final long coefficient;
+		final int exponent;
+		if ((bid >>> 61 & 3) != 3) {
+			exponent = (int) (bid >>> 53 & 0x3ff) - 398;
+			coefficient = bid & ((1L << 53) - 1);
+		} else {
+			exponent = (int) (bid >>> 51 & 0x3ff) - 398;
+			coefficient = (1L << 53) | (bid & ((1L << 51) - 1));
+		}
+		return BigDecimal.valueOf(bid < 0 ? -coefficient : coefficient, -exponent);
+	}
+
+	private static int truncatedDigits(long value) {
+		final String digits = Long.toString(value).replace("-", "");
+		return Math.max(0, digits.length() - 16);
+	}
+
+	private static long[] values() {
+		final long[] values = new long[300];
+		values[1] = 1;
+		values[2] = -1;
+		values[3] = Long.MAX_VALUE;
+		values[4] = Long.MIN_VALUE;
+		values[5] = 9999999999999999L;
+		values[6] = -9999999999999999L;
+		values[7] = 99999999999999999L;
+		values[8] = 10000000000000000L;
+		values[9] = 9007199254740992L;// 2^53
+		for (int i = 10; i < values.length; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFlyweight}
+ */
+@RunWith(Parameterized.class)
+public class DecimalFlyweightTest {
+
+	private static final Random RND = new Random();
+	private static final int COUNT = 100;
+
+	private final ScaleMetrics scaleMetrics;
+	private final ByteOrder order;
+
+	public DecimalFlyweightTest(ScaleMetrics scaleMetrics, ByteOrder order) {
+		this.scaleMetrics = scaleMetrics;
+		this.order = order;
+	}
+
+	@Parameters(name = "{index}: scale={0}, order={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale, ByteOrder.LITTLE_ENDIAN });
+			data.add(new Object[] { scale, ByteOrder.BIG_ENDIAN });
+		}
+		return data;
+	}
+
+	private long[] randomValues() {
+		final long[] values = new long[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		}
+		values[0] = 0;
+		values[1] = Long.MIN_VALUE;
+		values[2] = Long.MAX_VALUE;
+		return values;
+	}
+
+	@Test
+	public void testReadArray() {
+		final long[] values = randomValues();
+		final ByteBuffer buffer = ByteBuffer.allocate(3 + COUNT * 8).order(order);
+		for (int i = 0; i < COUNT; i++) {
+			buffer.putLong(3 + i * 8, values[i]);
+		}
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order);
+		for (int i = 0; i < COUNT; i++) {
+			assertSame(flyweight, flyweight.wrap(buffer.array(), 3 + i * 8));
+			assertEquals("value[" + i + "]", values[i], flyweight.unscaledValue());
+			assertEquals("value[" + i + "]", immutable(values[i]), flyweight);
+			assertEquals("value[" + i + "]", immutable(values[i]).toString(), flyweight.toString());
+			assertEquals("value[" + i + "]", 0, flyweight.compareTo(immutable(values[i])));
+		}
+	}
+
+	@Test
+	public void testReadBuffer() {
+		final long[] values = randomValues();
+		//buffer order is deliberately opposite to the flyweight order
+		final ByteOrder bufferOrder = order == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(COUNT * 8 + 5);
+		for (int i = 0; i < COUNT; i++) {
+			buffer.order(order).putLong(5 + i * 8, values[i]);
+		}
+		buffer.order(bufferOrder);
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order);
+		for (int i = 0; i < COUNT; i++) {
+			flyweight.wrap(buffer, 5 + i * 8);
+			assertEquals("value[" + i + "]", values[i], flyweight.unscaledValue());
+			assertEquals("value[" + i + "]", 5 + i * 8, flyweight.offset());
+			assertSame(buffer, flyweight.buffer());
+		}
+		assertEquals(bufferOrder, buffer.order());
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void testWriteBack() {
+		final long[] values = randomValues();
+		final ByteBuffer buffer = ByteBuffer.allocate(COUNT * 8).order(order);
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order);
+		for (int i = 0; i < COUNT; i++) {
+			flyweight.wrap(buffer, i * 8).setUnscaled(values[i]);
+		}
+		for (int i = 0; i < COUNT; i++) {
+			assertEquals("value[" + i + "]", values[i], buffer.getLong(i * 8));
+		}
+		final ImmutableDecimal<ScaleMetrics> one = immutable(scaleMetrics.getScaleFactor());
+		for (int i = 3; i < COUNT; i++) {
+			final ImmutableDecimal<ScaleMetrics> expected = immutable(values[i]).divide(4).add(one);
+			final Decimal<ScaleMetrics> result = flyweight.wrap(buffer, i * 8).divide(4).add(one);
+			assertSame(flyweight, result);
+			assertEquals("value[" + i + "]", expected.unscaledValue(), buffer.getLong(i * 8));
+		}
+	}
+
+	@Test
+	public void testSetAndArithmetic() {
+		final byte[] array = new byte[16];
+		final DecimalFlyweight<ScaleMetrics> a = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order).wrap(array, 0);
+		final DecimalFlyweight<ScaleMetrics> b = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order).wrap(array, 8);
+		final ImmutableDecimal<ScaleMetrics> one = immutable(scaleMetrics.getScaleFactor());
+		final ImmutableDecimal<ScaleMetrics> value = Factories.getDecimalFactory(scaleMetrics).valueOf(BigDecimal.valueOf(7, 1));
+		a.set(BigDecimal.valueOf(7, 1));
+		b.setOne();
+		assertEquals(value, a);
+		assertEquals(one, b);
+		b.add(a);
+		assertEquals(one.add(value), b);
+		b.multiply(a);
+		final ImmutableDecimal<ScaleMetrics> expected = one.add(value).multiply(value);
+		assertEquals(expected, b);
+		assertEquals(expected.unscaledValue(), a.wrap(array, 8).unscaledValue());
+	}
+
+	@Test
+	public void testDetachedCopies() {
+		final byte[] array = new byte[8];
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order).wrap(array, 0);
+		flyweight.setUnscaled(42);
+		final DecimalFlyweight<ScaleMetrics> clone = flyweight.clone();
+		final ImmutableDecimal<ScaleMetrics> immutable = flyweight.toImmutableDecimal();
+		flyweight.setUnscaled(-1);
+		assertEquals(42, clone.unscaledValue());
+		assertEquals(42, immutable.unscaledValue());
+		assertEquals(-1, flyweight.unscaledValue());
+		assertSame(flyweight, flyweight.toMutableDecimal());
+	}
+
+	@Test
+	public void testUnwrapped() {
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics);
+		assertEquals(ByteOrder.LITTLE_ENDIAN, flyweight.order());
+		assertEquals(immutable(0), flyweight);
+		flyweight.setMinusOne();
+		assertEquals(-scaleMetrics.getScaleFactor(), flyweight.unscaledValue());
+	}
+
+	@Test
+	public void testOutOfBounds() {
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<ScaleMetrics>(scaleMetrics, order);
+		try {
+			flyweight.wrap(new byte[15], 8);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+		try {
+			flyweight.wrap(ByteBuffer.allocate(16), -1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+
+	private ImmutableDecimal<ScaleMetrics> immutable(long unscaled) {
+		return Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled);
+	}
+}
@@ -0,0 +1,186 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DelimitedDecimalScanner}
+ */
+@RunWith(Parameterized.class)
+public class DelimitedDecimalScannerTest {
+
+	private static final Random RND = new Random();
+
+	private final DecimalArithmetic arithmetic;
+
+	public DelimitedDecimalScannerTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+	}
+
+	@Parameters(name = "{index}: scale={0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (mode != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, mode });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testReadSelectedColumns() throws IOException {
+		final int rows = TestSettings.getRandomTestCount();
+		final String[][] fields = new String[rows][];
+		final StringBuilder csv = new StringBuilder("id,price,name,qty\n");
+		for (int i = 0; i < rows; i++) {
+			fields[i] = new String[] { String.valueOf(i), randomDecimal(), "name" + i, randomDecimal() };
+			csv.append(fields[i][0]).append(',').append(fields[i][1]).append(',').append(fields[i][2]).append(',')
+					.append(fields[i][3]).append(RND.nextBoolean() ? "\r\n" : "\n");
+		}
+		// small buffer to exercise refills
+		final DelimitedDecimalScanner scanner = new DelimitedDecimalScanner(channel(csv), ',',
+				new DecimalArithmetic[] { arithmetic, arithmetic }, new int[] { 3, 1 }, 128);
+		assertTrue(scanner.skipLine());
+		final long[][] columns = { new long[17], new long[17] };
+		int row = 0;
+		int n;
+		while ((n = scanner.read(columns, 0, columns[0].length)) >= 0) {
+			for (int i = 0; i < n; i++) {
+				assertEquals("qty in row " + row, arithmetic.parse(fields[row][3]), columns[0][i]);
+				assertEquals("price in row " + row, arithmetic.parse(fields[row][1]), columns[1][i]);
+				row++;
+			}
+		}
+		assertEquals(rows, row);
+		assertEquals(rows + 1, scanner.getLineNumber());
+		assertFalse(scanner.skipLine());
+		scanner.close();
+	}
+
+	@Test
+	public void testLastLineWithoutLineSeparatorAndEmptyLines() throws IOException {
+		final DelimitedDecimalScanner scanner = new DelimitedDecimalScanner(channel("1|2\n\n3|4\r\n\n5|6"), '|',
+				arithmetic, 1);
+		final long[][] columns = { new long[10] };
+		assertEquals(3, scanner.read(columns, 2, 8));
+		assertEquals(arithmetic.fromLong(2), columns[0][2]);
+		assertEquals(arithmetic.fromLong(4), columns[0][3]);
+		assertEquals(arithmetic.fromLong(6), columns[0][4]);
+		assertEquals(-1, scanner.read(columns, 0, 10));
+	}
+
+	@Test(expected = IOException.class)
+	public void testMissingColumn() throws IOException {
+		new DelimitedDecimalScanner(channel("1,2\n3\n"), ',', arithmetic, 1).read(new long[][] { new long[10] }, 0, 10);
+	}
+
+	@Test(expected = IOException.class)
+	public void testLineExceedsBuffer() throws IOException {
+		new DelimitedDecimalScanner(channel("1,2,3,4,5,6,7,8,9\n"), ',', new DecimalArithmetic[] { arithmetic },
+				new int[] { 0 }, 8).read(new long[][] { new long[10] }, 0, 10);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidNumber() throws IOException {
+		new DelimitedDecimalScanner(channel("1,x2\n"), ',', arithmetic, 1).read(new long[][] { new long[10] }, 0, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateColumn() {
+		new DelimitedDecimalScanner(channel(""), ',', arithmetic, 1, 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonBlockingChannel() throws IOException {
+		final Pipe pipe = Pipe.open();
+		try {
+			pipe.source().configureBlocking(false);
+			new DelimitedDecimalScanner(pipe.source(), ',', arithmetic, 0);
+		} finally {
+			pipe.source().close();
+			pipe.sink().close();
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testChannelReadingNoBytes() throws IOException {
+		final ReadableByteChannel emptyReads = new ReadableByteChannel() {
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+				// nothing to close
+			}
+
+			@Override
+			public int read(ByteBuffer dst) {
+				return 0;
+			}
+		};
+		new DelimitedDecimalScanner(emptyReads, ',', arithmetic, 0).read(new long[][] { new long[10] }, 0, 10);
+	}
+
+	private String randomDecimal() {
+		// half range to avoid overflow when extra digits are rounded
+		final String value = arithmetic.toString(RND.nextLong() / 2);
+		if (RND.nextBoolean()) {
+			return value;
+		}
+		final String extraDigits = String.valueOf(RND.nextInt(1000));
+		return arithmetic.getScale() == 0 ? value + "." + extraDigits : value + extraDigits;
+	}
+
+	private static ReadableByteChannel channel(CharSequence content) {
+		return Channels.newChannel(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.US_ASCII)));
+	}
+}
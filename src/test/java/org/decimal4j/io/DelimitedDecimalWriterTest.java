@@ -0,0 +1,126 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DelimitedDecimalWriter}
+ */
+@RunWith(Parameterized.class)
+public class DelimitedDecimalWriterTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+
+	public DelimitedDecimalWriterTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = scaleMetrics.getDefaultArithmetic();
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale });
+		}
+		return data;
+	}
+
+	@Test
+	public void testWriteDelimited() throws IOException {
+		final long[] values = values();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final StringBuilder expected = new StringBuilder();
+		// small buffer to exercise flushes
+		final DelimitedDecimalWriter writer = new DelimitedDecimalWriter(Channels.newChannel(out),
+				ByteBuffer.allocateDirect(64), ';');
+		writer.writeText("id").writeText("value").endLine();
+		expected.append("id;value\n");
+		for (int i = 0; i < values.length; i++) {
+			writer.write(scaleMetrics, i, 0).write(GenericImmutableDecimal.valueOfUnscaled(scaleMetrics, values[i])).endLine();
+			expected.append(arithmetic.toString(i)).append(';').append(arithmetic.toString(values[i])).append('\n');
+		}
+		writer.close();
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void testWriteFixedWidthLines() throws IOException {
+		final long[] values = values();
+		final long[] negated = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			negated[i] = -values[i];
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final StringBuilder expected = new StringBuilder();
+		final DelimitedDecimalWriter writer = new DelimitedDecimalWriter(Channels.newChannel(out),
+				DelimitedDecimalWriter.NO_DELIMITER);
+		writer.writeLines(new ScaleMetrics[] { scaleMetrics, scaleMetrics }, new int[] { 25, 30 },
+				new long[][] { values, negated }, 1, values.length - 1);
+		for (int i = 1; i < values.length; i++) {
+			expected.append(String.format("%25s%30s\n", arithmetic.toString(values[i]), arithmetic.toString(negated[i])));
+		}
+		writer.flush();
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testValueExceedsWidth() throws IOException {
+		new DelimitedDecimalWriter(Channels.newChannel(new ByteArrayOutputStream()), ',').write(scaleMetrics, -1234567, 2);
+	}
+
+	private long[] values() {
+		final int n = TestSettings.getRandomTestCount();
+		final long[] values = new long[n];
+		values[0] = Long.MIN_VALUE;
+		values[1] = Long.MAX_VALUE;
+		values[2] = 0;
+		values[3] = -1;
+		for (int i = 4; i < n; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(64);
+		}
+		return values;
+	}
+}
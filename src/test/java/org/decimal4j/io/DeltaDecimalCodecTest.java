@@ -0,0 +1,197 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.io.DeltaDecimalCodec.Encoding;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DeltaDecimalCodec} and {@link DeltaDecimalColumn}
+ */
+@RunWith(Parameterized.class)
+public class DeltaDecimalCodecTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final Encoding encoding;
+	private final DeltaDecimalCodec codec;
+
+	public DeltaDecimalCodecTest(ScaleMetrics scaleMetrics, Encoding encoding) {
+		this.scaleMetrics = scaleMetrics;
+		this.encoding = encoding;
+		this.codec = new DeltaDecimalCodec(scaleMetrics, encoding);
+	}
+
+	@Parameters(name = "{index}: scale={0}, encoding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final Encoding encoding : Encoding.values()) {
+				data.add(new Object[] { scale, encoding });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testEncodeDecodeTicks() {
+		assertRoundTrip(ticks(1000), ByteOrder.BIG_ENDIAN);
+		assertRoundTrip(ticks(1000), ByteOrder.LITTLE_ENDIAN);
+	}
+
+	@Test
+	public void testEncodeDecodeRandom() {
+		final long[] values = new long[777];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = RND.nextLong();
+		}
+		values[1] = Long.MIN_VALUE;
+		values[2] = Long.MAX_VALUE;
+		values[3] = Long.MIN_VALUE;
+		assertRoundTrip(values, ByteOrder.BIG_ENDIAN);
+		assertRoundTrip(values, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	@Test
+	public void testEncodeDecodeSmallBlocks() {
+		for (int length = 1; length <= 5; length++) {
+			assertRoundTrip(Arrays.copyOf(ticks(length), length), ByteOrder.BIG_ENDIAN);
+		}
+		assertRoundTrip(new long[] { 42, 42, 42, 42 }, ByteOrder.BIG_ENDIAN);
+	}
+
+	@Test
+	public void testCompression() {
+		final long[] values = ticks(1000, 1);
+		final ByteBuffer buffer = ByteBuffer.allocate(DeltaDecimalCodec.maxEncodedLength(values.length));
+		final int length = codec.encode(values, 0, values.length, buffer);
+		assertTrue("encoded length " + length + " should be much smaller than raw length " + values.length * 8,
+				length < values.length * 2);
+	}
+
+	@Test
+	public void testSkipAndDecodedLength() {
+		final long[] values = ticks(300);
+		final ByteBuffer buffer = ByteBuffer.allocate(3 * DeltaDecimalCodec.maxEncodedLength(values.length));
+		codec.encode(values, 0, 100, buffer);
+		codec.encode(values, 100, 150, buffer);
+		codec.encode(values, 250, 50, buffer);
+		buffer.flip();
+		assertEquals(100, DeltaDecimalCodec.decodedLength(buffer));
+		assertEquals(100, DeltaDecimalCodec.skip(buffer));
+		assertEquals(150, DeltaDecimalCodec.decodedLength(buffer));
+		assertEquals(150, DeltaDecimalCodec.skip(buffer));
+		final long[] decoded = new long[50];
+		assertEquals(50, codec.decode(buffer, decoded, 0));
+		assertArrayEquals(Arrays.copyOfRange(values, 250, 300), decoded);
+		assertEquals(0, buffer.remaining());
+	}
+
+	@Test
+	public void testColumn() {
+		final long[] values = ticks(1000);
+		final DeltaDecimalColumn column = DeltaDecimalColumn.encode(codec, values, 0, values.length, 64);
+		assertEquals(scaleMetrics, column.getScaleMetrics());
+		assertEquals(values.length, column.size());
+		assertEquals(16, column.getBlockCount());
+		for (int i = 0; i < values.length; i += 37) {
+			assertEquals("value[" + i + "]", values[i], column.getUnscaled(i));
+		}
+		final long[] block = new long[column.getBlockSize()];
+		assertEquals(1000 - 15 * 64, column.decodeBlock(15, block, 0));
+		assertArrayEquals(Arrays.copyOfRange(values, 15 * 64, 1000), Arrays.copyOf(block, 1000 - 15 * 64));
+
+		final long[] range = new long[202];
+		column.read(100, range, 1, 200);
+		assertArrayEquals(Arrays.copyOfRange(values, 100, 300), Arrays.copyOfRange(range, 1, 201));
+
+		final DeltaDecimalColumn wrapped = DeltaDecimalColumn.wrap(scaleMetrics, column.getEncoded());
+		assertEquals(column.size(), wrapped.size());
+		assertEquals(column.getBlockSize(), wrapped.getBlockSize());
+		assertEquals(column.getBlockCount(), wrapped.getBlockCount());
+		final long[] all = new long[values.length];
+		wrapped.read(0, all, 0, all.length);
+		assertArrayEquals(values, all);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrapWithWrongScale() {
+		final long[] values = ticks(10);
+		final DeltaDecimalColumn column = DeltaDecimalColumn.encode(codec, values, 0, values.length);
+		final int otherScale = scaleMetrics.getScale() == 0 ? 1 : 0;
+		DeltaDecimalColumn.wrap(Scales.getScaleMetrics(otherScale), column.getEncoded());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrapTruncated() {
+		final long[] values = ticks(100);
+		final ByteBuffer encoded = DeltaDecimalColumn.encode(codec, values, 0, values.length).getEncoded();
+		encoded.limit(encoded.limit() - 1);
+		DeltaDecimalColumn.wrap(scaleMetrics, encoded);
+	}
+
+	private void assertRoundTrip(long[] values, ByteOrder order) {
+		final ByteBuffer buffer = ByteBuffer.allocate(DeltaDecimalCodec.maxEncodedLength(values.length) + 1).order(order);
+		buffer.put((byte) 0x55);
+		final int length = codec.encode(values, 0, values.length, buffer);
+		assertEquals(buffer.position() - 1, length);
+		buffer.flip().position(1);
+		final long[] decoded = new long[values.length + 1];
+		assertEquals(values.length, codec.decode(buffer, decoded, 1));
+		assertEquals(0, buffer.remaining());
+		assertArrayEquals(encoding + " " + order, values, Arrays.copyOfRange(decoded, 1, decoded.length));
+	}
+
+	private long[] ticks(int length) {
+		return ticks(length, scaleMetrics.getScale() < 2 ? 1 : scaleMetrics.getScaleFactor() / 100);
+	}
+
+	private long[] ticks(int length, long tick) {
+		final long[] values = new long[length];
+		long value = RND.nextInt(10000) * scaleMetrics.getScaleFactor();
+		for (int i = 0; i < length; i++) {
+			value += (RND.nextInt(7) - 3) * tick;
+			values[i] = value;
+		}
+		return values;
+	}
+}
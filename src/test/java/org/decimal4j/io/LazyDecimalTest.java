@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link LazyDecimal}
+ */
+@RunWith(Parameterized.class)
+public class LazyDecimalTest {
+
+	private static final Random RND = new Random();
+	private static final int COUNT = 100;
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+
+	public LazyDecimalTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	private String randomValue() {
+		final long unscaled = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		final int digits = RND.nextInt(19);
+		final StringBuilder sb = new StringBuilder(arithmetic.toString(unscaled));
+		if (scaleMetrics.getScale() == 0) {
+			sb.append('.');
+		}
+		for (int i = 0; i < digits && sb.length() < 35; i++) {
+			sb.append((char) ('0' + RND.nextInt(10)));
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testCharSequence() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics, roundingMode);
+		for (int i = 0; i < COUNT; i++) {
+			final String value = randomValue();
+			final String message = "x=" + value + ";";
+			final long expected = arithmetic.parse(value);
+			assertSame(lazy, lazy.reset(message, 2, message.length() - 1));
+			assertFalse(lazy.isParsed());
+			assertEquals(value, expected, lazy.unscaledValue());
+			assertTrue(lazy.isParsed());
+			assertEquals(value, Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(expected), lazy);
+			assertEquals(value, arithmetic.toString(expected), lazy.toString());
+		}
+	}
+
+	@Test
+	public void testBytes() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics, roundingMode);
+		for (int i = 0; i < COUNT; i++) {
+			final String value = randomValue();
+			final byte[] message = ("35=D|44=" + value + "|").getBytes(StandardCharsets.US_ASCII);
+			lazy.reset(message, 8, message.length - 1);
+			assertEquals(value, arithmetic.parse(value), lazy.unscaledValue());
+		}
+	}
+
+	@Test
+	public void testUnusedFieldIsNotParsed() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics);
+		lazy.reset("not a number");
+		assertFalse(lazy.isParsed());
+		lazy.reset("1");
+		assertEquals(scaleMetrics.getScaleFactor(), lazy.unscaledValue());
+	}
+
+	@Test
+	public void testInvalidValue() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics);
+		lazy.reset("1.2.3");
+		for (int i = 0; i < 2; i++) {
+			try {
+				lazy.unscaledValue();
+				fail("expected NumberFormatException");
+			} catch (NumberFormatException e) {
+				assertFalse(lazy.isParsed());
+			}
+		}
+		lazy.resetUnscaled(-7);
+		assertTrue(lazy.isParsed());
+		assertEquals(-7, lazy.unscaledValue());
+	}
+
+	@Test
+	public void testArithmeticReturnsNewInstance() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics, roundingMode).reset("2");
+		final Decimal<ScaleMetrics> sum = lazy.add(lazy);
+		assertNotSame(lazy, sum);
+		assertEquals(2 * scaleMetrics.getScaleFactor(), lazy.unscaledValue());
+		assertEquals(4 * scaleMetrics.getScaleFactor(), sum.unscaledValue());
+		assertEquals(lazy, lazy.toImmutableDecimal());
+		assertEquals(lazy, lazy.toMutableDecimal());
+	}
+
+	@Test
+	public void testOutOfBounds() {
+		final LazyDecimal<ScaleMetrics> lazy = new LazyDecimal<ScaleMetrics>(scaleMetrics);
+		try {
+			lazy.reset("123", 2, 4);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+		try {
+			lazy.reset(new byte[3], 2, 1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+}
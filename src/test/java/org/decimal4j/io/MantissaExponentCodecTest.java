@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.CheckedRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link MantissaExponentCodec}
+ */
+@RunWith(Parameterized.class)
+public class MantissaExponentCodecTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 500;
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+
+	public MantissaExponentCodecTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.arithmetic = scaleMetrics.getArithmetic(CheckedRounding.valueOf(roundingMode));
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testToUnscaled() {
+		final long[] mantissas = new long[LENGTH];
+		final byte[] exponents = new byte[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			mantissas[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+			exponents[i] = (byte) (RND.nextInt(41) - 20);
+		}
+		mantissas[0] = Long.MAX_VALUE;
+		exponents[0] = (byte) -scaleMetrics.getScale();
+		final long[] unscaled = new long[LENGTH + 2];
+		try {
+			MantissaExponentCodec.toUnscaled(mantissas, exponents, 0, unscaled, 2, LENGTH, arithmetic);
+		} catch (ArithmeticException e) {
+			// some random value overflowed, convert them one by one below
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			final BigDecimal expected = BigDecimal.valueOf(mantissas[i], -exponents[i]).setScale(
+					scaleMetrics.getScale(), roundingMode);
+			final String msg = mantissas[i] + "E" + exponents[i];
+			if (expected.unscaledValue().bitLength() < Long.SIZE) {
+				assertEquals(msg, expected.unscaledValue().longValue(),
+						MantissaExponentCodec.toUnscaled(mantissas[i], exponents[i], arithmetic));
+			} else {
+				try {
+					MantissaExponentCodec.toUnscaled(mantissas[i], exponents[i], arithmetic);
+					throw new AssertionError("expected overflow for " + msg);
+				} catch (ArithmeticException e) {
+					// expected
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToUnscaledBulk() {
+		final long[] mantissas = new long[LENGTH];
+		final byte[] exponents = new byte[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			mantissas[i] = RND.nextInt();
+			exponents[i] = (byte) (RND.nextInt(13) - 3 - scaleMetrics.getScale());
+		}
+		final long[] unscaled = new long[LENGTH + 2];
+		MantissaExponentCodec.toUnscaled(mantissas, exponents, 0, unscaled, 2, LENGTH, arithmetic);
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals(MantissaExponentCodec.toUnscaled(mantissas[i], exponents[i], arithmetic), unscaled[i + 2]);
+		}
+	}
+
+	@Test
+	public void testFromUnscaled() {
+		final long[] unscaled = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			final long value = RND.nextLong() >> RND.nextInt(Long.SIZE);
+			unscaled[i] = RND.nextBoolean() ? value : value / 1000 * 1000;
+		}
+		unscaled[0] = 0;
+		unscaled[1] = 1000000000000000000L;
+		unscaled[2] = Long.MIN_VALUE;
+		unscaled[3] = -1000;
+		final long[] mantissas = new long[LENGTH + 1];
+		final byte[] exponents = new byte[LENGTH + 1];
+		MantissaExponentCodec.fromUnscaled(unscaled, 0, scaleMetrics.getScale(), mantissas, exponents, 1, LENGTH);
+		for (int i = 0; i < LENGTH; i++) {
+			final BigDecimal value = BigDecimal.valueOf(unscaled[i], scaleMetrics.getScale());
+			final String msg = String.valueOf(value);
+			if (unscaled[i] == 0) {
+				assertEquals(msg, 0, mantissas[i + 1]);
+				assertEquals(msg, 0, exponents[i + 1]);
+			} else {
+				final BigDecimal stripped = value.stripTrailingZeros();
+				assertEquals(msg, stripped.unscaledValue().longValue(), mantissas[i + 1]);
+				assertEquals(msg, -stripped.scale(), exponents[i + 1]);
+			}
+		}
+		final long[] back = new long[LENGTH];
+		MantissaExponentCodec.toUnscaled(mantissas, exponents, 1, back, 0, LENGTH, arithmetic);
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals(unscaled[i], back[i]);
+		}
+	}
+
+	@Test
+	public void testTrailingZeros() {
+		assertEquals(0, MantissaExponentCodec.trailingZeros(0));
+		assertEquals(0, MantissaExponentCodec.trailingZeros(Long.MIN_VALUE));
+		assertEquals(18, MantissaExponentCodec.trailingZeros(1000000000000000000L));
+		assertEquals(18, MantissaExponentCodec.trailingZeros(-9000000000000000000L));
+		for (int zeros = 0; zeros <= 17; zeros++) {
+			final long value = BigDecimal.ONE.movePointRight(zeros).longValue() * (1 + 2 * RND.nextInt(4));
+			assertEquals(String.valueOf(value), zeros, MantissaExponentCodec.trailingZeros(value));
+			assertEquals(String.valueOf(-value), zeros, MantissaExponentCodec.trailingZeros(-value));
+		}
+	}
+}
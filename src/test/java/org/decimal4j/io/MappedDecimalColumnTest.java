@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalColumnWriter} and {@link MappedDecimalColumn}
+ */
+@RunWith(Parameterized.class)
+public class MappedDecimalColumnTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+
+	public MappedDecimalColumnTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale });
+		}
+		return data;
+	}
+
+	@Test
+	public void testWriteAndMap() throws IOException {
+		final long[] values = values();
+		final Path file = Files.createTempFile("decimal-column", ".bin");
+		try {
+			writeColumn(file, values);
+			try (final MappedDecimalColumn column = MappedDecimalColumn.open(file)) {
+				assertEquals(scaleMetrics, column.getScaleMetrics());
+				assertEquals(values.length, column.size());
+				assertTrue(column.verifyChecksum());
+				for (int i = 0; i < values.length; i++) {
+					assertEquals("value[" + i + "]", values[i], column.getUnscaled(i));
+				}
+				assertEquals(GenericImmutableDecimal.valueOfUnscaled(scaleMetrics, values[3]), column.get(3));
+
+				final long[] copy = new long[values.length + 2];
+				column.read(0, copy, 1, values.length);
+				assertArrayEquals(values, Arrays.copyOfRange(copy, 1, values.length + 1));
+
+				final int from = RND.nextInt(values.length);
+				final int to = from + RND.nextInt(values.length - from) + 1;
+				final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+				long sum = 0;
+				long min = Long.MAX_VALUE;
+				long max = Long.MIN_VALUE;
+				for (int i = from; i < to; i++) {
+					sum = arith.add(sum, values[i]);
+					min = Math.min(min, values[i]);
+					max = Math.max(max, values[i]);
+				}
+				assertEquals(sum, column.sum(arith, from, to));
+				assertEquals(min, column.min(from, to));
+				assertEquals(max, column.max(from, to));
+
+				final DecimalArithmetic otherArith = Scales.getScaleMetrics(Scales.MAX_SCALE - scaleMetrics.getScale()).getDefaultArithmetic();
+				long otherSum = 0;
+				for (int i = from; i < to; i++) {
+					otherSum = otherArith.addUnscaled(otherSum, values[i], scaleMetrics.getScale());
+				}
+				assertEquals(otherSum, column.sum(otherArith, from, to));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testCorruptedValue() throws IOException {
+		final long[] values = values();
+		final Path file = Files.createTempFile("decimal-column", ".bin");
+		try {
+			writeColumn(file, values);
+			try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				//flip all bits of one byte, writing a constant may leave the value unchanged
+				final long position = 32 + 8 * RND.nextInt(values.length);
+				final ByteBuffer buffer = ByteBuffer.allocate(1);
+				channel.read(buffer, position);
+				buffer.put(0, (byte) ~buffer.get(0));
+				buffer.rewind();
+				channel.write(buffer, position);
+			}
+			try (final MappedDecimalColumn column = MappedDecimalColumn.open(file)) {
+				assertFalse(column.verifyChecksum());
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidHeader() throws IOException {
+		final Path file = Files.createTempFile("decimal-column", ".bin");
+		try {
+			Files.write(file, new byte[64]);
+			MappedDecimalColumn.open(file).close();
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private void writeColumn(Path file, long[] values) throws IOException {
+		final DecimalColumnWriter writer = new DecimalColumnWriter(
+				FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ), scaleMetrics,
+				ByteBuffer.allocate(64));
+		writer.append(GenericImmutableDecimal.valueOfUnscaled(scaleMetrics, values[0]));
+		writer.append(values, 1, values.length - 1);
+		assertEquals(values.length, writer.getRowCount());
+		writer.close();
+	}
+
+	private long[] values() {
+		final long[] values = new long[TestSettings.getRandomTestCount()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(64);
+		}
+		return values;
+	}
+}
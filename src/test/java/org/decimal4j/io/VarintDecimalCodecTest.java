@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.io;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link VarintDecimalCodec}
+ */
+@RunWith(Parameterized.class)
+public class VarintDecimalCodecTest {
+
+	private static final Random RND = new Random();
+
+	private static final long[] SPECIAL_VALUES = { 0, 1, -1, 2, -2, 127, -128, 255, -256, 256, -257, 32767, -32768,
+			Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+			Long.MIN_VALUE + 1 };
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+
+	public VarintDecimalCodecTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = scaleMetrics.getDefaultArithmetic();
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			data.add(new Object[] { scale });
+		}
+		return data;
+	}
+
+	@Test
+	public void testEncodeDecodeArray() {
+		final byte[] buffer = new byte[VarintDecimalCodec.MAX_ENCODED_LENGTH + 3];
+		for (final long value : values()) {
+			final int len = VarintDecimalCodec.encode(value, scaleMetrics.getScale(), buffer, 3);
+			assertEquals("length of " + value, VarintDecimalCodec.encodedLength(value), len);
+			assertEquals("length of " + value, len, VarintDecimalCodec.encodedLength(buffer, 3));
+			assertEquals("scale of " + value, scaleMetrics.getScale(), VarintDecimalCodec.decodeScale(buffer, 3));
+			assertEquals("unscaled of " + value, value, VarintDecimalCodec.decodeUnscaled(buffer, 3));
+			assertEquals("decoded " + value, value, VarintDecimalCodec.decode(buffer, 3, arithmetic));
+		}
+	}
+
+	@Test
+	public void testEncodeDecodeByteBuffer() {
+		final long[] values = values();
+		final ByteBuffer buffer = ByteBuffer.allocate(values.length * VarintDecimalCodec.MAX_ENCODED_LENGTH);
+		for (final long value : values) {
+			VarintDecimalCodec.encode(GenericImmutableDecimal.valueOfUnscaled(scaleMetrics, value), buffer);
+		}
+		buffer.flip();
+		final MutableDecimal<?> mutable = Factories.getDecimalFactory(scaleMetrics).newMutable();
+		for (int i = 0; i < values.length; i++) {
+			if (i % 2 == 0) {
+				assertEquals("value[" + i + "]", values[i], VarintDecimalCodec.decode(buffer, arithmetic));
+			} else {
+				assertEquals("value[" + i + "]", values[i], VarintDecimalCodec.decode(buffer, mutable).unscaledValue());
+			}
+		}
+		assertEquals(0, buffer.remaining());
+	}
+
+	@Test
+	public void testEncodeDecodeStream() throws IOException {
+		final long[] values = values();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		int length = 0;
+		for (final long value : values) {
+			VarintDecimalCodec.encode(value, scaleMetrics.getScale(), out);
+			length += VarintDecimalCodec.encodedLength(value);
+		}
+		out.flush();
+		assertEquals(length, bytes.size());
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		for (int i = 0; i < values.length; i++) {
+			assertEquals("value[" + i + "]", values[i], VarintDecimalCodec.decode(in, arithmetic));
+		}
+		assertEquals(0, in.available());
+	}
+
+	@Test
+	public void testDecodeToOtherScale() {
+		final byte[] buffer = new byte[VarintDecimalCodec.MAX_ENCODED_LENGTH];
+		for (final ScaleMetrics targetScale : TestSettings.SCALES) {
+			final DecimalArithmetic target = targetScale.getArithmetic(RoundingMode.HALF_EVEN);
+			for (int i = 0; i < 20; i++) {
+				final long value = RND.nextInt();
+				VarintDecimalCodec.encode(value, scaleMetrics.getScale(), buffer, 0);
+				final BigDecimal expected = BigDecimal.valueOf(value, scaleMetrics.getScale());
+				if (targetScale.getScale() >= scaleMetrics.getScale() && !fitsScale(expected, targetScale)) {
+					continue;
+				}
+				assertEquals("value " + expected + " to scale " + targetScale.getScale(),
+						expected.setScale(targetScale.getScale(), RoundingMode.HALF_EVEN).unscaledValue().longValue(),
+						VarintDecimalCodec.decode(buffer, 0, target));
+			}
+		}
+	}
+
+	@Test
+	public void testEncodedLength() {
+		assertEquals(1, VarintDecimalCodec.encodedLength(0));
+		assertEquals(1, VarintDecimalCodec.encodedLength(1));
+		assertEquals(1, VarintDecimalCodec.encodedLength(-2));
+		assertEquals(2, VarintDecimalCodec.encodedLength(2));
+		assertEquals(2, VarintDecimalCodec.encodedLength(255));
+		assertEquals(2, VarintDecimalCodec.encodedLength(-256));
+		assertEquals(3, VarintDecimalCodec.encodedLength(256));
+		assertEquals(3, VarintDecimalCodec.encodedLength(-32768));
+		assertEquals(VarintDecimalCodec.MAX_ENCODED_LENGTH, VarintDecimalCodec.encodedLength(Long.MAX_VALUE));
+		assertEquals(VarintDecimalCodec.MAX_ENCODED_LENGTH, VarintDecimalCodec.encodedLength(Long.MIN_VALUE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEncodeInvalidScale() {
+		VarintDecimalCodec.encode(1, Scales.MAX_SCALE + 1, new byte[VarintDecimalCodec.MAX_ENCODED_LENGTH], 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeInvalidScale() {
+		VarintDecimalCodec.decodeScale(new byte[] { (byte) ((Scales.MAX_SCALE + 1) << 2) }, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeTooManyBytes() {
+		final byte[] buffer = new byte[VarintDecimalCodec.MAX_ENCODED_LENGTH + 1];
+		for (int i = 0; i < buffer.length; i++) {
+			buffer[i] = (byte) 0x80;
+		}
+		VarintDecimalCodec.decodeUnscaled(buffer, 0);
+	}
+
+	private static boolean fitsScale(BigDecimal value, ScaleMetrics scaleMetrics) {
+		return value.setScale(scaleMetrics.getScale()).unscaledValue().bitLength() < Long.SIZE;
+	}
+
+	private long[] values() {
+		final long[] values = new long[SPECIAL_VALUES.length + 200];
+		System.arraycopy(SPECIAL_VALUES, 0, values, 0, SPECIAL_VALUES.length);
+		for (int i = SPECIAL_VALUES.length; i < values.length; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		}
+		return values;
+	}
+}
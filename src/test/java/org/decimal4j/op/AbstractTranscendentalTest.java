@@ -0,0 +1,194 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+
+/**
+ * Base class for tests of transcendental functions such as exp and ln. The
+ * expected result is calculated with {@link BigDecimal} and 60 significant
+ * digits precision and then rounded. Operands are random values of a range
+ * defined by the subclass and the usual special values.
+ * <p>
+ * The implementation rounds an approximation with about 34 significant
+ * digits and does not guarantee correct rounding if the exact result is
+ * closer to a rounding boundary than the approximation error. Random and
+ * special operands do not produce such results, hence the rounded results
+ * are expected to match exactly.
+ * <p>
+ * Unchecked results are only compared if no overflow occurs as the low order
+ * bits of an overflowing result are not defined for these functions.
+ */
+abstract public class AbstractTranscendentalTest extends AbstractRandomAndSpecialValueTest {
+
+	protected static final MathContext MC_60 = new MathContext(60, RoundingMode.HALF_EVEN);
+	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+	private static final BigDecimal SMALL = new BigDecimal("0.001");
+	private static final BigDecimal EPSILON = new BigDecimal("1e-70");
+
+	/**
+	 * Constructor with arithmetic determining scale, rounding mode and
+	 * overflow mode.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic determining scale, rounding mode and overflow
+	 *            mode
+	 */
+	public AbstractTranscendentalTest(DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	/**
+	 * Returns <tt>e<sup>x</sup></tt> with 60 significant digits.
+	 * 
+	 * @param x
+	 *            the exponent
+	 * @return the exponential function of x
+	 */
+	public static BigDecimal exp(BigDecimal x) {
+		int halvings = 0;
+		BigDecimal r = x;
+		while (r.abs().compareTo(SMALL) > 0) {
+			r = r.divide(TWO, MC_60);
+			halvings++;
+		}
+		BigDecimal sum = BigDecimal.ONE;
+		BigDecimal term = BigDecimal.ONE;
+		for (int n = 1; term.abs().compareTo(EPSILON) > 0; n++) {
+			term = term.multiply(r, MC_60).divide(BigDecimal.valueOf(n), MC_60);
+			sum = sum.add(term, MC_60);
+		}
+		for (int i = 0; i < halvings; i++) {
+			sum = sum.multiply(sum, MC_60);
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the natural logarithm of x with 60 significant digits.
+	 * 
+	 * @param x
+	 *            the argument
+	 * @return ln(x)
+	 * @throws ArithmeticException
+	 *             if {@code x <= 0}
+	 */
+	public static BigDecimal ln(BigDecimal x) {
+		if (x.signum() <= 0) {
+			throw new ArithmeticException("Logarithm of a non-positive value: " + x);
+		}
+		if (x.compareTo(BigDecimal.ONE) == 0) {
+			return BigDecimal.ZERO;
+		}
+		//Halley iteration: y = y + 2*(x - e^y)/(x + e^y)
+		BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+		for (int i = 0; i < 3; i++) {
+			final BigDecimal expY = exp(y);
+			y = y.add(TWO.multiply(x.subtract(expY)).divide(x.add(expY), MC_60), MC_60);
+		}
+		return y;
+	}
+
+	/**
+	 * Returns a random unscaled value whose decimal value is uniformly
+	 * distributed in the given range.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the value
+	 * @param min
+	 *            the minimum value
+	 * @param max
+	 *            the maximum value
+	 * @return the unscaled random value
+	 */
+	protected static long randomUnscaled(ScaleMetrics scaleMetrics, double min, double max) {
+		final double value = min + RND.nextDouble() * (max - min);
+		return (long) (value * scaleMetrics.getScaleFactor());
+	}
+
+	/**
+	 * Returns a positive random unscaled value whose logarithm is uniformly
+	 * distributed.
+	 * 
+	 * @return the positive unscaled random value
+	 */
+	protected static long randomPositiveUnscaled() {
+		return Math.max(1, (long) Math.pow(10, RND.nextDouble() * 18.96));
+	}
+
+	/**
+	 * Returns the expected result rounded by the arithmetic of this test, or
+	 * the expected exception if rounding is necessary but not allowed or if an
+	 * overflow occurs for a checked arithmetic.
+	 * 
+	 * @param exact
+	 *            the exact result with at least 60 significant digits
+	 * @return the expected result after rounding
+	 */
+	protected ArithmeticResult<Long> expectedResult(BigDecimal exact) {
+		try {
+			return ArithmeticResult.forResult(arithmetic, exact);
+		} catch (ArithmeticException e) {
+			return ArithmeticResult.forException(e);
+		}
+	}
+
+	/**
+	 * Asserts that the actual result matches the expected result.
+	 * 
+	 * @param messagePrefix
+	 *            the prefix for the assertion message
+	 * @param expected
+	 *            the expected result
+	 * @param actual
+	 *            the actual result or null if an exception was thrown
+	 * @param exception
+	 *            the exception thrown when calculating the actual result, or
+	 *            null
+	 */
+	protected void assertResult(String messagePrefix, ArithmeticResult<Long> expected, Decimal<?> actual, ArithmeticException exception) {
+		if (isUnchecked() && expected.isOverflow()) {
+			return;
+		}
+		final ArithmeticResult<Long> result = exception == null ? ArithmeticResult.forResult(actual) : ArithmeticResult.<Long> forException(exception);
+		result.assertEquivalentTo(expected, messagePrefix);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runSpecialValueTest(S scaleMetrics) {
+		final long[] specialValues = getSpecialValues(scaleMetrics);
+		for (int i = 0; i < specialValues.length; i++) {
+			runTest(newDecimal(scaleMetrics, specialValues[i]), "[" + i + "]");
+		}
+	}
+
+	abstract protected <S extends ScaleMetrics> void runTest(Decimal<S> operand, String name);
+}
@@ -69,6 +69,9 @@ public class AddSquaredTest extends AbstractDecimalDecimalToDecimalTest {
 	protected BigDecimal expectedResult(BigDecimal a, BigDecimal b) {
 		//NOTE: by definition we apply rounding and overflow check to the squaring
 		final BigDecimal b2 = b.multiply(b).setScale(getScale(), getRoundingMode());
+		if (getOverflowMode().isSaturating() && b2.unscaledValue().bitLength() > 63) {
+			return a.add(BigDecimal.valueOf(Long.MAX_VALUE, getScale()));
+		}
 		if (!isUnchecked()) {
 			JDKSupport.bigIntegerToLongValueExact(b2.unscaledValue());
 		}
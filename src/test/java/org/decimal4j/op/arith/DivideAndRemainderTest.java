@@ -23,6 +23,8 @@
  */
 package org.decimal4j.op.arith;
 
+import static org.junit.Assert.assertEquals;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -30,17 +32,20 @@ import java.util.List;
 
 import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
 import org.decimal4j.op.AbstractDecimalDecimalToAnyTest;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.test.ArithmeticResult;
 import org.decimal4j.test.TestSettings;
 import org.decimal4j.truncate.OverflowMode;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 /**
- * Unit test for {@link Decimal#divideAndRemainder(Decimal)}
+ * Unit test for {@link Decimal#divideAndRemainder(Decimal)} and the allocation-free variants writing to mutable
+ * targets or to a long array
  */
 @RunWith(Parameterized.class)
 public class DivideAndRemainderTest extends AbstractDecimalDecimalToAnyTest<Object[]> {
@@ -59,6 +64,22 @@ public class DivideAndRemainderTest extends AbstractDecimalDecimalToAnyTest<Obje
 		return data;
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowIfQuotientAndRemainderAreSameTarget() {
+		final MutableDecimal<ScaleMetrics> target = getDecimalFactory(getScaleMetrics()).newMutable();
+		target.setOne().divideAndRemainder(target, target, target);
+	}
+
+	@Test
+	public void shouldAllowOperandsAsTargets() {
+		final ScaleMetrics scaleMetrics = getScaleMetrics();
+		final MutableDecimal<ScaleMetrics> dividend = getDecimalFactory(scaleMetrics).newMutable().set(7);
+		final MutableDecimal<ScaleMetrics> divisor = getDecimalFactory(scaleMetrics).newMutable().set(2);
+		dividend.divideAndRemainder(divisor, divisor, dividend, getOverflowMode());
+		assertEquals("quotient", 3, divisor.longValue());
+		assertEquals("remainder", 1, dividend.longValue());
+	}
+
 	@Override
 	protected String operation() {
 		return "divideAndRemainder";
@@ -74,10 +95,37 @@ public class DivideAndRemainderTest extends AbstractDecimalDecimalToAnyTest<Obje
 	
 	@Override
 	protected <S extends ScaleMetrics> Decimal<S>[] actualResult(Decimal<S> a, Decimal<S> b) {
-		if (isUnchecked() && RND.nextBoolean()) {
-			return a.divideAndRemainder(b);
+		switch (RND.nextInt(4)) {
+		case 0: {
+			final MutableDecimal<S> quotient = a.getFactory().newMutable();
+			final MutableDecimal<S> remainder = a.getFactory().newMutable();
+			if (isUnchecked() && RND.nextBoolean()) {
+				a.divideAndRemainder(b, quotient, remainder);
+			} else {
+				a.divideAndRemainder(b, quotient, remainder, getOverflowMode());
+			}
+			return toArray(quotient, remainder);
 		}
-		return a.divideAndRemainder(b, getOverflowMode());
+		case 1: {
+			final long[] quotientAndRemainder = new long[2];
+			arithmetic.divideAndRemainder(a.unscaledValue(), b.unscaledValue(), quotientAndRemainder);
+			final S scaleMetrics = a.getScaleMetrics();
+			return toArray(newDecimal(scaleMetrics, quotientAndRemainder[0]), newDecimal(scaleMetrics, quotientAndRemainder[1]));
+		}
+		default:
+			if (isUnchecked() && RND.nextBoolean()) {
+				return a.divideAndRemainder(b);
+			}
+			return a.divideAndRemainder(b, getOverflowMode());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <S extends ScaleMetrics> Decimal<S>[] toArray(Decimal<S> quotient, Decimal<S> remainder) {
+		final Decimal<S>[] result = new Decimal[2];
+		result[0] = quotient;
+		result[1] = remainder;
+		return result;
 	}
 	@Override
 	protected <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, Decimal<S> dOpA, Decimal<S> dOpB) {
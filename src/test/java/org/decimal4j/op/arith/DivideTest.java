@@ -86,7 +86,7 @@ public class DivideTest extends AbstractDecimalDecimalToDecimalTest {
 		if (isUnchecked() && getRoundingMode() == RoundingMode.DOWN && RND.nextBoolean()) { 
 			return a.divideTruncate(b);
 		}
-		if (!isUnchecked() && getRoundingMode() == RoundingMode.UNNECESSARY && RND.nextBoolean()) { 
+		if (getOverflowMode().isChecked() && getRoundingMode() == RoundingMode.UNNECESSARY && RND.nextBoolean()) { 
 			return a.divideExact(b);
 		}
 		return a.divide(b, getTruncationPolicy());
@@ -75,6 +75,9 @@ public class DivideToIntegralValueTest extends AbstractDecimalDecimalToDecimalTe
 	
 	@Override
 	protected <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> a, Decimal<S> b) {
+		if (RND.nextInt(4) == 0) {
+			return newDecimal(a.getScaleMetrics(), arithmetic.divideToIntegralValue(a.unscaledValue(), b.unscaledValue()));
+		}
 		if (isUnchecked() && RND.nextBoolean()) {
 			return a.divideToIntegralValue(b);
 		}
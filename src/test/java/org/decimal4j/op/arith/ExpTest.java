@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractTranscendentalTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#exp()}
+ */
+@RunWith(Parameterized.class)
+public class ExpTest extends AbstractTranscendentalTest {
+
+	private static final double LN10 = Math.log(10);
+
+	public ExpTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "exp";
+	}
+
+	@Test
+	public void runOverflowBoundaryTest() {
+		//largest and smallest representable results
+		final double max = Math.log(Long.MAX_VALUE) - getScale() * LN10;
+		final double min = -(getScale() + 1) * LN10;
+		for (int i = 0; i < 20; i++) {
+			runTest(newDecimal(getScaleMetrics(), randomUnscaled(getScaleMetrics(), max - 1e-3, max + 1e-3)), "[max" + i + "]");
+			runTest(newDecimal(getScaleMetrics(), randomUnscaled(getScaleMetrics(), min - 1e-3, min + 1e-3)), "[min" + i + "]");
+		}
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		final double max = Math.log(Long.MAX_VALUE) - scaleMetrics.getScale() * LN10 + 1;
+		final double min = -(scaleMetrics.getScale() + 2) * LN10;
+		runTest(newDecimal(scaleMetrics, randomUnscaled(scaleMetrics, min, max)), "[" + index + "]");
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runTest(Decimal<S> operand, String name) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + operation() + "(" + operand + ")";
+
+		//expected
+		final BigDecimal x = toBigDecimal(operand);
+		final BigDecimal exact;
+		if (x.compareTo(BigDecimal.valueOf(50)) > 0) {
+			exact = new BigDecimal("1e30").add(new BigDecimal("1e-30"));//overflow, inexact like the true result
+		} else if (x.compareTo(BigDecimal.valueOf(-50)) < 0) {
+			exact = new BigDecimal("1e-30");//underflow
+		} else {
+			exact = exp(x);
+		}
+		final ArithmeticResult<Long> expected = expectedResult(exact);
+
+		//actual
+		try {
+			assertResult(messagePrefix, expected, actualResult(operand), null);
+		} catch (ArithmeticException e) {
+			assertResult(messagePrefix, expected, null, e);
+		}
+	}
+
+	private <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> operand) {
+		if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+			return operand.exp();
+		} else {
+			if (isUnchecked() && RND.nextBoolean()) {
+				return operand.exp(getRoundingMode());
+			} else {
+				return operand.exp(getTruncationPolicy());
+			}
+		}
+	}
+}
@@ -30,6 +30,7 @@ import java.util.List;
 
 import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
 import org.decimal4j.op.AbstractDecimalToDecimalTest;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.test.TestSettings;
@@ -68,6 +69,12 @@ public class IntegralPartTest extends AbstractDecimalToDecimalTest {
 	
 	@Override
 	protected <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> operand) {
+		if (RND.nextBoolean()) {
+			final MutableDecimal<S> integralPart = operand.getFactory().newMutable();
+			final MutableDecimal<S> fractionalPart = operand.getFactory().newMutable();
+			operand.integralAndFractionalPart(integralPart, fractionalPart);
+			return integralPart;
+		}
 		return operand.integralPart();
 	}
 }
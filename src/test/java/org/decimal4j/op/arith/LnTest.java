@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractTranscendentalTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#ln()}
+ */
+@RunWith(Parameterized.class)
+public class LnTest extends AbstractTranscendentalTest {
+
+	public LnTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "ln";
+	}
+
+	@Test
+	public void runCloseToOneTest() {
+		final long one = getScaleMetrics().getScaleFactor();
+		for (int i = 0; i < 20; i++) {
+			final long delta = Math.max(1, (long) (one * Math.pow(10, -RND.nextDouble() * 18)));
+			runTest(newDecimal(getScaleMetrics(), one + delta), "[above" + i + "]");
+			runTest(newDecimal(getScaleMetrics(), Math.max(1, one - delta)), "[below" + i + "]");
+		}
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		runTest(newDecimal(scaleMetrics, randomPositiveUnscaled()), "[" + index + "]");
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runTest(Decimal<S> operand, String name) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + operation() + "(" + operand + ")";
+
+		//expected
+		ArithmeticResult<Long> expected;
+		try {
+			expected = expectedResult(ln(toBigDecimal(operand)));
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		//actual
+		try {
+			assertResult(messagePrefix, expected, actualResult(operand), null);
+		} catch (ArithmeticException e) {
+			assertResult(messagePrefix, expected, null, e);
+		}
+	}
+
+	private <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> operand) {
+		if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+			return operand.ln();
+		} else {
+			if (isUnchecked() && RND.nextBoolean()) {
+				return operand.ln(getRoundingMode());
+			} else {
+				return operand.ln(getTruncationPolicy());
+			}
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractTranscendentalTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#pow(Decimal)} etc. with non-integer exponents;
+ * integer exponents are covered by {@link PowTest}.
+ */
+@RunWith(Parameterized.class)
+public class PowByDecimalTest extends AbstractTranscendentalTest {
+
+	private static final MathContext MC_45 = new MathContext(45, RoundingMode.HALF_EVEN);
+	private static final BigDecimal MAX_LN = BigDecimal.valueOf(50);
+	private static final String[] SPECIAL_EXPONENTS = {"0.5", "-0.5", "1.5", "-2.25", "0.001", "-0.000000001", "3.333333333333333333"};
+
+	/** Base, exponent and exact result */
+	private static final String[][] EXACT_POWERS = {
+			{"4", "0.5", "2"},
+			{"0.0625", "0.5", "0.25"},
+			{"100", "1.5", "1000"},
+			{"16", "0.25", "2"},
+			{"16", "-0.5", "0.25"},
+			{"0.01", "0.5", "0.1"},
+			{"2.25", "0.5", "1.5"},
+			{"0.25", "-1.5", "8"},
+			{"1024", "0.1", "2"}
+	};
+
+	public PowByDecimalTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "^";
+	}
+
+	@Test
+	public void runExactPowerTest() {
+		for (int i = 0; i < EXACT_POWERS.length; i++) {
+			final BigDecimal base = new BigDecimal(EXACT_POWERS[i][0]);
+			final BigDecimal exponent = new BigDecimal(EXACT_POWERS[i][1]);
+			if (base.scale() <= getScale() && base.precision() - base.scale() + getScale() <= 18) {
+				final Decimal<?> b = newDecimal(getScaleMetrics(), base.setScale(getScale()).unscaledValue().longValue());
+				final Decimal<?> y = newDecimal(Scales.getScaleMetrics(exponent.scale()), exponent.unscaledValue().longValue());
+				runTest(b, y, new BigDecimal(EXACT_POWERS[i][2]), "[exact" + i + "]");
+			}
+		}
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		final long unscaledBase = RND.nextInt(10) == 0 ? -randomPositiveUnscaled() : randomPositiveUnscaled();
+		final ScaleMetrics exponentMetrics = Scales.getScaleMetrics(RND.nextInt(Scales.MAX_SCALE + 1));
+		final Decimal<?> exponent = newDecimal(exponentMetrics, randomUnscaled(exponentMetrics, -4, 4));
+		runTest(newDecimal(scaleMetrics, unscaledBase), exponent, "[" + index + "]");
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runTest(Decimal<S> operand, String name) {
+		for (int i = 0; i < SPECIAL_EXPONENTS.length; i++) {
+			final BigDecimal exponent = new BigDecimal(SPECIAL_EXPONENTS[i]);
+			final Decimal<?> y = newDecimal(Scales.getScaleMetrics(exponent.scale()), exponent.unscaledValue().longValue());
+			runTest(operand, y, name + "[" + i + "]");
+		}
+	}
+
+	private <S extends ScaleMetrics> void runTest(Decimal<S> base, Decimal<?> exponent, String name) {
+		final BigDecimal b = toBigDecimal(base);
+		final BigDecimal y = toBigDecimal(exponent);
+		if (y.stripTrailingZeros().scale() <= 0) {
+			return;//integer exponent
+		}
+		if (b.signum() <= 0) {
+			runTest(base, exponent, null, name);
+			return;
+		}
+		final BigDecimal lnResult = y.multiply(ln(b), MC_60);
+		final BigDecimal exact;
+		if (lnResult.compareTo(MAX_LN) > 0) {
+			exact = BigDecimal.TEN.pow(30);//overflow
+		} else if (lnResult.compareTo(MAX_LN.negate()) < 0) {
+			exact = new BigDecimal("1e-30");//underflow
+		} else {
+			//NOTE: rounding to 45 digits recovers exact powers such as 4^0.5
+			exact = exp(lnResult).round(MC_45);
+		}
+		runTest(base, exponent, exact, name);
+	}
+
+	private <S extends ScaleMetrics> void runTest(Decimal<S> base, Decimal<?> exponent, BigDecimal exact, String name) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + base + " " + operation() + " " + exponent;
+
+		//expected
+		final ArithmeticResult<Long> expected;
+		if (exact == null) {
+			//zero base with negative exponent or negative base with non-integer exponent
+			expected = base.signum() == 0 && exponent.signum() > 0 ? expectedResult(BigDecimal.ZERO) : ArithmeticResult.<Long> forException(new ArithmeticException("invalid power"));
+		} else if (getOverflowMode().isSaturating() && getRoundingMode() == RoundingMode.UNNECESSARY && exact.setScale(getScale(), RoundingMode.DOWN).unscaledValue().bitLength() > 63) {
+			//exact overflows are not recognized for non-integer exponents
+			expected = ArithmeticResult.<Long> forException(new ArithmeticException("Rounding necessary"));
+		} else {
+			expected = expectedResult(exact);
+		}
+
+		//actual
+		try {
+			assertResult(messagePrefix, expected, actualResult(base, exponent), null);
+		} catch (ArithmeticException e) {
+			assertResult(messagePrefix, expected, null, e);
+		}
+	}
+
+	private <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> base, Decimal<?> exponent) {
+		if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+			return base.pow(exponent);
+		} else {
+			if (isUnchecked() && RND.nextBoolean()) {
+				return base.pow(exponent, getRoundingMode());
+			} else {
+				return base.pow(exponent, getTruncationPolicy());
+			}
+		}
+	}
+}
@@ -72,6 +72,9 @@ public class RemainderTest extends AbstractDecimalDecimalToDecimalTest {
 	
 	@Override
 	protected <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> a, Decimal<S> b) {
+		if (RND.nextBoolean()) {
+			return newDecimal(a.getScaleMetrics(), arithmetic.remainder(a.unscaledValue(), b.unscaledValue()));
+		}
 		return a.remainder(b);
 	}
 }
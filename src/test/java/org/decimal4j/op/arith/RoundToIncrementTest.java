@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.IncrementRounder;
+import org.decimal4j.op.AbstractDecimalToDecimalTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#roundToIncrement(Decimal)},
+ * {@link DecimalArithmetic#roundToIncrement(long, long)} and
+ * {@link IncrementRounder}
+ */
+@RunWith(Parameterized.class)
+public class RoundToIncrementTest extends AbstractDecimalToDecimalTest {
+
+	private static final long[] INCREMENTS = {1, 5, 25, 3125, 999999937, 1L << 40, Long.MAX_VALUE};
+
+	private final long increment;
+	private final IncrementRounder rounder;
+
+	public RoundToIncrementTest(ScaleMetrics scaleMetrics, long increment, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.increment = increment;
+		this.rounder = new IncrementRounder(arithmetic, increment);
+	}
+
+	@Parameters(name = "{index}: {0}, increment={1}, {2}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final long increment : INCREMENTS) {
+				for (final TruncationPolicy tp : TestSettings.POLICIES) {
+					final DecimalArithmetic arith = s.getArithmetic(tp);
+					data.add(new Object[] {s, increment, tp, arith});
+				}
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected int getRandomTestCount() {
+		return 1000;
+	}
+
+	@Override
+	protected String operation() {
+		return "roundToIncrement";
+	}
+
+	@Override
+	protected BigDecimal expectedResult(BigDecimal operand) {
+		final BigDecimal bdIncrement = BigDecimal.valueOf(increment, getScale());
+		return operand.divide(bdIncrement, 0, getRoundingMode()).multiply(bdIncrement);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> operand) {
+		final S scaleMetrics = operand.getScaleMetrics();
+		switch (RND.nextInt(4)) {
+		case 0:
+			return newDecimal(scaleMetrics, arithmetic.roundToIncrement(operand.unscaledValue(), increment));
+		case 1:
+			return newDecimal(scaleMetrics, rounder.round(operand.unscaledValue()));
+		case 2: {
+			final long[] values = {0, operand.unscaledValue()};
+			rounder.round(values, 1, values, 0, 1);
+			return newDecimal(scaleMetrics, values[0]);
+		}
+		default:
+			final Decimal<S> decimalIncrement = newDecimal(scaleMetrics, increment);
+			if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+				return operand.roundToIncrement(decimalIncrement);
+			}
+			if (isUnchecked() && RND.nextBoolean()) {
+				return operand.roundToIncrement(decimalIncrement, getRoundingMode());
+			}
+			return operand.roundToIncrement(decimalIncrement, getTruncationPolicy());
+		}
+	}
+
+}
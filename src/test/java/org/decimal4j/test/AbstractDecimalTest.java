@@ -91,7 +91,7 @@ abstract public class AbstractDecimalTest {
 		return arithmetic.getRoundingMode() == TruncationPolicy.DEFAULT.getRoundingMode();
 	}
 	protected boolean isUnchecked() {
-		return !arithmetic.getOverflowMode().isChecked();
+		return arithmetic.getOverflowMode() == OverflowMode.UNCHECKED;
 	}
 
 	protected long[] getSpecialValues(ScaleMetrics scaleMetrics) {
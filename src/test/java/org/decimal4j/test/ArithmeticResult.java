@@ -77,8 +77,13 @@ public class ArithmeticResult<T> {
 	}
 	public static ArithmeticResult<Long> forResult(DecimalArithmetic arithmetic, BigDecimal result) {
 		final BigDecimal rnd = result.setScale(arithmetic.getScale(), arithmetic.getRoundingMode());
+		final boolean overflow = rnd.unscaledValue().bitLength() > 63;
+		if (overflow && arithmetic.getOverflowMode().isSaturating()) {
+			final long saturated = rnd.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+			return forResult(BigDecimal.valueOf(saturated, arithmetic.getScale()).toPlainString(), saturated, false);
+		}
 		final long resultUnscaled = arithmetic.getOverflowMode().isChecked() ? JDKSupport.bigIntegerToLongValueExact(rnd.unscaledValue()) : rnd.unscaledValue().longValue();
-		return forResult(result.toPlainString(), resultUnscaled, rnd.unscaledValue().bitLength() > 63);
+		return forResult(result.toPlainString(), resultUnscaled, overflow);
 	}
 	public static ArithmeticResult<Long> forResult(Decimal<?> result) {
 		return forResult(result.toString(), result.unscaledValue(), null);
@@ -102,7 +107,7 @@ public class ArithmeticResult<T> {
 		        throw (AssertionError)new AssertionError(messagePrefix + " = " + expected.resultString + " but lead to an exception: " + exception).initCause(exception);
 			}
 		} else if (expected.exception != null && exception != null) {
-			if (expected.exception.getClass() != exception.getClass()) {
+			if (!expected.exception.getClass().isInstance(exception)) {
 				throw (AssertionError)new AssertionError(messagePrefix + " exception lead to exception " + exception + " but expected was exception type: " + expected.exception).initCause(exception);
 			}
 		} else {
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.SaturatingRounding;
 import org.decimal4j.truncate.TruncationPolicy;
 import org.decimal4j.truncate.UncheckedRounding;
 
@@ -45,10 +46,12 @@ public enum TestTruncationPolicies {
 			CheckedRounding.DOWN, CheckedRounding.HALF_UP, CheckedRounding.UNNECESSARY)),
 	
 	STANDARD(Arrays.<TruncationPolicy>asList(UncheckedRounding.DOWN, UncheckedRounding.HALF_UP, UncheckedRounding.HALF_EVEN, 
-			CheckedRounding.DOWN, CheckedRounding.HALF_UP, CheckedRounding.UNNECESSARY)),
+			CheckedRounding.DOWN, CheckedRounding.HALF_UP, CheckedRounding.UNNECESSARY, 
+			SaturatingRounding.DOWN, SaturatingRounding.HALF_UP, SaturatingRounding.UNNECESSARY)),
 	
 	LARGE(Arrays.<TruncationPolicy>asList(UncheckedRounding.UP, UncheckedRounding.DOWN, UncheckedRounding.HALF_UP, UncheckedRounding.HALF_EVEN, UncheckedRounding.UNNECESSARY, 
-			CheckedRounding.UP, CheckedRounding.DOWN, CheckedRounding.HALF_UP, CheckedRounding.HALF_EVEN, CheckedRounding.UNNECESSARY)),
+			CheckedRounding.UP, CheckedRounding.DOWN, CheckedRounding.HALF_UP, CheckedRounding.HALF_EVEN, CheckedRounding.UNNECESSARY, 
+			SaturatingRounding.UP, SaturatingRounding.DOWN, SaturatingRounding.HALF_UP, SaturatingRounding.HALF_EVEN, SaturatingRounding.UNNECESSARY)),
 			
 	ALL(TruncationPolicy.VALUES);
 	
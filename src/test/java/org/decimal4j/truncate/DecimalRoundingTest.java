@@ -37,6 +37,7 @@ import static org.decimal4j.truncate.DecimalRounding.values;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import org.junit.Test;
@@ -238,6 +239,35 @@ public class DecimalRoundingTest {
 		}
 	}
 
+	@Test
+	public void shouldCalculateRoundingIncrementLikeBigDecimal() {
+		final String[] fractions = {"0", "0.3", "0.5", "0.7"};
+		final TruncatedPart[] parts = {TruncatedPart.ZERO, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO, TruncatedPart.EQUAL_TO_HALF, TruncatedPart.GREATER_THAN_HALF};
+		for (final DecimalRounding rounding : VALUES) {
+			for (final int sgn : new int[] {-1, 1}) {
+				for (int truncated = 0; truncated < 4; truncated++) {
+					for (int i = 0; i < parts.length; i++) {
+						final BigDecimal value = new BigDecimal(fractions[i]).add(BigDecimal.valueOf(truncated)).multiply(BigDecimal.valueOf(sgn));
+						final long signedTruncated = sgn * truncated;
+						Long expected;
+						try {
+							expected = value.setScale(0, rounding.getRoundingMode()).longValueExact() - signedTruncated;
+						} catch (ArithmeticException e) {
+							expected = null;
+						}
+						Long actual;
+						try {
+							actual = Long.valueOf(rounding.calculateRoundingIncrement(sgn, signedTruncated, parts[i]));
+						} catch (ArithmeticException e) {
+							actual = null;
+						}
+						assertEquals("rounding increment for " + value + " with " + rounding, expected, actual);
+					}
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testValueOf() {
 		//test to achieve 100% coverage 
@@ -38,6 +38,14 @@ public class OverflowModeTest {
 	public void testIsChecked() {
 		assertTrue("should be checked", OverflowMode.CHECKED.isChecked());
 		assertFalse("should be unchecked", OverflowMode.UNCHECKED.isChecked());
+		assertFalse("should be unchecked", OverflowMode.SATURATING.isChecked());
+	}
+
+	@Test
+	public void testIsSaturating() {
+		assertTrue("should be saturating", OverflowMode.SATURATING.isSaturating());
+		assertFalse("should not be saturating", OverflowMode.CHECKED.isSaturating());
+		assertFalse("should not be saturating", OverflowMode.UNCHECKED.isSaturating());
 	}
 	
 	@Test
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.StatusArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ArithmeticOperators}
+ */
+@RunWith(Parameterized.class)
+public class ArithmeticOperatorsTest {
+
+	private static final Random RND = new Random();
+	private static final int COUNT = 200;
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final ArithmeticOperators ops;
+
+	public ArithmeticOperatorsTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+		this.ops = ArithmeticOperators.of(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	private static long randomValue() {
+		final long value = RND.nextLong() >> RND.nextInt(Long.SIZE);
+		return value == 0 ? 1 : value;
+	}
+
+	@Test
+	public void testCached() {
+		assertSame(ops, ArithmeticOperators.of(arithmetic));
+		assertSame(arithmetic, ops.getArithmetic());
+		assertSame(ops.getRounder(scaleMetrics.getScale()), ops.getRounder(scaleMetrics.getScale() + 5));
+	}
+
+	@Test
+	public void testNotCachedForOtherArithmetics() {
+		final DecimalArithmetic status = new StatusArithmetic(arithmetic, new ArithmeticStatus());
+		final ArithmeticOperators statusOps = ArithmeticOperators.of(status);
+		assertNotSame(statusOps, ArithmeticOperators.of(status));
+		assertSame(status, statusOps.getArithmetic());
+		assertEquals(arithmetic.add(5, 7), statusOps.getAdder().applyAsLong(5, 7));
+	}
+
+	@Test
+	public void testBinaryOperators() {
+		for (int i = 0; i < COUNT; i++) {
+			final long a = randomValue();
+			final long b = randomValue();
+			assertEquals(arithmetic.add(a, b), ops.getAdder().applyAsLong(a, b));
+			assertEquals(arithmetic.subtract(a, b), ops.getSubtractor().applyAsLong(a, b));
+			assertEquals(arithmetic.multiply(a, b), ops.getMultiplier().applyAsLong(a, b));
+			assertEquals(arithmetic.divide(a, b), ops.getDivider().applyAsLong(a, b));
+			assertEquals(arithmetic.avg(a, b), ops.getAverager().applyAsLong(a, b));
+		}
+	}
+
+	@Test
+	public void testUnaryOperators() {
+		for (int i = 0; i < COUNT; i++) {
+			final long a = randomValue();
+			assertEquals(arithmetic.negate(a), ops.getNegator().applyAsLong(a));
+			assertEquals(arithmetic.abs(a), ops.getAbsolute().applyAsLong(a));
+			assertEquals(arithmetic.square(a), ops.getSquarer().applyAsLong(a));
+			assertEquals(arithmetic.sqrt(Math.abs(a)), ops.getSqrt().applyAsLong(Math.abs(a)));
+			assertEquals(arithmetic.invert(a), ops.getInverter().applyAsLong(a));
+			assertEquals(arithmetic.toLong(a), ops.getToLong().applyAsLong(a));
+			assertEquals(arithmetic.toDouble(a), ops.getToDouble().applyAsDouble(a), 0);
+			final long l = a / scaleMetrics.getScaleFactor();
+			assertEquals(arithmetic.fromLong(l), ops.getFromLong().applyAsLong(l));
+		}
+	}
+
+	@Test
+	public void testRoundersAndRescalers() {
+		for (int i = 0; i < COUNT; i++) {
+			final long a = randomValue();
+			final int precision = scaleMetrics.getScale() - RND.nextInt(Scales.MAX_SCALE + 1);
+			assertEquals(arithmetic.round(a, precision), ops.getRounder(precision).applyAsLong(a));
+			final int scale = RND.nextInt(Scales.MAX_SCALE + 1);
+			final long b = a / Scales.getScaleMetrics(Math.abs(scaleMetrics.getScale() - scale)).getScaleFactor();
+			assertEquals(arithmetic.toUnscaled(b, scale), ops.getRescalerTo(scale).applyAsLong(b));
+			assertEquals(arithmetic.fromUnscaled(b, scale), ops.getRescalerFrom(scale).applyAsLong(b));
+		}
+	}
+
+	@Test
+	public void testParallelApply() {
+		final long[] values = new long[COUNT];
+		final long[] expected = new long[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			values[i] = randomValue();
+			expected[i] = arithmetic.multiply(values[i], arithmetic.negate(values[i]));
+		}
+		final long[] actual = new long[COUNT];
+		final ParallelDecimalArrays parallel = ParallelDecimalArrays.getDefault();
+		parallel.apply(ops.getNegator(), values, actual, 0, COUNT);
+		parallel.apply(ops.getMultiplier(), values, actual, actual, 0, COUNT);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRounderPrecisionTooSmall() {
+		ops.getRounder(scaleMetrics.getScale() - Scales.MAX_SCALE - 1);
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalSummaryStatistics}
+ */
+@RunWith(Parameterized.class)
+public class DecimalSummaryStatisticsTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 1000;
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+
+	public DecimalSummaryStatisticsTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	private static long[] randomValues(boolean large) {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = large ? RND.nextLong() : RND.nextLong() >> (RND.nextInt(40) + 24);
+		}
+		return values;
+	}
+
+	@Test
+	public void testSmallValues() {
+		assertStatistics(randomValues(false));
+	}
+
+	@Test
+	public void testLargeValues() {
+		assertStatistics(randomValues(true));
+	}
+
+	@Test
+	public void testExtremeValues() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (i & 1) == 0 ? Long.MAX_VALUE : Long.MAX_VALUE - RND.nextInt(10);
+		}
+		assertStatistics(values);
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = -values[i] - 1;
+		}
+		assertStatistics(values);
+	}
+
+	@Test
+	public void testEmpty() {
+		final DecimalSummaryStatistics<ScaleMetrics> stats = new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics);
+		assertEquals(0, stats.getCount());
+		assertEquals(0, stats.getSumUnscaled());
+		assertEquals(0, stats.getAverageUnscaled(roundingMode));
+		assertEquals(Long.MAX_VALUE, stats.getMin().unscaledValue());
+		assertEquals(Long.MIN_VALUE, stats.getMax().unscaledValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCombineDifferentScales() {
+		final ScaleMetrics other = Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % (Scales.MAX_SCALE + 1));
+		new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics).combine(new DecimalSummaryStatistics<ScaleMetrics>(other));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertStatistics(long[] values) {
+		BigDecimal expectedSum = BigDecimal.ZERO;
+		long expectedMin = Long.MAX_VALUE;
+		long expectedMax = Long.MIN_VALUE;
+		final DecimalSummaryStatistics<ScaleMetrics> single = new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics);
+		for (final long value : values) {
+			expectedSum = expectedSum.add(BigDecimal.valueOf(value, scaleMetrics.getScale()));
+			expectedMin = Math.min(expectedMin, value);
+			expectedMax = Math.max(expectedMax, value);
+			single.accept(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(value));
+		}
+		//partitions in reverse order
+		final DecimalSummaryStatistics<ScaleMetrics> combined = new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics);
+		for (int end = values.length; end > 0; ) {
+			final int start = Math.max(0, end - 1 - RND.nextInt(100));
+			combined.combine(new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics).acceptUnscaled(values, start, end - start));
+			end = start;
+		}
+		final BigDecimal expectedAvg = expectedSum.divide(BigDecimal.valueOf(values.length), scaleMetrics.getScale(), roundingMode);
+		for (final DecimalSummaryStatistics<ScaleMetrics> stats : new DecimalSummaryStatistics[] { single, combined }) {
+			assertEquals(values.length, stats.getCount());
+			assertEquals(expectedSum, stats.getSumAsBigDecimal());
+			assertEquals(expectedMin, stats.getMin().unscaledValue());
+			assertEquals(expectedMax, stats.getMax().unscaledValue());
+			assertEquals(expectedAvg.unscaledValue().longValue(), stats.getAverageUnscaled(roundingMode));
+			if (expectedSum.unscaledValue().bitLength() < Long.SIZE) {
+				assertEquals(expectedSum.unscaledValue().longValue(), stats.getSum().unscaledValue());
+			} else {
+				try {
+					stats.getSum();
+					fail("expected ArithmeticException for sum " + expectedSum);
+				} catch (ArithmeticException e) {
+					//expected
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.StatusArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.ArithmeticStatus;
+import org.decimal4j.truncate.CheckedRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ParallelDecimalArrays}
+ */
+@RunWith(Parameterized.class)
+public class ParallelDecimalArraysTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 10000;
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final ParallelDecimalArrays parallel = new ParallelDecimalArrays(POOL, 100);
+
+	public ParallelDecimalArraysTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final RoundingMode rounding : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				if (rounding != RoundingMode.UNNECESSARY) {
+					data.add(new Object[] { scale, rounding });
+				}
+			}
+		}
+		return data;
+	}
+
+	private static long[] randomValues() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(Long.SIZE);
+			if (values[i] == 0) {
+				values[i] = 1;
+			}
+		}
+		return values;
+	}
+
+	@Test
+	public void testElementWise() {
+		final long[] a = randomValues();
+		final long[] b = randomValues();
+		final int offset = RND.nextInt(10);
+		final int length = LENGTH - offset - RND.nextInt(10);
+		final long[] actual = new long[LENGTH];
+		final long[] expected = new long[LENGTH];
+
+		parallel.add(arithmetic, a, b, actual, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			expected[i] = arithmetic.add(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+
+		parallel.subtract(arithmetic, a, b, actual, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			expected[i] = arithmetic.subtract(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+
+		parallel.multiply(arithmetic, a, b, actual, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			expected[i] = arithmetic.multiply(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+
+		parallel.divide(arithmetic, a, b, actual, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			expected[i] = arithmetic.divide(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void testElementWiseWithStatus() {
+		final long[] a = randomValues();
+		final long[] b = randomValues();
+		b[LENGTH / 2] = 0;
+		final long[] actual = new long[LENGTH];
+		final long[] expected = new long[LENGTH];
+		final ArithmeticStatus actualStatus = new ArithmeticStatus();
+		final ArithmeticStatus expectedStatus = new ArithmeticStatus();
+		final DecimalArithmetic sequential = new StatusArithmetic(arithmetic, expectedStatus);
+
+		parallel.multiply(arithmetic, a, b, actual, 0, LENGTH, actualStatus);
+		for (int i = 0; i < LENGTH; i++) {
+			expected[i] = sequential.multiply(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+		assertEquals(expectedStatus.getFlags(), actualStatus.getFlags());
+
+		parallel.divide(arithmetic, a, b, actual, 0, LENGTH, actualStatus);
+		for (int i = 0; i < LENGTH; i++) {
+			expected[i] = sequential.divide(a[i], b[i]);
+		}
+		assertArrayEquals(expected, actual);
+		assertEquals(expectedStatus.getFlags(), actualStatus.getFlags());
+		assertTrue("division by zero", actualStatus.isDivisionByZero());
+	}
+
+	@Test
+	public void testInPlace() {
+		final long[] a = randomValues();
+		final long[] b = randomValues();
+		final long[] expected = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			expected[i] = arithmetic.subtract(a[i], b[i]);
+		}
+		parallel.subtract(arithmetic, a, b, a, 0, LENGTH);
+		assertArrayEquals(expected, a);
+	}
+
+	@Test
+	public void testRescale() {
+		final int srcScale = RND.nextInt(Scales.MAX_SCALE + 1);
+		final long[] src = randomValues();
+		for (int i = 0; i < LENGTH; i++) {
+			src[i] /= Scales.getScaleMetrics(Math.max(0, scaleMetrics.getScale() - srcScale)).getScaleFactor();
+		}
+		final long[] expected = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			expected[i] = arithmetic.fromUnscaled(src[i], srcScale);
+		}
+		parallel.rescale(src, srcScale, arithmetic, src, 0, LENGTH);
+		assertArrayEquals(expected, src);
+	}
+
+	@Test
+	public void testSummaryStatistics() {
+		final long[] values = randomValues();
+		final DecimalSummaryStatistics<ScaleMetrics> expected = new DecimalSummaryStatistics<ScaleMetrics>(scaleMetrics);
+		expected.acceptUnscaled(values, 3, LENGTH - 3);
+		final DecimalSummaryStatistics<ScaleMetrics> actual = parallel.summaryStatistics(scaleMetrics, values, 3, LENGTH - 3);
+		assertEquals(expected.getCount(), actual.getCount());
+		assertEquals(expected.getSumAsBigDecimal(), actual.getSumAsBigDecimal());
+		assertEquals(expected.getMin(), actual.getMin());
+		assertEquals(expected.getMax(), actual.getMax());
+	}
+
+	@Test
+	public void testCountWhere() {
+		final long[] values = randomValues();
+		final long threshold = values[0];
+		int expected = 0;
+		for (final long value : values) {
+			if (value > threshold) {
+				expected++;
+			}
+		}
+		assertEquals(expected, parallel.countWhere(values, 0, LENGTH, new UnscaledPredicate() {
+			@Override
+			public boolean test(long unscaled) {
+				return unscaled > threshold;
+			}
+		}));
+	}
+
+	@Test
+	public void testCheckedOverflow() {
+		final long[] a = new long[LENGTH];
+		final long[] b = new long[LENGTH];
+		Arrays.fill(a, 1);
+		a[LENGTH - 1] = Long.MAX_VALUE;
+		b[LENGTH - 1] = 1;
+		final DecimalArithmetic checked = scaleMetrics.getArithmetic(CheckedRounding.valueOf(arithmetic.getRoundingMode()));
+		try {
+			parallel.add(checked, a, b, new long[LENGTH], 0, LENGTH);
+			fail("expected ArithmeticException");
+		} catch (ArithmeticException e) {
+			//expected
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		parallel.add(arithmetic, new long[LENGTH], new long[LENGTH - 1], new long[LENGTH], 0, LENGTH);
+	}
+}